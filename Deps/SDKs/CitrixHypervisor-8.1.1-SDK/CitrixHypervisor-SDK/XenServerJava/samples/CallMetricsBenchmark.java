@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ * 
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import com.xensource.xenapi.*;
+
+/**
+ * Measures what a CallStatistics installed with Connection.setCallMetrics() costs per call, on VM.get_power_state
+ * against a local StubXenServer with the pooled transport, then reads the records of a synthetic pool of 1,000 VMs,
+ * makes some calls that fail, and prints the ten slowest methods as a health check would report them.
+ *
+ * java CallMetricsBenchmark [iterations]
+ */
+public class CallMetricsBenchmark
+{
+    public static void main(String[] args) throws Exception
+    {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+
+        StubXenServer stub = new StubXenServer(2);
+        JsonRpcBenchmark.buildPool(stub, 1000);
+        stub.respond("VM.get_power_state", StubXenServer.string("Running"));
+        stub.fail("VM.start", "VM_BAD_POWER_STATE", "OpaqueRef:vm", "halted", "running");
+        stub.start();
+
+        HttpConnectionPool pool = new HttpConnectionPool();
+        try
+        {
+            Connection c = new Connection(stub.getURL());
+            c.setConnectionPool(pool);
+            Session.loginWithPassword(c, "root", "", APIVersion.latest().toString());
+            VM vm = Types.toVM("OpaqueRef:vm");
+            CallStatistics statistics = new CallStatistics();
+
+            for (int round = 0; round < 3; round++)
+            {
+                c.setCallMetrics(null);
+                double without = timeCalls(c, vm, iterations);
+                c.setCallMetrics(statistics);
+                double with = timeCalls(c, vm, iterations);
+                System.out.printf("VM.get_power_state %8.1f us/call without metrics %8.1f us/call with%n", without,
+                    with);
+            }
+
+            for (int i = 0; i < 20; i++)
+            {
+                VM.getAllRecords(c);
+                try
+                {
+                    vm.start(c, false, false);
+                }
+                catch (Types.VmBadPowerState e)
+                {
+                    // Expected
+                }
+            }
+
+            System.out.println();
+            System.out.print(CallStatistics.format(statistics.getSlowest(10)));
+            for (CallStatistics.MethodSnapshot snapshot : statistics.snapshot())
+            {
+                if (snapshot.getErrorCount() > 0)
+                    System.out.println(snapshot.getMethod() + " failed with " + snapshot.getErrorCounts());
+            }
+        }
+        finally
+        {
+            pool.close();
+            stub.stop();
+        }
+        System.exit(0);
+    }
+
+    private static double timeCalls(Connection c, VM vm, int iterations) throws Exception
+    {
+        // Warm up, then measure
+        for (int i = 0; i < iterations; i++)
+            vm.getPowerState(c);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++)
+            vm.getPowerState(c);
+        return (System.nanoTime() - start) / 1e3 / iterations;
+    }
+}
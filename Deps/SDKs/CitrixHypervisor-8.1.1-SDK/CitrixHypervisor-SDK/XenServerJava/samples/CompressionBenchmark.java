@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ * 
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import java.util.Map;
+
+import com.xensource.xenapi.*;
+
+/**
+ * Measures what asking for compressed responses (Connection.setCompression()) does to the records of a synthetic pool
+ * of 5,000 VMs, as read by VM.getAllRecords(c) from a local StubXenServer. For each protocol, it reads them without
+ * compression, with compression from a server that gzips, then deflates, and with compression asked of a server that
+ * does not compress (which the connection must read as it is). It prints the bytes received and decoded per
+ * response, from the connection's counters, and the time per call; the time of a real link would add the bytes
+ * received over its bandwidth.
+ *
+ * Each run is also checked: the records must equal those read without compression, the bytes received must be those
+ * the server sent, the bytes decoded must be the size of the uncompressed response, and the ResponseListener must
+ * report the same sizes as the counters. The benchmark exits with status 1 if any check fails.
+ *
+ * java CompressionBenchmark [VMs] [iterations]
+ */
+public class CompressionBenchmark
+{
+    private static final String METHOD = "VM.get_all_records";
+
+    private static int failures;
+
+    public static void main(String[] args) throws Exception
+    {
+        int vms = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        StubXenServer stub = new StubXenServer(2);
+        JsonRpcBenchmark.buildPool(stub, vms);
+        stub.start();
+        try
+        {
+            for (Connection.Protocol protocol : Connection.Protocol.values())
+            {
+                Run identity = run(stub, protocol, false, null, iterations, null);
+                check(identity.records.size() == vms, "%s read %d VMs rather than %d", protocol,
+                    identity.records.size(), vms);
+                run(stub, protocol, true, "gzip", iterations, identity);
+                run(stub, protocol, true, "deflate", iterations, identity);
+                run(stub, protocol, true, null, iterations, identity);
+            }
+        }
+        finally
+        {
+            stub.stop();
+        }
+
+        if (failures > 0)
+        {
+            System.out.printf("%d checks failed%n", failures);
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * @param encoding The Content-Encoding the server sends when the request accepts it, or null for none
+     * @param identity The run without compression, to check this one against; null if this is that run
+     */
+    private static Run run(StubXenServer stub, Connection.Protocol protocol, boolean compression, String encoding,
+                           int iterations, Run identity) throws Exception
+    {
+        stub.setContentEncoding(encoding);
+        Connection c = new Connection(stub.getURL(), protocol, 600, 5);
+        c.setCompression(compression);
+        Session.loginWithPassword(c, "root", "", APIVersion.latest().toString());
+
+        // Warm up, then measure
+        for (int i = 0; i < iterations; i++)
+            VM.getAllRecords(c);
+
+        final long[] listened = new long[3];
+        c.setResponseListener(new Connection.ResponseListener()
+        {
+            public void responseRead(String method, long bytesReceived, long bytesDecoded)
+            {
+                if (method.equals(METHOD))
+                    listened[0]++;
+                listened[1] += bytesReceived;
+                listened[2] += bytesDecoded;
+            }
+        });
+        long sent = stub.getBytesSent();
+        long received = c.getBytesReceived();
+        long decoded = c.getBytesDecoded();
+        Map<VM, VM.Record> records = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++)
+            records = VM.getAllRecords(c);
+        long elapsed = System.nanoTime() - start;
+        sent = stub.getBytesSent() - sent;
+        received = c.getBytesReceived() - received;
+        decoded = c.getBytesDecoded() - decoded;
+
+        String name = !compression ? "uncompressed" : encoding != null ? encoding : "compression asked, not sent";
+        System.out.printf("%-8s %-27s %10d bytes received %10d bytes decoded %8.1f ms/call%n", protocol, name,
+            received / iterations, decoded / iterations, elapsed / 1e6 / iterations);
+
+        check(received == sent, "%s %s: %d bytes received, but %d sent", protocol, name, received, sent);
+        if (encoding != null)
+            check(received < decoded, "%s %s: the responses were not compressed", protocol, name);
+        else
+            check(received == decoded, "%s %s: %d bytes received, but %d decoded", protocol, name, received, decoded);
+        check(listened[0] == iterations, "%s %s: the listener saw %d responses to %s rather than %d", protocol, name,
+            listened[0], METHOD, iterations);
+        check(listened[1] == received && listened[2] == decoded,
+            "%s %s: the listener saw %d bytes received and %d decoded, the counters %d and %d", protocol, name,
+            listened[1], listened[2], received, decoded);
+        if (identity != null)
+        {
+            check(decoded == identity.decoded, "%s %s: %d bytes decoded, but %d without compression", protocol, name,
+                decoded, identity.decoded);
+            check(sameRecords(identity.records, records), "%s %s: the records differ from those read without "
+                + "compression", protocol, name);
+        }
+        return new Run(records, decoded);
+    }
+
+    private static boolean sameRecords(Map<VM, VM.Record> expected, Map<VM, VM.Record> actual)
+    {
+        if (!expected.keySet().equals(actual.keySet()))
+            return false;
+        for (Map.Entry<VM, VM.Record> entry : expected.entrySet())
+        {
+            if (!entry.getValue().toMap().equals(actual.get(entry.getKey()).toMap()))
+                return false;
+        }
+        return true;
+    }
+
+    private static void check(boolean ok, String format, Object... args)
+    {
+        if (ok)
+            return;
+        failures++;
+        System.out.printf("FAILED: " + format + "%n", args);
+    }
+
+    /**
+     * The records read by the last call of a run, and the bytes decoded over all its calls.
+     */
+    private static final class Run
+    {
+        final Map<VM, VM.Record> records;
+        final long decoded;
+
+        Run(Map<VM, VM.Record> records, long decoded)
+        {
+            this.records = records;
+            this.decoded = decoded;
+        }
+    }
+}
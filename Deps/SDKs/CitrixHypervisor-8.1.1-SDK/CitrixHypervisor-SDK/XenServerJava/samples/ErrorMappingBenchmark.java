@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ * 
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import com.xensource.xenapi.*;
+
+/**
+ * Measures how long it takes to turn the error description of a failed call into its XenAPIException, as
+ * Types.checkResponse does for every failure: for the first and last error codes known to the bindings, for
+ * NO_HOSTS_AVAILABLE (the usual failure of VM.start on a full pool), for a code unknown to the bindings and for a code
+ * with a handler registered through Types.registerErrorHandler(). Most of the time left is spent filling in the stack
+ * trace of the exception.
+ *
+ * java ErrorMappingBenchmark [iterations]
+ */
+public class ErrorMappingBenchmark
+{
+    private static final String[][] DESCRIPTIONS = {
+        {"HOST_NOT_ENOUGH_PCPUS", "4", "2"},
+        {"NO_HOSTS_AVAILABLE"},
+        {"HOST_BROKEN"},
+        {"SOME_NEWER_ERROR", "OpaqueRef:vm"},
+        {"CUSTOM_ERROR", "OpaqueRef:vm"},
+    };
+
+    public static void main(String[] args)
+    {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+
+        Types.registerErrorHandler("CUSTOM_ERROR", new java.util.function.Function<String[], Types.XenAPIException>()
+        {
+            public Types.XenAPIException apply(String[] description)
+            {
+                return new CustomError(description);
+            }
+        });
+
+        for (String[] description : DESCRIPTIONS)
+        {
+            // Copy the code, as the code received from a server is never the interned literal
+            String[] received = description.clone();
+            received[0] = new String(received[0].toCharArray());
+
+            // Warm up, then measure
+            run(received, iterations);
+            long start = System.nanoTime();
+            Types.XenAPIException last = run(received, iterations);
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("%-22s -> %-28s %8.1f ns/op%n", description[0], last.getClass().getSimpleName(),
+                (double) elapsed / iterations);
+        }
+    }
+
+    /**
+     * An exception defined by the application for an error code of its own
+     */
+    private static class CustomError extends Types.XenAPIException
+    {
+        CustomError(String[] errorDescription)
+        {
+            super(errorDescription);
+        }
+    }
+
+    private static Types.XenAPIException run(String[] description, int iterations)
+    {
+        Types.XenAPIException last = null;
+        for (int i = 0; i < iterations; i++)
+            last = Types.toXenAPIException(description);
+        return last;
+    }
+}
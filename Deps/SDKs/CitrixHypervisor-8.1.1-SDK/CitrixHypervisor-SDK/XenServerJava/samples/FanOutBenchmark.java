@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ * 
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.xensource.xenapi.*;
+
+/**
+ * Measures the throughput of per-VM lookups made with Connection.fanOut() as the concurrency grows from 1 to 10,000,
+ * against a local StubXenServer that takes a fixed time to answer each call. On Java 21 and later the lookups run on
+ * virtual threads.
+ *
+ * java FanOutBenchmark [lookups] [server latency in ms]
+ */
+public class FanOutBenchmark
+{
+    private static final int[] CONCURRENCY = {1, 10, 100, 1000, 10000};
+
+    public static void main(String[] args) throws Exception
+    {
+        int lookups = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        long latency = args.length > 1 ? Long.parseLong(args[1]) : 20;
+
+        StubXenServer stub = new StubXenServer(256);
+        stub.respond("VM.get_power_state", StubXenServer.string("Running"));
+        stub.setLatency(latency);
+        stub.start();
+
+        HttpConnectionPool pool = new HttpConnectionPool(256, 256, HttpConnectionPool.DEFAULT_IDLE_TIMEOUT);
+        try
+        {
+            Connection c = new Connection(stub.getURL(), "OpaqueRef:stub-session");
+            c.setConnectionPool(pool);
+
+            System.out.printf("%d lookups per run, %d ms server latency, virtual threads: %s%n", lookups, latency,
+                Runtime.version().feature() >= 21);
+
+            for (int concurrency : CONCURRENCY)
+            {
+                // Keep the sequential runs short: their throughput is bounded by the latency anyway
+                int count = Math.min(lookups, Math.max(concurrency * 50, 100));
+                List<VM> vms = new ArrayList<VM>();
+                for (int i = 0; i < count; i++)
+                    vms.add(Types.toVM("OpaqueRef:vm-" + i));
+
+                long start = System.nanoTime();
+                Map<VM, Types.VmPowerState> states = c.fanOut(vms, concurrency,
+                    new Connection.FanOutCall<VM, Types.VmPowerState>()
+                    {
+                        public Types.VmPowerState call(Connection c, VM vm) throws Types.XenAPIException, org.apache.xmlrpc.XmlRpcException
+                        {
+                            return vm.getPowerState(c);
+                        }
+                    });
+                long elapsed = System.nanoTime() - start;
+
+                System.out.printf("concurrency %5d: %6d lookups in %6d ms: %8.0f lookups/s%n", concurrency,
+                    states.size(), elapsed / 1000000, states.size() / (elapsed / 1e9));
+            }
+        }
+        finally
+        {
+            pool.close();
+            stub.stop();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ * 
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import com.xensource.xenapi.*;
+
+/**
+ * Records the JDK Flight Recorder events of these bindings (com.xensource.xenapi.Call, .Decode and .EventPoll) whilst
+ * reading the records of a synthetic pool of 2,000 VMs from a local StubXenServer, with and without streaming, and
+ * following its events with an EventPump; then prints the events from the recording file, as "jfr print" would.
+ * Before that, it times VM.get_power_state with no recording running, and with one recording every call, to show
+ * what the events cost.
+ *
+ * In production, the same events are recorded by starting the JVM with e.g.
+ * -XX:StartFlightRecording:filename=xenapi.jfr,settings=profile, and read with
+ * "jfr print --categories XenAPI xenapi.jfr".
+ *
+ * java FlightRecording [iterations]
+ */
+public class FlightRecording
+{
+    private static final String[] EVENTS = {
+        "com.xensource.xenapi.Call", "com.xensource.xenapi.Decode", "com.xensource.xenapi.EventPoll"
+    };
+
+    public static void main(String[] args) throws Exception
+    {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+
+        StubXenServer stub = new StubXenServer(2);
+        JsonRpcBenchmark.buildPool(stub, 2000);
+        stub.respond("VM.get_power_state", StubXenServer.string("Running"));
+        stub.respond("event.from", StubXenServer.struct("events", StubXenServer.array(), "valid_ref_counts",
+            StubXenServer.struct(), "token", StubXenServer.string("2")));
+        stub.start();
+
+        HttpConnectionPool pool = new HttpConnectionPool();
+        Path file = Files.createTempFile("xenapi", ".jfr");
+        try
+        {
+            Connection c = new Connection(stub.getURL());
+            c.setConnectionPool(pool);
+            Session.loginWithPassword(c, "root", "", APIVersion.latest().toString());
+            VM vm = Types.toVM("OpaqueRef:vm");
+
+            System.out.printf("VM.get_power_state %8.1f us/call with no recording%n", timeCalls(c, vm, iterations));
+            Recording recording = new Recording();
+            for (String event : EVENTS)
+                recording.enable(event).withThreshold(Duration.ZERO);
+            recording.start();
+            System.out.printf("VM.get_power_state %8.1f us/call whilst recording%n", timeCalls(c, vm, iterations));
+
+            VM.getAllRecords(c);
+            VM.getAllRecords(c, new Types.RecordHandler<VM, VM.Record>()
+            {
+                public void handle(VM ref, VM.Record record)
+                {
+                }
+            });
+
+            Connection events = new Connection(stub.getURL());
+            Session.loginWithPassword(events, "root", "", APIVersion.latest().toString());
+            EventPump pump = new EventPump(events, Collections.singleton("vm"), 4);
+            pump.setResynchronise(false);
+            pump.setPollTimeout(1.0);
+            pump.start();
+            Thread.sleep(200);
+            pump.close();
+
+            recording.stop();
+            recording.dump(file);
+            recording.close();
+
+            // Print the first event of each type for each method, as the stub answers event.from at once
+            Set<String> printed = new HashSet<String>();
+            int skipped = 0;
+            for (RecordedEvent event : RecordingFile.readAllEvents(file))
+            {
+                String key = event.getEventType().getName();
+                if (event.hasField("method"))
+                    key += " " + event.getString("method");
+                if (printed.add(key))
+                    System.out.println(event);
+                else
+                    skipped++;
+            }
+            System.out.println("(and " + skipped + " more events of the same types and methods)");
+        }
+        finally
+        {
+            Files.deleteIfExists(file);
+            pool.close();
+            stub.stop();
+        }
+        System.exit(0);
+    }
+
+    private static double timeCalls(Connection c, VM vm, int iterations) throws Exception
+    {
+        // Warm up, then measure
+        for (int i = 0; i < iterations; i++)
+            vm.getPowerState(c);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++)
+            vm.getPowerState(c);
+        return (System.nanoTime() - start) / 1e3 / iterations;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ * 
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.xensource.xenapi.*;
+
+/**
+ * Measures the heap held by the records of a synthetic pool of 10,000 VMs, each with 4 VBDs and VDIs and 2 VIFs,
+ * spread over 64 hosts and 16 SRs, as read by VM.getAllRecords(), VBD.getAllRecords() and VDI.getAllRecords() from a
+ * local StubXenServer: once as they come, and once with Connection.setInterning(true), which shares the strings of
+ * references and UUIDs and the wrappers of references between all their occurrences.
+ *
+ * The figures are the heap in use after a full GC whilst the records are held, less the heap in use before they were
+ * read. Run with a heap of at least 2 GB (-Xmx2g) for the default size.
+ *
+ * java InterningBenchmark [VMs]
+ */
+public class InterningBenchmark
+{
+    private static final int HOSTS = 64;
+    private static final int SRS = 16;
+    private static final int DISKS_PER_VM = 4;
+    private static final int VIFS_PER_VM = 2;
+
+    public static void main(String[] args) throws Exception
+    {
+        int vms = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+
+        StubXenServer stub = new StubXenServer(2);
+        buildPool(stub, vms);
+        stub.start();
+        try
+        {
+            for (boolean interning : new boolean[]{false, true})
+            {
+                Connection c = new Connection(stub.getURL(), "OpaqueRef:stub-session");
+                c.setInterning(interning);
+
+                long before = usedHeap();
+                long start = System.nanoTime();
+                List<Map<?, ?>> records = new ArrayList<Map<?, ?>>();
+                records.add(VM.getAllRecords(c));
+                records.add(VBD.getAllRecords(c));
+                records.add(VDI.getAllRecords(c));
+                long elapsed = System.nanoTime() - start;
+                long held = usedHeap() - before;
+
+                int count = 0;
+                for (Map<?, ?> map : records)
+                    count += map.size();
+                System.out.printf("interning %-3s %7d records %8.1f MB held %8.0f bytes/record %6d ms to read%n",
+                    interning ? "on" : "off", count, held / 1048576.0, (double) held / count, elapsed / 1000000);
+                records.clear();
+            }
+        }
+        finally
+        {
+            stub.stop();
+        }
+        System.exit(0);
+    }
+
+    private static long usedHeap() throws InterruptedException
+    {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++)
+        {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void buildPool(StubXenServer stub, int vms)
+    {
+        String[] hosts = new String[HOSTS];
+        for (int i = 0; i < HOSTS; i++)
+            hosts[i] = newRef();
+        String[] srs = new String[SRS];
+        for (int i = 0; i < SRS; i++)
+            srs[i] = newRef();
+
+        StringBuilder vmRecords = new StringBuilder("<value><struct>");
+        StringBuilder vbdRecords = new StringBuilder("<value><struct>");
+        StringBuilder vdiRecords = new StringBuilder("<value><struct>");
+        for (int v = 0; v < vms; v++)
+        {
+            String vm = newRef();
+            String host = hosts[v % HOSTS];
+            String[] vbds = new String[DISKS_PER_VM];
+            for (int d = 0; d < DISKS_PER_VM; d++)
+            {
+                String vbd = newRef();
+                String vdi = newRef();
+                vbds[d] = StubXenServer.string(vbd);
+                member(vbdRecords, vbd, StubXenServer.struct(
+                    "uuid", StubXenServer.string(UUID.randomUUID().toString()),
+                    "VM", StubXenServer.string(vm),
+                    "VDI", StubXenServer.string(vdi),
+                    "device", StubXenServer.string("xvd" + (char) ('a' + d)),
+                    "userdevice", StubXenServer.string(Integer.toString(d)),
+                    "type", StubXenServer.string("Disk"),
+                    "mode", StubXenServer.string("RW"),
+                    "currently_attached", "<value><boolean>1</boolean></value>"));
+                member(vdiRecords, vdi, StubXenServer.struct(
+                    "uuid", StubXenServer.string(UUID.randomUUID().toString()),
+                    "name_label", StubXenServer.string("disk " + d + " of vm " + v),
+                    "SR", StubXenServer.string(srs[(v + d) % SRS]),
+                    "VBDs", StubXenServer.array(StubXenServer.string(vbd)),
+                    "virtual_size", StubXenServer.string("21474836480"),
+                    "type", StubXenServer.string("user"),
+                    "sharable", "<value><boolean>0</boolean></value>"));
+            }
+            String[] vifs = new String[VIFS_PER_VM];
+            for (int i = 0; i < VIFS_PER_VM; i++)
+                vifs[i] = StubXenServer.string(newRef());
+
+            member(vmRecords, vm, StubXenServer.struct(
+                "uuid", StubXenServer.string(UUID.randomUUID().toString()),
+                "name_label", StubXenServer.string("vm " + v),
+                "power_state", StubXenServer.string("Running"),
+                "resident_on", StubXenServer.string(host),
+                "affinity", StubXenServer.string(host),
+                "VBDs", StubXenServer.array(vbds),
+                "VIFs", StubXenServer.array(vifs),
+                "suspend_VDI", StubXenServer.string("OpaqueRef:NULL"),
+                "protection_policy", StubXenServer.string("OpaqueRef:NULL"),
+                "memory_static_max", StubXenServer.string("4294967296"),
+                "VCPUs_max", StubXenServer.string("4"),
+                "is_a_template", "<value><boolean>0</boolean></value>",
+                "other_config", StubXenServer.struct("mac_seed", StubXenServer.string(UUID.randomUUID().toString()))));
+        }
+        stub.respond("VM.get_all_records", vmRecords.append("</struct></value>").toString());
+        stub.respond("VBD.get_all_records", vbdRecords.append("</struct></value>").toString());
+        stub.respond("VDI.get_all_records", vdiRecords.append("</struct></value>").toString());
+    }
+
+    private static void member(StringBuilder struct, String name, String value)
+    {
+        struct.append("<member><name>").append(name).append("</name>").append(value).append("</member>");
+    }
+
+    private static String newRef()
+    {
+        return "OpaqueRef:" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ * 
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.UUID;
+
+import com.xensource.xenapi.*;
+
+/**
+ * Compares XML-RPC with JSON-RPC on the records of a synthetic pool of 5,000 VMs, as read from a local StubXenServer
+ * by VM.getAllRecords(c), which has the whole response built before the records are decoded, and by
+ * VM.getAllRecords(c, handler), which decodes each record as it arrives. For each protocol and way of reading, it
+ * prints the bytes of the response, the time per call and the bytes allocated per call by the calling thread.
+ *
+ * java JsonRpcBenchmark [VMs] [iterations]
+ */
+public class JsonRpcBenchmark
+{
+    private static final int HOSTS = 64;
+
+    public static void main(String[] args) throws Exception
+    {
+        int vms = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        StubXenServer stub = new StubXenServer(2);
+        buildPool(stub, vms);
+        stub.start();
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        try
+        {
+            for (Connection.Protocol protocol : Connection.Protocol.values())
+            {
+                final Connection c = new Connection(stub.getURL(), protocol, 600, 5);
+                Session.loginWithPassword(c, "root", "", APIVersion.latest().toString());
+
+                for (final boolean streaming : new boolean[]{false, true})
+                {
+                    Runnable read = new Runnable()
+                    {
+                        public void run()
+                        {
+                            readAll(c, streaming);
+                        }
+                    };
+
+                    // Warm up, then measure
+                    for (int i = 0; i < iterations; i++)
+                        read.run();
+
+                    long bytes = stub.getBytesSent();
+                    long allocated = threads.getThreadAllocatedBytes(thread);
+                    long start = System.nanoTime();
+                    for (int i = 0; i < iterations; i++)
+                        read.run();
+                    long elapsed = System.nanoTime() - start;
+                    allocated = threads.getThreadAllocatedBytes(thread) - allocated;
+                    bytes = stub.getBytesSent() - bytes;
+
+                    System.out.printf("%-8s %-9s %10d bytes/response %8.1f ms/call %8.1f MB allocated/call%n",
+                        protocol, streaming ? "streamed" : "built", bytes / iterations,
+                        elapsed / 1e6 / iterations, allocated / 1048576.0 / iterations);
+                }
+            }
+        }
+        finally
+        {
+            stub.stop();
+        }
+        System.exit(0);
+    }
+
+    private static void readAll(Connection c, boolean streaming)
+    {
+        try
+        {
+            if (streaming)
+            {
+                final int[] count = new int[1];
+                VM.getAllRecords(c, new Types.RecordHandler<VM, VM.Record>()
+                {
+                    public void handle(VM ref, VM.Record record)
+                    {
+                        count[0]++;
+                    }
+                });
+            }
+            else
+            {
+                Map<VM, VM.Record> records = VM.getAllRecords(c);
+                records.size();
+            }
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static void buildPool(StubXenServer stub, int vms)
+    {
+        String[] hosts = new String[HOSTS];
+        for (int i = 0; i < HOSTS; i++)
+            hosts[i] = newRef();
+
+        StringBuilder records = new StringBuilder("<value><struct>");
+        for (int v = 0; v < vms; v++)
+        {
+            String host = hosts[v % HOSTS];
+            records.append("<member><name>").append(newRef()).append("</name>").append(StubXenServer.struct(
+                "uuid", StubXenServer.string(UUID.randomUUID().toString()),
+                "name_label", StubXenServer.string("vm " + v),
+                "name_description", StubXenServer.string("A VM of the benchmark pool, \"number\" " + v),
+                "power_state", StubXenServer.string("Running"),
+                "allowed_operations", StubXenServer.array(StubXenServer.string("clean_shutdown"),
+                    StubXenServer.string("clean_reboot"), StubXenServer.string("suspend"),
+                    StubXenServer.string("pool_migrate")),
+                "resident_on", StubXenServer.string(host),
+                "affinity", StubXenServer.string(host),
+                "VBDs", StubXenServer.array(StubXenServer.string(newRef()), StubXenServer.string(newRef())),
+                "VIFs", StubXenServer.array(StubXenServer.string(newRef())),
+                "suspend_VDI", StubXenServer.string("OpaqueRef:NULL"),
+                "metrics", StubXenServer.string(newRef()),
+                "guest_metrics", StubXenServer.string(newRef()),
+                "memory_static_max", StubXenServer.string("4294967296"),
+                "memory_dynamic_max", StubXenServer.string("4294967296"),
+                "memory_dynamic_min", StubXenServer.string("2147483648"),
+                "VCPUs_max", StubXenServer.string("4"),
+                "VCPUs_at_startup", StubXenServer.string("4"),
+                "user_version", StubXenServer.string("1"),
+                "is_a_template", "<value><boolean>0</boolean></value>",
+                "is_control_domain", "<value><boolean>0</boolean></value>",
+                "HVM_shadow_multiplier", "<value><double>1.0</double></value>",
+                "snapshot_time", "<value><dateTime.iso8601>20200131T12:34:56Z</dateTime.iso8601></value>",
+                "platform", StubXenServer.struct("acpi", StubXenServer.string("1"), "apic", StubXenServer.string("true"),
+                    "viridian", StubXenServer.string("true"), "nx", StubXenServer.string("true")),
+                "other_config", StubXenServer.struct("mac_seed", StubXenServer.string(UUID.randomUUID().toString()),
+                    "install-methods", StubXenServer.string("cdrom,nfs,http,ftp")))).append("</member>");
+        }
+        stub.respond("VM.get_all_records", records.append("</struct></value>").toString());
+    }
+
+    private static String newRef()
+    {
+        return "OpaqueRef:" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ * 
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.apache.xmlrpc.client.XmlRpcClient;
+import org.apache.xmlrpc.client.XmlRpcClientConfigImpl;
+import org.apache.xmlrpc.client.XmlRpcClientRequestImpl;
+import org.apache.xmlrpc.client.XmlRpcTransport;
+import org.apache.xmlrpc.client.XmlRpcTransportFactory;
+import org.apache.xmlrpc.client.XmlRpcTransportFactoryImpl;
+import org.apache.xmlrpc.common.TypeFactory;
+import org.apache.xmlrpc.common.TypeFactoryImpl;
+import org.apache.xmlrpc.serializer.XmlRpcWriter;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+import com.xensource.xenapi.*;
+
+/**
+ * Measures the cost of building and writing the request of VM.create(VM.Record), with a record like one cloned from a
+ * template: about 90 fields, an other_config of 40 keys and a platform map, and sets of references. The request is
+ * written to a transport that discards it and returns a canned result, so no time is spent in I/O or in parsing.
+ *
+ * Three ways of sending the record are compared:
+ *  copy     - the parameters converted into copied HashMaps and ArrayLists, as Marshalling.toXMLRPC() used to do,
+ *             and written by the default type factory of the xml-rpc client
+ *  stream   - VM.create() as it is, whose parameters are written straight from the record's maps and sets
+ *  constant - VM.create() with other_config, platform and the other unchanging maps passed through
+ *             Marshalling.constant(), so that their encoding is only worked out once
+ *
+ * The allocation figures come from the JVM's per-thread allocation counter.
+ *
+ * java MarshallingBenchmark [iterations]
+ */
+public class MarshallingBenchmark
+{
+    public static void main(String[] args) throws Exception
+    {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+
+        final Connection connection = new Connection(new URL("http://localhost/"), "OpaqueRef:session");
+        final XmlRpcClient client = ((XmlRpcTransportFactoryImpl) connection.getTransportFactory()).getClient();
+        final DiscardingTransport transport = new DiscardingTransport(client, connection.getConfig(), client.getTypeFactory());
+        connection.setTransportFactory(new XmlRpcTransportFactory()
+        {
+            public XmlRpcTransport getTransport()
+            {
+                return transport;
+            }
+        });
+        final DiscardingTransport copying = new DiscardingTransport(client, connection.getConfig(), new TypeFactoryImpl(client));
+
+        final VM.Record record = newRecord();
+        final VM.Record constantRecord = newRecord();
+        constantRecord.otherConfig = Marshalling.constant(constantRecord.otherConfig);
+        constantRecord.platform = Marshalling.constant(constantRecord.platform);
+        constantRecord.VCPUsParams = Marshalling.constant(constantRecord.VCPUsParams);
+        constantRecord.HVMBootParams = Marshalling.constant(constantRecord.HVMBootParams);
+        constantRecord.tags = Marshalling.constant(constantRecord.tags);
+
+        Runnable[] modes = {
+            new Runnable()
+            {
+                public void run()
+                {
+                    Object[] params = {connection.getSessionReference(), copy(record.toMap())};
+                    copying.send(new XmlRpcClientRequestImpl(connection.getConfig(), "VM.create", params));
+                }
+            },
+            new Runnable()
+            {
+                public void run()
+                {
+                    create(connection, record);
+                }
+            },
+            new Runnable()
+            {
+                public void run()
+                {
+                    create(connection, constantRecord);
+                }
+            },
+        };
+        String[] names = {"copy", "stream", "constant"};
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int m = 0; m < modes.length; m++)
+        {
+            // Warm up, then measure
+            for (int i = 0; i < iterations; i++)
+                modes[m].run();
+            copying.bytes = transport.bytes = 0;
+
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++)
+                modes[m].run();
+            long elapsed = System.nanoTime() - start;
+            allocated = threads.getThreadAllocatedBytes(thread) - allocated;
+
+            long bytes = m == 0 ? copying.bytes : transport.bytes;
+            System.out.printf("%-9s %8.2f us/op %10d bytes allocated/op %8d bytes of request%n", names[m],
+                elapsed / 1000.0 / iterations, allocated / iterations, bytes / iterations);
+        }
+        System.exit(0);
+    }
+
+    private static void create(Connection connection, VM.Record record)
+    {
+        try
+        {
+            VM.create(connection, record);
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static VM.Record newRecord()
+    {
+        VM.Record r = new VM.Record();
+        r.uuid = "0d3c8f7a-5a0f-4f5e-9b8c-2f1e6d7c8b9a";
+        r.nameLabel = "web-042";
+        r.nameDescription = "Cloned from the Ubuntu 20.04 template";
+        r.userVersion = 1L;
+        r.isATemplate = false;
+        r.memoryStaticMax = 4294967296L;
+        r.memoryDynamicMax = 4294967296L;
+        r.memoryDynamicMin = 2147483648L;
+        r.memoryStaticMin = 1073741824L;
+        r.VCPUsMax = 4L;
+        r.VCPUsAtStartup = 4L;
+        r.actionsAfterShutdown = Types.OnNormalExit.DESTROY;
+        r.actionsAfterReboot = Types.OnNormalExit.RESTART;
+        r.actionsAfterCrash = Types.OnCrashBehaviour.RESTART;
+        r.PVBootloader = "";
+        r.HVMBootPolicy = "BIOS order";
+        r.HVMShadowMultiplier = 1.0;
+        r.lastBootedRecord = "";
+        r.recommendations = "<restrictions><restriction field=\"memory-static-max\" max=\"137438953472\"/></restrictions>";
+        r.snapshotTime = new Date(0);
+        r.affinity = Types.toHost("OpaqueRef:3f1c9a4e-7b2d-4c8e-a1f0-9e8d7c6b5a43");
+
+        r.VCPUsParams = new HashMap<String, String>();
+        r.VCPUsParams.put("weight", "256");
+        r.VCPUsParams.put("cap", "0");
+
+        r.HVMBootParams = new HashMap<String, String>();
+        r.HVMBootParams.put("order", "dc");
+        r.HVMBootParams.put("firmware", "bios");
+
+        r.platform = new HashMap<String, String>();
+        String[][] platform = {{"timeoffset", "0"}, {"device-model", "qemu-upstream-compat"}, {"viridian", "false"},
+            {"acpi", "1"}, {"apic", "true"}, {"pae", "true"}, {"nx", "true"}, {"cores-per-socket", "2"},
+            {"secureboot", "false"}, {"hpet", "true"}, {"vga", "std"}, {"videoram", "8"}};
+        for (String[] entry : platform)
+            r.platform.put(entry[0], entry[1]);
+
+        r.otherConfig = new HashMap<String, String>();
+        r.otherConfig.put("install-methods", "cdrom,nfs,http,ftp");
+        r.otherConfig.put("linux_template", "true");
+        r.otherConfig.put("base_template_name", "Ubuntu Focal Fossa 20.04");
+        r.otherConfig.put("import_task", "OpaqueRef:NULL");
+        r.otherConfig.put("mac_seed", "5f9c1d2e-8a7b-4c3d-9e0f-1a2b3c4d5e6f");
+        for (int i = 0; i < 35; i++)
+            r.otherConfig.put("tenant.label." + i, "value-" + i + "-of-an-orchestration-label");
+
+        r.tags = new LinkedHashSet<String>();
+        r.tags.add("web");
+        r.tags.add("production");
+        r.tags.add("eu-west");
+
+        r.VBDs = new LinkedHashSet<VBD>();
+        r.VIFs = new LinkedHashSet<VIF>();
+        for (int i = 0; i < 4; i++)
+        {
+            r.VBDs.add(Types.toVBD("OpaqueRef:vbd-" + i));
+            r.VIFs.add(Types.toVIF("OpaqueRef:vif-" + i));
+        }
+        return r;
+    }
+
+    /**
+     * The conversion that Marshalling.toXMLRPC() used to make: every Map and Set copied, recursively, and every Long,
+     * reference and enum turned into a String.
+     */
+    private static Object copy(Object o)
+    {
+        if (o instanceof Map)
+        {
+            Map<Object, Object> result = new HashMap<Object, Object>();
+            for (Map.Entry<?, ?> e : ((Map<?, ?>) o).entrySet())
+                result.put(copy(e.getKey()), copy(e.getValue()));
+            return result;
+        }
+        if (o instanceof Set)
+        {
+            List<Object> result = new ArrayList<Object>();
+            for (Object e : (Set<?>) o)
+                result.add(copy(e));
+            return result;
+        }
+        if (o instanceof Long || o instanceof Enum)
+            return o.toString();
+        if (o instanceof XenAPIObject)
+            return ((XenAPIObject) o).toWireString();
+        return o == null ? "" : o;
+    }
+
+    /**
+     * Writes each request with the given type factory to a stream that only counts its bytes, and returns the result
+     * of a successful VM.create.
+     */
+    private static class DiscardingTransport implements XmlRpcTransport
+    {
+        private final XmlRpcClient client;
+        private final XmlRpcClientConfigImpl config;
+        private final TypeFactory typeFactory;
+        private final Map<String, Object> response = new HashMap<String, Object>();
+        long bytes;
+
+        DiscardingTransport(XmlRpcClient client, XmlRpcClientConfigImpl config, TypeFactory typeFactory)
+        {
+            this.client = client;
+            this.config = config;
+            this.typeFactory = typeFactory;
+            response.put("Status", "Success");
+            response.put("Value", "OpaqueRef:new-vm");
+        }
+
+        public Object sendRequest(XmlRpcRequest request) throws XmlRpcException
+        {
+            send(request);
+            return response;
+        }
+
+        void send(XmlRpcRequest request)
+        {
+            OutputStream out = new OutputStream()
+            {
+                public void write(int b)
+                {
+                    bytes++;
+                }
+
+                public void write(byte[] b, int off, int len)
+                {
+                    bytes += len;
+                }
+            };
+            try
+            {
+                ContentHandler handler = client.getXmlWriterFactory().getXmlWriter(config, out);
+                new XmlRpcWriter(config, handler, typeFactory).write(request);
+            }
+            catch (XmlRpcException e)
+            {
+                throw new RuntimeException(e);
+            }
+            catch (SAXException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ * 
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+
+import com.xensource.xenapi.*;
+
+/**
+ * Records the records of a pool once, and then reads them again and again from the recording with no server, to
+ * measure the throughput and the allocation of the bindings' decoding repeatably (see TrafficRecorder and
+ * TrafficReplay). Each operation logs in, reads the records of the main classes with getAllRecords(c), reads those of
+ * the VMs again as a stream, and logs out.
+ *
+ * With no arguments, it records a synthetic pool of 2,000 VMs from a local StubXenServer in each protocol and replays
+ * it. Otherwise it records a real pool, or replays a recording made before:
+ *
+ * java ReplayBenchmark record <file> <host> <username> <password> [json]
+ * java ReplayBenchmark replay <file> [iterations] [latency ms]
+ *
+ * RunTests can record and replay its tests in the same way, to exercise the rest of the generated classes.
+ */
+public class ReplayBenchmark
+{
+    private static final String[] CLASSES = {"VM", "host", "SR", "VDI", "VBD", "VIF", "network", "PIF", "PBD", "pool"};
+
+    public static void main(String[] args) throws Exception
+    {
+        if (args.length >= 5 && args[0].equals("record"))
+        {
+            Connection.Protocol protocol = args.length > 5 && args[5].equals("json") ? Connection.Protocol.JSON_RPC
+                : Connection.Protocol.XML_RPC;
+            Connection c = new Connection(new URL("https://" + args[2]), protocol, 600, 5);
+            long exchanges = record(c, new File(args[1]), args[3], args[4]);
+            System.out.printf("Recorded %d exchanges to %s%n", exchanges, args[1]);
+        }
+        else if (args.length >= 2 && args[0].equals("replay"))
+        {
+            int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+            long latency = args.length > 3 ? Long.parseLong(args[3]) : 0;
+            replay(new File(args[1]), iterations, latency);
+        }
+        else if (args.length == 0)
+        {
+            stub();
+        }
+        else
+        {
+            System.out.println("Expected arguments: [record <file> <host> <username> <password> [json]] or " +
+                "[replay <file> [iterations] [latency ms]]");
+        }
+        System.exit(0);
+    }
+
+    private static void stub() throws Exception
+    {
+        StubXenServer stub = new StubXenServer(2);
+        JsonRpcBenchmark.buildPool(stub, 2000);
+        for (String type : CLASSES)
+        {
+            if (!type.equals("VM"))
+                stub.respond(type + ".get_all_records", StubXenServer.struct());
+        }
+        stub.start();
+        try
+        {
+            for (Connection.Protocol protocol : Connection.Protocol.values())
+            {
+                File file = File.createTempFile("xenapi", ".xentraffic");
+                try
+                {
+                    long exchanges = record(new Connection(stub.getURL(), protocol, 600, 5), file, "root", "");
+                    System.out.printf("%s: recorded %d exchanges, %d bytes compressed%n", protocol, exchanges,
+                        file.length());
+                    replay(file, 50, 0);
+                    replay(file, 5, 10);
+                }
+                finally
+                {
+                    file.delete();
+                }
+            }
+        }
+        finally
+        {
+            stub.stop();
+        }
+    }
+
+    private static long record(Connection c, File file, String username, String password) throws Exception
+    {
+        TrafficRecorder recorder = new TrafficRecorder(file, c.getProtocol());
+        try
+        {
+            c.setTrafficRecorder(recorder);
+            readPool(c, username, password);
+        }
+        finally
+        {
+            recorder.close();
+        }
+        return recorder.getExchangeCount();
+    }
+
+    private static void replay(File file, int iterations, long latency) throws Exception
+    {
+        TrafficReplay replay = TrafficReplay.load(file);
+        replay.setLatency(latency);
+        Connection c = replay.newConnection();
+
+        // Warm up, then measure
+        int records = 0;
+        for (int i = 0; i < iterations; i++)
+            records = readPool(c, "root", "");
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long decoded = c.getBytesDecoded();
+        long allocated = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++)
+            readPool(c, "root", "");
+        long elapsed = System.nanoTime() - start;
+        allocated = threads.getThreadAllocatedBytes(thread) - allocated;
+        decoded = c.getBytesDecoded() - decoded;
+
+        System.out.printf("%-8s %3d ms latency %9.2f ms/op %7d records/op %12d bytes allocated/op %10d bytes " +
+            "decoded/op%n", replay.getProtocol(), latency, elapsed / 1e6 / iterations, records, allocated / iterations,
+            decoded / iterations);
+    }
+
+    /**
+     * @return The number of records read
+     */
+    private static int readPool(Connection c, String username, String password) throws Exception
+    {
+        Session.loginWithPassword(c, username, password, APIVersion.latest().toString());
+        try
+        {
+            int records = VM.getAllRecords(c).size();
+            records += Host.getAllRecords(c).size();
+            records += SR.getAllRecords(c).size();
+            records += VDI.getAllRecords(c).size();
+            records += VBD.getAllRecords(c).size();
+            records += VIF.getAllRecords(c).size();
+            records += Network.getAllRecords(c).size();
+            records += PIF.getAllRecords(c).size();
+            records += PBD.getAllRecords(c).size();
+            records += Pool.getAllRecords(c).size();
+
+            final int[] streamed = new int[1];
+            VM.getAllRecords(c, new Types.RecordHandler<VM, VM.Record>()
+            {
+                public void handle(VM vm, VM.Record record)
+                {
+                    streamed[0]++;
+                }
+            });
+            return records + streamed[0];
+        }
+        finally
+        {
+            Session.logout(c);
+        }
+    }
+}
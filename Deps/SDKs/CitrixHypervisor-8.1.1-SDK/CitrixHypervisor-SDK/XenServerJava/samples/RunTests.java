@@ -28,8 +28,14 @@
  * OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
+import java.io.File;
+import java.io.IOException;
 import java.util.*;
 
+import com.xensource.xenapi.Connection;
+import com.xensource.xenapi.TrafficRecorder;
+import com.xensource.xenapi.TrafficReplay;
+
 /**
  * Runs each of the tests except EventMonitor and Https, with plain text debug output, and XML summary of test results.
  */
@@ -46,19 +52,53 @@ public class RunTests
      * e.g.
      * 
      * java RunTests myhost root mypassword nfsserver /nfsshare/sr/path
+     *
+     * The server parameters may be preceded by "--record file", to record the calls of the tests to the file (see
+     * TrafficRecorder); or replaced by "--replay file", to have a recording made so answer them instead of a server
+     * (see TrafficReplay). Https and SessionReuse, which test the connections to the server themselves, are neither
+     * recorded nor replayed.
+     *
+     * java RunTests --record pool.xentraffic myhost root mypassword
+     * java RunTests --replay pool.xentraffic
      */
     public static void main(String[] args)
     {
         FileLogger textLogger = new FileLoggerText("JavaTestOutput.txt");
         FileLogger xmlLogger = new FileLoggerXml("JavaTestOutput.xml");
 
+        String recording = null;
+        TrafficRecorder recorder = null;
+        TrafficReplay replay = null;
+        try
+        {
+            if (args.length >= 2 && args[0].equals("--record"))
+            {
+                recording = args[1];
+                recorder = new TrafficRecorder(new File(recording), Connection.Protocol.XML_RPC);
+                args = Arrays.copyOfRange(args, 2, args.length);
+            }
+            else if (args.length >= 2 && args[0].equals("--replay"))
+            {
+                replay = TrafficReplay.load(new File(args[1]));
+                List<String> rest = new ArrayList<String>(Arrays.asList("replay", "root", ""));
+                rest.addAll(Arrays.asList(args).subList(2, args.length));
+                args = rest.toArray(new String[0]);
+            }
+        }
+        catch (IOException e)
+        {
+            textLogger.logException(e);
+            return;
+        }
+
         if (args.length != 3 && args.length != 5)
         {
-            textLogger.log("Expected arguments: <host> <username> <password> [nfs server] [nfs path]");
+            textLogger.log("Expected arguments: [--record <file>] <host> <username> <password> " +
+                "[nfs server] [nfs path], or --replay <file> [nfs server] [nfs path]");
             return;
         }
 
-        TargetServer server = new TargetServer(args[0], args[1], args[2]);
+        TargetServer server = new TargetServer(args[0], args[1], args[2], recorder, replay);
 
         String nfsServer = null;
         String nfsPath = null;
@@ -76,13 +116,15 @@ public class RunTests
         List<TestBase> tests = new ArrayList<TestBase>();
         tests.add(new EventMonitor());
         tests.add(new AddNetwork());
-        tests.add(new SessionReuse());
+        if (replay == null)
+            tests.add(new SessionReuse());
         tests.add(new AsyncVMCreate());
         tests.add(new VdiAndSrOps());
         tests.add(new CreateVM());
         tests.add(new DeprecatedMethod());
         tests.add(new GetAllRecordsOfAllTypes());
-        tests.add(new Https());
+        if (replay == null)
+            tests.add(new Https());
         tests.add(new SharedStorage(nfsServer, nfsPath));
         tests.add(new StartAllVMs());
 
@@ -118,6 +160,19 @@ public class RunTests
         textLogger.logf("%d succeeded, %d skipped, %d failed, %d total",
                 succeeded, skipped, failed, succeeded + skipped + failed);
 
+        if (recorder != null)
+        {
+            try
+            {
+                recorder.close();
+                textLogger.logf("Recorded %d calls to %s", recorder.getExchangeCount(), recording);
+            }
+            catch (IOException e)
+            {
+                textLogger.logException(e);
+            }
+        }
+
         textLogger.logf("RunTests.java: test run finished at %s", new Date().toString());
     }
 
@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ * 
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A minimal local XML-RPC server that answers XenAPI calls with canned responses, for running the benchmarks
+ * without a XenServer. It understands just enough XML-RPC to find the method name of each call.
+ *
+ * Unless told otherwise, every call succeeds and returns an opaque reference. Calls made through system.multicall
+ * are answered in the same way.
+ *
+ * Calls posted to /jsonrpc are answered in JSON-RPC instead, with the same responses converted to JSON. As the server
+ * does, integers are sent as JSON numbers; so is any string value made only of digits.
+ *
+ * Once setCompressing() or setContentEncoding() has been called, responses to requests that accept gzip (or
+ * deflate) are sent compressed, as a server behind a compressing proxy would.
+ */
+public class StubXenServer
+{
+    private static final Pattern METHOD_NAME = Pattern.compile("<methodName>([^<]*)</methodName>");
+    private static final Pattern MULTICALL_METHOD_NAME =
+        Pattern.compile("<name>methodName</name>\\s*<value>(?:<string>)?([^<]*)");
+    private static final Pattern JSON_METHOD = Pattern.compile("\"method\"\\s*:\\s*\"([^\"]*)\"");
+    private static final Pattern JSON_ID = Pattern.compile("\"id\"\\s*:\\s*([^,}\\s]+)");
+    private static final Pattern JSON_INTEGER = Pattern.compile("-?(0|[1-9][0-9]{0,17})");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, String> responses = new ConcurrentHashMap<String, String>();
+    private final Map<String, String> jsonResponses = new ConcurrentHashMap<String, String>();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private volatile long latencyMillis;
+    private volatile String contentEncoding;
+
+    public StubXenServer(int threads) throws IOException
+    {
+        // Without this the response headers and body go out in separate segments and every call waits for a
+        // delayed ACK
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        System.setProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(Math.max(200, threads)));
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.createContext("/", new HttpHandler()
+        {
+            public void handle(HttpExchange exchange) throws IOException
+            {
+                serve(exchange);
+            }
+        });
+
+        respond("session.login_with_password", string("OpaqueRef:stub-session"));
+        respond("session.get_this_host", string("OpaqueRef:stub-host"));
+        respond("host.get_API_version_major", string("2"));
+        respond("host.get_API_version_minor", string("14"));
+        respond("session.logout", string(""));
+    }
+
+    public void start()
+    {
+        server.start();
+    }
+
+    public void stop()
+    {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public URL getURL() throws IOException
+    {
+        return new URL("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+    }
+
+    public long getCallCount()
+    {
+        return calls.get();
+    }
+
+    /**
+     * @return The number of bytes sent in the bodies of responses, as sent (compressed or not)
+     */
+    public long getBytesSent()
+    {
+        return bytesSent.get();
+    }
+
+    /**
+     * Makes every call wait this long before it is answered, to mimic the network and server time of a real host.
+     */
+    public void setLatency(long millis)
+    {
+        latencyMillis = millis;
+    }
+
+    /**
+     * Makes the server gzip its responses to requests whose Accept-Encoding allows it.
+     */
+    public void setCompressing(boolean enabled)
+    {
+        setContentEncoding(enabled ? "gzip" : null);
+    }
+
+    /**
+     * Makes the server compress its responses to requests whose Accept-Encoding allows it.
+     *
+     * @param encoding "gzip" or "deflate", or null to send responses as they are
+     */
+    public void setContentEncoding(String encoding)
+    {
+        if (encoding != null && !encoding.equals("gzip") && !encoding.equals("deflate"))
+            throw new IllegalArgumentException("Unsupported encoding " + encoding);
+        contentEncoding = encoding;
+    }
+
+    /**
+     * Sets the value returned by a method.
+     *
+     * @param method The XML-RPC method name, e.g. "VM.get_power_state"
+     * @param valueXml The XML-RPC value, e.g. as built by string() or struct()
+     */
+    public void respond(String method, String valueXml)
+    {
+        responses.put(method, struct("Status", string("Success"), "Value", valueXml));
+    }
+
+    /**
+     * Makes a method fail with the given XenAPI error description.
+     */
+    public void fail(String method, String... errorDescription)
+    {
+        String[] values = new String[errorDescription.length];
+        for (int i = 0; i < values.length; i++)
+            values[i] = string(errorDescription[i]);
+        responses.put(method, struct("Status", string("Failure"), "ErrorDescription", array(values)));
+    }
+
+    public static String string(String s)
+    {
+        return "<value>" + s.replace("&", "&amp;").replace("<", "&lt;") + "</value>";
+    }
+
+    public static String array(String... values)
+    {
+        StringBuilder sb = new StringBuilder("<value><array><data>");
+        for (String v : values)
+            sb.append(v);
+        return sb.append("</data></array></value>").toString();
+    }
+
+    /**
+     * @param members Alternating member names and XML-RPC values
+     */
+    public static String struct(String... members)
+    {
+        StringBuilder sb = new StringBuilder("<value><struct>");
+        for (int i = 0; i + 1 < members.length; i += 2)
+            sb.append("<member><name>").append(members[i]).append("</name>").append(members[i + 1]).append("</member>");
+        return sb.append("</struct></value>").toString();
+    }
+
+    /**
+     * A whole XML-RPC response carrying the given value.
+     */
+    public static String methodResponse(String valueXml)
+    {
+        return "<?xml version=\"1.0\"?><methodResponse><params><param>" + valueXml + "</param></params></methodResponse>";
+    }
+
+    private String responseFor(String method)
+    {
+        String response = responses.get(method);
+        return response != null ? response : struct("Status", string("Success"), "Value", string("OpaqueRef:" + method));
+    }
+
+    private void serve(HttpExchange exchange) throws IOException
+    {
+        String request = new String(readAll(exchange.getRequestBody()), "UTF-8");
+        calls.incrementAndGet();
+
+        if (exchange.getRequestURI().getPath().equals("/jsonrpc"))
+        {
+            serveJson(exchange, request);
+            return;
+        }
+
+        Matcher m = METHOD_NAME.matcher(request);
+        String method = m.find() ? m.group(1) : "";
+        String value;
+        if (method.equals("system.multicall"))
+        {
+            StringBuilder results = new StringBuilder("<value><array><data>");
+            Matcher call = MULTICALL_METHOD_NAME.matcher(request);
+            while (call.find())
+                results.append(array(responseFor(call.group(1))));
+            value = results.append("</data></array></value>").toString();
+        }
+        else
+        {
+            value = responseFor(method);
+        }
+
+        send(exchange, "text/xml", methodResponse(value).getBytes("UTF-8"));
+    }
+
+    private void serveJson(HttpExchange exchange, String request) throws IOException
+    {
+        Matcher m = JSON_METHOD.matcher(request);
+        String method = m.find() ? m.group(1) : "";
+        Matcher id = JSON_ID.matcher(request);
+
+        String xml = responseFor(method);
+        String json = jsonResponses.get(xml);
+        if (json == null)
+        {
+            json = toJsonRpc(xml);
+            jsonResponses.put(xml, json);
+        }
+        String response = json + (id.find() ? id.group(1) : "null") + "}";
+        send(exchange, "application/json", response.getBytes("UTF-8"));
+    }
+
+    private void send(HttpExchange exchange, String contentType, byte[] response) throws IOException
+    {
+        long latency = latencyMillis;
+        if (latency > 0)
+        {
+            try
+            {
+                Thread.sleep(latency);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        String encoding = contentEncoding;
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (encoding != null && acceptEncoding != null && acceptEncoding.contains(encoding))
+        {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(response.length / 4 + 64);
+            OutputStream encoder = encoding.equals("gzip") ? new GZIPOutputStream(compressed, 8192)
+                : new DeflaterOutputStream(compressed, new Deflater(), 8192);
+            encoder.write(response);
+            encoder.close();
+            response = compressed.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", encoding);
+        }
+
+        bytesSent.addAndGet(response.length);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, response.length);
+        OutputStream out = exchange.getResponseBody();
+        out.write(response);
+        out.close();
+    }
+
+    /**
+     * @param xml A XenAPI response, as stored by respond() or fail()
+     * @return The JSON-RPC response, up to the value of its id
+     */
+    private static String toJsonRpc(String xml) throws IOException
+    {
+        Map<?, ?> response;
+        try
+        {
+            XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml));
+            reader.nextTag();
+            response = (Map<?, ?>) readValue(reader);
+        }
+        catch (XMLStreamException e)
+        {
+            throw new IOException(e);
+        }
+
+        StringBuilder json = new StringBuilder("{\"jsonrpc\":\"2.0\",");
+        if ("Success".equals(response.get("Status")))
+        {
+            json.append("\"result\":");
+            writeJson(json, response.get("Value"));
+        }
+        else
+        {
+            List<?> description = (List<?>) response.get("ErrorDescription");
+            json.append("\"error\":{\"code\":1,\"message\":");
+            writeJson(json, description.get(0));
+            json.append(",\"data\":");
+            writeJson(json, description.subList(1, description.size()));
+            json.append('}');
+        }
+        return json.append(",\"id\":").toString();
+    }
+
+    /**
+     * Reads an XML-RPC value, from its start tag to its end tag, into a String, Boolean, Double, Map or List.
+     */
+    private static Object readValue(XMLStreamReader reader) throws XMLStreamException
+    {
+        StringBuilder text = new StringBuilder();
+        while (true)
+        {
+            int event = reader.next();
+            if (event == XMLStreamConstants.CHARACTERS)
+                text.append(reader.getText());
+            else if (event == XMLStreamConstants.END_ELEMENT)
+                return text.toString();
+            else if (event == XMLStreamConstants.START_ELEMENT)
+            {
+                Object value = readTyped(reader, reader.getLocalName());
+                reader.nextTag();
+                return value;
+            }
+        }
+    }
+
+    private static Object readTyped(XMLStreamReader reader, String type) throws XMLStreamException
+    {
+        if (type.equals("struct"))
+        {
+            Map<String, Object> map = new LinkedHashMap<String, Object>();
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT)
+            {
+                reader.nextTag();
+                String name = reader.getElementText();
+                reader.nextTag();
+                map.put(name, readValue(reader));
+                reader.nextTag();
+            }
+            return map;
+        }
+        if (type.equals("array"))
+        {
+            List<Object> list = new ArrayList<Object>();
+            reader.nextTag();
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT)
+                list.add(readValue(reader));
+            reader.nextTag();
+            return list;
+        }
+        String text = reader.getElementText();
+        if (type.equals("boolean"))
+            return text.equals("1");
+        if (type.equals("double"))
+            return Double.valueOf(text);
+        return text;
+    }
+
+    private static void writeJson(StringBuilder json, Object value)
+    {
+        if (value instanceof Map)
+        {
+            json.append('{');
+            String separator = "";
+            for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet())
+            {
+                json.append(separator);
+                writeString(json, e.getKey().toString());
+                json.append(':');
+                writeJson(json, e.getValue());
+                separator = ",";
+            }
+            json.append('}');
+        }
+        else if (value instanceof List)
+        {
+            json.append('[');
+            String separator = "";
+            for (Object element : (List<?>) value)
+            {
+                json.append(separator);
+                writeJson(json, element);
+                separator = ",";
+            }
+            json.append(']');
+        }
+        else if (value instanceof String && !JSON_INTEGER.matcher((String) value).matches())
+            writeString(json, (String) value);
+        else
+            json.append(value);
+    }
+
+    private static void writeString(StringBuilder json, String s)
+    {
+        json.append('"');
+        for (int i = 0; i < s.length(); i++)
+        {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\')
+                json.append('\\').append(c);
+            else if (c < 0x20)
+                json.append(String.format("\\u%04x", (int) c));
+            else
+                json.append(c);
+        }
+        json.append('"');
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = in.read(buffer)) != -1)
+            out.write(buffer, 0, n);
+        in.close();
+        return out.toByteArray();
+    }
+}
@@ -28,16 +28,37 @@
  * OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
+import com.xensource.xenapi.TrafficRecorder;
+import com.xensource.xenapi.TrafficReplay;
+
 public class TargetServer
 {
     public final String Hostname;
     public final String Username;
     public final String Password;
 
+    /**
+     * Records the calls made to the server, or null
+     */
+    public final TrafficRecorder Recorder;
+
+    /**
+     * Answers the calls in place of the server, or null
+     */
+    public final TrafficReplay Replay;
+
     public TargetServer(String hostname, String username, String password)
+    {
+        this(hostname, username, password, null, null);
+    }
+
+    public TargetServer(String hostname, String username, String password, TrafficRecorder recorder,
+                        TrafficReplay replay)
     {
         this.Hostname = hostname;
         this.Username = username;
         this.Password = password;
+        this.Recorder = recorder;
+        this.Replay = replay;
     }
 }
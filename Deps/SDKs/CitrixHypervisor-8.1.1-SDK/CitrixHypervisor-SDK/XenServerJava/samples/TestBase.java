@@ -63,7 +63,16 @@ public abstract class TestBase
 
     private void connect(TargetServer target) throws Exception
     {
-        connection = new Connection(new URL("https://" + target.Hostname));
+        if (target.Replay != null)
+        {
+            connection = target.Replay.newConnection();
+        }
+        else
+        {
+            connection = new Connection(new URL("https://" + target.Hostname));
+            if (target.Recorder != null)
+                connection.setTrafficRecorder(target.Recorder);
+        }
         log(String.format("logging in to '%s'...", target.Hostname));
         Session.loginWithPassword(connection, target.Username, target.Password, APIVersion.latest().toString());
         logf("Success! Session API version is %s", connection.getAPIVersion().toString());
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ * 
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.xensource.xenapi.*;
+
+/**
+ * Compares the number of calls per second made through the default xml-rpc transport, which opens a new connection
+ * per call, with the pooled keep-alive transport, against a local StubXenServer.
+ *
+ * java TransportBenchmark [calls] [threads]
+ */
+public class TransportBenchmark
+{
+    public static void main(String[] args) throws Exception
+    {
+        final int calls = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        final int threads = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+
+        StubXenServer stub = new StubXenServer(threads);
+        stub.respond("VM.get_power_state", StubXenServer.string("Running"));
+        stub.start();
+
+        try
+        {
+            Connection plain = new Connection(stub.getURL(), "OpaqueRef:stub-session");
+            run("default transport", plain, calls / 10, threads);
+            report("default transport", run("default transport", plain, calls, threads), calls);
+
+            HttpConnectionPool pool = new HttpConnectionPool(threads, threads, HttpConnectionPool.DEFAULT_IDLE_TIMEOUT);
+            Connection pooled = new Connection(stub.getURL(), "OpaqueRef:stub-session");
+            pooled.setConnectionPool(pool);
+            run("pooled transport", pooled, calls / 10, threads);
+            report("pooled transport", run("pooled transport", pooled, calls, threads), calls);
+            System.out.printf("pooled transport opened %d connection(s)%n", pool.getOpenedConnectionCount());
+            pool.close();
+        }
+        finally
+        {
+            stub.stop();
+        }
+    }
+
+    private static long run(String name, final Connection c, final int calls, int threads) throws Exception
+    {
+        final VM vm = Types.toVM("OpaqueRef:benchmark-vm");
+        final int perThread = calls / threads;
+        final List<Exception> failures = new ArrayList<Exception>();
+        List<Thread> workers = new ArrayList<Thread>();
+
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++)
+        {
+            Thread worker = new Thread(new Runnable()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        for (int i = 0; i < perThread; i++)
+                            vm.getPowerState(c);
+                    }
+                    catch (Exception e)
+                    {
+                        synchronized (failures)
+                        {
+                            failures.add(e);
+                        }
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers)
+            worker.join();
+        long elapsed = System.nanoTime() - start;
+
+        if (!failures.isEmpty())
+            throw new Exception(name + " failed", failures.get(0));
+        return elapsed;
+    }
+
+    private static void report(String name, long elapsedNanos, int calls)
+    {
+        System.out.printf("%-20s %8d calls in %6d ms: %10.0f calls/s%n", name, calls, elapsedNanos / 1000000,
+            calls / (elapsedNanos / 1e9));
+    }
+}
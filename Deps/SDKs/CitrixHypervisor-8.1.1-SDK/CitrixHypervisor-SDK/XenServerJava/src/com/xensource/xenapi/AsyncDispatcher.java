@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.client.XmlRpcClientConfigImpl;
+import org.apache.xmlrpc.client.XmlRpcHttpTransportException;
+
+/**
+ * Sends the calls made through Connection.callAsync() with the non-blocking java.net.http client, so that any number
+ * of calls can be outstanding without a thread waiting for each of them. At most a given number of calls are in
+ * flight at once; further calls are queued until one completes. If the connection replays a recording, each response
+ * is taken from it after the latency of the replay, without blocking a thread for that time either.
+ *
+ * The threads that complete the calls and decode their responses, and the http clients, are shared by the dispatchers
+ * of all Connections, so a connection that is dropped without being closed leaves nothing running behind it.
+ */
+final class AsyncDispatcher
+{
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * Only used for completing futures and decoding responses: the I/O itself is non-blocking
+     */
+    private static final ExecutorService EXECUTOR = newExecutor();
+
+    /**
+     * The http clients, by connection timeout in milliseconds and TLS context (null for the default)
+     */
+    private static final ConcurrentMap<List<Object>, HttpClient> CLIENTS =
+        new ConcurrentHashMap<List<Object>, HttpClient>();
+
+    private final Connection connection;
+    private final XmlRpcClientConfigImpl config;
+    private final RpcCodec codec;
+    private final Queue<PendingCall<?>> waiting = new ConcurrentLinkedQueue<PendingCall<?>>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int maxInFlight;
+
+    AsyncDispatcher(Connection connection, XmlRpcClientConfigImpl config, RpcCodec codec, int maxInFlight)
+    {
+        this.connection = connection;
+        this.config = config;
+        this.codec = codec;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * @return The http client for the current settings of the connection, which may change between calls
+     */
+    private HttpClient client()
+    {
+        final int connectionTimeout = config.getConnectionTimeout();
+        final SSLContext sslContext = ConnectionConfig.sslContext(config);
+        return CLIENTS.computeIfAbsent(Arrays.<Object>asList(connectionTimeout, sslContext),
+            new Function<List<Object>, HttpClient>()
+            {
+                public HttpClient apply(List<Object> key)
+                {
+                    HttpClient.Builder builder = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(EXECUTOR);
+                    if (connectionTimeout > 0)
+                        builder.connectTimeout(Duration.ofMillis(connectionTimeout));
+                    if (sslContext != null)
+                        builder.sslContext(sslContext);
+                    return builder.build();
+                }
+            });
+    }
+
+    private static ExecutorService newExecutor()
+    {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        return Executors.newFixedThreadPool(threads, new ThreadFactory()
+        {
+            public Thread newThread(Runnable r)
+            {
+                Thread thread = new Thread(r, "xenapi-async-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    void setMaxInFlight(int maxInFlight)
+    {
+        if (maxInFlight < 1)
+            throw new IllegalArgumentException("maxInFlight must be at least 1");
+        this.maxInFlight = maxInFlight;
+        startWaiting();
+    }
+
+    int getMaxInFlight()
+    {
+        return maxInFlight;
+    }
+
+    int getInFlight()
+    {
+        return inFlight.get();
+    }
+
+    <T> CompletableFuture<T> submit(Connection.Call<T> call)
+    {
+        PendingCall<T> pending = new PendingCall<T>(call);
+        try
+        {
+            CallCapture capture = CallCapture.record(connection, call);
+            pending.method = capture.getMethod();
+            pending.request = codec.encodeRequest(capture.getMethod(), capture.getParams());
+        }
+        catch (Exception e)
+        {
+            pending.future.completeExceptionally(e);
+            return pending.future;
+        }
+
+        waiting.add(pending);
+        startWaiting();
+        return pending.future;
+    }
+
+    /**
+     * Starts queued calls until the in-flight limit is reached or the queue is empty.
+     */
+    private void startWaiting()
+    {
+        while (true)
+        {
+            int current = inFlight.get();
+            if (current >= maxInFlight)
+                return;
+            if (!inFlight.compareAndSet(current, current + 1))
+                continue;
+
+            PendingCall<?> pending = waiting.poll();
+            if (pending == null)
+            {
+                inFlight.decrementAndGet();
+                // Another thread may have queued a call after we looked
+                if (waiting.isEmpty())
+                    return;
+                continue;
+            }
+            start(pending);
+        }
+    }
+
+    private <T> void start(final PendingCall<T> pending)
+    {
+        TrafficReplay replay = connection.getResponseCounters().getReplay();
+        if (replay != null)
+        {
+            replay(pending, replay);
+            return;
+        }
+
+        HttpRequest request;
+        try
+        {
+            request = newRequest(pending.request);
+        }
+        catch (Exception e)
+        {
+            pending.future.completeExceptionally(e);
+            finished();
+            return;
+        }
+
+        if (CallEvent.isRecording())
+        {
+            pending.event = new CallEvent();
+            pending.event.begin();
+        }
+        pending.sent = System.nanoTime();
+        client().sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .whenComplete(new BiConsumer<HttpResponse<byte[]>, Throwable>()
+            {
+                public void accept(HttpResponse<byte[]> response, Throwable error)
+                {
+                    finished();
+                    if (error != null)
+                        pending.fail(unwrap(error));
+                    else
+                        pending.complete(response.statusCode(), response.body(),
+                            response.headers().firstValue("Content-Encoding").orElse(null));
+                }
+            });
+    }
+
+    private <T> void replay(final PendingCall<T> pending, final TrafficReplay replay)
+    {
+        if (CallEvent.isRecording())
+        {
+            pending.event = new CallEvent();
+            pending.event.begin();
+        }
+        pending.sent = System.nanoTime();
+        CompletableFuture.runAsync(new Runnable()
+        {
+            public void run()
+            {
+                byte[] response;
+                try
+                {
+                    response = replay.lookup(pending.method, pending.request);
+                }
+                catch (XmlRpcException e)
+                {
+                    finished();
+                    pending.fail(e);
+                    return;
+                }
+                finished();
+                pending.complete(200, response, null);
+            }
+        }, CompletableFuture.delayedExecutor(replay.getLatency(), TimeUnit.MILLISECONDS, EXECUTOR));
+    }
+
+    private void finished()
+    {
+        inFlight.decrementAndGet();
+        startWaiting();
+    }
+
+    private HttpRequest newRequest(byte[] body) throws URISyntaxException, XmlRpcException
+    {
+        URL url = codec.getEndpoint(config.getServerURL());
+        HttpRequest.Builder builder = HttpRequest.newBuilder(url.toURI())
+            .header("Content-Type", codec.getContentType())
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        String acceptEncoding = connection.getResponseCounters().getAcceptEncoding();
+        if (acceptEncoding != null)
+            builder.header("Accept-Encoding", acceptEncoding);
+        if (config.getReplyTimeout() > 0)
+            builder.timeout(Duration.ofMillis(config.getReplyTimeout()));
+        return builder.build();
+    }
+
+    private static Throwable unwrap(Throwable error)
+    {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private final class PendingCall<T>
+    {
+        final Connection.Call<T> call;
+        final CompletableFuture<T> future = new CompletableFuture<T>();
+        String method;
+        byte[] request;
+        long sent;
+        CallEvent event;
+
+        PendingCall(Connection.Call<T> call)
+        {
+            this.call = call;
+        }
+
+        void fail(Throwable error)
+        {
+            completed(0, CallSample.errorCode(error));
+            future.completeExceptionally(error);
+        }
+
+        /**
+         * @param contentEncoding The Content-Encoding of the response, or null if it has none
+         */
+        void complete(int status, byte[] responseBody, String contentEncoding)
+        {
+            boolean measured = false;
+            try
+            {
+                if (status < 200 || status > 299)
+                    throw new XmlRpcHttpTransportException(status, "HTTP status " + status);
+
+                InputStream body = connection.getResponseCounters().wrap(method, request,
+                    new ByteArrayInputStream(responseBody), contentEncoding);
+                Map response;
+                try
+                {
+                    response = (Map) codec.decodeResponse(body);
+                }
+                finally
+                {
+                    body.close();
+                }
+                String errorCode = CallSample.errorCode(response);
+                completed(responseBody.length, errorCode);
+                measured = true;
+                future.complete(errorCode == null ? decode(response) : CallCapture.replay(connection, call, method,
+                    response));
+            }
+            catch (Exception e)
+            {
+                if (!measured)
+                    completed(responseBody.length, CallSample.errorCode(e));
+                future.completeExceptionally(e);
+            }
+        }
+
+        /**
+         * Reports the call to the CallMetrics of the connection and to Flight Recorder.
+         */
+        private void completed(long responseBytes, String errorCode)
+        {
+            long elapsed = System.nanoTime() - sent;
+            if (event != null)
+                event.complete(method, request.length, responseBytes, errorCode);
+            Connection.CallMetrics metrics = connection.getCallMetrics();
+            if (metrics != null)
+                metrics.callCompleted(method, elapsed, request.length, responseBytes, errorCode);
+        }
+
+        /**
+         * Has the generated method decode a successful response, measuring the time it takes as dispatch() does. Here
+         * that time also covers checking the response.
+         */
+        private T decode(Map response) throws Types.XenAPIException, XmlRpcException
+        {
+            Connection.CallMetrics metrics = connection.getCallMetrics();
+            DecodeEvent decodeEvent = DecodeEvent.isRecording() ? new DecodeEvent() : null;
+            if (metrics == null && decodeEvent == null)
+                return CallCapture.replay(connection, call, method, response);
+
+            if (decodeEvent != null)
+                decodeEvent.begin();
+            long start = System.nanoTime();
+            T result = CallCapture.replay(connection, call, method, response);
+            long elapsed = System.nanoTime() - start;
+            if (decodeEvent != null)
+                decodeEvent.complete(method, DecodeEvent.recordsIn(result), elapsed);
+            if (metrics != null)
+                metrics.responseDecoded(method, elapsed);
+            return result;
+        }
+    }
+}
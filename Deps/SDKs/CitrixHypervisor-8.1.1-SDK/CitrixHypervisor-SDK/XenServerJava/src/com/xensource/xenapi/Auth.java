@@ -74,7 +74,7 @@ public class Auth extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(subjectName)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -93,7 +93,7 @@ public class Auth extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(subjectIdentifier)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -112,7 +112,7 @@ public class Auth extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(subjectIdentifier)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfString(result);
+            return c.decoded(method_call, Types.toSetOfString(result));
     }
 
 }
\ No newline at end of file
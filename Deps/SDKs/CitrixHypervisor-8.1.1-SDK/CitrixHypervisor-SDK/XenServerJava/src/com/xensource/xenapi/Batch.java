@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.xmlrpc.XmlRpcException;
+
+import com.xensource.xenapi.Types.XenAPIException;
+
+/**
+ * Queues calls made on a Connection and sends them to the server together, as a single XML-RPC system.multicall
+ * request, instead of making one round trip per call. Create one with Connection.batch().
+ *
+ * Each queued call returns a future that is completed when the batch is executed. Its value is decoded by the same
+ * generated method (and so the same Types.toXxx converter) that would have decoded a direct call, and a failed call
+ * completes its future with the same XenAPIException that a direct call would have thrown. For example:
+ *
+ * <pre>
+ *     Batch batch = connection.batch();
+ *     Map&lt;VM, Future&lt;Types.VmPowerState&gt;&gt; states = new HashMap&lt;VM, Future&lt;Types.VmPowerState&gt;&gt;();
+ *     for (final VM vm : VM.getAll(connection))
+ *         states.put(vm, batch.add(c -&gt; vm.getPowerState(c)));
+ *     batch.execute();
+ * </pre>
+ *
+ * A Batch is not thread-safe. After execute() it is empty and can be reused.
+ */
+public class Batch
+{
+    private final Connection connection;
+    private final List<Entry<?>> entries = new ArrayList<Entry<?>>();
+    private int maxCallsPerRequest;
+
+    Batch(Connection connection)
+    {
+        this.connection = connection;
+    }
+
+    /**
+     * Limits the number of calls sent in a single system.multicall request. If more calls are queued, execute() sends
+     * several requests. Zero, the default, means no limit.
+     */
+    public Batch setMaxCallsPerRequest(int maxCallsPerRequest)
+    {
+        this.maxCallsPerRequest = maxCallsPerRequest;
+        return this;
+    }
+
+    /**
+     * Queues a call. The call is run immediately to record its request, but nothing is sent until execute(). The maps
+     * and sets passed to the call are copied, so later changes to them do not affect the request.
+     *
+     * @param call The call, which must make exactly one API call on the Connection it is passed
+     * @return A future that receives the result of the call once the batch has been executed
+     */
+    public <T> CompletableFuture<T> add(Connection.Call<T> call) throws XenAPIException, XmlRpcException
+    {
+        CallCapture capture = CallCapture.record(connection, call);
+        Entry<T> entry = new Entry<T>(call, capture.getMethod(), Marshalling.detach(capture.getParams()));
+        entries.add(entry);
+        return entry.future;
+    }
+
+    /**
+     * @return The number of calls queued
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Sends the queued calls and completes their futures. Failures of individual calls do not cause this method to
+     * throw: they are reported through the futures.
+     *
+     * @throws XmlRpcException if a system.multicall request failed as a whole, in which case the futures of all calls
+     * that had not yet completed are completed exceptionally with the same exception
+     */
+    public void execute() throws XmlRpcException
+    {
+        List<Entry<?>> pending = new ArrayList<Entry<?>>(entries);
+        entries.clear();
+
+        int chunk = maxCallsPerRequest > 0 ? maxCallsPerRequest : Math.max(1, pending.size());
+        for (int start = 0; start < pending.size(); start += chunk)
+        {
+            List<Entry<?>> request = pending.subList(start, Math.min(pending.size(), start + chunk));
+            try
+            {
+                send(request);
+            }
+            catch (XmlRpcException e)
+            {
+                for (Entry<?> entry : pending.subList(start, pending.size()))
+                    entry.future.completeExceptionally(e);
+                throw e;
+            }
+            catch (RuntimeException e)
+            {
+                for (Entry<?> entry : pending.subList(start, pending.size()))
+                    entry.future.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    private void send(List<Entry<?>> request) throws XmlRpcException
+    {
+        Object[] calls = new Object[request.size()];
+        for (int i = 0; i < calls.length; i++)
+        {
+            Entry<?> entry = request.get(i);
+            Map<String, Object> call = new HashMap<String, Object>();
+            call.put("methodName", entry.method);
+            call.put("params", entry.params);
+            calls[i] = call;
+        }
+
+        Object[] results = (Object[]) connection.execute("system.multicall", new Object[]{calls});
+        if (results.length != calls.length)
+            throw new XmlRpcException("system.multicall returned " + results.length + " results for " + calls.length + " calls");
+
+        for (int i = 0; i < results.length; i++)
+            request.get(i).complete(results[i]);
+    }
+
+    /**
+     * A queued call and its future.
+     */
+    private final class Entry<T>
+    {
+        final Connection.Call<T> call;
+        final String method;
+        final Object[] params;
+        final CompletableFuture<T> future = new CompletableFuture<T>();
+
+        Entry(Connection.Call<T> call, String method, Object[] params)
+        {
+            this.call = call;
+            this.method = method;
+            this.params = params;
+        }
+
+        /**
+         * @param result One element of the system.multicall result: either a one-element array holding the response,
+         * or a fault struct
+         */
+        void complete(Object result)
+        {
+            try
+            {
+                if (result instanceof Map)
+                {
+                    Map fault = (Map) result;
+                    Object code = fault.get("faultCode");
+                    throw new XmlRpcException(code instanceof Integer ? (Integer) code : 0, String.valueOf(fault.get("faultString")));
+                }
+                Map response = (Map) ((Object[]) result)[0];
+                future.complete(CallCapture.replay(connection, call, method, response));
+            }
+            catch (Exception e)
+            {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
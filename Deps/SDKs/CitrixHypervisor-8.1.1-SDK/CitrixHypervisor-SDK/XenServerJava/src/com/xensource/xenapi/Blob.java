@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -157,6 +158,54 @@ public class Blob extends XenAPIObject {
         public String mimeType;
     }
 
+    /**
+     * The fields of a Blob.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * a human-readable name
+         */
+        NAME_LABEL("name_label"),
+        /**
+         * a notes field containing human-readable description
+         */
+        NAME_DESCRIPTION("name_description"),
+        /**
+         * Size of the binary data, in bytes
+         */
+        SIZE("size"),
+        /**
+         * True if the blob is publicly accessible
+         */
+        PUBLIC("public"),
+        /**
+         * Time at which the data in the blob was last updated
+         */
+        LAST_UPDATED("last_updated"),
+        /**
+         * The mime type associated with this object. Defaults to 'application/octet-stream' if the empty string is supplied
+         */
+        MIME_TYPE("mime_type");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given blob.
      * First published in XenServer 5.0.
@@ -172,7 +221,7 @@ public class Blob extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBlobRecord(result);
+            return c.decoded(method_call, Types.toBlobRecord(result));
     }
 
     /**
@@ -191,7 +240,7 @@ public class Blob extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBlob(result);
+            return c.decoded(method_call, Types.toBlob(result));
     }
 
     /**
@@ -210,7 +259,7 @@ public class Blob extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(label)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfBlob(result);
+            return c.decoded(method_call, Types.toSetOfBlob(result));
     }
 
     /**
@@ -228,7 +277,7 @@ public class Blob extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -246,7 +295,7 @@ public class Blob extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -264,7 +313,7 @@ public class Blob extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -282,7 +331,7 @@ public class Blob extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -300,7 +349,7 @@ public class Blob extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -318,7 +367,7 @@ public class Blob extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toDate(result);
+            return c.decoded(method_call, Types.toDate(result));
     }
 
     /**
@@ -336,7 +385,7 @@ public class Blob extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -406,7 +455,7 @@ public class Blob extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(mimeType)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBlob(result);
+            return c.decoded(method_call, Types.toBlob(result));
     }
 
     /**
@@ -426,7 +475,7 @@ public class Blob extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(mimeType), Marshalling.toXMLRPC(_public)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBlob(result);
+            return c.decoded(method_call, Types.toBlob(result));
     }
 
     /**
@@ -460,7 +509,7 @@ public class Blob extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfBlob(result);
+            return c.decoded(method_call, Types.toSetOfBlob(result));
     }
 
     /**
@@ -476,9 +525,78 @@ public class Blob extends XenAPIObject {
         String method_call = "blob.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfBlobBlobRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.BLOB_RECORD_DECODER);
+    }
+
+    /**
+     * Return all blobs known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 5.0.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<Blob, Blob.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "blob.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.BLOB_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all blobs known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 5.0.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<Blob, Blob.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "blob.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.BLOB_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all blobs known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 5.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Blob.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<Blob, Blob.Record> getAllRecordsWithFields(Connection c, Set<Blob.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "blob.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.BLOB_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all blobs known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 5.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Blob.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<Blob, Blob.Record>> streamAllRecordsWithFields(Connection c, Set<Blob.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "blob.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.BLOB_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -173,6 +174,62 @@ public class Bond extends XenAPIObject {
         public Boolean autoUpdateMac;
     }
 
+    /**
+     * The fields of a Bond.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * The bonded interface
+         */
+        MASTER("master"),
+        /**
+         * The interfaces which are part of this bond
+         */
+        SLAVES("slaves"),
+        /**
+         * additional configuration
+         */
+        OTHER_CONFIG("other_config"),
+        /**
+         * The PIF of which the IP configuration and MAC were copied to the bond, and which will receive all configuration/VLANs/VIFs on the bond if the bond is destroyed
+         */
+        PRIMARY_SLAVE("primary_slave"),
+        /**
+         * The algorithm used to distribute traffic among the bonded NICs
+         */
+        MODE("mode"),
+        /**
+         * Additional configuration properties specific to the bond mode.
+         */
+        PROPERTIES("properties"),
+        /**
+         * Number of links up in this bond
+         */
+        LINKS_UP("links_up"),
+        /**
+         * true if the MAC was taken from the primary slave when the bond was created, and false if the client specified the MAC
+         */
+        AUTO_UPDATE_MAC("auto_update_mac");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given Bond.
      * First published in XenServer 4.1.
@@ -188,7 +245,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBondRecord(result);
+            return c.decoded(method_call, Types.toBondRecord(result));
     }
 
     /**
@@ -207,7 +264,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBond(result);
+            return c.decoded(method_call, Types.toBond(result));
     }
 
     /**
@@ -225,7 +282,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -243,7 +300,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPIF(result);
+            return c.decoded(method_call, Types.toPIF(result));
     }
 
     /**
@@ -261,7 +318,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfPIF(result);
+            return c.decoded(method_call, Types.toSetOfPIF(result));
     }
 
     /**
@@ -279,7 +336,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -297,7 +354,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPIF(result);
+            return c.decoded(method_call, Types.toPIF(result));
     }
 
     /**
@@ -315,7 +372,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBondMode(result);
+            return c.decoded(method_call, Types.toBondMode(result));
     }
 
     /**
@@ -333,7 +390,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -351,7 +408,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -369,7 +426,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -442,7 +499,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(network), Marshalling.toXMLRPC(members), Marshalling.toXMLRPC(MAC)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -463,7 +520,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(network), Marshalling.toXMLRPC(members), Marshalling.toXMLRPC(MAC)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBond(result);
+            return c.decoded(method_call, Types.toBond(result));
     }
 
     /**
@@ -485,7 +542,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(network), Marshalling.toXMLRPC(members), Marshalling.toXMLRPC(MAC), Marshalling.toXMLRPC(mode)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -507,7 +564,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(network), Marshalling.toXMLRPC(members), Marshalling.toXMLRPC(MAC), Marshalling.toXMLRPC(mode)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBond(result);
+            return c.decoded(method_call, Types.toBond(result));
     }
 
     /**
@@ -530,7 +587,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(network), Marshalling.toXMLRPC(members), Marshalling.toXMLRPC(MAC), Marshalling.toXMLRPC(mode), Marshalling.toXMLRPC(properties)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -553,7 +610,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(network), Marshalling.toXMLRPC(members), Marshalling.toXMLRPC(MAC), Marshalling.toXMLRPC(mode), Marshalling.toXMLRPC(properties)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBond(result);
+            return c.decoded(method_call, Types.toBond(result));
     }
 
     /**
@@ -571,7 +628,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -606,7 +663,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref), Marshalling.toXMLRPC(value)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -643,7 +700,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref), Marshalling.toXMLRPC(name), Marshalling.toXMLRPC(value)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -679,7 +736,7 @@ public class Bond extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfBond(result);
+            return c.decoded(method_call, Types.toSetOfBond(result));
     }
 
     /**
@@ -695,9 +752,78 @@ public class Bond extends XenAPIObject {
         String method_call = "Bond.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfBondBondRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.BOND_RECORD_DECODER);
+    }
+
+    /**
+     * Return all Bonds known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 4.1.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<Bond, Bond.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Bond.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.BOND_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all Bonds known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 4.1.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<Bond, Bond.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Bond.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.BOND_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all Bonds known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 4.1.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Bond.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<Bond, Bond.Record> getAllRecordsWithFields(Connection c, Set<Bond.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Bond.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.BOND_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all Bonds known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 4.1.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Bond.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<Bond, Bond.Record>> streamAllRecordsWithFields(Connection c, Set<Bond.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Bond.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.BOND_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,521 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.apache.xmlrpc.XmlRpcException;
+
+import com.xensource.xenapi.Types.XenAPIException;
+
+/**
+ * Runs one operation on many VMs through its Async call, such as starting every desktop of a farm, keeping a bounded
+ * number of tasks in flight on each host and in the pool as a whole.
+ *
+ * The Async calls are sent through Connection.callAsync(), and the completion of each task is awaited through a
+ * TaskTracker, so waiting costs no calls. An operation that fails
+ * because no host can take the VM yet, or because another operation on it is in progress, is retried after a delay
+ * that doubles with each attempt. Other failures are final.
+ * <pre>
+ *     BulkVMOperations bulk = new BulkVMOperations(connection, tracker);
+ *     bulk.setMaxTasksPerHost(8);
+ *     BulkVMOperations.Result result = bulk.run(desktops, BulkVMOperations.start(false, false));
+ * </pre>
+ */
+public class BulkVMOperations
+{
+    /**
+     * An operation on a single VM.
+     */
+    public interface Operation
+    {
+        /**
+         * Makes the Async call that starts the operation.
+         */
+        Task begin(Connection c, VM vm) throws XenAPIException, XmlRpcException;
+
+        /**
+         * @param record The VM's record, in which only residentOn and affinity are set
+         * @return The host that the operation will load, or null if that cannot be known in advance
+         */
+        Host host(VM vm, VM.Record record);
+    }
+
+    public static final int DEFAULT_MAX_TASKS_PER_HOST = 4;
+    public static final int DEFAULT_MAX_TASKS = 32;
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+    public static final long DEFAULT_INITIAL_RETRY_DELAY = 1000;
+    public static final long DEFAULT_MAX_RETRY_DELAY = 30000;
+
+    private final Connection connection;
+    private final TaskTracker tracker;
+    private volatile int maxTasksPerHost = DEFAULT_MAX_TASKS_PER_HOST;
+    private volatile int maxTasks = DEFAULT_MAX_TASKS;
+    private volatile int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private volatile long initialRetryDelay = DEFAULT_INITIAL_RETRY_DELAY;
+    private volatile long maxRetryDelay = DEFAULT_MAX_RETRY_DELAY;
+
+    /**
+     * @param tracker A started TaskTracker on the same server
+     */
+    public BulkVMOperations(Connection c, TaskTracker tracker)
+    {
+        this.connection = c;
+        this.tracker = tracker;
+    }
+
+    /**
+     * Sets the number of tasks that may be in flight at once on each host. Operations whose host cannot be known in
+     * advance are only subject to the limit for the pool.
+     */
+    public void setMaxTasksPerHost(int max)
+    {
+        this.maxTasksPerHost = max;
+    }
+
+    /**
+     * Sets the number of tasks that may be in flight at once in the pool.
+     */
+    public void setMaxTasks(int max)
+    {
+        this.maxTasks = max;
+    }
+
+    /**
+     * Sets the number of times an operation is attempted before a retryable failure is taken as final.
+     */
+    public void setMaxAttempts(int max)
+    {
+        this.maxAttempts = max;
+    }
+
+    /**
+     * Sets the delay, in milliseconds, before the first retry of an operation, and the most it may double to.
+     */
+    public void setRetryDelay(long initial, long max)
+    {
+        this.initialRetryDelay = initial;
+        this.maxRetryDelay = max;
+    }
+
+    /**
+     * @return VM.startAsync(c, startPaused, force), placed on the VM's affinity host if it has one
+     */
+    public static Operation start(final boolean startPaused, final boolean force)
+    {
+        return new Operation()
+        {
+            public Task begin(Connection c, VM vm) throws XenAPIException, XmlRpcException
+            {
+                return vm.startAsync(c, startPaused, force);
+            }
+
+            public Host host(VM vm, VM.Record record)
+            {
+                return validHost(record.affinity);
+            }
+        };
+    }
+
+    /**
+     * @return VM.cleanShutdownAsync(c)
+     */
+    public static Operation cleanShutdown()
+    {
+        return new Operation()
+        {
+            public Task begin(Connection c, VM vm) throws XenAPIException, XmlRpcException
+            {
+                return vm.cleanShutdownAsync(c);
+            }
+
+            public Host host(VM vm, VM.Record record)
+            {
+                return validHost(record.residentOn);
+            }
+        };
+    }
+
+    /**
+     * @return VM.cleanRebootAsync(c)
+     */
+    public static Operation cleanReboot()
+    {
+        return new Operation()
+        {
+            public Task begin(Connection c, VM vm) throws XenAPIException, XmlRpcException
+            {
+                return vm.cleanRebootAsync(c);
+            }
+
+            public Host host(VM vm, VM.Record record)
+            {
+                return validHost(record.residentOn);
+            }
+        };
+    }
+
+    /**
+     * @return VM.poolMigrateAsync(c, host, options), counted against the destination host
+     */
+    public static Operation poolMigrate(final Host host, final Map<String, String> options)
+    {
+        return new Operation()
+        {
+            public Task begin(Connection c, VM vm) throws XenAPIException, XmlRpcException
+            {
+                return vm.poolMigrateAsync(c, host, options);
+            }
+
+            public Host host(VM vm, VM.Record record)
+            {
+                return host;
+            }
+        };
+    }
+
+    private static Host validHost(Host host)
+    {
+        return host == null || host.isNull() ? null : host;
+    }
+
+    /**
+     * Runs the operation on each VM, and waits for all of them to complete. A VM given more than once is operated on
+     * once.
+     *
+     * If the thread is interrupted, no further operations are started; tasks already in flight carry on, on the
+     * server.
+     *
+     * @throws XenAPIException if the records of the VMs could not be read
+     */
+    public Result run(Collection<VM> vms, Operation operation) throws XenAPIException, XmlRpcException,
+        InterruptedException
+    {
+        // Failures are kept by VM, so a duplicate would leave the run waiting for an outcome that never comes
+        Collection<VM> distinct = new LinkedHashSet<VM>(vms);
+        Map<VM, VM.Record> records = VM.getAllRecordsWithFields(connection,
+            EnumSet.of(VM.Field.RESIDENT_ON, VM.Field.AFFINITY));
+        Run run = new Run(operation, distinct.size());
+        for (VM vm : distinct)
+        {
+            VM.Record record = records.get(vm);
+            run.pending.add(new Job(vm, record == null ? null : operation.host(vm, record)));
+        }
+        return run.execute();
+    }
+
+    /**
+     * The outcome of a run.
+     */
+    public static final class Result
+    {
+        private final int succeeded;
+        private final Map<VM, Exception> failures;
+        private final int retries;
+        private final long elapsedNanos;
+        private final long[] latencies;
+
+        private Result(int succeeded, Map<VM, Exception> failures, int retries, long elapsedNanos, long[] latencies)
+        {
+            this.succeeded = succeeded;
+            this.failures = Collections.unmodifiableMap(failures);
+            this.retries = retries;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies;
+            Arrays.sort(this.latencies);
+        }
+
+        public int getSucceeded()
+        {
+            return succeeded;
+        }
+
+        public int getFailed()
+        {
+            return failures.size();
+        }
+
+        /**
+         * @return The reason each failed operation failed, by VM
+         */
+        public Map<VM, Exception> getFailures()
+        {
+            return failures;
+        }
+
+        /**
+         * @return The number of attempts that were retried
+         */
+        public int getRetries()
+        {
+            return retries;
+        }
+
+        public double getElapsedSeconds()
+        {
+            return elapsedNanos / 1e9;
+        }
+
+        /**
+         * @return The number of operations that succeeded per second of the run
+         */
+        public double getThroughput()
+        {
+            return elapsedNanos == 0 ? 0.0 : succeeded / getElapsedSeconds();
+        }
+
+        /**
+         * @param percentile Between 0 and 100
+         * @return The time, in milliseconds, within which that percentage of the operations that succeeded did so,
+         * counted from their first attempt (so including any retries)
+         */
+        public double getLatencyPercentile(double percentile)
+        {
+            if (latencies.length == 0)
+                return 0.0;
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(index, latencies.length - 1))] / 1e6;
+        }
+
+        public String toString()
+        {
+            return String.format("%d succeeded, %d failed, %d retries in %.1f s (%.2f/s); latency ms p50 %.0f, p90 %.0f, p99 %.0f, max %.0f",
+                succeeded, getFailed(), retries, getElapsedSeconds(), getThroughput(), getLatencyPercentile(50),
+                getLatencyPercentile(90), getLatencyPercentile(99), getLatencyPercentile(100));
+        }
+    }
+
+    /**
+     * The operation on one VM.
+     */
+    private static final class Job
+    {
+        final VM vm;
+        final Host host;
+        int attempts;
+        long firstAttempt;
+        long notBefore;
+        long retryDelay;
+
+        Job(VM vm, Host host)
+        {
+            this.vm = vm;
+            this.host = host;
+        }
+    }
+
+    /**
+     * The state of one call to run(), guarded by its monitor.
+     */
+    private final class Run
+    {
+        final Operation operation;
+        final int total;
+        final List<Job> pending = new ArrayList<Job>();
+        final Map<Host, Integer> tasksPerHost = new HashMap<Host, Integer>();
+        final Map<VM, Exception> failures = new LinkedHashMap<VM, Exception>();
+        final long[] latencies;
+        int succeeded;
+        int retries;
+        int inFlight;
+
+        Run(Operation operation, int total)
+        {
+            this.operation = operation;
+            this.total = total;
+            this.latencies = new long[total];
+        }
+
+        Result execute() throws InterruptedException
+        {
+            long started = System.nanoTime();
+            while (true)
+            {
+                Job job;
+                synchronized (this)
+                {
+                    while (true)
+                    {
+                        if (succeeded + failures.size() == total)
+                        {
+                            return new Result(succeeded, new LinkedHashMap<VM, Exception>(failures), retries,
+                                System.nanoTime() - started, Arrays.copyOf(latencies, succeeded));
+                        }
+                        long now = System.nanoTime();
+                        long wait = Long.MAX_VALUE;
+                        job = null;
+                        if (inFlight < maxTasks)
+                        {
+                            for (Iterator<Job> i = pending.iterator(); i.hasNext(); )
+                            {
+                                Job candidate = i.next();
+                                if (candidate.notBefore > now)
+                                {
+                                    wait = Math.min(wait, candidate.notBefore - now);
+                                    continue;
+                                }
+                                if (candidate.host != null && count(candidate.host) >= maxTasksPerHost)
+                                    continue;
+                                i.remove();
+                                job = candidate;
+                                break;
+                            }
+                        }
+                        if (job != null)
+                            break;
+                        if (wait == Long.MAX_VALUE)
+                            wait();
+                        else
+                            TimeUnit.NANOSECONDS.timedWait(this, wait);
+                    }
+                    inFlight++;
+                    if (job.host != null)
+                        tasksPerHost.put(job.host, count(job.host) + 1);
+                }
+                launch(job);
+            }
+        }
+
+        private int count(Host host)
+        {
+            Integer count = tasksPerHost.get(host);
+            return count == null ? 0 : count;
+        }
+
+        /**
+         * Makes the Async call through Connection.callAsync(), so that the next operation can be launched without
+         * waiting for the server to answer.
+         */
+        private void launch(final Job job)
+        {
+            job.attempts++;
+            if (job.firstAttempt == 0)
+                job.firstAttempt = System.nanoTime();
+            connection.callAsync(new Connection.Call<Task>()
+            {
+                public Task call(Connection c) throws XenAPIException, XmlRpcException
+                {
+                    return operation.begin(c, job.vm);
+                }
+            }).whenComplete(new BiConsumer<Task, Throwable>()
+            {
+                public void accept(Task task, Throwable error)
+                {
+                    if (error != null)
+                        completed(job, asException(error));
+                    else
+                        await(job, task);
+                }
+            });
+        }
+
+        private void await(final Job job, final Task task)
+        {
+            tracker.track(task).whenComplete(new BiConsumer<Task.Record, Throwable>()
+            {
+                public void accept(Task.Record record, Throwable error)
+                {
+                    if (error != null)
+                        completed(job, asException(error));
+                    else if (record.status == Types.TaskStatusType.SUCCESS)
+                        completed(job, null);
+                    else if (record.status == Types.TaskStatusType.CANCELLED)
+                        completed(job, new CancellationException("The task was cancelled"));
+                    else
+                        completed(job, TaskTracker.taskFailure(record));
+                    destroy(task);
+                }
+            });
+        }
+
+        private synchronized void completed(Job job, Exception error)
+        {
+            inFlight--;
+            if (job.host != null)
+                tasksPerHost.put(job.host, count(job.host) - 1);
+
+            if (error == null)
+            {
+                latencies[succeeded++] = System.nanoTime() - job.firstAttempt;
+            }
+            else if (retryable(error) && job.attempts < maxAttempts)
+            {
+                retries++;
+                job.retryDelay = job.retryDelay == 0 ? initialRetryDelay : Math.min(job.retryDelay * 2, maxRetryDelay);
+                job.notBefore = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(job.retryDelay);
+                pending.add(job);
+            }
+            else
+            {
+                failures.put(job.vm, error);
+            }
+            notifyAll();
+        }
+    }
+
+    private static Exception asException(Throwable error)
+    {
+        return error instanceof Exception ? (Exception) error : new RuntimeException(error);
+    }
+
+    private static boolean retryable(Exception e)
+    {
+        return e instanceof Types.NoHostsAvailable || e instanceof Types.OtherOperationInProgress;
+    }
+
+    /**
+     * Destroys a completed task, without waiting for the call to complete.
+     */
+    private void destroy(final Task task)
+    {
+        connection.callAsync(new Connection.Call<Void>()
+        {
+            public Void call(Connection c) throws XenAPIException, XmlRpcException
+            {
+                task.destroy(c);
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.xmlrpc.XmlRpcException;
+
+import com.xensource.xenapi.Types.XenAPIException;
+
+/**
+ * Intercepts the call made by a Connection.Call on the current thread, so that the request can be sent by other
+ * means (e.g. as part of a system.multicall) and the response decoded afterwards by the generated method that made
+ * the call.
+ *
+ * A Call is run twice: once in recording mode, where dispatch() stores the method name and parameters and returns an
+ * empty successful response, and once in replay mode, where dispatch() returns the response received for that
+ * request. Since Types.toXxx(null) returns null for every type, the first run has no effect beyond recording.
+ */
+final class CallCapture
+{
+    private static final ThreadLocal<CallCapture> CURRENT = new ThreadLocal<CallCapture>();
+
+    private final Connection connection;
+    private final CallCapture previous;
+    private final Map response;
+    private String method;
+    private Object[] params;
+
+    private CallCapture(Connection connection, CallCapture previous, String method, Map response)
+    {
+        this.connection = connection;
+        this.previous = previous;
+        this.method = method;
+        this.response = response;
+    }
+
+    /**
+     * @return The capture in progress for the given connection on this thread, or null.
+     */
+    static CallCapture current(Connection connection)
+    {
+        CallCapture capture = CURRENT.get();
+        return capture != null && capture.connection == connection ? capture : null;
+    }
+
+    /**
+     * Runs a call in recording mode.
+     *
+     * @return The capture holding the method name and parameters of the call
+     */
+    static CallCapture record(Connection connection, Connection.Call<?> call) throws XenAPIException, XmlRpcException
+    {
+        CallCapture capture = new CallCapture(connection, CURRENT.get(), null, null);
+        CURRENT.set(capture);
+        try
+        {
+            call.call(connection);
+        }
+        finally
+        {
+            capture.uninstall();
+        }
+
+        if (capture.method == null)
+            throw new IllegalArgumentException("The call did not make an API call on its Connection");
+        return capture;
+    }
+
+    /**
+     * Runs a call in replay mode, so that it decodes the given response.
+     *
+     * @param method The method name recorded for the call
+     * @param response The XenAPI response (the struct holding Status and Value or ErrorDescription)
+     * @return The result of the call, as decoded by the generated method
+     */
+    static <T> T replay(Connection connection, Connection.Call<T> call, String method, Map response)
+        throws XenAPIException, XmlRpcException
+    {
+        CallCapture capture = new CallCapture(connection, CURRENT.get(), method, response);
+        CURRENT.set(capture);
+        try
+        {
+            return call.call(connection);
+        }
+        finally
+        {
+            capture.uninstall();
+        }
+    }
+
+    String getMethod()
+    {
+        return method;
+    }
+
+    Object[] getParams()
+    {
+        return params;
+    }
+
+    /**
+     * Called by Connection.dispatch in place of sending the request.
+     */
+    Map dispatch(String method_call, Object[] method_params) throws XenAPIException, XmlRpcException
+    {
+        if (response == null)
+        {
+            if (method != null)
+                throw new IllegalStateException("A deferred call must make exactly one API call, but it called both "
+                    + method + " and " + method_call);
+            method = method_call;
+            params = method_params;
+
+            Map<String, Object> empty = new HashMap<String, Object>();
+            empty.put("Status", "Success");
+            return empty;
+        }
+
+        if (!method_call.equals(method))
+            throw new IllegalStateException("A deferred call made " + method_call + " when replayed, but " + method
+                + " when it was recorded");
+
+        // Any further calls (e.g. those made by Connection after a login) go to the server as usual
+        uninstall();
+        return connection.handleResponse(method_call, response);
+    }
+
+    private void uninstall()
+    {
+        if (CURRENT.get() != this)
+            return;
+        if (previous == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(previous);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JDK Flight Recorder event for each call made through Connection.dispatch() or Connection.callAsync(), whose
+ * duration is that of the call. Like the other events of these bindings, it costs nothing unless a recording that
+ * enables it is running, and can then be read with "jfr print --events com.xensource.xenapi.Call".
+ *
+ * The phases of a call are measured as far as its transport allows; they are not for calls made with callAsync().
+ */
+@Name("com.xensource.xenapi.Call")
+@Label("XenAPI Call")
+@Category("XenAPI")
+@Description("A call to the XenAPI, from sending its request to having its response parsed and checked")
+@StackTrace(false)
+final class CallEvent extends Event
+{
+    @Label("Method")
+    String method;
+
+    @Label("Request Size")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Size")
+    @Description("The size of the body of the response as received, compressed if it was")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Error Code")
+    @Description("The XenAPI error code, or exception class, of a call that failed")
+    String errorCode;
+
+    @Label("Connect Time")
+    @Description("Time spent opening connections, with any TLS handshake; part of the send time. Not known for the "
+        + "default transport of the xml-rpc library, which connects when it waits for the response")
+    @Timespan
+    long connectTime;
+
+    @Label("Send Time")
+    @Description("Time from the start of the call until its request was written, including the connect time")
+    @Timespan
+    long sendTime;
+
+    @Label("Server Wait Time")
+    @Description("Time from writing the request until the head of the response arrived")
+    @Timespan
+    long waitTime;
+
+    @Label("Read Time")
+    @Description("The rest of the call: reading, decompressing and parsing the response, and checking it")
+    @Timespan
+    long readTime;
+
+    static boolean isRecording()
+    {
+        return new CallEvent().isEnabled();
+    }
+
+    /**
+     * Ends the event, and commits it if it is to be recorded. Any phases must have been set before.
+     */
+    void complete(String method, long requestBytes, long responseBytes, String errorCode)
+    {
+        end();
+        if (!shouldCommit())
+            return;
+        this.method = method;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.errorCode = errorCode;
+        commit();
+    }
+}
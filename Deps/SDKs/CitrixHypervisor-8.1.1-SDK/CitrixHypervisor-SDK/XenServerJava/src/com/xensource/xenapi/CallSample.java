@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.Map;
+
+/**
+ * The measurements of a call in progress on the current thread, for Connection.CallMetrics and the CallEvent of JDK
+ * Flight Recorder. The transports add the bytes they send and receive to the sample of their thread, if there is one,
+ * and mark the phases of the exchange; samples nest, as a call may make other calls before it returns (a login
+ * fetching the API version, say).
+ *
+ * Once a call has succeeded, its sample is kept as the one being decoded on the thread until the generated method
+ * has converted the value through Types, which it reports by calling Connection.decoded().
+ */
+final class CallSample
+{
+    private static final ThreadLocal<CallSample> CURRENT = new ThreadLocal<CallSample>();
+    private static final ThreadLocal<CallSample> DECODING = new ThreadLocal<CallSample>();
+
+    private final String method;
+    private final CallSample outer;
+    private final CallEvent event;
+    private final long start;
+    private long requestBytes;
+    private long responseBytes;
+    private String responseErrorCode;
+    private long connectStart;
+    private long connectTime;
+    private long sendTime;
+    private long waitTime;
+    private long phaseStart;
+    private long sentAt;
+    private Connection.CallMetrics metrics;
+    private DecodeEvent decodeEvent;
+    private long decodeStart;
+
+    private CallSample(String method, CallSample outer, CallEvent event)
+    {
+        this.method = method;
+        this.outer = outer;
+        this.event = event;
+        if (event != null)
+            event.begin();
+        this.start = System.nanoTime();
+        this.phaseStart = start;
+    }
+
+    /**
+     * Starts measuring a call on the current thread.
+     */
+    static CallSample begin(String method)
+    {
+        CallSample sample = new CallSample(method, CURRENT.get(), CallEvent.isRecording() ? new CallEvent() : null);
+        CURRENT.set(sample);
+        return sample;
+    }
+
+    /**
+     * Ends the measurement of the call and reports it.
+     *
+     * @param metrics Receives the measurements, or null if they are only for Flight Recorder
+     * @param errorCode null if the call succeeded
+     */
+    void end(Connection.CallMetrics metrics, String errorCode)
+    {
+        long elapsed = System.nanoTime() - start;
+        if (outer == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(outer);
+
+        if (event != null)
+        {
+            event.connectTime = connectTime;
+            event.sendTime = sendTime;
+            event.waitTime = waitTime;
+            event.readTime = Math.max(0, elapsed - sendTime - waitTime);
+            event.complete(method, requestBytes, responseBytes, errorCode);
+        }
+        if (metrics != null)
+            metrics.callCompleted(method, elapsed, requestBytes, responseBytes, errorCode);
+
+        if (errorCode == null)
+        {
+            this.metrics = metrics;
+            if (DecodeEvent.isRecording())
+            {
+                decodeEvent = new DecodeEvent();
+                decodeEvent.begin();
+            }
+            decodeStart = System.nanoTime();
+            DECODING.set(this);
+        }
+    }
+
+    /**
+     * Reports the time since the end of the call to the current thread's last successful call of the given method.
+     *
+     * @param value The value of the call, as converted
+     */
+    static void decoded(String method, Object value)
+    {
+        CallSample sample = DECODING.get();
+        if (sample == null)
+            return;
+        DECODING.remove();
+        if (!sample.method.equals(method))
+            return;
+
+        long elapsed = System.nanoTime() - sample.decodeStart;
+        if (sample.decodeEvent != null)
+            sample.decodeEvent.complete(method, DecodeEvent.recordsIn(value), elapsed);
+        if (sample.metrics != null)
+            sample.metrics.responseDecoded(method, elapsed);
+    }
+
+    /**
+     * Notes the XenAPI error code of a response received by the call on the current thread, if it is a failure, as
+     * the exception it is turned into may not hold it.
+     */
+    static void noteResponse(Map response)
+    {
+        CallSample sample = CURRENT.get();
+        if (sample != null)
+            sample.responseErrorCode = errorCode(response);
+    }
+
+    /**
+     * @return The error code of the last response noted for this call, or else that of the failure
+     */
+    String errorCodeOf(Throwable failure)
+    {
+        return responseErrorCode != null ? responseErrorCode : errorCode(failure);
+    }
+
+    /**
+     * Marks the start of opening a connection, or of leasing one from a pool, for the call on the current thread.
+     */
+    static void connecting()
+    {
+        CallSample sample = CURRENT.get();
+        if (sample != null)
+            sample.connectStart = System.nanoTime();
+    }
+
+    static void connected()
+    {
+        CallSample sample = CURRENT.get();
+        if (sample != null && sample.connectStart != 0)
+        {
+            sample.connectTime += System.nanoTime() - sample.connectStart;
+            sample.connectStart = 0;
+        }
+    }
+
+    /**
+     * Notes that the request of the call on the current thread has been written.
+     */
+    static void requestSent(long bytes)
+    {
+        CallSample sample = CURRENT.get();
+        if (sample != null)
+        {
+            long now = System.nanoTime();
+            sample.requestBytes += bytes;
+            sample.sendTime += now - sample.phaseStart;
+            sample.sentAt = now;
+        }
+    }
+
+    /**
+     * Notes that the head of the response to the call on the current thread has arrived. Only the first such note
+     * after each request counts.
+     */
+    static void responseStarted()
+    {
+        CallSample sample = CURRENT.get();
+        if (sample != null && sample.sentAt != 0)
+        {
+            sample.waitTime += System.nanoTime() - sample.sentAt;
+            sample.sentAt = 0;
+        }
+    }
+
+    /**
+     * Notes that the body of a response to the call on the current thread has been read.
+     */
+    static void responseRead(long bytes)
+    {
+        CallSample sample = CURRENT.get();
+        if (sample != null)
+        {
+            sample.responseBytes += bytes;
+            // Any further request, e.g. after a redirection to the master, is sent from now
+            sample.phaseStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * @return The XenAPI error code of a response, or null if it is not a failure
+     */
+    static String errorCode(Map response)
+    {
+        if (!"Failure".equals(response.get("Status")))
+            return null;
+        Object description = response.get("ErrorDescription");
+        if (description instanceof Object[] && ((Object[]) description).length > 0)
+            return String.valueOf(((Object[]) description)[0]);
+        return "Failure";
+    }
+
+    /**
+     * @return The XenAPI error code of a failure, e.g. "HANDLE_INVALID", or the simple name of its class if it has none
+     */
+    static String errorCode(Throwable failure)
+    {
+        if (failure instanceof Types.XenAPIException)
+        {
+            String[] description = ((Types.XenAPIException) failure).errorDescription;
+            if (description != null && description.length > 0)
+                return description[0];
+        }
+        return failure.getClass().getSimpleName();
+    }
+}
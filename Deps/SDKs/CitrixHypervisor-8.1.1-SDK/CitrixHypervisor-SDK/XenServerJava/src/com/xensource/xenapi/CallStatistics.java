@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Connection.CallMetrics that keeps, for each method, the number of calls, the number of failures by error code,
+ * histograms of the latency and of the time spent decoding values in Types, and the bytes sent and received. It is
+ * meant to be left installed: recording a call takes no lock and, once the method has been seen, allocates nothing.
+ *
+ * One instance may be shared by any number of connections. snapshot() and getSlowest() take copies that can be
+ * reported at leisure, e.g. at the end of a run:
+ *
+ * <pre>
+ *     CallStatistics statistics = new CallStatistics();
+ *     connection.setCallMetrics(statistics);
+ *     ...
+ *     System.out.print(CallStatistics.format(statistics.getSlowest(10)));
+ * </pre>
+ */
+public class CallStatistics implements Connection.CallMetrics
+{
+    private final ConcurrentMap<String, MethodStatistics> methods = new ConcurrentHashMap<String, MethodStatistics>();
+
+    public void callCompleted(String method, long elapsedNanos, long requestBytes, long responseBytes,
+                              String errorCode)
+    {
+        MethodStatistics statistics = get(method);
+        statistics.latency.record(elapsedNanos);
+        statistics.requestBytes.add(requestBytes);
+        statistics.responseBytes.add(responseBytes);
+        if (errorCode != null)
+        {
+            LongAdder errors = statistics.errors.get(errorCode);
+            if (errors == null)
+            {
+                LongAdder added = new LongAdder();
+                errors = statistics.errors.putIfAbsent(errorCode, added);
+                if (errors == null)
+                    errors = added;
+            }
+            errors.increment();
+        }
+    }
+
+    public void responseDecoded(String method, long elapsedNanos)
+    {
+        get(method).decoding.record(elapsedNanos);
+    }
+
+    /**
+     * @return The statistics of every method called so far, by method name
+     */
+    public List<MethodSnapshot> snapshot()
+    {
+        List<MethodSnapshot> snapshots = new ArrayList<MethodSnapshot>(methods.size());
+        for (Map.Entry<String, MethodStatistics> entry : new TreeMap<String, MethodStatistics>(methods).entrySet())
+            snapshots.add(new MethodSnapshot(entry.getKey(), entry.getValue()));
+        return snapshots;
+    }
+
+    /**
+     * @param count The number of methods to return
+     * @return The statistics of the methods with the highest 99th percentile latency, slowest first
+     */
+    public List<MethodSnapshot> getSlowest(int count)
+    {
+        List<MethodSnapshot> snapshots = snapshot();
+        Collections.sort(snapshots, new Comparator<MethodSnapshot>()
+        {
+            public int compare(MethodSnapshot a, MethodSnapshot b)
+            {
+                int byPercentile = Long.compare(b.getLatencyNanos(99), a.getLatencyNanos(99));
+                return byPercentile != 0 ? byPercentile : Long.compare(b.getMaxLatencyNanos(), a.getMaxLatencyNanos());
+            }
+        });
+        return snapshots.size() > count ? new ArrayList<MethodSnapshot>(snapshots.subList(0, count)) : snapshots;
+    }
+
+    /**
+     * Forgets everything recorded so far.
+     */
+    public void reset()
+    {
+        methods.clear();
+    }
+
+    /**
+     * @return The snapshots as a table, one line per method under a line of headings
+     */
+    public static String format(List<MethodSnapshot> snapshots)
+    {
+        StringBuilder table = new StringBuilder(String.format("%-45s %8s %7s %10s %10s %10s %10s %10s %10s %11s%n",
+            "method", "calls", "errors", "mean ms", "p50 ms", "p99 ms", "max ms", "decode ms", "req B/call",
+            "resp B/call"));
+        for (MethodSnapshot snapshot : snapshots)
+            table.append(snapshot).append(String.format("%n"));
+        return table.toString();
+    }
+
+    private MethodStatistics get(String method)
+    {
+        MethodStatistics statistics = methods.get(method);
+        if (statistics == null)
+        {
+            MethodStatistics added = new MethodStatistics();
+            statistics = methods.putIfAbsent(method, added);
+            if (statistics == null)
+                statistics = added;
+        }
+        return statistics;
+    }
+
+    private static final class MethodStatistics
+    {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LatencyHistogram decoding = new LatencyHistogram();
+        final LongAdder requestBytes = new LongAdder();
+        final LongAdder responseBytes = new LongAdder();
+        final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<String, LongAdder>();
+    }
+
+    /**
+     * A copy of the statistics of one method. The copy is not atomic: calls completing whilst it is taken may be
+     * counted in some of its figures and not in others.
+     */
+    public static final class MethodSnapshot
+    {
+        private final String method;
+        private final long calls;
+        private final long totalLatency;
+        private final long maxLatency;
+        private final long[] latencyCounts;
+        private final long decodes;
+        private final long totalDecoding;
+        private final long maxDecoding;
+        private final long[] decodingCounts;
+        private final long requestBytes;
+        private final long responseBytes;
+        private final Map<String, Long> errors = new TreeMap<String, Long>();
+
+        private MethodSnapshot(String method, MethodStatistics statistics)
+        {
+            this.method = method;
+            this.latencyCounts = statistics.latency.getCounts();
+            this.calls = statistics.latency.getCount();
+            this.totalLatency = statistics.latency.getTotal();
+            this.maxLatency = statistics.latency.getMax();
+            this.decodingCounts = statistics.decoding.getCounts();
+            this.decodes = statistics.decoding.getCount();
+            this.totalDecoding = statistics.decoding.getTotal();
+            this.maxDecoding = statistics.decoding.getMax();
+            this.requestBytes = statistics.requestBytes.sum();
+            this.responseBytes = statistics.responseBytes.sum();
+            for (Map.Entry<String, LongAdder> entry : statistics.errors.entrySet())
+                errors.put(entry.getKey(), entry.getValue().sum());
+        }
+
+        /**
+         * @return The method, e.g. "VM.get_all_records"
+         */
+        public String getMethod()
+        {
+            return method;
+        }
+
+        public long getCallCount()
+        {
+            return calls;
+        }
+
+        public long getErrorCount()
+        {
+            long count = 0;
+            for (long errorCount : errors.values())
+                count += errorCount;
+            return count;
+        }
+
+        /**
+         * @return The number of failed calls by error code, e.g. "HANDLE_INVALID" (see Connection.CallMetrics)
+         */
+        public Map<String, Long> getErrorCounts()
+        {
+            return Collections.unmodifiableMap(errors);
+        }
+
+        /**
+         * @param percentile e.g. 50 for the median, or 99
+         * @return The latency at or below which the given percentage of calls completed, within about 3%
+         */
+        public long getLatencyNanos(double percentile)
+        {
+            return LatencyHistogram.valueAtPercentile(latencyCounts, percentile, maxLatency);
+        }
+
+        public long getMeanLatencyNanos()
+        {
+            return calls == 0 ? 0 : totalLatency / calls;
+        }
+
+        public long getMaxLatencyNanos()
+        {
+            return maxLatency;
+        }
+
+        /**
+         * @return The number of values decoded, which is the number of successful calls whose generated method
+         * returns a value
+         */
+        public long getDecodeCount()
+        {
+            return decodes;
+        }
+
+        /**
+         * @param percentile e.g. 50 for the median, or 99
+         * @return The time spent in Types converting a value, at or below which the given percentage of the values
+         * were decoded
+         */
+        public long getDecodeNanos(double percentile)
+        {
+            return LatencyHistogram.valueAtPercentile(decodingCounts, percentile, maxDecoding);
+        }
+
+        public long getMeanDecodeNanos()
+        {
+            return decodes == 0 ? 0 : totalDecoding / decodes;
+        }
+
+        public long getMaxDecodeNanos()
+        {
+            return maxDecoding;
+        }
+
+        /**
+         * @return The bytes sent in the requests of all the calls
+         */
+        public long getRequestBytes()
+        {
+            return requestBytes;
+        }
+
+        /**
+         * @return The bytes received in the responses to all the calls, as received (compressed, if they were)
+         */
+        public long getResponseBytes()
+        {
+            return responseBytes;
+        }
+
+        /**
+         * @return A line of the table written by CallStatistics.format()
+         */
+        public String toString()
+        {
+            return String.format("%-45s %8d %7d %10.3f %10.3f %10.3f %10.3f %10.3f %10d %11d", method, calls,
+                getErrorCount(), getMeanLatencyNanos() / 1e6, getLatencyNanos(50) / 1e6, getLatencyNanos(99) / 1e6,
+                maxLatency / 1e6, getMeanDecodeNanos() / 1e6, calls == 0 ? 0 : requestBytes / calls,
+                calls == 0 ? 0 : responseBytes / calls);
+        }
+    }
+}
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -193,6 +194,74 @@ public class Cluster extends XenAPIObject {
         public Map<String, String> otherConfig;
     }
 
+    /**
+     * The fields of a Cluster.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * A list of the cluster_host objects associated with the Cluster
+         */
+        CLUSTER_HOSTS("cluster_hosts"),
+        /**
+         * Internal field used by Host.destroy to store the IP of cluster members marked as permanently dead but not yet removed
+         */
+        PENDING_FORGET("pending_forget"),
+        /**
+         * The secret key used by xapi-clusterd when it talks to itself on other hosts
+         */
+        CLUSTER_TOKEN("cluster_token"),
+        /**
+         * Simply the string 'corosync'. No other cluster stacks are currently supported
+         */
+        CLUSTER_STACK("cluster_stack"),
+        /**
+         * list of the operations allowed in this state. This list is advisory only and the server state may have changed by the time this field is read by a client.
+         */
+        ALLOWED_OPERATIONS("allowed_operations"),
+        /**
+         * links each of the running tasks using this object (by reference) to a current_operation enum which describes the nature of the task.
+         */
+        CURRENT_OPERATIONS("current_operations"),
+        /**
+         * True if automatically joining new pool members to the cluster. This will be `true` in the first release
+         */
+        POOL_AUTO_JOIN("pool_auto_join"),
+        /**
+         * The corosync token timeout in seconds
+         */
+        TOKEN_TIMEOUT("token_timeout"),
+        /**
+         * The corosync token timeout coefficient in seconds
+         */
+        TOKEN_TIMEOUT_COEFFICIENT("token_timeout_coefficient"),
+        /**
+         * Contains read-only settings for the cluster, such as timeouts and other options. It can only be set at cluster create time
+         */
+        CLUSTER_CONFIG("cluster_config"),
+        /**
+         * Additional configuration
+         */
+        OTHER_CONFIG("other_config");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given Cluster.
      * Experimental. First published in XenServer 7.5.
@@ -208,7 +277,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toClusterRecord(result);
+            return c.decoded(method_call, Types.toClusterRecord(result));
     }
 
     /**
@@ -227,7 +296,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toCluster(result);
+            return c.decoded(method_call, Types.toCluster(result));
     }
 
     /**
@@ -245,7 +314,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -263,7 +332,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfClusterHost(result);
+            return c.decoded(method_call, Types.toSetOfClusterHost(result));
     }
 
     /**
@@ -281,7 +350,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfString(result);
+            return c.decoded(method_call, Types.toSetOfString(result));
     }
 
     /**
@@ -299,7 +368,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -317,7 +386,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -334,7 +403,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfClusterOperation(result);
+            return c.decoded(method_call, Types.toSetOfClusterOperation(result));
     }
 
     /**
@@ -351,7 +420,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringClusterOperation(result);
+            return c.decoded(method_call, Types.toMapOfStringClusterOperation(result));
     }
 
     /**
@@ -369,7 +438,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -386,7 +455,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toDouble(result);
+            return c.decoded(method_call, Types.toDouble(result));
     }
 
     /**
@@ -403,7 +472,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toDouble(result);
+            return c.decoded(method_call, Types.toDouble(result));
     }
 
     /**
@@ -421,7 +490,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -439,7 +508,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -518,7 +587,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(PIF), Marshalling.toXMLRPC(clusterStack), Marshalling.toXMLRPC(poolAutoJoin), Marshalling.toXMLRPC(tokenTimeout), Marshalling.toXMLRPC(tokenTimeoutCoefficient)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -545,7 +614,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(PIF), Marshalling.toXMLRPC(clusterStack), Marshalling.toXMLRPC(poolAutoJoin), Marshalling.toXMLRPC(tokenTimeout), Marshalling.toXMLRPC(tokenTimeoutCoefficient)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toCluster(result);
+            return c.decoded(method_call, Types.toCluster(result));
     }
 
     /**
@@ -565,7 +634,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -601,7 +670,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -619,7 +688,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toNetwork(result);
+            return c.decoded(method_call, Types.toNetwork(result));
     }
 
     /**
@@ -641,7 +710,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(network), Marshalling.toXMLRPC(clusterStack), Marshalling.toXMLRPC(tokenTimeout), Marshalling.toXMLRPC(tokenTimeoutCoefficient)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -663,7 +732,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(network), Marshalling.toXMLRPC(clusterStack), Marshalling.toXMLRPC(tokenTimeout), Marshalling.toXMLRPC(tokenTimeoutCoefficient)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toCluster(result);
+            return c.decoded(method_call, Types.toCluster(result));
     }
 
     /**
@@ -682,7 +751,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -720,7 +789,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -757,7 +826,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -791,7 +860,7 @@ public class Cluster extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfCluster(result);
+            return c.decoded(method_call, Types.toSetOfCluster(result));
     }
 
     /**
@@ -807,9 +876,78 @@ public class Cluster extends XenAPIObject {
         String method_call = "Cluster.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfClusterClusterRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.CLUSTER_RECORD_DECODER);
+    }
+
+    /**
+     * Return all Clusters known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * Experimental. First published in XenServer 7.5.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<Cluster, Cluster.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Cluster.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.CLUSTER_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all Clusters known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * Experimental. First published in XenServer 7.5.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<Cluster, Cluster.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Cluster.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.CLUSTER_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all Clusters known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * Experimental. First published in XenServer 7.5.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Cluster.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<Cluster, Cluster.Record> getAllRecordsWithFields(Connection c, Set<Cluster.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Cluster.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.CLUSTER_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all Clusters known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * Experimental. First published in XenServer 7.5.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Cluster.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<Cluster, Cluster.Record>> streamAllRecordsWithFields(Connection c, Set<Cluster.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Cluster.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.CLUSTER_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -174,6 +175,62 @@ public class ClusterHost extends XenAPIObject {
         public Map<String, String> otherConfig;
     }
 
+    /**
+     * The fields of a ClusterHost.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * Reference to the Cluster object
+         */
+        CLUSTER("cluster"),
+        /**
+         * Reference to the Host object
+         */
+        HOST("host"),
+        /**
+         * Whether the cluster host believes that clustering should be enabled on this host
+         */
+        ENABLED("enabled"),
+        /**
+         * Reference to the PIF object
+         */
+        PIF("PIF"),
+        /**
+         * Whether the cluster host has joined the cluster
+         */
+        JOINED("joined"),
+        /**
+         * list of the operations allowed in this state. This list is advisory only and the server state may have changed by the time this field is read by a client.
+         */
+        ALLOWED_OPERATIONS("allowed_operations"),
+        /**
+         * links each of the running tasks using this object (by reference) to a current_operation enum which describes the nature of the task.
+         */
+        CURRENT_OPERATIONS("current_operations"),
+        /**
+         * Additional configuration
+         */
+        OTHER_CONFIG("other_config");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given Cluster_host.
      * Experimental. First published in XenServer 7.5.
@@ -189,7 +246,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toClusterHostRecord(result);
+            return c.decoded(method_call, Types.toClusterHostRecord(result));
     }
 
     /**
@@ -208,7 +265,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toClusterHost(result);
+            return c.decoded(method_call, Types.toClusterHost(result));
     }
 
     /**
@@ -226,7 +283,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -244,7 +301,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toCluster(result);
+            return c.decoded(method_call, Types.toCluster(result));
     }
 
     /**
@@ -262,7 +319,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toHost(result);
+            return c.decoded(method_call, Types.toHost(result));
     }
 
     /**
@@ -280,7 +337,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -298,7 +355,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPIF(result);
+            return c.decoded(method_call, Types.toPIF(result));
     }
 
     /**
@@ -316,7 +373,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -333,7 +390,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfClusterHostOperation(result);
+            return c.decoded(method_call, Types.toSetOfClusterHostOperation(result));
     }
 
     /**
@@ -350,7 +407,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringClusterHostOperation(result);
+            return c.decoded(method_call, Types.toMapOfStringClusterHostOperation(result));
     }
 
     /**
@@ -368,7 +425,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -391,7 +448,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(cluster), Marshalling.toXMLRPC(host), Marshalling.toXMLRPC(pif)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -414,7 +471,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(cluster), Marshalling.toXMLRPC(host), Marshalling.toXMLRPC(pif)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toClusterHost(result);
+            return c.decoded(method_call, Types.toClusterHost(result));
     }
 
     /**
@@ -435,7 +492,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -474,7 +531,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -511,7 +568,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -547,7 +604,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -582,7 +639,7 @@ public class ClusterHost extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfClusterHost(result);
+            return c.decoded(method_call, Types.toSetOfClusterHost(result));
     }
 
     /**
@@ -598,9 +655,78 @@ public class ClusterHost extends XenAPIObject {
         String method_call = "Cluster_host.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfClusterHostClusterHostRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.CLUSTER_HOST_RECORD_DECODER);
+    }
+
+    /**
+     * Return all Cluster_hosts known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * Experimental. First published in XenServer 7.5.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<ClusterHost, ClusterHost.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Cluster_host.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.CLUSTER_HOST_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all Cluster_hosts known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * Experimental. First published in XenServer 7.5.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<ClusterHost, ClusterHost.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Cluster_host.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.CLUSTER_HOST_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all Cluster_hosts known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * Experimental. First published in XenServer 7.5.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(ClusterHost.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<ClusterHost, ClusterHost.Record> getAllRecordsWithFields(Connection c, Set<ClusterHost.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Cluster_host.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.CLUSTER_HOST_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all Cluster_hosts known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * Experimental. First published in XenServer 7.5.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(ClusterHost.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<ClusterHost, ClusterHost.Record>> streamAllRecordsWithFields(Connection c, Set<ClusterHost.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Cluster_host.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.CLUSTER_HOST_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
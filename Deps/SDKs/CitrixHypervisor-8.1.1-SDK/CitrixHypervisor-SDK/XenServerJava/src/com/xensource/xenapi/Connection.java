@@ -30,14 +30,43 @@
 
 package com.xensource.xenapi;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
 import java.net.URL;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
 
 import org.apache.xmlrpc.XmlRpcException;
 import org.apache.xmlrpc.client.XmlRpcClient;
 import org.apache.xmlrpc.client.XmlRpcClientConfigImpl;
+import org.apache.xmlrpc.client.XmlRpcClientException;
 import org.apache.xmlrpc.client.XmlRpcHttpClientConfig;
+import org.apache.xmlrpc.client.XmlRpcHttpTransportException;
+import org.apache.xmlrpc.client.XmlRpcTransportFactory;
 
 import com.xensource.xenapi.Types.BadServerResponse;
 import com.xensource.xenapi.Types.XenAPIException;
@@ -87,6 +116,33 @@ public class Connection
     @Deprecated
     protected int _connWait = 5;
 
+    /**
+     * Default maximum number of calls made through callAsync() that are in flight at once
+     */
+    protected static final int DEFAULT_MAX_ASYNC_CALLS_IN_FLIGHT = 64;
+
+    /**
+     * Default maximum number of calls made at once by fanOut()
+     */
+    protected static final int DEFAULT_FAN_OUT_CONCURRENCY = 64;
+
+    private volatile int fanOutConcurrency = DEFAULT_FAN_OUT_CONCURRENCY;
+
+    /**
+     * The number of times a single call follows HOST_IS_SLAVE, or looks for a new master, before giving up
+     */
+    static final int MAX_REDIRECTS = 3;
+
+    /**
+     * Shares the references and UUIDs received on this connection; null unless setInterning(true) has been called.
+     */
+    private volatile ReferenceInterner interner;
+
+    /**
+     * The pool set with setConnectionPool(), or null
+     */
+    private volatile HttpConnectionPool connectionPool;
+
     /**
      * Updated when Session.login_with_password() is called.
      */
@@ -98,13 +154,52 @@ public class Connection
     /**
      * The opaque reference to the session used by this connection
      */
-    private String sessionReference;
+    private volatile String sessionReference;
+
+    /**
+     * Logs in again when the server reports that the session is no longer valid; null if it is not to be renewed.
+     */
+    private volatile Login login;
+
+    /**
+     * Held whilst the connection recovers, so that only one thread does so at once: whilst the session is renewed, and
+     * whilst the connection is moved to another master. It is not a monitor, so that a virtual thread waiting for it
+     * does not pin its carrier.
+     */
+    private final ReentrantLock recovery = new ReentrantLock();
+
+    /**
+     * Whether calls are sent on to the master when the server is a slave, or is unreachable
+     */
+    private volatile boolean followingMaster;
+
+    /**
+     * The addresses of the hosts of the pool, as last seen in the response to host.get_all_records
+     */
+    private volatile Set<String> poolMembers = Collections.emptySet();
 
     /**
      * As seen by the xmlrpc library. From our point of view it's a server.
      */
     private final XmlRpcClient client;
 
+    /**
+     * The protocols in which a Connection can make its calls.
+     */
+    public enum Protocol
+    {
+        /**
+         * XML-RPC, taken at the root of the server: the default
+         */
+        XML_RPC,
+        /**
+         * JSON-RPC 2.0, taken at /jsonrpc. Responses are a good deal smaller than in XML-RPC, and quicker to decode.
+         */
+        JSON_RPC
+    }
+
+    private Protocol protocol = Protocol.XML_RPC;
+
     /**
      * Creates a connection to a particular server using a given url. This object can then be passed
      * in to any other API calls.
@@ -182,7 +277,44 @@ public class Connection
         this.sessionReference = sessionReference;
     }
 
-    private XmlRpcClientConfigImpl config = new XmlRpcClientConfigImpl();
+    /**
+     * Creates a connection to a particular server using a given url, which makes its calls in the given protocol.
+     * The rest of the bindings work in the same way whichever protocol is used.
+     *
+     * As with Connection(URL, int, int), this constructor does NOT call Session.loginWithPassword.
+     *
+     * @param url The URL of the server to connect to, e.g. https://host: the path of the protocol is added to it
+     * @param protocol The protocol to use
+     * @param replyTimeout The reply timeout for calls in seconds
+     * @param connTimeout The connection timeout for calls in seconds
+     */
+    public Connection(URL url, Protocol protocol, int replyTimeout, int connTimeout)
+    {
+        this.protocol = protocol;
+        this.client = getClientFromURL(url, replyTimeout, connTimeout);
+    }
+
+    public Protocol getProtocol()
+    {
+        return protocol;
+    }
+
+    /**
+     * Holds the server URL in a volatile field, since following the master moves it whilst calls are being made
+     */
+    private final ConnectionConfig config = new ConnectionConfig();
+
+    /**
+     * Sends the calls made through callAsync(); created on first use.
+     */
+    private AsyncDispatcher asyncDispatcher;
+
+    /**
+     * Decompresses and counts the responses received by every transport of this connection
+     */
+    private final ResponseCounters responses = new ResponseCounters();
+
+    private volatile CallMetrics callMetrics;
 
     public XmlRpcClientConfigImpl getConfig()
     {
@@ -197,9 +329,313 @@ public class Connection
         config.setConnectionTimeout(connWait * 1000);
         XmlRpcClient client = new XmlRpcClient();
         client.setConfig(config);
+        client.setTypeFactory(new MarshallingTypeFactory(client));
+        if (protocol == Protocol.JSON_RPC)
+            client.setTransportFactory(new JsonRpcTransportFactory(client, null, responses));
+        else
+            client.setTransportFactory(new CountingHttpTransportFactory(client, responses));
         return client;
     }
 
+    /**
+     * The factory of the transports that carry this connection's xml-rpc calls. Unless replaced through
+     * setTransportFactory() or setConnectionPool(), this is the default transport of the xmlrpc library, which opens a
+     * new http(s) connection for every call, with its responses decompressed and counted as described at
+     * setCompression().
+     */
+    public XmlRpcTransportFactory getTransportFactory()
+    {
+        return client.getTransportFactory();
+    }
+
+    /**
+     * Replaces the factory of the transports that carry this connection's xml-rpc calls. The factory is typically
+     * bound to the xml-rpc client, which is available as getTransportFactory().getClient() if the current factory
+     * extends XmlRpcTransportFactoryImpl.
+     *
+     * @param factory The new transport factory
+     */
+    public void setTransportFactory(XmlRpcTransportFactory factory)
+    {
+        client.setTransportFactory(factory);
+    }
+
+    /**
+     * Logs a Connection in, e.g. with Session.loginWithPassword.
+     */
+    public interface Login
+    {
+        void login(Connection c) throws XenAPIException, XmlRpcException;
+    }
+
+    /**
+     * Makes this connection log in again, through the given Login, when a call fails because its session is no
+     * longer valid (for example because the server restarted or the session timed out). A call that only reads, such
+     * as get_record or get_all_records, is then sent again with the new session, so its caller sees no error. Other
+     * calls still throw SessionInvalid, since they may not be safe to repeat, but the next call uses the new session.
+     *
+     * Calls made through batch() and callAsync() are not sent again.
+     *
+     * @param login The login to use, or null (the default) to let SessionInvalid through
+     */
+    public void setLogin(Login login)
+    {
+        this.login = login;
+    }
+
+    public Login getLogin()
+    {
+        return login;
+    }
+
+    /**
+     * Makes this connection follow the master of its pool. A call answered with HOST_IS_SLAVE, including a login, is
+     * sent again to the master that the error names, and the connection then stays with that master. If the master
+     * cannot be reached at all, the other hosts of the pool are asked which of them is the master now, and the call is
+     * sent there: this lets the connection carry on through a master failover (the session is usually still valid;
+     * if not, see setLogin()).
+     *
+     * The hosts of the pool are learned from the responses to host.get_all_records, which is called after each
+     * login whilst following is on. getConfig().getServerURL() gives the master currently in use.
+     *
+     * Calls made through batch() and callAsync() are not redirected.
+     *
+     * @param enabled Whether to follow the master (by default, HOST_IS_SLAVE is thrown as Types.HostIsSlave)
+     */
+    public void setFollowingMaster(boolean enabled)
+    {
+        followingMaster = enabled;
+    }
+
+    public boolean isFollowingMaster()
+    {
+        return followingMaster;
+    }
+
+    /**
+     * @return The addresses of the hosts in the pool, as last reported by host.get_all_records; empty until it has
+     * been called with following on
+     */
+    public Set<String> getPoolMembers()
+    {
+        return poolMembers;
+    }
+
+    /**
+     * Makes this connection share one String between all the occurrences of each OpaqueRef and UUID in the responses
+     * it receives, and one wrapper object (VM, Host, ...) between all the occurrences of each reference. This saves a
+     * good deal of memory when many records are kept, e.g. those of a whole pool, in which each reference appears
+     * several times. The strings and wrappers are held weakly, so nothing is kept once it is no longer in use.
+     *
+     * The wrappers are shared by the conversions in Types, which do not know the connection that a value came from:
+     * whilst any connection interns, they are shared for values from every connection, and from none. Turning
+     * interning off again on each connection that turned it on, or dropping those connections, stops the sharing.
+     *
+     * Interning is off by default, as it costs a lookup per reference decoded.
+     */
+    public synchronized void setInterning(boolean enabled)
+    {
+        if (!enabled)
+        {
+            if (interner != null)
+                interner.release();
+            interner = null;
+        }
+        else if (interner == null)
+            interner = new ReferenceInterner(this);
+    }
+
+    public boolean isInterning()
+    {
+        return interner != null;
+    }
+
+    /**
+     * @return The interner of this connection, or null if interning is off
+     */
+    ReferenceInterner getInterner()
+    {
+        return interner;
+    }
+
+    /**
+     * Makes this connection send its xml-rpc calls over persistent connections leased from the given pool, so that
+     * consecutive calls do not each pay for a new TCP connection and TLS handshake. The pool may be shared between
+     * several Connection objects.
+     *
+     * A connection made by TrafficReplay.newConnection() goes on replaying its recording whatever pool it is given.
+     *
+     * @param pool The pool of http(s) connections to use
+     */
+    public void setConnectionPool(HttpConnectionPool pool)
+    {
+        if (responses.getReplay() != null && protocol == Protocol.XML_RPC)
+            return;
+        connectionPool = pool;
+        if (protocol == Protocol.JSON_RPC)
+            setTransportFactory(new JsonRpcTransportFactory(client, pool, responses));
+        else
+            setTransportFactory(new PooledHttpTransportFactory(client, pool, responses));
+    }
+
+    /**
+     * Sets the TLS context of this connection's https calls, e.g. one that trusts the self-signed certificate of a
+     * XenServer. It is used by every transport that the connection sets up itself, including those of
+     * setConnectionPool() (unless the pool has an SSLSocketFactory of its own) and of callAsync(). Without one, the
+     * default transport and the pool use the default SSLSocketFactory of HttpsURLConnection, but callAsync(), whose
+     * http client cannot take a socket factory, uses SSLContext.getDefault(): so a caller that replaces the default
+     * factory, rather than the default trust store, must set the context here for callAsync() to reach the server.
+     *
+     * @param sslContext The context, or null for the defaults
+     */
+    public void setSSLContext(SSLContext sslContext)
+    {
+        config.setSSLContext(sslContext);
+    }
+
+    public SSLContext getSSLContext()
+    {
+        return config.getSSLContext();
+    }
+
+    /**
+     * Receives the sizes of the responses of a Connection.
+     */
+    public interface ResponseListener
+    {
+        /**
+         * Called once a response has been read, or abandoned, on the thread that read it.
+         *
+         * @param method The method called
+         * @param bytesReceived The size of the body of the response as received, compressed or not
+         * @param bytesDecoded The size of the body once decompressed; the same as bytesReceived if it was not
+         * compressed. For a response that was abandoned, the bytes read so far.
+         */
+        void responseRead(String method, long bytesReceived, long bytesDecoded);
+    }
+
+    /**
+     * Makes this connection ask for its responses to be compressed, with an Accept-Encoding header of "gzip, deflate".
+     * Large responses, such as those of get_all_records or event.from, are then much smaller on the wire, for a
+     * little CPU on both sides. The responses are decompressed as they are read, by every transport that the
+     * connection sets up itself (see getTransportFactory() and setConnectionPool()); one the server chooses not to
+     * compress is read as it is.
+     *
+     * @param enabled Whether to ask for compression (by default, it is not asked for)
+     */
+    public void setCompression(boolean enabled)
+    {
+        responses.setCompression(enabled);
+    }
+
+    public boolean isCompression()
+    {
+        return responses.isCompression();
+    }
+
+    /**
+     * @param listener Receives the size of each response as received and as decoded, or null
+     */
+    public void setResponseListener(ResponseListener listener)
+    {
+        responses.setListener(listener);
+    }
+
+    /**
+     * @return The number of bytes received in the bodies of responses, compressed or not
+     */
+    public long getBytesReceived()
+    {
+        return responses.getBytesReceived();
+    }
+
+    /**
+     * @return The number of bytes of the bodies of responses once decompressed
+     */
+    public long getBytesDecoded()
+    {
+        return responses.getBytesDecoded();
+    }
+
+    /**
+     * Makes this connection record each of its calls, as the request it sends and the response it receives, for
+     * replaying later without a server (see TrafficReplay). All the transports that the connection sets up itself
+     * are recorded, as are callAsync() and the record streams of getAllRecords(c, handler). A call is recorded once
+     * its response has been read.
+     *
+     * @param recorder The recorder, which must record the protocol of this connection; or null to stop recording
+     * @throws IllegalArgumentException if the recorder records another protocol
+     */
+    public void setTrafficRecorder(TrafficRecorder recorder)
+    {
+        if (recorder != null && recorder.getProtocol() != protocol)
+            throw new IllegalArgumentException("The recorder records " + recorder.getProtocol() + ", not " + protocol);
+        responses.setRecorder(recorder);
+    }
+
+    public TrafficRecorder getTrafficRecorder()
+    {
+        return responses.getRecorder();
+    }
+
+    /**
+     * Makes this connection take the responses to its calls from a replay instead of a server. Only called by
+     * TrafficReplay.newConnection(), which makes the connection in the protocol of the recording.
+     */
+    void replayFrom(TrafficReplay replay)
+    {
+        responses.setReplay(replay);
+        if (protocol == Protocol.XML_RPC)
+            client.setTransportFactory(new ReplayTransportFactory(client, newCodec(), responses));
+    }
+
+    ResponseCounters getResponseCounters()
+    {
+        return responses;
+    }
+
+    /**
+     * Receives a measurement of every call made through this connection, e.g. a CallStatistics. Calls sent with
+     * batch() are not measured, nor are the record streams of getAllRecords(c, handler) and streamAllRecords(c).
+     */
+    public interface CallMetrics
+    {
+        /**
+         * Called once a call has completed, successfully or not: on the thread that made it, or on a thread of the
+         * connection for callAsync().
+         *
+         * @param method The method called, e.g. "VM.get_all_records"
+         * @param elapsedNanos The time from sending the request to having the response parsed and checked, including
+         * any redirection to the master and any new login (see setLogin())
+         * @param requestBytes The size of the body of the request as sent
+         * @param responseBytes The size of the body of the response as received (compressed, if it was)
+         * @param errorCode null if the call succeeded; otherwise its XenAPI error code, e.g. "HANDLE_INVALID", or the
+         * simple name of the class of the exception if it failed without one
+         */
+        void callCompleted(String method, long elapsedNanos, long requestBytes, long responseBytes, String errorCode);
+
+        /**
+         * Called once the value returned by a successful call has been converted by Types into the type that its
+         * method returns, on the same thread as callCompleted().
+         *
+         * @param elapsedNanos The time spent converting the value
+         */
+        void responseDecoded(String method, long elapsedNanos);
+    }
+
+    /**
+     * @param metrics Receives a measurement of every call from now on, or null to stop measuring them
+     */
+    public void setCallMetrics(CallMetrics metrics)
+    {
+        callMetrics = metrics;
+    }
+
+    public CallMetrics getCallMetrics()
+    {
+        return callMetrics;
+    }
+
     /*
      * Because the binding calls are constructing their own parameter lists, they need to be able to get to
      * the session reference directly. This is all rather ugly and needs redone
@@ -211,12 +647,694 @@ public class Connection
         return this.sessionReference;
     }
 
+    /**
+     * A call to one of the API methods, made on the given Connection. This lets a call be recorded and sent later,
+     * e.g. as part of a Batch, and its response decoded by the very method that made it. For example:
+     *
+     * <pre>
+     *     batch.add(c -&gt; vm.getPowerState(c));
+     * </pre>
+     *
+     * A Call must make exactly one API call on the Connection it is passed, and should have no other side effects:
+     * it is run once to record the request, and again to decode the response.
+     */
+    public interface Call<T>
+    {
+        T call(Connection c) throws XenAPIException, XmlRpcException;
+    }
+
+    /**
+     * Creates a Batch, which queues calls made on this connection and sends them to the server together in a single
+     * system.multicall request.
+     */
+    public Batch batch()
+    {
+        return new Batch(this);
+    }
+
+    /**
+     * Makes a call without blocking the calling thread. The request is sent with a non-blocking http client, so
+     * thousands of calls can be outstanding whilst only a handful of threads are used to decode their responses. For
+     * example:
+     *
+     * <pre>
+     *     CompletableFuture&lt;VM.Record&gt; record = connection.callAsync(c -&gt; vm.getRecord(c));
+     * </pre>
+     *
+     * This works for every generated method. The response is decoded by the method that made the call, and a failed
+     * call completes the future with the XenAPIException that a direct call would have thrown.
+     *
+     * At most getMaxAsyncCallsInFlight() calls on this connection are sent at once; the rest wait in a queue.
+     * HTTPS calls use the default SSLContext of the JVM.
+     *
+     * @param call The call, which must make exactly one API call on the Connection it is passed
+     * @return A future that receives the result of the call
+     */
+    public <T> CompletableFuture<T> callAsync(Call<T> call)
+    {
+        return getAsyncDispatcher().submit(call);
+    }
+
+    /**
+     * @return The maximum number of calls made through callAsync() that are in flight at once
+     */
+    public int getMaxAsyncCallsInFlight()
+    {
+        return getAsyncDispatcher().getMaxInFlight();
+    }
+
+    /**
+     * Sets the maximum number of calls made through callAsync() that are in flight at once. The default is 64.
+     */
+    public void setMaxAsyncCallsInFlight(int maxInFlight)
+    {
+        getAsyncDispatcher().setMaxInFlight(maxInFlight);
+    }
+
+    private synchronized AsyncDispatcher getAsyncDispatcher()
+    {
+        if (asyncDispatcher == null)
+        {
+            asyncDispatcher = new AsyncDispatcher(this, config, newCodec(), DEFAULT_MAX_ASYNC_CALLS_IN_FLIGHT);
+        }
+        return asyncDispatcher;
+    }
+
+    /**
+     * A call made by fanOut() for each object of a collection.
+     */
+    public interface FanOutCall<T, R>
+    {
+        R call(Connection c, T object) throws XenAPIException, XmlRpcException;
+    }
+
+    /**
+     * @return The maximum number of calls made at once by fanOut(Collection, FanOutCall)
+     */
+    public int getFanOutConcurrency()
+    {
+        return fanOutConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of calls made at once by fanOut(Collection, FanOutCall). The default is 64.
+     */
+    public void setFanOutConcurrency(int concurrency)
+    {
+        if (concurrency < 1)
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        this.fanOutConcurrency = concurrency;
+    }
+
+    /**
+     * Makes a call for each object of a collection, at most getFanOutConcurrency() at a time. See
+     * fanOut(Collection, int, FanOutCall).
+     */
+    public <T, R> Map<T, R> fanOut(Collection<T> objects, FanOutCall<T, R> call) throws XenAPIException, XmlRpcException
+    {
+        return fanOut(objects, fanOutConcurrency, call);
+    }
+
+    /**
+     * Makes a call for each object of a collection, each on its own thread, and waits for all of them. For example:
+     *
+     * <pre>
+     *     Map&lt;VM, VM.Record&gt; records = connection.fanOut(vms, 200, (c, vm) -&gt; vm.getRecord(c));
+     * </pre>
+     *
+     * On Java 21 and later the calls run on virtual threads, so the concurrency can be set to thousands at little
+     * cost; on older JVMs they run on platform threads. The calls are best sent over a pooled transport (see
+     * setConnectionPool()), which is written not to pin the carrier threads of virtual threads whilst waiting for the
+     * server, and whose per-host limit then also bounds the number of connections.
+     *
+     * @param objects The objects to make the call for
+     * @param maxConcurrency The maximum number of calls in progress at once
+     * @param call The call to make for each object
+     * @return The result of each call, by object, in the iteration order of the collection
+     * @throws XenAPIException if a call failed; the first failure is thrown once all calls have finished
+     * @throws XmlRpcException if a call could not be made; as above
+     */
+    public <T, R> Map<T, R> fanOut(Collection<T> objects, int maxConcurrency, final FanOutCall<T, R> call)
+        throws XenAPIException, XmlRpcException
+    {
+        if (maxConcurrency < 1)
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+
+        final List<T> items = new ArrayList<T>(objects);
+        final Object[] results = new Object[items.size()];
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final Semaphore permits = new Semaphore(maxConcurrency);
+        final CountDownLatch done = new CountDownLatch(items.size());
+        ThreadFactory threads = VirtualThreads.factory("xenapi-fan-out");
+
+        try
+        {
+            for (int i = 0; i < items.size(); i++)
+            {
+                permits.acquire();
+                final int index = i;
+                Runnable task = new Runnable()
+                {
+                    public void run()
+                    {
+                        try
+                        {
+                            results[index] = call.call(Connection.this, items.get(index));
+                        }
+                        catch (Throwable t)
+                        {
+                            failure.compareAndSet(null, t);
+                        }
+                        finally
+                        {
+                            permits.release();
+                            done.countDown();
+                        }
+                    }
+                };
+                threads.newThread(task).start();
+            }
+            done.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new XmlRpcClientException("Interrupted whilst waiting for fanned-out calls", e);
+        }
+
+        Throwable t = failure.get();
+        if (t instanceof XenAPIException)
+            throw (XenAPIException) t;
+        if (t instanceof XmlRpcException)
+            throw (XmlRpcException) t;
+        if (t instanceof RuntimeException)
+            throw (RuntimeException) t;
+        if (t instanceof Error)
+            throw (Error) t;
+
+        Map<T, R> byObject = new LinkedHashMap<T, R>();
+        for (int i = 0; i < results.length; i++)
+        {
+            @SuppressWarnings("unchecked")
+            R result = (R) results[i];
+            byObject.put(items.get(i), result);
+        }
+        return byObject;
+    }
+
     /**
      * The (auto-generated parts of) the bindings dispatch XMLRPC calls on this Connection's client through this method.
      */
     protected Map dispatch(String method_call, Object[] method_params) throws XmlRpcException, XenAPIException
     {
-        Map response = (Map) client.execute(method_call, method_params);
+        CallCapture capture = CallCapture.current(this);
+        if (capture != null)
+        {
+            return capture.dispatch(method_call, method_params);
+        }
+
+        CallMetrics metrics = callMetrics;
+        if (metrics == null && !CallEvent.isRecording())
+            return sendAndCheck(method_call, method_params);
+
+        CallSample sample = CallSample.begin(method_call);
+        String errorCode = null;
+        try
+        {
+            return sendAndCheck(method_call, method_params);
+        }
+        catch (Throwable e)
+        {
+            errorCode = sample.errorCodeOf(e);
+            throw e;
+        }
+        finally
+        {
+            sample.end(metrics, errorCode);
+        }
+    }
+
+    /**
+     * The generated methods pass the value they return through this method once it has been converted by Types, so
+     * that the time spent converting it can be reported to the CallMetrics and to Flight Recorder.
+     */
+    <T> T decoded(String method_call, T value)
+    {
+        if (callMetrics != null || DecodeEvent.isRecording())
+            CallSample.decoded(method_call, value);
+        return value;
+    }
+
+    /**
+     * Sends a get_all_records call for the generated getAllRecords(c) methods. The records are decoded as the
+     * response is read (see RecordStream), rather than from a map per record that is then copied into the records,
+     * so the decoding is measured as part of the call. A call that is being captured, e.g. for a Batch, goes through
+     * dispatch() like any other.
+     */
+    <K, R> Map<K, R> readAllRecords(String method_call, Object[] method_params, RecordDecoder<K, R> decoder)
+        throws XmlRpcException, XenAPIException
+    {
+        if (CallCapture.current(this) != null)
+        {
+            Map response = dispatch(method_call, method_params);
+            return decoded(method_call, RecordStream.toRecords(response.get("Value"), decoder));
+        }
+
+        Map<K, R> records;
+        CallMetrics metrics = callMetrics;
+        if (metrics == null && !CallEvent.isRecording())
+            records = RecordStream.readAll(this, method_call, method_params, decoder, null);
+        else
+            records = readAllRecordsSampled(method_call, method_params, decoder, metrics);
+
+        // As handleResponse() does for the responses that go through dispatch()
+        if (followingMaster && method_call.equals("host.get_all_records"))
+            notePoolMembers(records);
+        return records;
+    }
+
+    private <K, R> Map<K, R> readAllRecordsSampled(String method_call, Object[] method_params,
+                                                   RecordDecoder<K, R> decoder, CallMetrics metrics)
+        throws XmlRpcException, XenAPIException
+    {
+        CallSample sample = CallSample.begin(method_call);
+        String errorCode = null;
+        try
+        {
+            return RecordStream.readAll(this, method_call, method_params, decoder, null);
+        }
+        catch (Throwable e)
+        {
+            errorCode = sample.errorCodeOf(e);
+            throw e;
+        }
+        finally
+        {
+            sample.end(metrics, errorCode);
+        }
+    }
+
+    private Map sendAndCheck(String method_call, Object[] method_params) throws XmlRpcException, XenAPIException
+    {
+        String session = sessionReference;
+        try
+        {
+            return handleResponse(method_call, send(method_call, method_params));
+        }
+        catch (Types.SessionInvalid e)
+        {
+            if (!renewSession(method_call, session) || !isReadOnly(method_call))
+                throw e;
+        }
+
+        return handleResponse(method_call, send(method_call, withNewSession(method_params, session)));
+    }
+
+    /**
+     * Sends a call, following the master if setFollowingMaster(true) has been called.
+     */
+    private Map send(String method_call, Object[] method_params) throws XmlRpcException
+    {
+        if (!followingMaster)
+            return (Map) client.execute(method_call, method_params);
+
+        for (int redirects = 0; ; redirects++)
+        {
+            URL url = config.getServerURL();
+            Map response;
+            try
+            {
+                response = (Map) client.execute(method_call, method_params);
+            }
+            catch (XmlRpcException e)
+            {
+                if (redirects >= MAX_REDIRECTS || !findMaster(url, e))
+                    throw e;
+                continue;
+            }
+            String master = getMasterAddress(response);
+            if (master == null || redirects >= MAX_REDIRECTS || !redirect(url, master))
+                return response;
+        }
+    }
+
+    /**
+     * @return The address of the master named by a HOST_IS_SLAVE failure, or null if the response is not one
+     */
+    private static String getMasterAddress(Map response)
+    {
+        if (!"Failure".equals(response.get("Status")))
+            return null;
+        Object error = response.get("ErrorDescription");
+        if (!(error instanceof Object[]))
+            return null;
+        Object[] description = (Object[]) error;
+        if (description.length < 2 || !"HOST_IS_SLAVE".equals(description[0]))
+            return null;
+        return String.valueOf(description[1]);
+    }
+
+    /**
+     * Moves this connection to the given master, unless following is off or another thread has already moved it
+     * away from the server a call was made to.
+     *
+     * @param from The server that answered HOST_IS_SLAVE
+     * @return Whether the call should be sent again
+     */
+    boolean redirect(URL from, String master)
+    {
+        if (!followingMaster)
+            return false;
+        recovery.lock();
+        try
+        {
+            if (!from.equals(config.getServerURL()))
+                return true;
+            URL to = withHost(from, master);
+            if (to.equals(from))
+                return false;
+            config.setServerURL(to);
+            return true;
+        }
+        catch (MalformedURLException e)
+        {
+            return false;
+        }
+        finally
+        {
+            recovery.unlock();
+        }
+    }
+
+    /**
+     * Looks for the master among the other hosts of the pool, after a call could not reach the server at all, by
+     * asking each in turn: a slave answers with the address of the master, and the master answers the call itself.
+     * A slave that still names the server that could not be reached is passed over. The hosts are asked in the
+     * protocol and TLS context of this connection, over its connection pool if it has one.
+     *
+     * No lock is held whilst the hosts are asked, so other calls carry on meanwhile; if another thread has moved the
+     * connection by the time the master is found, its move is kept.
+     *
+     * @param from The server that could not be reached
+     * @param failure The reason it could not be reached
+     * @return Whether the connection now has another server to send the call to
+     */
+    boolean findMaster(URL from, XmlRpcException failure)
+    {
+        if (!followingMaster || !isUnreachable(failure))
+            return false;
+        if (movedFrom(from))
+            return true;
+        String session = sessionReference;
+        for (String member : poolMembers)
+        {
+            URL found;
+            try
+            {
+                URL url = withHost(from, member);
+                if (url.getHost().equals(from.getHost()))
+                    continue;
+                Connection probe = new Connection(url, protocol, config.getReplyTimeout() / 1000,
+                    config.getConnectionTimeout() / 1000);
+                probe.sessionReference = session;
+                probe.setSSLContext(getSSLContext());
+                HttpConnectionPool pool = connectionPool;
+                if (pool != null)
+                    probe.setConnectionPool(pool);
+                String master = getMasterAddress((Map) probe.execute("pool.get_all",
+                    new Object[]{ Marshalling.toXMLRPC(session) }));
+                found = master == null ? url : withHost(from, master);
+                if (found.getHost().equals(from.getHost()))
+                    continue;
+            }
+            catch (Exception e)
+            {
+                // Try the next one
+                continue;
+            }
+
+            recovery.lock();
+            try
+            {
+                if (from.equals(config.getServerURL()))
+                    config.setServerURL(found);
+                return true;
+            }
+            finally
+            {
+                recovery.unlock();
+            }
+        }
+        return movedFrom(from);
+    }
+
+    /**
+     * @return Whether another thread has moved the connection away from a server since a call was made to it
+     */
+    private boolean movedFrom(URL from)
+    {
+        recovery.lock();
+        try
+        {
+            return !from.equals(config.getServerURL());
+        }
+        finally
+        {
+            recovery.unlock();
+        }
+    }
+
+    /**
+     * @return Whether a call failed without reaching the server, so that it is safe to send it elsewhere
+     */
+    private static boolean isUnreachable(Throwable failure)
+    {
+        for (Throwable t = failure; t != null; t = t.getCause())
+        {
+            if (t instanceof ConnectException || t instanceof NoRouteToHostException || t instanceof UnknownHostException)
+                return true;
+            if (t instanceof SocketTimeoutException && "connect timed out".equals(t.getMessage()))
+                return true;
+            if (t.getCause() == t)
+                break;
+        }
+        return false;
+    }
+
+    private static URL withHost(URL url, String host) throws MalformedURLException
+    {
+        if (host.indexOf(':') >= 0 && !host.startsWith("["))
+            host = "[" + host + "]";
+        return new URL(url.getProtocol(), host, url.getPort(), url.getFile());
+    }
+
+    /**
+     * Takes the addresses of the hosts from the value of a host.get_all_records response, whether its records are
+     * still maps or have been decoded.
+     */
+    private void notePoolMembers(Object value)
+    {
+        if (!(value instanceof Map))
+            return;
+        Set<String> members = new LinkedHashSet<String>();
+        for (Object record : ((Map) value).values())
+        {
+            Object address;
+            if (record instanceof Host.Record)
+                address = ((Host.Record) record).address;
+            else if (record instanceof Map)
+                address = ((Map) record).get("address");
+            else
+                continue;
+            if (address instanceof String && !((String) address).isEmpty())
+                members.add((String) address);
+        }
+        poolMembers = Collections.unmodifiableSet(members);
+    }
+
+    /**
+     * @return The parameters of a call made with the given session, with the current session in its place
+     */
+    Object[] withNewSession(Object[] method_params, String session)
+    {
+        // The generated methods pass the session first
+        Object[] params = method_params.clone();
+        if (params.length > 0 && session != null && session.equals(params[0]))
+            params[0] = sessionReference;
+        return params;
+    }
+
+    /**
+     * Logs in again through the Login, unless another thread has done so since the call that failed was made.
+     *
+     * @param method_call The call that failed with SessionInvalid
+     * @param session The session with which it was made
+     * @return Whether there is a new session to make the call with
+     */
+    boolean renewSession(String method_call, String session) throws XenAPIException, XmlRpcException
+    {
+        Login login = this.login;
+        if (login == null || method_call.startsWith("session."))
+            return false;
+        recovery.lock();
+        try
+        {
+            if (sessionReference != null && !sessionReference.equals(session))
+                return true;
+            login.login(this);
+            return sessionReference != null && !sessionReference.equals(session);
+        }
+        finally
+        {
+            recovery.unlock();
+        }
+    }
+
+    /**
+     * @return Whether a method only reads, so that sending it again cannot change anything
+     */
+    static boolean isReadOnly(String method_call)
+    {
+        int dot = method_call.lastIndexOf('.');
+        String name = method_call.substring(dot + 1);
+        if (method_call.startsWith("Async."))
+            return false;
+        return name.startsWith("get_") || name.startsWith("query_") || name.equals("from");
+    }
+
+    /**
+     * Executes a raw xml-rpc call on this Connection's client, without any of the processing done by dispatch.
+     */
+    Object execute(String method_call, Object[] method_params) throws XmlRpcException
+    {
+        return client.execute(method_call, method_params);
+    }
+
+    /**
+     * Sends a raw call and returns the response document as it is received, for decoders that parse it as it
+     * arrives instead of having the xml-rpc client build the whole result first. The request goes over the pool set
+     * with setConnectionPool() if there is one. The stream must be closed, which releases the connection.
+     *
+     * @throws XmlRpcHttpTransportException if the server answers with an http error status
+     */
+    InputStream openResponseStream(String method_call, Object[] method_params) throws XmlRpcException
+    {
+        RpcCodec codec = newCodec();
+        XmlRpcTransportFactory factory = client.getTransportFactory();
+        HttpConnectionPool pool = null;
+        if (factory instanceof PooledHttpTransportFactory)
+            pool = ((PooledHttpTransportFactory) factory).getPool();
+        else if (factory instanceof JsonRpcTransportFactory)
+            pool = ((JsonRpcTransportFactory) factory).getPool();
+        return post(pool, config, responses, codec, method_call, codec.encodeRequest(method_call, method_params));
+    }
+
+    /**
+     * @return A codec for the protocol of this connection, for the code paths that do not go through the xml-rpc client
+     */
+    RpcCodec newCodec()
+    {
+        if (protocol == Protocol.JSON_RPC)
+            return new JsonRpcCodec();
+        return new XmlRpcCodec(client, config);
+    }
+
+    /**
+     * Posts an encoded request to the endpoint of the codec, and returns the body of the response, decompressed. The
+     * stream must be closed, which releases the connection. If the connection replays a recording, the response is
+     * taken from it instead.
+     *
+     * @param pool The pool from which to lease the connection, or null to open a new one
+     * @param counters Negotiates compression, and counts the response
+     * @throws XmlRpcHttpTransportException if the server answers with an http error status
+     */
+    static InputStream post(HttpConnectionPool pool, XmlRpcHttpClientConfig config, ResponseCounters counters,
+                            RpcCodec codec, String method_call, byte[] request)
+        throws XmlRpcException
+    {
+        TrafficReplay replay = counters.getReplay();
+        if (replay != null)
+        {
+            CallSample.requestSent(request.length);
+            InputStream body = replay.respond(method_call, request);
+            try
+            {
+                return counters.wrap(method_call, request, body, null);
+            }
+            catch (IOException e)
+            {
+                throw new XmlRpcClientException("Failed to read recorded response: " + e.getMessage(), e);
+            }
+        }
+
+        URL url = codec.getEndpoint(config.getServerURL());
+        Map<String, String> headers = new HashMap<String, String>();
+        headers.put("Content-Type", codec.getContentType());
+        if (config.getUserAgent() != null)
+            headers.put("User-Agent", config.getUserAgent());
+        if (counters.getAcceptEncoding() != null)
+            headers.put("Accept-Encoding", counters.getAcceptEncoding());
+
+        try
+        {
+            if (pool != null)
+            {
+                HttpExchange exchange = HttpExchange.post(pool, url, ConnectionConfig.sslContext(config), method_call,
+                    headers, request, config.getConnectionTimeout(), config.getReplyTimeout());
+                int status = exchange.getStatusCode();
+                if (status < 200 || status > 299)
+                {
+                    exchange.close();
+                    throw new XmlRpcHttpTransportException(status, exchange.getStatusMessage());
+                }
+                return counters.wrap(method_call, request, exchange.getBodyClosingExchange(),
+                    exchange.getResponseHeader("content-encoding"));
+            }
+
+            HttpURLConnection http = (HttpURLConnection) url.openConnection();
+            SSLContext sslContext = ConnectionConfig.sslContext(config);
+            if (sslContext != null && http instanceof HttpsURLConnection)
+                ((HttpsURLConnection) http).setSSLSocketFactory(sslContext.getSocketFactory());
+            http.setDoOutput(true);
+            http.setRequestMethod("POST");
+            http.setConnectTimeout(config.getConnectionTimeout());
+            http.setReadTimeout(config.getReplyTimeout());
+            http.setFixedLengthStreamingMode(request.length);
+            for (Map.Entry<String, String> header : headers.entrySet())
+                http.setRequestProperty(header.getKey(), header.getValue());
+            CallSample.connecting();
+            OutputStream out = http.getOutputStream();
+            CallSample.connected();
+            out.write(request);
+            out.close();
+            CallSample.requestSent(request.length);
+
+            int status = http.getResponseCode();
+            CallSample.responseStarted();
+            if (status < 200 || status > 299)
+            {
+                http.disconnect();
+                throw new XmlRpcHttpTransportException(status, http.getResponseMessage());
+            }
+            return counters.wrap(method_call, request, http.getInputStream(), http.getHeaderField("Content-Encoding"));
+        }
+        catch (IOException e)
+        {
+            throw new XmlRpcClientException("Failed to send request to server: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Keeps track of the session reference of this connection and checks the response to a call, throwing the
+     * corresponding XenAPIException if the call failed.
+     */
+    Map handleResponse(String method_call, Map response) throws XmlRpcException, XenAPIException
+    {
+        ReferenceInterner interner = this.interner;
+        if (interner != null)
+            interner.internResponse(response);
+        if (callMetrics != null || CallEvent.isRecording())
+            CallSample.noteResponse(response);
 
         if (method_call.equals("session.login_with_password") &&
             response.get("Status").equals("Success"))
@@ -224,6 +1342,13 @@ public class Connection
             Session session = Types.toSession(response.get("Value"));
             sessionReference = session.ref;
             setAPIVersion(session);
+            if (followingMaster)
+                refreshPoolMembers();
+        }
+        else if (method_call.equals("host.get_all_records") && followingMaster &&
+                 "Success".equals(response.get("Status")))
+        {
+            notePoolMembers(response.get("Value"));
         }
         else if (method_call.equals("session.slave_local_login_with_password") &&
                  response.get("Status").equals("Success"))
@@ -267,6 +1392,18 @@ public class Connection
     }
 
 
+    private void refreshPoolMembers()
+    {
+        try
+        {
+            Host.getAllRecords(this);
+        }
+        catch (Exception e)
+        {
+            // Keep the members known before; they are only needed if the master goes away
+        }
+    }
+
     private void setAPIVersion(Session session) throws XenAPIException, XmlRpcException
     {
         try
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.net.URL;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.xmlrpc.client.XmlRpcClientConfigImpl;
+import org.apache.xmlrpc.client.XmlRpcHttpClientConfig;
+
+/**
+ * The configuration of a Connection's client. The server URL may be changed whilst calls are being made, when the
+ * connection follows its pool master to another host, so it is held in a volatile field: every transport, and every
+ * call, then reads the server it was last moved to.
+ *
+ * It also carries the TLS context set with Connection.setSSLContext() to the transports, which only see the config.
+ */
+final class ConnectionConfig extends XmlRpcClientConfigImpl
+{
+    private static final long serialVersionUID = 1L;
+
+    private volatile URL serverURL;
+    private volatile SSLContext sslContext;
+
+    @Override
+    public URL getServerURL()
+    {
+        return serverURL;
+    }
+
+    @Override
+    public void setServerURL(URL serverURL)
+    {
+        this.serverURL = serverURL;
+    }
+
+    SSLContext getSSLContext()
+    {
+        return sslContext;
+    }
+
+    void setSSLContext(SSLContext sslContext)
+    {
+        this.sslContext = sslContext;
+    }
+
+    /**
+     * @return The TLS context set on the Connection whose config this is, or null for the default
+     */
+    static SSLContext sslContext(XmlRpcHttpClientConfig config)
+    {
+        return config instanceof ConnectionConfig ? ((ConnectionConfig) config).sslContext : null;
+    }
+}
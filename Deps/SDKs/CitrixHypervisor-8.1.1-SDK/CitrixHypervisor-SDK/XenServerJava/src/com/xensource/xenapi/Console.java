@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -144,6 +145,46 @@ public class Console extends XenAPIObject {
         public Map<String, String> otherConfig;
     }
 
+    /**
+     * The fields of a Console.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * the protocol used by this console
+         */
+        PROTOCOL("protocol"),
+        /**
+         * URI for the console service
+         */
+        LOCATION("location"),
+        /**
+         * VM to which this console is attached
+         */
+        VM("VM"),
+        /**
+         * additional configuration
+         */
+        OTHER_CONFIG("other_config");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given console.
      * First published in XenServer 4.0.
@@ -159,7 +200,7 @@ public class Console extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toConsoleRecord(result);
+            return c.decoded(method_call, Types.toConsoleRecord(result));
     }
 
     /**
@@ -178,7 +219,7 @@ public class Console extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toConsole(result);
+            return c.decoded(method_call, Types.toConsole(result));
     }
 
     /**
@@ -198,7 +239,7 @@ public class Console extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(record_map)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -218,7 +259,7 @@ public class Console extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(record_map)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toConsole(result);
+            return c.decoded(method_call, Types.toConsole(result));
     }
 
     /**
@@ -236,7 +277,7 @@ public class Console extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -270,7 +311,7 @@ public class Console extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -288,7 +329,7 @@ public class Console extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toConsoleProtocol(result);
+            return c.decoded(method_call, Types.toConsoleProtocol(result));
     }
 
     /**
@@ -306,7 +347,7 @@ public class Console extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -324,7 +365,7 @@ public class Console extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVM(result);
+            return c.decoded(method_call, Types.toVM(result));
     }
 
     /**
@@ -342,7 +383,7 @@ public class Console extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -412,7 +453,7 @@ public class Console extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfConsole(result);
+            return c.decoded(method_call, Types.toSetOfConsole(result));
     }
 
     /**
@@ -428,9 +469,78 @@ public class Console extends XenAPIObject {
         String method_call = "console.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfConsoleConsoleRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.CONSOLE_RECORD_DECODER);
+    }
+
+    /**
+     * Return all consoles known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 4.0.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<Console, Console.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "console.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.CONSOLE_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all consoles known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 4.0.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<Console, Console.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "console.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.CONSOLE_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all consoles known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 4.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Console.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<Console, Console.Record> getAllRecordsWithFields(Connection c, Set<Console.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "console.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.CONSOLE_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all consoles known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 4.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Console.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<Console, Console.Record>> streamAllRecordsWithFields(Connection c, Set<Console.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "console.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.CONSOLE_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
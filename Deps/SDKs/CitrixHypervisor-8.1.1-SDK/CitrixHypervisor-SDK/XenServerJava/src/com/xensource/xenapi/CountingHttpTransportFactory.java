@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.apache.xmlrpc.client.XmlRpcClient;
+import org.apache.xmlrpc.client.XmlRpcClientException;
+import org.apache.xmlrpc.client.XmlRpcHttpClientConfig;
+import org.apache.xmlrpc.client.XmlRpcSunHttpTransport;
+import org.apache.xmlrpc.client.XmlRpcTransport;
+import org.apache.xmlrpc.client.XmlRpcTransportFactoryImpl;
+import org.apache.xmlrpc.common.XmlRpcStreamRequestConfig;
+import org.xml.sax.SAXException;
+
+/**
+ * The default transport factory of a Connection: the xmlrpc library's own transport, which opens a new http(s)
+ * connection for every call, with its responses decompressed and counted by the connection's ResponseCounters, and
+ * its requests reported to the CallSample of the thread (and copied for the TrafficRecorder, if there is one).
+ */
+final class CountingHttpTransportFactory extends XmlRpcTransportFactoryImpl
+{
+    private final ResponseCounters counters;
+
+    CountingHttpTransportFactory(XmlRpcClient client, ResponseCounters counters)
+    {
+        super(client);
+        this.counters = counters;
+    }
+
+    public XmlRpcTransport getTransport()
+    {
+        return new XmlRpcSunHttpTransport(getClient())
+        {
+            private String method;
+            private SSLContext sslContext;
+            private ByteArrayOutputStream request;
+
+            @Override
+            public Object sendRequest(XmlRpcRequest request) throws XmlRpcException
+            {
+                method = request.getMethodName();
+                sslContext = ConnectionConfig.sslContext((XmlRpcHttpClientConfig) request.getConfig());
+                return super.sendRequest(request);
+            }
+
+            @Override
+            protected URLConnection newURLConnection(URL url) throws IOException
+            {
+                URLConnection connection = super.newURLConnection(url);
+                if (sslContext != null && connection instanceof HttpsURLConnection)
+                    ((HttpsURLConnection) connection).setSSLSocketFactory(sslContext.getSocketFactory());
+                return connection;
+            }
+
+            @Override
+            protected void setCompressionHeaders(XmlRpcHttpClientConfig config)
+            {
+                super.setCompressionHeaders(config);
+                String acceptEncoding = counters.getAcceptEncoding();
+                if (acceptEncoding != null)
+                    setRequestHeader("Accept-Encoding", acceptEncoding);
+            }
+
+            @Override
+            protected void writeRequest(final ReqWriter writer) throws IOException, XmlRpcException, SAXException
+            {
+                super.writeRequest(new ReqWriter()
+                {
+                    public void write(OutputStream out) throws XmlRpcException, IOException, SAXException
+                    {
+                        final long[] count = new long[1];
+                        final ByteArrayOutputStream copy = counters.isRecording() ? new ByteArrayOutputStream() : null;
+                        request = copy;
+                        writer.write(new FilterOutputStream(out)
+                        {
+                            @Override
+                            public void write(int b) throws IOException
+                            {
+                                out.write(b);
+                                count[0]++;
+                                if (copy != null)
+                                    copy.write(b);
+                            }
+
+                            @Override
+                            public void write(byte[] b, int off, int len) throws IOException
+                            {
+                                out.write(b, off, len);
+                                count[0] += len;
+                                if (copy != null)
+                                    copy.write(b, off, len);
+                            }
+                        });
+                        CallSample.requestSent(count[0]);
+                    }
+                });
+            }
+
+            @Override
+            protected boolean isResponseGzipCompressed(XmlRpcStreamRequestConfig config)
+            {
+                // Decompressed by getInputStream()
+                return false;
+            }
+
+            @Override
+            protected InputStream getInputStream() throws XmlRpcException
+            {
+                InputStream body = super.getInputStream();
+                try
+                {
+                    return counters.wrap(method, request == null ? null : request.toByteArray(), body,
+                        getURLConnection().getHeaderField("Content-Encoding"));
+                }
+                catch (IOException e)
+                {
+                    throw new XmlRpcClientException("Failed to read server's response: " + e.getMessage(), e);
+                }
+            }
+        };
+    }
+}
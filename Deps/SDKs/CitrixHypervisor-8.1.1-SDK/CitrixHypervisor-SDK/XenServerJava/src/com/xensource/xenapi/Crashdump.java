@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -139,6 +140,42 @@ public class Crashdump extends XenAPIObject {
         public Map<String, String> otherConfig;
     }
 
+    /**
+     * The fields of a Crashdump.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * the virtual machine
+         */
+        VM("VM"),
+        /**
+         * the virtual disk
+         */
+        VDI("VDI"),
+        /**
+         * additional configuration
+         */
+        OTHER_CONFIG("other_config");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given crashdump.
      * First published in XenServer 4.0.
@@ -155,7 +192,7 @@ public class Crashdump extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toCrashdumpRecord(result);
+            return c.decoded(method_call, Types.toCrashdumpRecord(result));
     }
 
     /**
@@ -175,7 +212,7 @@ public class Crashdump extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toCrashdump(result);
+            return c.decoded(method_call, Types.toCrashdump(result));
     }
 
     /**
@@ -193,7 +230,7 @@ public class Crashdump extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -211,7 +248,7 @@ public class Crashdump extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVM(result);
+            return c.decoded(method_call, Types.toVM(result));
     }
 
     /**
@@ -229,7 +266,7 @@ public class Crashdump extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVDI(result);
+            return c.decoded(method_call, Types.toVDI(result));
     }
 
     /**
@@ -247,7 +284,7 @@ public class Crashdump extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -317,7 +354,7 @@ public class Crashdump extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -352,7 +389,7 @@ public class Crashdump extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfCrashdump(result);
+            return c.decoded(method_call, Types.toSetOfCrashdump(result));
     }
 
     /**
@@ -368,9 +405,78 @@ public class Crashdump extends XenAPIObject {
         String method_call = "crashdump.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfCrashdumpCrashdumpRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.CRASHDUMP_RECORD_DECODER);
+    }
+
+    /**
+     * Return all crashdumps known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 4.0.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<Crashdump, Crashdump.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "crashdump.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.CRASHDUMP_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all crashdumps known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 4.0.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<Crashdump, Crashdump.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "crashdump.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.CRASHDUMP_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all crashdumps known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 4.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Crashdump.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<Crashdump, Crashdump.Record> getAllRecordsWithFields(Connection c, Set<Crashdump.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "crashdump.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.CRASHDUMP_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all crashdumps known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 4.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Crashdump.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<Crashdump, Crashdump.Record>> streamAllRecordsWithFields(Connection c, Set<Crashdump.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "crashdump.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.CRASHDUMP_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -126,6 +127,34 @@ public class DRTask extends XenAPIObject {
         public Set<SR> introducedSRs;
     }
 
+    /**
+     * The fields of a DRTask.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * All SRs introduced by this appliance
+         */
+        INTRODUCED_SRS("introduced_SRs");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given DR_task.
      * First published in XenServer 6.0.
@@ -141,7 +170,7 @@ public class DRTask extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toDRTaskRecord(result);
+            return c.decoded(method_call, Types.toDRTaskRecord(result));
     }
 
     /**
@@ -160,7 +189,7 @@ public class DRTask extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toDRTask(result);
+            return c.decoded(method_call, Types.toDRTask(result));
     }
 
     /**
@@ -178,7 +207,7 @@ public class DRTask extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -196,7 +225,7 @@ public class DRTask extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfSR(result);
+            return c.decoded(method_call, Types.toSetOfSR(result));
     }
 
     /**
@@ -217,7 +246,7 @@ public class DRTask extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(type), Marshalling.toXMLRPC(deviceConfig), Marshalling.toXMLRPC(whitelist)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -238,7 +267,7 @@ public class DRTask extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(type), Marshalling.toXMLRPC(deviceConfig), Marshalling.toXMLRPC(whitelist)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toDRTask(result);
+            return c.decoded(method_call, Types.toDRTask(result));
     }
 
     /**
@@ -256,7 +285,7 @@ public class DRTask extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -290,7 +319,7 @@ public class DRTask extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfDRTask(result);
+            return c.decoded(method_call, Types.toSetOfDRTask(result));
     }
 
     /**
@@ -306,9 +335,78 @@ public class DRTask extends XenAPIObject {
         String method_call = "DR_task.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfDRTaskDRTaskRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.DR_TASK_RECORD_DECODER);
+    }
+
+    /**
+     * Return all DR_tasks known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 6.0.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<DRTask, DRTask.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "DR_task.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.DR_TASK_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all DR_tasks known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 6.0.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<DRTask, DRTask.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "DR_task.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.DR_TASK_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all DR_tasks known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 6.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(DRTask.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<DRTask, DRTask.Record> getAllRecordsWithFields(Connection c, Set<DRTask.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "DR_task.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.DR_TASK_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all DR_tasks known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 6.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(DRTask.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<DRTask, DRTask.Record>> streamAllRecordsWithFields(Connection c, Set<DRTask.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "DR_task.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.DR_TASK_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
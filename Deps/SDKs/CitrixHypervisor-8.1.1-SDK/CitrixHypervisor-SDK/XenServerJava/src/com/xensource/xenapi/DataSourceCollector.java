@@ -0,0 +1,740 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.xmlrpc.XmlRpcException;
+
+import com.xensource.xenapi.Types.XenAPIException;
+
+/**
+ * Polls the data sources of hosts and VMs with getDataSources() at a fixed interval, and keeps the history of each
+ * (object, data source) series in memory, in the manner of an RRD: a few archives of fixed size, each a ring of
+ * double[] slots, one slot per time step. The first archive holds the samples as they were taken; the others
+ * consolidate them into the minimum, maximum and average of each of their longer steps. A series therefore takes the
+ * same memory however long it is kept, which getBytesPerSeries() gives.
+ *
+ * The default archives keep 10 minutes of 5-second samples, 2 hours of 1-minute rollups and a week of 1-hour
+ * rollups, about 8 KB per series. Samples missed because a poll failed read as NaN.
+ *
+ * Each round of polling makes one call per object, several at a time (see Connection.fanOut()); an object whose call
+ * fails is skipped for that round.
+ */
+public class DataSourceCollector
+{
+    /**
+     * The number of milliseconds between polls, unless another interval is given
+     */
+    public static final long DEFAULT_INTERVAL = 5000;
+
+    /**
+     * The number of calls made at once in each round of polling, unless setMaxConcurrency() is called
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 32;
+
+    /**
+     * The archives of each series, unless others are given: 10 minutes of samples, 2 hours of 1-minute rollups and
+     * a week of 1-hour rollups.
+     */
+    public static final List<Archive> DEFAULT_ARCHIVES = Collections.unmodifiableList(Arrays.asList(
+        new Archive(DEFAULT_INTERVAL, 120), new Archive(60000, 120), new Archive(3600000, 168)));
+
+    /**
+     * The shape of one archive of a series: the length of its time step, and the number of steps it keeps.
+     */
+    public static final class Archive
+    {
+        private final long step;
+        private final int rows;
+
+        /**
+         * @param step The length of each step, in milliseconds
+         * @param rows The number of steps kept
+         */
+        public Archive(long step, int rows)
+        {
+            if (step <= 0 || rows <= 0)
+                throw new IllegalArgumentException("The step and the number of rows must be positive");
+            this.step = step;
+            this.rows = rows;
+        }
+
+        public long getStep()
+        {
+            return step;
+        }
+
+        public int getRows()
+        {
+            return rows;
+        }
+
+        /**
+         * @return The length of time covered, in milliseconds
+         */
+        public long getSpan()
+        {
+            return step * rows;
+        }
+    }
+
+    private final Connection connection;
+    private final long interval;
+    private final List<Archive> archives;
+    private final Set<XenAPIObject> objects = Collections.newSetFromMap(new ConcurrentHashMap<XenAPIObject, Boolean>());
+    private final ConcurrentMap<XenAPIObject, ConcurrentMap<String, Series>> series =
+        new ConcurrentHashMap<XenAPIObject, ConcurrentMap<String, Series>>();
+    private volatile int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+    private volatile Set<String> dataSources;
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile Exception lastError;
+    private boolean running;
+    private Thread poller;
+
+    /**
+     * Creates a collector that polls every 5 seconds into the default archives.
+     */
+    public DataSourceCollector(Connection c)
+    {
+        this(c, DEFAULT_INTERVAL, DEFAULT_ARCHIVES);
+    }
+
+    /**
+     * @param interval The number of milliseconds between polls
+     * @param archives The archives of each series, finest first. An archive whose step is no longer than the interval
+     * keeps the samples as they are; the others keep the minimum, maximum and average of each step.
+     */
+    public DataSourceCollector(Connection c, long interval, List<Archive> archives)
+    {
+        if (interval <= 0)
+            throw new IllegalArgumentException("The interval must be positive");
+        if (archives.isEmpty())
+            throw new IllegalArgumentException("At least one archive is needed");
+        this.connection = c;
+        this.interval = interval;
+        this.archives = Collections.unmodifiableList(new ArrayList<Archive>(archives));
+    }
+
+    /**
+     * Sets the number of calls made at once in each round of polling.
+     */
+    public void setMaxConcurrency(int maxConcurrency)
+    {
+        if (maxConcurrency < 1)
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Limits the data sources kept, e.g. to "cpu_avg", "memory_free_kib" and "pif_eth0_rx".
+     *
+     * @param names The names of the data sources to keep, or null (the default) to keep all enabled ones
+     */
+    public void setDataSources(Set<String> names)
+    {
+        dataSources = names == null ? null : Collections.unmodifiableSet(new HashSet<String>(names));
+    }
+
+    public void addHost(Host host)
+    {
+        objects.add(host);
+    }
+
+    public void addVM(VM vm)
+    {
+        objects.add(vm);
+    }
+
+    /**
+     * Stops polling a host or VM and drops its series.
+     */
+    public void remove(XenAPIObject object)
+    {
+        objects.remove(object);
+        series.remove(object);
+    }
+
+    /**
+     * Starts polling on a daemon thread, at the multiples of the interval.
+     */
+    public synchronized void start()
+    {
+        if (running)
+            throw new IllegalStateException("The collector has already been started");
+        running = true;
+        poller = new Thread(new Runnable()
+        {
+            public void run()
+            {
+                pollRegularly();
+            }
+        }, "xenapi-data-source-collector");
+        poller.setDaemon(true);
+        poller.start();
+    }
+
+    /**
+     * Stops polling, waiting for a round in progress to finish.
+     */
+    public void close()
+    {
+        Thread thread;
+        synchronized (this)
+        {
+            running = false;
+            thread = poller;
+            poller = null;
+        }
+        if (thread == null || thread == Thread.currentThread())
+            return;
+        thread.interrupt();
+        try
+        {
+            thread.join();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public synchronized boolean isRunning()
+    {
+        return running;
+    }
+
+    /**
+     * Polls every host and VM once, now, and records the values as taken at the given time. This is what the
+     * collector's thread does at each interval; it may be called instead of start() by an application that schedules
+     * the polls itself.
+     *
+     * @param time The time of the samples, in milliseconds since the epoch
+     * @throws XmlRpcException if the thread was interrupted whilst waiting for the calls
+     */
+    public void poll(final long time) throws XmlRpcException
+    {
+        List<XenAPIObject> targets = new ArrayList<XenAPIObject>(objects);
+        Map<XenAPIObject, Set<DataSource.Record>> results;
+        try
+        {
+            results = connection.fanOut(targets, maxConcurrency,
+                new Connection.FanOutCall<XenAPIObject, Set<DataSource.Record>>()
+                {
+                    public Set<DataSource.Record> call(Connection c, XenAPIObject object)
+                    {
+                        try
+                        {
+                            if (object instanceof Host)
+                                return ((Host) object).getDataSources(c);
+                            return ((VM) object).getDataSources(c);
+                        }
+                        catch (Exception e)
+                        {
+                            failures.incrementAndGet();
+                            lastError = e;
+                            return null;
+                        }
+                    }
+                });
+        }
+        catch (XenAPIException e)
+        {
+            // The calls catch their own failures
+            throw new IllegalStateException(e);
+        }
+
+        Set<String> wanted = dataSources;
+        for (Map.Entry<XenAPIObject, Set<DataSource.Record>> result : results.entrySet())
+        {
+            if (result.getValue() == null || !objects.contains(result.getKey()))
+                continue;
+            for (DataSource.Record record : result.getValue())
+            {
+                if (record.nameLabel == null || record.value == null || Boolean.FALSE.equals(record.enabled))
+                    continue;
+                if (wanted != null && !wanted.contains(record.nameLabel))
+                    continue;
+                getOrCreateSeries(result.getKey(), record).add(time, record.value);
+            }
+        }
+        polls.incrementAndGet();
+    }
+
+    /**
+     * @return The series of a data source of a host or VM, or null if none has been recorded
+     */
+    public Series getSeries(XenAPIObject object, String dataSource)
+    {
+        Map<String, Series> byName = series.get(object);
+        return byName == null ? null : byName.get(dataSource);
+    }
+
+    /**
+     * @return The series of a host or VM, by data source name
+     */
+    public Map<String, Series> getSeries(XenAPIObject object)
+    {
+        Map<String, Series> byName = series.get(object);
+        return byName == null ? Collections.<String, Series>emptyMap() : Collections.unmodifiableMap(byName);
+    }
+
+    public int getSeriesCount()
+    {
+        int count = 0;
+        for (Map<String, Series> byName : series.values())
+            count += byName.size();
+        return count;
+    }
+
+    /**
+     * @return The number of bytes of samples that each series holds, which does not change as it fills up
+     */
+    public long getBytesPerSeries()
+    {
+        long bytes = 0;
+        for (Archive archive : archives)
+            bytes += (long) archive.rows * (archive.step <= interval ? 1 : 3) * 8;
+        return bytes;
+    }
+
+    /**
+     * @return The number of bytes of samples held by all the series
+     */
+    public long getMemoryUsage()
+    {
+        return getBytesPerSeries() * getSeriesCount();
+    }
+
+    public long getPollCount()
+    {
+        return polls.get();
+    }
+
+    /**
+     * @return The number of getDataSources() calls that failed
+     */
+    public long getFailureCount()
+    {
+        return failures.get();
+    }
+
+    public Exception getLastError()
+    {
+        return lastError;
+    }
+
+    private Series getOrCreateSeries(XenAPIObject object, DataSource.Record record)
+    {
+        ConcurrentMap<String, Series> byName = series.get(object);
+        if (byName == null)
+        {
+            ConcurrentMap<String, Series> created = new ConcurrentHashMap<String, Series>();
+            byName = series.putIfAbsent(object, created);
+            if (byName == null)
+                byName = created;
+        }
+        Series s = byName.get(record.nameLabel);
+        if (s == null)
+        {
+            Series created = new Series(record.nameLabel, record.units, archives, interval);
+            s = byName.putIfAbsent(record.nameLabel, created);
+            if (s == null)
+                s = created;
+        }
+        return s;
+    }
+
+    private void pollRegularly()
+    {
+        while (true)
+        {
+            synchronized (this)
+            {
+                if (!running || poller != Thread.currentThread())
+                    return;
+            }
+            long now = System.currentTimeMillis();
+            long next = (now / interval + 1) * interval;
+            try
+            {
+                Thread.sleep(next - now);
+                poll(next);
+            }
+            catch (InterruptedException e)
+            {
+                return;
+            }
+            catch (XmlRpcException e)
+            {
+                if (Thread.currentThread().isInterrupted())
+                    return;
+                lastError = e;
+            }
+            catch (RuntimeException e)
+            {
+                lastError = e;
+            }
+        }
+    }
+
+    /**
+     * The history of one data source of one object. Its methods may be called whilst the collector adds samples.
+     */
+    public static final class Series
+    {
+        private final String name;
+        private final String units;
+        private final Ring[] rings;
+
+        Series(String name, String units, List<Archive> archives, long interval)
+        {
+            this.name = name;
+            this.units = units;
+            this.rings = new Ring[archives.size()];
+            for (int i = 0; i < rings.length; i++)
+                rings[i] = new Ring(archives.get(i), archives.get(i).step > interval);
+        }
+
+        public String getName()
+        {
+            return name;
+        }
+
+        public String getUnits()
+        {
+            return units;
+        }
+
+        /**
+         * Adds a sample. Samples older than the last step of an archive are ignored by that archive.
+         *
+         * @param time The time of the sample, in milliseconds since the epoch
+         */
+        public synchronized void add(long time, double value)
+        {
+            for (Ring ring : rings)
+                ring.add(time, value);
+        }
+
+        /**
+         * @return The value of the last sample, or NaN if there is none
+         */
+        public synchronized double getLatest()
+        {
+            Ring ring = rings[0];
+            return ring.current < 0 ? Double.NaN : ring.avg[ring.slot(ring.current)];
+        }
+
+        /**
+         * @return The time of the step of the last sample, in milliseconds since the epoch, or -1 if there is none
+         */
+        public synchronized long getLatestTime()
+        {
+            Ring ring = rings[0];
+            return ring.current < 0 ? -1 : ring.current * ring.step;
+        }
+
+        /**
+         * Reads the samples between two times from the finest archive that still holds the first of them (or from the
+         * coarsest archive, if none does).
+         *
+         * @param from The start of the period, in milliseconds since the epoch
+         * @param to The end of the period, in milliseconds since the epoch
+         */
+        public synchronized Samples read(long from, long to)
+        {
+            Ring chosen = rings[rings.length - 1];
+            for (Ring ring : rings)
+            {
+                if (ring.current >= 0 && from >= (ring.current - ring.rows + 1) * ring.step)
+                {
+                    chosen = ring;
+                    break;
+                }
+            }
+            return chosen.read(from, to);
+        }
+
+        /**
+         * Reads the samples between two times from the given archive.
+         *
+         * @param archive The index of the archive, in the order in which they were given to the collector
+         */
+        public synchronized Samples read(int archive, long from, long to)
+        {
+            return rings[archive].read(from, to);
+        }
+    }
+
+    /**
+     * The ring of slots of one archive of a series. Step number n (time / step) is held in slot n % rows; the slots
+     * from current - rows + 1 to current are valid.
+     */
+    private static final class Ring
+    {
+        private final long step;
+        private final int rows;
+        private final double[] avg;
+        private final double[] min;
+        private final double[] max;
+        private long current = -1;
+        private double sum;
+        private int count;
+
+        Ring(Archive archive, boolean consolidated)
+        {
+            this.step = archive.step;
+            this.rows = archive.rows;
+            this.avg = newSlots(rows);
+            this.min = consolidated ? newSlots(rows) : null;
+            this.max = consolidated ? newSlots(rows) : null;
+        }
+
+        int slot(long n)
+        {
+            return (int) (n % rows);
+        }
+
+        void add(long time, double value)
+        {
+            long n = time / step;
+            if (n < current)
+                return;
+            if (n > current)
+            {
+                // Clear the slots of the steps that had no samples, and that of the new step
+                long first = current < 0 ? n : Math.max(current + 1, n - rows + 1);
+                for (long skipped = first; skipped <= n; skipped++)
+                {
+                    int s = slot(skipped);
+                    avg[s] = Double.NaN;
+                    if (min != null)
+                    {
+                        min[s] = Double.NaN;
+                        max[s] = Double.NaN;
+                    }
+                }
+                current = n;
+                sum = 0;
+                count = 0;
+            }
+
+            int s = slot(n);
+            if (Double.isNaN(value))
+                return;
+            sum += value;
+            count++;
+            avg[s] = sum / count;
+            if (min != null)
+            {
+                min[s] = count == 1 ? value : Math.min(min[s], value);
+                max[s] = count == 1 ? value : Math.max(max[s], value);
+            }
+        }
+
+        Samples read(long from, long to)
+        {
+            if (current < 0 || to < from)
+                return new Samples(from / step * step, step, new double[0], new double[0], new double[0]);
+            long first = Math.max(from / step, current - rows + 1);
+            long last = Math.min(to / step, current);
+            int length = (int) Math.max(0, last - first + 1);
+            double[] a = new double[length];
+            double[] lo = new double[length];
+            double[] hi = new double[length];
+            for (int i = 0; i < length; i++)
+            {
+                int s = slot(first + i);
+                a[i] = avg[s];
+                lo[i] = min == null ? avg[s] : min[s];
+                hi[i] = max == null ? avg[s] : max[s];
+            }
+            return new Samples(first * step, step, lo, hi, a);
+        }
+
+        private static double[] newSlots(int rows)
+        {
+            double[] slots = new double[rows];
+            Arrays.fill(slots, Double.NaN);
+            return slots;
+        }
+    }
+
+    /**
+     * A copy of the steps of a series over a period: for each step, the minimum, maximum and average of its samples,
+     * or NaN if it had none.
+     */
+    public static final class Samples
+    {
+        private final long start;
+        private final long step;
+        private final double[] min;
+        private final double[] max;
+        private final double[] avg;
+
+        Samples(long start, long step, double[] min, double[] max, double[] avg)
+        {
+            this.start = start;
+            this.step = step;
+            this.min = min;
+            this.max = max;
+            this.avg = avg;
+        }
+
+        /**
+         * @return The time at which the first step starts, in milliseconds since the epoch
+         */
+        public long getStart()
+        {
+            return start;
+        }
+
+        /**
+         * @return The length of each step, in milliseconds
+         */
+        public long getStep()
+        {
+            return step;
+        }
+
+        public int size()
+        {
+            return avg.length;
+        }
+
+        public long getTime(int i)
+        {
+            return start + i * step;
+        }
+
+        public double getMin(int i)
+        {
+            return min[i];
+        }
+
+        public double getMax(int i)
+        {
+            return max[i];
+        }
+
+        public double getAverage(int i)
+        {
+            return avg[i];
+        }
+
+        /**
+         * @return The minimum over the whole period, or NaN if there were no samples
+         */
+        public double min()
+        {
+            double result = Double.NaN;
+            for (double v : min)
+            {
+                if (!Double.isNaN(v) && (Double.isNaN(result) || v < result))
+                    result = v;
+            }
+            return result;
+        }
+
+        /**
+         * @return The maximum over the whole period, or NaN if there were no samples
+         */
+        public double max()
+        {
+            double result = Double.NaN;
+            for (double v : max)
+            {
+                if (!Double.isNaN(v) && (Double.isNaN(result) || v > result))
+                    result = v;
+            }
+            return result;
+        }
+
+        /**
+         * @return The average of the steps that had samples, or NaN if there were none
+         */
+        public double average()
+        {
+            double sum = 0;
+            int count = 0;
+            for (double v : avg)
+            {
+                if (!Double.isNaN(v))
+                {
+                    sum += v;
+                    count++;
+                }
+            }
+            return count == 0 ? Double.NaN : sum / count;
+        }
+
+        /**
+         * Consolidates the steps into fewer, longer ones, e.g. for drawing a week of 1-hour steps as 1-day bars.
+         *
+         * @param factor The number of steps combined into each new step
+         */
+        public Samples downsample(int factor)
+        {
+            if (factor < 1)
+                throw new IllegalArgumentException("The factor must be at least 1");
+            long newStep = step * factor;
+            long newStart = start / newStep * newStep;
+            int offset = (int) ((start - newStart) / step);
+            int length = (offset + avg.length + factor - 1) / factor;
+            double[] lo = new double[length];
+            double[] hi = new double[length];
+            double[] a = new double[length];
+            for (int j = 0; j < length; j++)
+            {
+                int from = Math.max(0, j * factor - offset);
+                int to = Math.min(avg.length, (j + 1) * factor - offset);
+                Samples part = new Samples(0, step, Arrays.copyOfRange(min, from, to), Arrays.copyOfRange(max, from, to),
+                    Arrays.copyOfRange(avg, from, to));
+                lo[j] = part.min();
+                hi[j] = part.max();
+                a[j] = part.average();
+            }
+            return new Samples(newStart, newStep, lo, hi, a);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.Collection;
+import java.util.Map;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JDK Flight Recorder event for the conversion by Types of the value returned by a call, or for the records read
+ * from a record stream (getAllRecords(c, handler), streamAllRecords(c) and getAllRecordsWithFields(c, fields)).
+ */
+@Name("com.xensource.xenapi.Decode")
+@Label("XenAPI Decode")
+@Category("XenAPI")
+@Description("The conversion of a XenAPI response into the objects and records returned to the caller")
+@StackTrace(false)
+final class DecodeEvent extends Event
+{
+    @Label("Method")
+    String method;
+
+    @Label("Object Class")
+    @Description("The class of object of the method, as named in method names, e.g. VM")
+    String objectClass;
+
+    @Label("Records")
+    @Description("The number of records, or of references or other values in a set or map, that were converted")
+    long records;
+
+    @Label("Conversion Time")
+    @Description("Time spent converting values in Types. For a record stream, whose duration also covers reading "
+        + "and parsing the response as it arrives, the part of it spent in the record converters")
+    @Timespan
+    long conversionTime;
+
+    static boolean isRecording()
+    {
+        return new DecodeEvent().isEnabled();
+    }
+
+    /**
+     * Ends the event, and commits it if it is to be recorded.
+     */
+    void complete(String method, long records, long conversionTime)
+    {
+        end();
+        if (!shouldCommit())
+            return;
+        this.method = method;
+        this.objectClass = objectClassOf(method);
+        this.records = records;
+        this.conversionTime = conversionTime;
+        commit();
+    }
+
+    /**
+     * @return The number of values in a converted value: the size of a map or set, the number of events in an
+     * EventBatch, or 1 for any other value
+     */
+    static long recordsIn(Object value)
+    {
+        if (value instanceof EventBatch)
+            return ((EventBatch) value).events.size();
+        if (value instanceof Map)
+            return ((Map<?, ?>) value).size();
+        if (value instanceof Collection)
+            return ((Collection<?>) value).size();
+        return value == null ? 0 : 1;
+    }
+
+    /**
+     * @return The class of object named at the start of a method, e.g. "VM" for "VM.get_all_records"
+     */
+    static String objectClassOf(String method)
+    {
+        int dot = method.indexOf('.');
+        return dot < 0 ? method : method.substring(0, dot);
+    }
+}
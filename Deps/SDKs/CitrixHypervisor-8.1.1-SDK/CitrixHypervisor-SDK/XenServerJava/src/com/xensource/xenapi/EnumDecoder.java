@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decodes the wire values of one enum type through a table built once, rather than through Enum.valueOf(), which
+ * needs the value to be upper-cased first and throws an exception for every value that these bindings do not know.
+ *
+ * Values are looked up as received first, which finds the wire names the server normally sends without any
+ * allocation. Other values are then matched case-insensitively against the constant names, with '-' read as '_', as
+ * the generated converters always did; values that match nothing decode to UNRECOGNIZED. The outcome for such values
+ * is added to the table (up to a limit), so that the next occurrence of a value sent by a newer server is as cheap.
+ */
+final class EnumDecoder<E extends Enum<E>>
+{
+    /**
+     * The number of distinct values per enum type that are cached after a slow lookup
+     */
+    private static final int MAX_CACHED_VALUES = 64;
+
+    private static final CopyOnWriteArrayList<EnumDecoder<?>> ALL = new CopyOnWriteArrayList<EnumDecoder<?>>();
+
+    private static volatile boolean countUnrecognized;
+
+    private final Class<E> type;
+    private final E unrecognized;
+    private final ConcurrentMap<String, E> byValue = new ConcurrentHashMap<String, E>();
+    private final Map<String, E> byName = new HashMap<String, E>();
+    private final AtomicInteger cachedValues = new AtomicInteger();
+    private final LongAdder unrecognizedCount = new LongAdder();
+
+    EnumDecoder(Class<E> type, E unrecognized)
+    {
+        this.type = type;
+        this.unrecognized = unrecognized;
+        for (E constant : type.getEnumConstants())
+        {
+            byName.put(constant.name(), constant);
+            if (constant != unrecognized)
+                byValue.putIfAbsent(constant.toString(), constant);
+        }
+        ALL.add(this);
+    }
+
+    E decode(String value)
+    {
+        E constant = byValue.get(value);
+        if (constant == null)
+        {
+            constant = byName.get(value.toUpperCase(Locale.ROOT).replace('-', '_'));
+            if (constant == null)
+                constant = unrecognized;
+            if (cachedValues.get() < MAX_CACHED_VALUES && byValue.putIfAbsent(value, constant) == null)
+                cachedValues.incrementAndGet();
+        }
+        if (constant == unrecognized && countUnrecognized)
+            unrecognizedCount.increment();
+        return constant;
+    }
+
+    static void setCountUnrecognized(boolean enabled)
+    {
+        countUnrecognized = enabled;
+    }
+
+    /**
+     * @return The number of values decoded to UNRECOGNIZED whilst counting was enabled, for each enum type for which
+     * there were any
+     */
+    static Map<Class<? extends Enum<?>>, Long> getUnrecognizedCounts()
+    {
+        Map<Class<? extends Enum<?>>, Long> counts = new LinkedHashMap<Class<? extends Enum<?>>, Long>();
+        for (EnumDecoder<?> decoder : ALL)
+        {
+            long count = decoder.unrecognizedCount.sum();
+            if (count > 0)
+                counts.put(decoder.type, count);
+        }
+        return counts;
+    }
+
+    static void resetUnrecognizedCounts()
+    {
+        for (EnumDecoder<?> decoder : ALL)
+            decoder.unrecognizedCount.reset();
+    }
+}
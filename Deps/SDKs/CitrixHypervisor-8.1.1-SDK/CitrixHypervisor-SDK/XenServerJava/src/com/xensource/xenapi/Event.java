@@ -107,7 +107,7 @@ public class Event extends XenAPIObject {
             print.printf("%1$20s: %2$s\n", "operation", this.operation);
             print.printf("%1$20s: %2$s\n", "ref", this.ref);
             print.printf("%1$20s: %2$s\n", "objUuid", this.objUuid);
-            print.printf("%1$20s: %2$s\n", "snapshot", this.snapshot);
+            print.printf("%1$20s: %2$s\n", "snapshot", getSnapshot());
             return writer.toString();
         }
 
@@ -122,7 +122,7 @@ public class Event extends XenAPIObject {
             map.put("operation", this.operation == null ? Types.EventOperation.UNRECOGNIZED : this.operation);
             map.put("ref", this.ref == null ? "" : this.ref);
             map.put("obj_uuid", this.objUuid == null ? "" : this.objUuid);
-            map.put("snapshot", this.snapshot);
+            map.put("snapshot", getSnapshot());
             return map;
         }
 
@@ -152,9 +152,45 @@ public class Event extends XenAPIObject {
         public String objUuid;
         /**
          * The record of the database object that was added, changed or deleted
-         * (the actual type will be VM.Record, VBD.Record or similar)
+         * (the actual type will be VM.Record, VBD.Record or similar).
+         * Null if the event was read with SnapshotMode.LAZY or SnapshotMode.NONE: use getSnapshot() instead.
          */
         public Object snapshot;
+
+        /**
+         * The snapshot as received, until it is decoded (SnapshotMode.LAZY only)
+         */
+        Object rawSnapshot;
+
+        /**
+         * @return The record of the database object that was added, changed or deleted, decoding it on first use
+         * if the event was read with SnapshotMode.LAZY. Null if it was read with SnapshotMode.NONE.
+         */
+        public synchronized Object getSnapshot() {
+            if (rawSnapshot != null) {
+                snapshot = Types.toEventSnapshot(clazz, rawSnapshot);
+                rawSnapshot = null;
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * How the snapshots of events are decoded into records.
+     */
+    public enum SnapshotMode {
+        /**
+         * Each snapshot is decoded when the events are read, into Record.snapshot.
+         */
+        EAGER,
+        /**
+         * Each snapshot is kept as received, and only decoded when Record.getSnapshot() is called.
+         */
+        LAZY,
+        /**
+         * The snapshots are dropped. Suits consumers that only need the class, operation and reference of each event.
+         */
+        NONE
     }
 
     /**
@@ -174,7 +210,7 @@ public class Event extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(classes)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -212,7 +248,7 @@ public class Event extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(classes)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -251,7 +287,7 @@ public class Event extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfEventRecord(result);
+            return c.decoded(method_call, Types.toSetOfEventRecord(result));
     }
 
     /**
@@ -274,7 +310,32 @@ public class Event extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(classes), Marshalling.toXMLRPC(token), Marshalling.toXMLRPC(timeout)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toEventBatch(result);
+            return c.decoded(method_call, Types.toEventBatch(result));
+    }
+
+    /**
+     * Blocking call which returns a new token and a (possibly empty) batch of events. The returned token can be used in subsequent calls to this function.
+     * Unlike from(Connection, Set, String, Double), which always decodes the snapshots, the snapshots are decoded as given by mode.
+     * First published in XenServer 6.0.
+     *
+     * @param classes register for events for the indicated classes
+     * @param token A token representing the point from which to generate database events. The empty string represents the beginning.
+     * @param timeout Return after this many seconds if no events match
+     * @param mode How the snapshots of the events are decoded
+     * @return a structure consisting of a token ('token'), a map of valid references per object type ('valid_ref_counts'), and a set of event records ('events').
+     */
+    public static EventBatch from(Connection c, Set<String> classes, String token, Double timeout, SnapshotMode mode) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException,
+       Types.SessionNotRegistered,
+       Types.EventsLost {
+        String method_call = "event.from";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(classes), Marshalling.toXMLRPC(token), Marshalling.toXMLRPC(timeout)};
+        Map response = c.dispatch(method_call, method_params);
+        Object result = response.get("Value");
+            return c.decoded(method_call, Types.toEventBatch(result, mode));
     }
 
     /**
@@ -292,7 +353,7 @@ public class Event extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -312,7 +373,7 @@ public class Event extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(clazz), Marshalling.toXMLRPC(ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
 }
\ No newline at end of file
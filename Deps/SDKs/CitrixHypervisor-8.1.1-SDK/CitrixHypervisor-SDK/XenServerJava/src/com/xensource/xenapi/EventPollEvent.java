@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JDK Flight Recorder event for each turn of the polling loop of an EventPump: an Event.from call, or a
+ * resynchronisation, followed by the wait for room in the delivery queue.
+ */
+@Name("com.xensource.xenapi.EventPoll")
+@Label("XenAPI Event Poll")
+@Category("XenAPI")
+@Description("An Event.from call or resynchronisation of an EventPump, until its outcome was queued for delivery")
+@StackTrace(false)
+final class EventPollEvent extends Event
+{
+    @Label("Classes")
+    String classes;
+
+    @Label("Events")
+    int events;
+
+    @Label("Resynchronisation")
+    @Description("Whether the records were read again with get_all_records, rather than events with Event.from")
+    boolean resynchronisation;
+
+    @Label("Queue Wait Time")
+    @Description("Time spent waiting for the subscribers to make room in the delivery queue")
+    @Timespan
+    long queueWaitTime;
+
+    @Label("Queue Length")
+    @Description("The number of deliveries waiting once this one was queued")
+    int queueLength;
+}
@@ -0,0 +1,682 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.xmlrpc.XmlRpcException;
+
+import com.xensource.xenapi.Types.XenAPIException;
+
+/**
+ * Follows the events of chosen classes of object with Event.from, for as long as it runs, and hands each batch to
+ * its subscribers.
+ *
+ * One thread long-polls the server, and another delivers the batches to the subscribers, in order. Between them is
+ * a bounded queue: when the subscribers fall behind and the queue is full, the server is not polled again until
+ * there is room, so the events wait on the server rather than in memory. If the server drops events meanwhile (or
+ * at any other time), the pump takes a new token and resynchronises its subscribers by reading the records of the
+ * subscribed classes with get_all_records.
+ *
+ * The token up to which batches have been delivered can be saved through a TokenStore, so that a pump created later
+ * resumes from it instead of resynchronising. A subscriber that throws has missed the batch: the failure is counted,
+ * and the token is neither advanced nor saved again until the subscribers have been resynchronised, which the pump
+ * does at once. If a Login is set, the session is renewed when the server reports
+ * that it is no longer valid; other failures, such as the server being unreachable, are retried with increasing
+ * delays.
+ *
+ * The connection is used by the polling thread for as long as the pump is running, so its reply timeout must be
+ * longer than the poll timeout.
+ *
+ * Each turn of the polling loop can be followed with JDK Flight Recorder, through the com.xensource.xenapi.EventPoll
+ * event.
+ */
+public class EventPump
+{
+    /**
+     * Receives the batches of events. Its methods are called on the pump's delivery thread, one at a time and in the
+     * order in which the server produced the events. A RuntimeException thrown by either method does not stop the
+     * other subscribers, but makes the pump resynchronise them all.
+     */
+    public interface Subscriber
+    {
+        /**
+         * Called when the pump has no token to resume from: when it starts without a stored token, and after the
+         * server has lost events. The batches that follow apply to these records.
+         *
+         * @param records The current records of each subscribed class that has get_all_records, by class name as
+         * used in method names (for example "VM"). Empty if resynchronisation is disabled.
+         */
+        void resynchronised(Map<String, Map<? extends XenAPIObject, ? extends Types.Record>> records);
+
+        /**
+         * Called with each batch that holds any events.
+         */
+        void events(EventBatch batch);
+    }
+
+    /**
+     * Saves the token up to which batches have been delivered, so that the events can be followed from the same
+     * point after a restart.
+     */
+    public interface TokenStore
+    {
+        /**
+         * @return The token last saved, or null if there is none
+         */
+        String load();
+
+        /**
+         * Called on the delivery thread after each batch has been delivered, unless a subscriber has failed since the
+         * subscribers were last resynchronised.
+         */
+        void save(String token);
+    }
+
+    /**
+     * Told of each delivery, that of an empty batch included, once the subscribers have been.
+     */
+    interface DeliveryListener
+    {
+        /**
+         * @param poll The number of the poll whose result was delivered, as counted by getPollCount()
+         */
+        void delivered(long poll);
+    }
+
+    /**
+     * The number of seconds each Event.from call waits for events, unless setPollTimeout() is called
+     */
+    public static final double DEFAULT_POLL_TIMEOUT = 30.0;
+
+    /**
+     * The number of batches that may wait for delivery, unless another capacity is given
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+    private static final long MIN_RETRY_DELAY = 500;
+    private static final long MAX_RETRY_DELAY = 30000;
+
+    /**
+     * The time constant, in seconds, of the moving average of the event rate
+     */
+    private static final double RATE_TIME_CONSTANT = 10.0;
+
+    private final Connection connection;
+    private final Set<String> classes;
+    private final BlockingQueue<Delivery> queue;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<Subscriber>();
+    private final List<DeliveryListener> deliveryListeners = new CopyOnWriteArrayList<DeliveryListener>();
+    private volatile double pollTimeout = DEFAULT_POLL_TIMEOUT;
+    private volatile boolean resynchronise = true;
+    private volatile Event.SnapshotMode snapshotMode = Event.SnapshotMode.EAGER;
+    private volatile TokenStore tokenStore;
+    private volatile Connection.Login login;
+    private volatile boolean running;
+    private volatile String token;
+    private volatile long pollCount;
+    private volatile Exception lastError;
+    private volatile RuntimeException lastSubscriberError;
+    private volatile boolean resynchronisationRequested;
+    private Thread poller;
+    private Thread dispatcher;
+
+    // Used by the polling thread only
+    private String polledToken;
+    private long retryDelay = MIN_RETRY_DELAY;
+    private long lastPollTime;
+    private boolean eventsLost;
+
+    // Used by the delivery thread only
+    private boolean batchMissed;
+
+    private final LongAdder eventCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder resyncCount = new LongAdder();
+    private final LongAdder subscriberFailureCount = new LongAdder();
+    private volatile double eventsPerSecond;
+    private volatile long lagMillis;
+
+    /**
+     * @param c The connection to use, which must be logged in
+     * @param classes The class names to follow, as for Event.from; "*" follows every class
+     */
+    public EventPump(Connection c, Set<String> classes)
+    {
+        this(c, classes, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param queueCapacity The number of batches that may wait for delivery before polling is suspended
+     */
+    public EventPump(Connection c, Set<String> classes, int queueCapacity)
+    {
+        this.connection = c;
+        this.classes = Collections.unmodifiableSet(new HashSet<String>(classes));
+        this.queue = new ArrayBlockingQueue<Delivery>(queueCapacity);
+    }
+
+    /**
+     * Sets how long each Event.from call waits for events before it returns empty, which bounds how long close()
+     * waits for the polling thread.
+     */
+    public void setPollTimeout(double seconds)
+    {
+        this.pollTimeout = seconds;
+    }
+
+    /**
+     * Sets whether records are read with get_all_records when the pump has no token to resume from (true by
+     * default). Subscribers that only need the changes from now on can do without.
+     */
+    public void setResynchronise(boolean resynchronise)
+    {
+        this.resynchronise = resynchronise;
+    }
+
+    /**
+     * Sets how the snapshots of the events are decoded (EAGER by default). With LAZY, each snapshot is only decoded
+     * when a subscriber calls Event.Record.getSnapshot(), on the delivery thread rather than the polling thread.
+     */
+    public void setSnapshotMode(Event.SnapshotMode mode)
+    {
+        this.snapshotMode = mode;
+    }
+
+    /**
+     * Sets where the token is saved. It is only loaded by start().
+     */
+    public void setTokenStore(TokenStore store)
+    {
+        this.tokenStore = store;
+    }
+
+    /**
+     * Sets how the session is renewed when the server reports that it is no longer valid. Not needed if the
+     * connection has a Login of its own (see Connection.setLogin()), which renews the session before the pump sees
+     * the error.
+     */
+    public void setLogin(Connection.Login login)
+    {
+        this.login = login;
+    }
+
+    public void subscribe(Subscriber subscriber)
+    {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(Subscriber subscriber)
+    {
+        subscribers.remove(subscriber);
+    }
+
+    void addDeliveryListener(DeliveryListener listener)
+    {
+        deliveryListeners.add(listener);
+    }
+
+    /**
+     * Starts following the events. If no token has been stored, a new one is taken and the subscribers are
+     * resynchronised before this method returns.
+     *
+     * @throws XenAPIException if the subscribers could not be resynchronised, in which case the pump is not started
+     */
+    public synchronized void start() throws XenAPIException, XmlRpcException
+    {
+        if (running)
+            throw new IllegalStateException("The pump has already been started");
+        TokenStore store = tokenStore;
+        String stored = store == null ? null : store.load();
+        if (stored == null)
+            deliver(resynchronise());
+        else
+            token = stored;
+        polledToken = token;
+        lastPollTime = System.nanoTime();
+        running = true;
+
+        poller = new Thread(new Runnable()
+        {
+            public void run()
+            {
+                poll();
+            }
+        }, "xenapi-event-pump");
+        dispatcher = new Thread(new Runnable()
+        {
+            public void run()
+            {
+                dispatch();
+            }
+        }, "xenapi-event-dispatch");
+        poller.setDaemon(true);
+        dispatcher.setDaemon(true);
+        poller.start();
+        dispatcher.start();
+    }
+
+    /**
+     * Stops the pump, waiting for its threads to finish. This may take up to the poll timeout. Batches that have
+     * not been delivered yet are dropped; the token is left at the last one that was.
+     */
+    public void close()
+    {
+        List<Thread> threads = new ArrayList<Thread>(2);
+        synchronized (this)
+        {
+            running = false;
+            if (poller != null)
+                threads.add(poller);
+            if (dispatcher != null)
+                threads.add(dispatcher);
+            poller = null;
+            dispatcher = null;
+        }
+        for (Thread t : threads)
+        {
+            if (t == Thread.currentThread())
+                continue;
+            t.interrupt();
+            try
+            {
+                t.join();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public boolean isRunning()
+    {
+        return running;
+    }
+
+    /**
+     * @return The token up to which batches have been delivered to every subscriber without failing
+     */
+    public String getToken()
+    {
+        return token;
+    }
+
+    /**
+     * @return The number of polls started, resynchronisations included. A poll numbered higher than the count
+     * returned started after it was read, so its result reflects every change made before then.
+     */
+    long getPollCount()
+    {
+        return pollCount;
+    }
+
+    /**
+     * @return The error met by the polling thread since it last polled successfully, which it retries after; or null
+     */
+    public Exception getLastError()
+    {
+        return lastError;
+    }
+
+    /**
+     * @return The number of times a subscriber has thrown whilst receiving a batch or a resynchronisation
+     */
+    public long getSubscriberFailureCount()
+    {
+        return subscriberFailureCount.sum();
+    }
+
+    /**
+     * @return The RuntimeException last thrown by a subscriber, or null if none has failed
+     */
+    public RuntimeException getLastSubscriberError()
+    {
+        return lastSubscriberError;
+    }
+
+    /**
+     * @return The number of events received
+     */
+    public long getEventCount()
+    {
+        return eventCount.sum();
+    }
+
+    /**
+     * @return The number of Event.from calls that returned, including those that returned no events
+     */
+    public long getBatchCount()
+    {
+        return batchCount.sum();
+    }
+
+    /**
+     * @return The number of times the subscribers have been resynchronised
+     */
+    public long getResyncCount()
+    {
+        return resyncCount.sum();
+    }
+
+    /**
+     * @return The rate at which events are received, as a moving average over about ten seconds
+     */
+    public double getEventsPerSecond()
+    {
+        return eventsPerSecond;
+    }
+
+    /**
+     * @return The mean number of events per Event.from call
+     */
+    public double getAverageBatchSize()
+    {
+        long batches = batchCount.sum();
+        return batches == 0 ? 0.0 : (double) eventCount.sum() / batches;
+    }
+
+    /**
+     * @return The time, in milliseconds, that the last batch delivered had waited in the queue after it was received
+     */
+    public long getLagMillis()
+    {
+        return lagMillis;
+    }
+
+    /**
+     * @return The number of batches waiting for delivery
+     */
+    public int getQueueSize()
+    {
+        return queue.size();
+    }
+
+    /**
+     * The body of the polling thread.
+     */
+    private void poll()
+    {
+        while (running)
+        {
+            EventPollEvent event = new EventPollEvent();
+            event.begin();
+            try
+            {
+                if (resynchronisationRequested)
+                {
+                    resynchronisationRequested = false;
+                    polledToken = null;
+                }
+                if (polledToken == null)
+                {
+                    Delivery resync = resynchronise();
+                    polledToken = resync.token;
+                    event.resynchronisation = true;
+                    lastError = null;
+                    queue(resync, event);
+                    continue;
+                }
+                long poll = ++pollCount;
+                EventBatch batch = Event.from(connection, classes, polledToken, pollTimeout, snapshotMode);
+                received(batch.events.size());
+                polledToken = batch.token;
+                lastError = null;
+                event.events = batch.events.size();
+                queue(new Delivery(batch, null, batch.token, poll), event);
+                retryDelay = MIN_RETRY_DELAY;
+                eventsLost = false;
+            }
+            catch (InterruptedException e)
+            {
+                return;
+            }
+            catch (Types.EventsLost e)
+            {
+                // Resynchronise, but not in a tight loop if the server keeps losing events
+                if (eventsLost && !backOff())
+                    return;
+                eventsLost = true;
+                polledToken = null;
+            }
+            catch (Types.SessionInvalid e)
+            {
+                lastError = e;
+                Connection.Login l = login;
+                if (l != null)
+                {
+                    try
+                    {
+                        l.login(connection);
+                        continue;
+                    }
+                    catch (Exception le)
+                    {
+                        lastError = le;
+                    }
+                }
+                if (!backOff())
+                    return;
+            }
+            catch (Exception e)
+            {
+                lastError = e;
+                if (!backOff())
+                    return;
+            }
+        }
+    }
+
+    /**
+     * Queues a delivery, waiting for room if the queue is full, and commits the event of the turn of the polling loop.
+     */
+    private void queue(Delivery delivery, EventPollEvent event) throws InterruptedException
+    {
+        if (!event.isEnabled())
+        {
+            queue.put(delivery);
+            return;
+        }
+        long start = System.nanoTime();
+        queue.put(delivery);
+        event.queueWaitTime = System.nanoTime() - start;
+        event.end();
+        if (event.shouldCommit())
+        {
+            event.classes = String.join(",", classes);
+            event.queueLength = queue.size();
+            event.commit();
+        }
+    }
+
+    /**
+     * The body of the delivery thread.
+     */
+    private void dispatch()
+    {
+        while (running)
+        {
+            try
+            {
+                deliver(queue.take());
+            }
+            catch (InterruptedException e)
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Takes a new token, then reads the records of the subscribed classes. Changes made whilst the records are read
+     * are in the first batch from that token, so none are missed.
+     *
+     * The token is that of an Event.from call on the pool class from the beginning, which returns at once, rather
+     * than of an event injected for the purpose, which every other client of the pool would receive.
+     */
+    private Delivery resynchronise() throws XenAPIException, XmlRpcException
+    {
+        long poll = ++pollCount;
+        String from = Event.from(connection, Collections.singleton("pool"), "", 0.0, Event.SnapshotMode.NONE).token;
+
+        Map<String, Map<? extends XenAPIObject, ? extends Types.Record>> records =
+            new LinkedHashMap<String, Map<? extends XenAPIObject, ? extends Types.Record>>();
+        if (resynchronise)
+        {
+            for (RecordClass<?, ?> recordClass : recordClasses())
+                records.put(recordClass.wireName, recordClass.readAll(connection));
+        }
+        resyncCount.increment();
+        return new Delivery(null, records, from, poll);
+    }
+
+    private Collection<RecordClass<?, ?>> recordClasses()
+    {
+        if (classes.contains("*"))
+            return RecordClass.all();
+        List<RecordClass<?, ?>> recordClasses = new ArrayList<RecordClass<?, ?>>();
+        for (String name : classes)
+        {
+            RecordClass<?, ?> recordClass = RecordClass.forName(name);
+            if (recordClass != null)
+                recordClasses.add(recordClass);
+        }
+        return recordClasses;
+    }
+
+    private void deliver(Delivery delivery)
+    {
+        lagMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - delivery.received);
+        boolean failed = false;
+        for (Subscriber subscriber : subscribers)
+        {
+            try
+            {
+                if (delivery.records != null)
+                    subscriber.resynchronised(delivery.records);
+                else if (!delivery.batch.events.isEmpty())
+                    subscriber.events(delivery.batch);
+            }
+            catch (RuntimeException e)
+            {
+                // A failing subscriber must not stop the others, but its state now lags behind the token
+                lastSubscriberError = e;
+                subscriberFailureCount.increment();
+                failed = true;
+            }
+        }
+        if (failed)
+        {
+            batchMissed = true;
+            resynchronisationRequested = true;
+        }
+        else if (delivery.records != null)
+        {
+            // Read after the missed batch was polled, so the records include its changes
+            batchMissed = false;
+        }
+        if (!batchMissed)
+        {
+            token = delivery.token;
+            TokenStore store = tokenStore;
+            if (store != null)
+                store.save(delivery.token);
+        }
+        for (DeliveryListener listener : deliveryListeners)
+            listener.delivered(delivery.poll);
+    }
+
+    private void received(int events)
+    {
+        long now = System.nanoTime();
+        double seconds = Math.max((now - lastPollTime) / 1e9, 1e-3);
+        lastPollTime = now;
+        double weight = 1.0 - Math.exp(-seconds / RATE_TIME_CONSTANT);
+        eventsPerSecond += weight * (events / seconds - eventsPerSecond);
+        eventCount.add(events);
+        batchCount.increment();
+    }
+
+    /**
+     * Waits before the next attempt, for longer after each consecutive failure.
+     *
+     * @return false if the thread was interrupted
+     */
+    private boolean backOff()
+    {
+        if (!running)
+            return false;
+        try
+        {
+            Thread.sleep(retryDelay);
+        }
+        catch (InterruptedException e)
+        {
+            return false;
+        }
+        retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY);
+        return true;
+    }
+
+    /**
+     * A batch of events, or the records read when resynchronising, waiting for delivery.
+     */
+    private static final class Delivery
+    {
+        final EventBatch batch;
+        final Map<String, Map<? extends XenAPIObject, ? extends Types.Record>> records;
+        final String token;
+        final long poll;
+        final long received = System.nanoTime();
+
+        Delivery(EventBatch batch, Map<String, Map<? extends XenAPIObject, ? extends Types.Record>> records, String token,
+            long poll)
+        {
+            this.batch = batch;
+            this.records = records;
+            this.token = token;
+            this.poll = poll;
+        }
+    }
+}
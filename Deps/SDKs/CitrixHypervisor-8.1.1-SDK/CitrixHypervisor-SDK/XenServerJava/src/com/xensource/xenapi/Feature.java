@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -156,6 +157,54 @@ public class Feature extends XenAPIObject {
         public Host host;
     }
 
+    /**
+     * The fields of a Feature.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * a human-readable name
+         */
+        NAME_LABEL("name_label"),
+        /**
+         * a notes field containing human-readable description
+         */
+        NAME_DESCRIPTION("name_description"),
+        /**
+         * Indicates whether the feature is enabled
+         */
+        ENABLED("enabled"),
+        /**
+         * Indicates whether the feature is experimental (as opposed to stable and fully supported)
+         */
+        EXPERIMENTAL("experimental"),
+        /**
+         * The version of this feature
+         */
+        VERSION("version"),
+        /**
+         * The host where this feature is available
+         */
+        HOST("host");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given Feature.
      * First published in XenServer 7.2.
@@ -171,7 +220,7 @@ public class Feature extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toFeatureRecord(result);
+            return c.decoded(method_call, Types.toFeatureRecord(result));
     }
 
     /**
@@ -190,7 +239,7 @@ public class Feature extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toFeature(result);
+            return c.decoded(method_call, Types.toFeature(result));
     }
 
     /**
@@ -209,7 +258,7 @@ public class Feature extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(label)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfFeature(result);
+            return c.decoded(method_call, Types.toSetOfFeature(result));
     }
 
     /**
@@ -227,7 +276,7 @@ public class Feature extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -245,7 +294,7 @@ public class Feature extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -263,7 +312,7 @@ public class Feature extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -281,7 +330,7 @@ public class Feature extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -299,7 +348,7 @@ public class Feature extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -317,7 +366,7 @@ public class Feature extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -335,7 +384,7 @@ public class Feature extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toHost(result);
+            return c.decoded(method_call, Types.toHost(result));
     }
 
     /**
@@ -353,7 +402,7 @@ public class Feature extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfFeature(result);
+            return c.decoded(method_call, Types.toSetOfFeature(result));
     }
 
     /**
@@ -369,9 +418,78 @@ public class Feature extends XenAPIObject {
         String method_call = "Feature.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfFeatureFeatureRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.FEATURE_RECORD_DECODER);
+    }
+
+    /**
+     * Return all Features known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 7.2.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<Feature, Feature.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Feature.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.FEATURE_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all Features known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.2.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<Feature, Feature.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Feature.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.FEATURE_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all Features known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 7.2.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Feature.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<Feature, Feature.Record> getAllRecordsWithFields(Connection c, Set<Feature.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Feature.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.FEATURE_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all Features known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.2.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Feature.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<Feature, Feature.Record>> streamAllRecordsWithFields(Connection c, Set<Feature.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "Feature.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.FEATURE_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -177,6 +178,66 @@ public class GPUGroup extends XenAPIObject {
         public Set<VGPUType> enabledVGPUTypes;
     }
 
+    /**
+     * The fields of a GPUGroup.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * a human-readable name
+         */
+        NAME_LABEL("name_label"),
+        /**
+         * a notes field containing human-readable description
+         */
+        NAME_DESCRIPTION("name_description"),
+        /**
+         * List of pGPUs in the group
+         */
+        PGPUS("PGPUs"),
+        /**
+         * List of vGPUs using the group
+         */
+        VGPUS("VGPUs"),
+        /**
+         * List of GPU types (vendor+device ID) that can be in this group
+         */
+        GPU_TYPES("GPU_types"),
+        /**
+         * Additional configuration
+         */
+        OTHER_CONFIG("other_config"),
+        /**
+         * Current allocation of vGPUs to pGPUs for this group
+         */
+        ALLOCATION_ALGORITHM("allocation_algorithm"),
+        /**
+         * vGPU types supported on at least one of the pGPUs in this group
+         */
+        SUPPORTED_VGPU_TYPES("supported_VGPU_types"),
+        /**
+         * vGPU types supported on at least one of the pGPUs in this group
+         */
+        ENABLED_VGPU_TYPES("enabled_VGPU_types");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given GPU_group.
      * First published in XenServer 6.0.
@@ -192,7 +253,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toGPUGroupRecord(result);
+            return c.decoded(method_call, Types.toGPUGroupRecord(result));
     }
 
     /**
@@ -211,7 +272,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toGPUGroup(result);
+            return c.decoded(method_call, Types.toGPUGroup(result));
     }
 
     /**
@@ -230,7 +291,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(label)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfGPUGroup(result);
+            return c.decoded(method_call, Types.toSetOfGPUGroup(result));
     }
 
     /**
@@ -248,7 +309,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -266,7 +327,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -284,7 +345,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -302,7 +363,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfPGPU(result);
+            return c.decoded(method_call, Types.toSetOfPGPU(result));
     }
 
     /**
@@ -320,7 +381,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVGPU(result);
+            return c.decoded(method_call, Types.toSetOfVGPU(result));
     }
 
     /**
@@ -338,7 +399,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfString(result);
+            return c.decoded(method_call, Types.toSetOfString(result));
     }
 
     /**
@@ -356,7 +417,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -374,7 +435,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toAllocationAlgorithm(result);
+            return c.decoded(method_call, Types.toAllocationAlgorithm(result));
     }
 
     /**
@@ -392,7 +453,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVGPUType(result);
+            return c.decoded(method_call, Types.toSetOfVGPUType(result));
     }
 
     /**
@@ -410,7 +471,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVGPUType(result);
+            return c.decoded(method_call, Types.toSetOfVGPUType(result));
     }
 
     /**
@@ -534,7 +595,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(nameLabel), Marshalling.toXMLRPC(nameDescription), Marshalling.toXMLRPC(otherConfig)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -555,7 +616,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(nameLabel), Marshalling.toXMLRPC(nameDescription), Marshalling.toXMLRPC(otherConfig)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toGPUGroup(result);
+            return c.decoded(method_call, Types.toGPUGroup(result));
     }
 
     /**
@@ -573,7 +634,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -608,7 +669,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref), Marshalling.toXMLRPC(vgpuType)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -627,7 +688,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref), Marshalling.toXMLRPC(vgpuType)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -645,7 +706,7 @@ public class GPUGroup extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfGPUGroup(result);
+            return c.decoded(method_call, Types.toSetOfGPUGroup(result));
     }
 
     /**
@@ -661,9 +722,78 @@ public class GPUGroup extends XenAPIObject {
         String method_call = "GPU_group.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfGPUGroupGPUGroupRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.GPU_GROUP_RECORD_DECODER);
+    }
+
+    /**
+     * Return all GPU_groups known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 6.0.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<GPUGroup, GPUGroup.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "GPU_group.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.GPU_GROUP_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all GPU_groups known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 6.0.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<GPUGroup, GPUGroup.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "GPU_group.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.GPU_GROUP_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all GPU_groups known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 6.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(GPUGroup.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<GPUGroup, GPUGroup.Record> getAllRecordsWithFields(Connection c, Set<GPUGroup.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "GPU_group.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.GPU_GROUP_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all GPU_groups known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 6.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(GPUGroup.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<GPUGroup, GPUGroup.Record>> streamAllRecordsWithFields(Connection c, Set<GPUGroup.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "GPU_group.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.GPU_GROUP_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -193,6 +194,78 @@ public class HostCpu extends XenAPIObject {
         public Map<String, String> otherConfig;
     }
 
+    /**
+     * The fields of a HostCpu.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * the host the CPU is in
+         */
+        HOST("host"),
+        /**
+         * the number of the physical CPU within the host
+         */
+        NUMBER("number"),
+        /**
+         * the vendor of the physical CPU
+         */
+        VENDOR("vendor"),
+        /**
+         * the speed of the physical CPU
+         */
+        SPEED("speed"),
+        /**
+         * the model name of the physical CPU
+         */
+        MODELNAME("modelname"),
+        /**
+         * the family (number) of the physical CPU
+         */
+        FAMILY("family"),
+        /**
+         * the model number of the physical CPU
+         */
+        MODEL("model"),
+        /**
+         * the stepping of the physical CPU
+         */
+        STEPPING("stepping"),
+        /**
+         * the flags of the physical CPU (a decoded version of the features field)
+         */
+        FLAGS("flags"),
+        /**
+         * the physical CPU feature bitmap
+         */
+        FEATURES("features"),
+        /**
+         * the current CPU utilisation
+         */
+        UTILISATION("utilisation"),
+        /**
+         * additional configuration
+         */
+        OTHER_CONFIG("other_config");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given host_cpu.
      * First published in XenServer 4.0.
@@ -209,7 +282,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toHostCpuRecord(result);
+            return c.decoded(method_call, Types.toHostCpuRecord(result));
     }
 
     /**
@@ -229,7 +302,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toHostCpu(result);
+            return c.decoded(method_call, Types.toHostCpu(result));
     }
 
     /**
@@ -247,7 +320,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -265,7 +338,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toHost(result);
+            return c.decoded(method_call, Types.toHost(result));
     }
 
     /**
@@ -283,7 +356,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -301,7 +374,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -319,7 +392,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -337,7 +410,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -355,7 +428,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -373,7 +446,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -391,7 +464,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -409,7 +482,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -427,7 +500,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -445,7 +518,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toDouble(result);
+            return c.decoded(method_call, Types.toDouble(result));
     }
 
     /**
@@ -463,7 +536,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -534,7 +607,7 @@ public class HostCpu extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfHostCpu(result);
+            return c.decoded(method_call, Types.toSetOfHostCpu(result));
     }
 
     /**
@@ -550,9 +623,78 @@ public class HostCpu extends XenAPIObject {
         String method_call = "host_cpu.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfHostCpuHostCpuRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.HOST_CPU_RECORD_DECODER);
+    }
+
+    /**
+     * Return all host_cpus known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 4.0.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<HostCpu, HostCpu.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "host_cpu.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.HOST_CPU_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all host_cpus known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 4.0.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<HostCpu, HostCpu.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "host_cpu.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.HOST_CPU_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all host_cpus known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 4.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(HostCpu.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<HostCpu, HostCpu.Record> getAllRecordsWithFields(Connection c, Set<HostCpu.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "host_cpu.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.HOST_CPU_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all host_cpus known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 4.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(HostCpu.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<HostCpu, HostCpu.Record>> streamAllRecordsWithFields(Connection c, Set<HostCpu.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "host_cpu.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.HOST_CPU_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
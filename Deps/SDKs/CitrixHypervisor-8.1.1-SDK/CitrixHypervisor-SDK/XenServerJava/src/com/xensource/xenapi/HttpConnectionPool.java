@@ -0,0 +1,625 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * A bounded, per-host pool of persistent HTTP and HTTPS connections. Sockets (and therefore TLS sessions) are kept
+ * open between calls and handed out again to later calls against the same host, so that a series of calls pays for
+ * the TCP and TLS handshakes once rather than once per call.
+ *
+ * For every host the pool limits the number of connections in use at any one time (callers wait for a free
+ * connection once the limit is reached, for up to the lease timeout) and the number of idle connections it keeps. Connections that have been idle
+ * for longer than the idle timeout are closed the next time the pool is used, or when evictIdleConnections() is called.
+ *
+ * A pool can be shared by any number of Connection objects; see Connection.setConnectionPool(HttpConnectionPool).
+ * HTTPS sockets are created with the pool's SSLSocketFactory if it has one, otherwise from the TLS context of the
+ * Connection (see Connection.setSSLContext()), otherwise with the default SSLSocketFactory of HttpsURLConnection, so
+ * the same trust store settings apply as for the default transport. As with HttpsURLConnection, the server's
+ * certificate must name the host, unless a default HostnameVerifier has been set, in which case that decides. Connections made with different TLS contexts are never handed from one to the other.
+ *
+ * The pool and its connections use java.util.concurrent locks rather than synchronized blocks around blocking I/O,
+ * so that calls made on virtual threads do not pin their carrier threads whilst they wait for the server.
+ */
+public class HttpConnectionPool
+{
+    /**
+     * Default maximum number of connections in use per host
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 8;
+
+    /**
+     * Default maximum number of idle connections kept per host
+     */
+    public static final int DEFAULT_MAX_IDLE_PER_HOST = 8;
+
+    /**
+     * Default time in milliseconds after which an idle connection is closed
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT = 30000;
+
+    private final int maxConnectionsPerHost;
+    private final int maxIdlePerHost;
+    private final long idleTimeout;
+    private volatile long leaseTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Object, HostPool> hosts = new HashMap<Object, HostPool>();
+    private SSLSocketFactory sslSocketFactory;
+    private long openedConnections;
+    private boolean closed;
+
+    /**
+     * Creates a pool with the default limits.
+     */
+    public HttpConnectionPool()
+    {
+        this(DEFAULT_MAX_CONNECTIONS_PER_HOST, DEFAULT_MAX_IDLE_PER_HOST, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * @param maxConnectionsPerHost The maximum number of calls in flight to any one host
+     * @param maxIdlePerHost The maximum number of idle connections kept open to any one host
+     * @param idleTimeout The time in milliseconds after which an idle connection is closed
+     */
+    public HttpConnectionPool(int maxConnectionsPerHost, int maxIdlePerHost, long idleTimeout)
+    {
+        if (maxConnectionsPerHost < 1)
+            throw new IllegalArgumentException("maxConnectionsPerHost must be at least 1");
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.maxIdlePerHost = Math.max(0, Math.min(maxIdlePerHost, maxConnectionsPerHost));
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Sets the factory used to create HTTPS sockets, in place of the TLS context of each Connection. If not set, the
+     * TLS context of the Connection is used, or if it has none, the default SSLSocketFactory of HttpsURLConnection.
+     */
+    public void setSSLSocketFactory(SSLSocketFactory sslSocketFactory)
+    {
+        this.sslSocketFactory = sslSocketFactory;
+    }
+
+    public int getMaxConnectionsPerHost()
+    {
+        return maxConnectionsPerHost;
+    }
+
+    /**
+     * @return The time in milliseconds that a call waits for a free connection, or 0 if it waits for up to its reply
+     * timeout
+     */
+    public long getLeaseTimeout()
+    {
+        return leaseTimeout;
+    }
+
+    /**
+     * Sets how long a call waits for a free connection once the per-host limit has been reached, before it fails with
+     * an IOException. By default (0) a call waits for up to the reply timeout of its Connection, so that callers that
+     * outnumber the connections, such as the calls of Connection.fanOut(), are held back rather than failed whilst
+     * the calls ahead of them run. A call with no reply timeout then waits for as long as it takes.
+     *
+     * @param millis The time in milliseconds, or 0 to wait for up to the reply timeout
+     */
+    public void setLeaseTimeout(long millis)
+    {
+        if (millis < 0)
+            throw new IllegalArgumentException("The lease timeout cannot be negative");
+        leaseTimeout = millis;
+    }
+
+    /**
+     * @return The number of sockets this pool has opened since it was created.
+     */
+    public long getOpenedConnectionCount()
+    {
+        lock.lock();
+        try
+        {
+            return openedConnections;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of idle connections currently held by the pool, over all hosts.
+     */
+    public int getIdleConnectionCount()
+    {
+        lock.lock();
+        try
+        {
+            int count = 0;
+            for (HostPool host : hosts.values())
+                count += host.idle.size();
+            return count;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes every idle connection that has not been used for longer than the idle timeout.
+     */
+    public void evictIdleConnections()
+    {
+        lock.lock();
+        try
+        {
+            long now = System.currentTimeMillis();
+            for (HostPool host : hosts.values())
+                evictExpired(host, now);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes all idle connections. Connections in use are closed when they are handed back. The pool cannot be used
+     * after this method has been called.
+     */
+    public void close()
+    {
+        lock.lock();
+        try
+        {
+            closed = true;
+            for (HostPool host : hosts.values())
+            {
+                for (PooledSocket socket : host.idle)
+                    socket.closeQuietly();
+                host.idle.clear();
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a connection to the host of the given URL, waiting for one to become free if the per-host limit has been
+     * reached. The connection must be handed back with release().
+     *
+     * @param url The URL of the server
+     * @param sslContext The TLS context of the Connection, used for https unless the pool has an SSLSocketFactory of
+     * its own; or null
+     * @param connectTimeout The connection timeout in milliseconds
+     * @param replyTimeout The read timeout in milliseconds; also bounds the wait for a free connection, unless there
+     * is a lease timeout
+     * @param fresh Whether to open a new connection even if an idle one is available
+     */
+    PooledSocket lease(URL url, SSLContext sslContext, int connectTimeout, int replyTimeout, boolean fresh)
+        throws IOException
+    {
+        HostPool host = getHostPool(url, sslContext);
+        long wait = leaseTimeout > 0 ? leaseTimeout : replyTimeout;
+        try
+        {
+            if (wait > 0)
+            {
+                if (!host.permits.tryAcquire(wait, TimeUnit.MILLISECONDS))
+                    throw new IOException("Timed out waiting for a free connection to " + host.key);
+            }
+            else
+            {
+                host.permits.acquire();
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted whilst waiting for a free connection to " + host.key);
+        }
+
+        try
+        {
+            PooledSocket socket = fresh ? null : takeIdle(host);
+            if (socket == null)
+                socket = open(host, url, sslContext, connectTimeout);
+            socket.socket.setSoTimeout(replyTimeout);
+            return socket;
+        }
+        catch (IOException e)
+        {
+            host.permits.release();
+            throw e;
+        }
+        catch (RuntimeException e)
+        {
+            host.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Hands a connection back to the pool.
+     *
+     * @param reusable Whether the connection is in a state where another request can be sent on it
+     */
+    void release(PooledSocket socket, boolean reusable)
+    {
+        HostPool host = socket.host;
+        boolean keep = false;
+        lock.lock();
+        try
+        {
+            long now = System.currentTimeMillis();
+            evictExpired(host, now);
+            if (reusable && !closed && host.idle.size() < maxIdlePerHost && !socket.socket.isClosed())
+            {
+                socket.lastUsed = now;
+                socket.reused = true;
+                host.idle.addFirst(socket);
+                keep = true;
+            }
+        }
+        finally
+        {
+            lock.unlock();
+            host.permits.release();
+        }
+        if (!keep)
+            socket.closeQuietly();
+    }
+
+    private HostPool getHostPool(URL url, SSLContext sslContext) throws IOException
+    {
+        String key = url.getProtocol() + "://" + url.getHost() + ":" + port(url);
+        // The sockets opened with one TLS context must not be handed to a Connection with another
+        Object context = "https".equalsIgnoreCase(url.getProtocol()) && sslSocketFactory == null ? sslContext : null;
+        List<Object> hostKey = Arrays.asList(key, context);
+        lock.lock();
+        try
+        {
+            if (closed)
+                throw new IOException("The connection pool has been closed");
+            HostPool host = hosts.get(hostKey);
+            if (host == null)
+            {
+                host = new HostPool(key, maxConnectionsPerHost);
+                hosts.put(hostKey, host);
+            }
+            return host;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private PooledSocket takeIdle(HostPool host)
+    {
+        lock.lock();
+        try
+        {
+            long now = System.currentTimeMillis();
+            evictExpired(host, now);
+            PooledSocket socket;
+            while ((socket = host.idle.pollFirst()) != null)
+            {
+                if (!socket.socket.isClosed() && !socket.socket.isInputShutdown())
+                    return socket;
+                socket.closeQuietly();
+            }
+            return null;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Must be called with the lock held.
+     */
+    private void evictExpired(HostPool host, long now)
+    {
+        Iterator<PooledSocket> it = host.idle.iterator();
+        while (it.hasNext())
+        {
+            PooledSocket socket = it.next();
+            if (now - socket.lastUsed > idleTimeout)
+            {
+                it.remove();
+                socket.closeQuietly();
+            }
+        }
+    }
+
+    private PooledSocket open(HostPool host, URL url, SSLContext sslContext, int connectTimeout) throws IOException
+    {
+        String hostname = url.getHost();
+        int port = port(url);
+
+        Socket raw = new Socket();
+        Socket socket = raw;
+        try
+        {
+            raw.setTcpNoDelay(true);
+            raw.setKeepAlive(true);
+            raw.connect(new InetSocketAddress(hostname, port), connectTimeout);
+
+            if ("https".equalsIgnoreCase(url.getProtocol()))
+            {
+                SSLSocketFactory factory = sslSocketFactory;
+                if (factory == null && sslContext != null)
+                    factory = sslContext.getSocketFactory();
+                if (factory == null)
+                    factory = HttpsURLConnection.getDefaultSSLSocketFactory();
+                SSLSocket ssl = (SSLSocket) factory.createSocket(raw, hostname, port, true);
+                socket = ssl;
+
+                // The JDK's own default verifier rejects every host: HttpsURLConnection only asks it once the
+                // certificate has failed its built-in check, which the handshake makes here in its stead
+                HostnameVerifier verifier = HttpsURLConnection.getDefaultHostnameVerifier();
+                boolean replaced = verifier.getClass().getEnclosingClass() != HttpsURLConnection.class;
+                if (!replaced)
+                {
+                    SSLParameters parameters = ssl.getSSLParameters();
+                    parameters.setEndpointIdentificationAlgorithm("HTTPS");
+                    ssl.setSSLParameters(parameters);
+                }
+                ssl.startHandshake();
+
+                if (replaced && !verifier.verify(hostname, ssl.getSession()))
+                    throw new IOException("Hostname " + hostname + " does not match the server's certificate");
+            }
+        }
+        catch (IOException e)
+        {
+            try
+            {
+                socket.close();
+            }
+            catch (IOException ignore)
+            {
+            }
+            throw e;
+        }
+
+        lock.lock();
+        try
+        {
+            openedConnections++;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        return new PooledSocket(host, socket);
+    }
+
+    private static int port(URL url)
+    {
+        return url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+    }
+
+    /**
+     * The connections to a single host.
+     */
+    private static final class HostPool
+    {
+        final String key;
+        final Semaphore permits;
+        final Deque<PooledSocket> idle = new ArrayDeque<PooledSocket>();
+
+        HostPool(String key, int maxConnections)
+        {
+            this.key = key;
+            this.permits = new Semaphore(maxConnections, true);
+        }
+    }
+
+    /**
+     * A connection leased from the pool.
+     */
+    static final class PooledSocket
+    {
+        final Socket socket;
+        final InputStream in;
+        final OutputStream out;
+        private final HostPool host;
+        private long lastUsed;
+        private boolean reused;
+
+        private PooledSocket(HostPool host, Socket socket) throws IOException
+        {
+            this.host = host;
+            this.socket = socket;
+            this.in = new SocketInputStream(socket.getInputStream());
+            this.out = new SocketOutputStream(socket.getOutputStream());
+        }
+
+        /**
+         * @return Whether this connection has already carried an earlier request, in which case the server may have
+         * closed it in the meantime.
+         */
+        boolean isReused()
+        {
+            return reused;
+        }
+
+        void closeQuietly()
+        {
+            try
+            {
+                socket.close();
+            }
+            catch (IOException ignore)
+            {
+            }
+        }
+    }
+
+    /**
+     * A buffered socket input stream. Unlike BufferedInputStream its methods are not synchronized: a connection is
+     * only ever used by the thread that leased it.
+     */
+    private static final class SocketInputStream extends InputStream
+    {
+        private final InputStream in;
+        private final byte[] buffer = new byte[16384];
+        private int position;
+        private int limit;
+
+        SocketInputStream(InputStream in)
+        {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            if (position == limit && !fill())
+                return -1;
+            return buffer[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            if (len == 0)
+                return 0;
+            if (position == limit)
+            {
+                // Large reads bypass the buffer
+                if (len >= buffer.length)
+                    return in.read(b, off, len);
+                if (!fill())
+                    return -1;
+            }
+            int n = Math.min(len, limit - position);
+            System.arraycopy(buffer, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException
+        {
+            return (limit - position) + in.available();
+        }
+
+        private boolean fill() throws IOException
+        {
+            int n = in.read(buffer, 0, buffer.length);
+            position = 0;
+            limit = Math.max(n, 0);
+            return n > 0;
+        }
+    }
+
+    /**
+     * A buffered socket output stream, not synchronized for the same reason as SocketInputStream.
+     */
+    private static final class SocketOutputStream extends OutputStream
+    {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[16384];
+        private int count;
+
+        SocketOutputStream(OutputStream out)
+        {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException
+        {
+            if (count == buffer.length)
+                flushBuffer();
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException
+        {
+            if (len >= buffer.length)
+            {
+                flushBuffer();
+                out.write(b, off, len);
+                return;
+            }
+            if (len > buffer.length - count)
+                flushBuffer();
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException
+        {
+            flushBuffer();
+            out.flush();
+        }
+
+        private void flushBuffer() throws IOException
+        {
+            if (count > 0)
+            {
+                out.write(buffer, 0, count);
+                count = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,514 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.net.ssl.SSLContext;
+
+/**
+ * A single HTTP/1.1 POST sent over a connection leased from an HttpConnectionPool. Once the response body has been
+ * consumed (or abandoned) the exchange must be closed, which hands the connection back to the pool if it can carry
+ * another request.
+ */
+final class HttpExchange
+{
+    private final HttpConnectionPool pool;
+    private HttpConnectionPool.PooledSocket socket;
+    private final Map<String, String> responseHeaders = new HashMap<String, String>();
+    private int statusCode;
+    private String statusMessage;
+    private InputStream body;
+    private boolean reusable;
+
+    private HttpExchange(HttpConnectionPool pool)
+    {
+        this.pool = pool;
+    }
+
+    /**
+     * Sends a POST request and reads the response status line and headers. If the request fails on a connection
+     * that had been used before (the server may have closed it whilst it was idle), it is retried once on a newly
+     * opened one: but only if it could not be written. Once the server may have received the request, a failure is
+     * only retried for a method that merely reads (see Connection.isReadOnly()), and only if the connection was closed
+     * or reset before any of the response arrived, since any other call may not be safe to make twice. A timeout is
+     * never retried.
+     *
+     * @param sslContext The TLS context of the Connection, or null (see HttpConnectionPool.lease())
+     * @param method The XenAPI method called, which decides whether the request may be sent twice
+     * @param headers The request headers, other than Host, Content-Length and Connection
+     */
+    static HttpExchange post(HttpConnectionPool pool, URL url, SSLContext sslContext, String method,
+                             Map<String, String> headers, byte[] content, int connectTimeout, int replyTimeout)
+        throws IOException
+    {
+        for (int attempt = 0; ; attempt++)
+        {
+            HttpExchange exchange = new HttpExchange(pool);
+            CallSample.connecting();
+            exchange.socket = pool.lease(url, sslContext, connectTimeout, replyTimeout, attempt > 0);
+            CallSample.connected();
+            boolean retry = exchange.socket.isReused() && attempt == 0;
+            try
+            {
+                exchange.writeRequest(url, headers, content);
+            }
+            catch (IOException e)
+            {
+                exchange.abandon();
+                if (!retry || e instanceof SocketTimeoutException)
+                    throw e;
+                continue;
+            }
+            CallSample.requestSent(content.length);
+
+            try
+            {
+                exchange.readResponseHead();
+            }
+            catch (StaleConnectionException e)
+            {
+                exchange.abandon();
+                if (!retry || !Connection.isReadOnly(method))
+                    throw e;
+                continue;
+            }
+            catch (IOException e)
+            {
+                exchange.abandon();
+                throw e;
+            }
+            CallSample.responseStarted();
+            return exchange;
+        }
+    }
+
+    int getStatusCode()
+    {
+        return statusCode;
+    }
+
+    String getStatusMessage()
+    {
+        return statusMessage;
+    }
+
+    /**
+     * @param name A header name, in lower case
+     */
+    String getResponseHeader(String name)
+    {
+        return responseHeaders.get(name);
+    }
+
+    /**
+     * @return The response body, with any chunked transfer encoding removed. Closing it has no effect on the
+     * underlying connection.
+     */
+    InputStream getBody()
+    {
+        return body;
+    }
+
+    /**
+     * @return The response body, as a stream that closes this exchange when it is closed. If the body has not been
+     * read to its end by then, the connection is closed rather than drained, since the rest of the body may be large.
+     */
+    InputStream getBodyClosingExchange()
+    {
+        return new FilterInputStream(body)
+        {
+            private boolean atEnd;
+
+            @Override
+            public int read() throws IOException
+            {
+                int b = super.read();
+                if (b == -1)
+                    atEnd = true;
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException
+            {
+                int n = super.read(b, off, len);
+                if (n == -1)
+                    atEnd = true;
+                return n;
+            }
+
+            @Override
+            public void close()
+            {
+                if (!atEnd)
+                    reusable = false;
+                HttpExchange.this.close();
+            }
+        };
+    }
+
+    private void abandon()
+    {
+        reusable = false;
+        close();
+    }
+
+    /**
+     * Releases the connection: to the pool if the response body can be read to its end and the server allows the
+     * connection to be kept alive, otherwise it is closed.
+     */
+    void close()
+    {
+        if (socket == null)
+            return;
+        boolean keep = reusable && drain();
+        pool.release(socket, keep);
+        socket = null;
+    }
+
+    private void writeRequest(URL url, Map<String, String> headers, byte[] content) throws IOException
+    {
+        OutputStream out = socket.out;
+        String path = url.getFile();
+        if (path == null || path.length() == 0)
+            path = "/";
+
+        StringBuilder head = new StringBuilder(256);
+        head.append("POST ").append(path).append(" HTTP/1.1\r\n");
+        head.append("Host: ").append(url.getHost());
+        if (url.getPort() != -1)
+            head.append(':').append(url.getPort());
+        head.append("\r\n");
+        for (Map.Entry<String, String> header : headers.entrySet())
+        {
+            String name = header.getKey();
+            if (name.equalsIgnoreCase("Content-Length") || name.equalsIgnoreCase("Host") || name.equalsIgnoreCase("Connection"))
+                continue;
+            head.append(name).append(": ").append(header.getValue()).append("\r\n");
+        }
+        head.append("Content-Length: ").append(content.length).append("\r\n");
+        head.append("Connection: keep-alive\r\n\r\n");
+
+        out.write(head.toString().getBytes("ISO-8859-1"));
+        out.write(content);
+        out.flush();
+    }
+
+    /**
+     * @throws StaleConnectionException if the connection was closed or reset before any of the response arrived
+     */
+    private void readResponseHead() throws IOException
+    {
+        InputStream in = socket.in;
+        int first;
+        try
+        {
+            first = in.read();
+        }
+        catch (SocketException e)
+        {
+            throw new StaleConnectionException("The connection was reset before the server responded", e);
+        }
+        if (first == -1)
+            throw new StaleConnectionException("The server closed the connection without sending a response", null);
+
+        String statusLine = readLine(in, first);
+        parseStatusLine(statusLine);
+        readHeaders(in);
+        // Skip any interim 1xx responses
+        while (statusCode >= 100 && statusCode < 200)
+        {
+            statusLine = readLine(in);
+            if (statusLine == null)
+                throw new EOFException("The server closed the connection without sending a response");
+            parseStatusLine(statusLine);
+            readHeaders(in);
+        }
+
+        boolean http10 = statusLine.startsWith("HTTP/1.0");
+        String connection = getResponseHeader("connection");
+        boolean keepAlive = http10
+            ? connection != null && connection.equalsIgnoreCase("keep-alive")
+            : connection == null || !connection.equalsIgnoreCase("close");
+
+        String transferEncoding = getResponseHeader("transfer-encoding");
+        String contentLength = getResponseHeader("content-length");
+        if (transferEncoding != null && transferEncoding.toLowerCase().contains("chunked"))
+        {
+            body = new ChunkedInputStream(in);
+            reusable = keepAlive;
+        }
+        else if (contentLength != null)
+        {
+            body = new FixedLengthInputStream(in, Long.parseLong(contentLength.trim()));
+            reusable = keepAlive;
+        }
+        else
+        {
+            // The body is delimited by the server closing the connection
+            body = new FixedLengthInputStream(in, Long.MAX_VALUE);
+            reusable = false;
+        }
+    }
+
+    private void parseStatusLine(String line) throws IOException
+    {
+        int first = line.indexOf(' ');
+        if (!line.startsWith("HTTP/") || first < 0)
+            throw new IOException("Malformed HTTP status line: " + line);
+        int second = line.indexOf(' ', first + 1);
+        try
+        {
+            statusCode = Integer.parseInt(second < 0 ? line.substring(first + 1) : line.substring(first + 1, second));
+        }
+        catch (NumberFormatException e)
+        {
+            throw new IOException("Malformed HTTP status line: " + line);
+        }
+        statusMessage = second < 0 ? "" : line.substring(second + 1);
+    }
+
+    private void readHeaders(InputStream in) throws IOException
+    {
+        responseHeaders.clear();
+        String line;
+        while ((line = readLine(in)) != null && line.length() > 0)
+        {
+            int colon = line.indexOf(':');
+            if (colon > 0)
+                responseHeaders.put(line.substring(0, colon).trim().toLowerCase(), line.substring(colon + 1).trim());
+        }
+        if (line == null)
+            throw new EOFException("The server closed the connection whilst sending response headers");
+    }
+
+    private boolean drain()
+    {
+        try
+        {
+            byte[] buffer = new byte[4096];
+            while (body.read(buffer) != -1)
+            {
+            }
+            return true;
+        }
+        catch (IOException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Reads a CRLF (or LF) terminated line, or returns null at end of stream.
+     */
+    private static String readLine(InputStream in) throws IOException
+    {
+        return readLine(in, in.read());
+    }
+
+    /**
+     * @param b The first byte of the line, already read
+     */
+    private static String readLine(InputStream in, int b) throws IOException
+    {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+        for (; b != -1; b = in.read())
+        {
+            if (b == '\n')
+                break;
+            if (b != '\r')
+                line.write(b);
+        }
+        if (b == -1 && line.size() == 0)
+            return null;
+        return line.toString("ISO-8859-1");
+    }
+
+    /**
+     * Reads at most a given number of bytes from the connection.
+     */
+    private static final class FixedLengthInputStream extends InputStream
+    {
+        private final InputStream in;
+        private long remaining;
+
+        FixedLengthInputStream(InputStream in, long length)
+        {
+            this.in = in;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            if (remaining <= 0)
+                return -1;
+            int b = in.read();
+            if (b == -1)
+                remaining = 0;
+            else
+                remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            if (remaining <= 0)
+                return -1;
+            int n = in.read(b, off, (int) Math.min(len, remaining));
+            if (n == -1)
+            {
+                if (remaining != Long.MAX_VALUE)
+                    throw new EOFException("The server closed the connection before the end of the response");
+                remaining = 0;
+            }
+            else
+            {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException
+        {
+            return (int) Math.min(in.available(), remaining);
+        }
+
+        @Override
+        public void close()
+        {
+            // The connection is released by HttpExchange.close()
+        }
+    }
+
+    /**
+     * Decodes a body sent with the chunked transfer encoding.
+     */
+    private static final class ChunkedInputStream extends InputStream
+    {
+        private final InputStream in;
+        private final byte[] single = new byte[1];
+        private long chunkRemaining;
+        private boolean eof;
+
+        ChunkedInputStream(InputStream in)
+        {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            if (eof)
+                return -1;
+            if (chunkRemaining == 0)
+            {
+                nextChunk();
+                if (eof)
+                    return -1;
+            }
+            int n = in.read(b, off, (int) Math.min(len, chunkRemaining));
+            if (n == -1)
+                throw new EOFException("The server closed the connection in the middle of a chunk");
+            chunkRemaining -= n;
+            if (chunkRemaining == 0)
+                readLine(in);
+            return n;
+        }
+
+        private void nextChunk() throws IOException
+        {
+            String line = readLine(in);
+            if (line == null)
+                throw new EOFException("The server closed the connection before the last chunk");
+            int extension = line.indexOf(';');
+            String size = (extension < 0 ? line : line.substring(0, extension)).trim();
+            try
+            {
+                chunkRemaining = Long.parseLong(size, 16);
+            }
+            catch (NumberFormatException e)
+            {
+                throw new IOException("Malformed chunk size: " + line);
+            }
+            if (chunkRemaining == 0)
+            {
+                // Skip any trailers
+                String trailer;
+                while ((trailer = readLine(in)) != null && trailer.length() > 0)
+                {
+                }
+                eof = true;
+            }
+        }
+
+        @Override
+        public void close()
+        {
+            // The connection is released by HttpExchange.close()
+        }
+    }
+
+    /**
+     * Thrown when a connection turns out to have been closed by the server before it sent any of its response, so
+     * that the request can be sent again on a new connection.
+     */
+    private static final class StaleConnectionException extends EOFException
+    {
+        private static final long serialVersionUID = 1L;
+
+        StaleConnectionException(String message, Throwable cause)
+        {
+            super(message);
+            if (cause != null)
+                initCause(cause);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.client.XmlRpcClientException;
+
+/**
+ * Writes JSON-RPC 2.0 requests and reads JSON-RPC responses, which the server takes at /jsonrpc. A response is
+ * turned into the same map that the xml-rpc methods return, so that the rest of the bindings need not know which
+ * protocol was used: a result becomes the Value of a successful response, and an error (whose message is the XenAPI
+ * error code and whose data holds its parameters) becomes the ErrorDescription of a failed one.
+ */
+final class JsonRpcCodec implements RpcCodec
+{
+    /**
+     * The path at which the server takes JSON-RPC calls
+     */
+    static final String PATH = "/jsonrpc";
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HH:mm:ss'Z'")
+        .withZone(ZoneOffset.UTC);
+
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HH:mm:ss");
+
+    private static final AtomicLong IDS = new AtomicLong();
+
+    public byte[] encodeRequest(String method, Object[] params) throws XmlRpcException
+    {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"jsonrpc\":\"2.0\",\"method\":");
+        writeString(json, method);
+        json.append(",\"params\":[");
+        if (params != null)
+        {
+            for (int i = 0; i < params.length; i++)
+            {
+                if (i > 0)
+                    json.append(',');
+                writeValue(json, params[i]);
+            }
+        }
+        json.append("],\"id\":").append(IDS.incrementAndGet()).append('}');
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public Object decodeResponse(InputStream in) throws XmlRpcException
+    {
+        JsonValueReader reader = new JsonValueReader(new InputStreamReader(in, StandardCharsets.UTF_8), null);
+        try
+        {
+            Object result = null;
+            Object error = null;
+            reader.beginObject();
+            for (String name = reader.firstName(); name != null; name = reader.nextName())
+            {
+                if (name.equals("result"))
+                    result = reader.readValue();
+                else if (name.equals("error"))
+                    error = reader.readValue();
+                else
+                    reader.skipValue();
+            }
+            return toResponse(result, error);
+        }
+        catch (IOException e)
+        {
+            throw new XmlRpcClientException("Failed to parse server's response: " + e.getMessage(), e);
+        }
+    }
+
+    public String getContentType()
+    {
+        return "application/json";
+    }
+
+    public URL getEndpoint(URL serverURL) throws XmlRpcException
+    {
+        try
+        {
+            return new URL(serverURL.getProtocol(), serverURL.getHost(), serverURL.getPort(), PATH);
+        }
+        catch (MalformedURLException e)
+        {
+            throw new XmlRpcClientException("Invalid server URL: " + serverURL, e);
+        }
+    }
+
+    /**
+     * @param result The result member of a response
+     * @param error The error member of a response, or null if there is none
+     * @return The response as the xml-rpc methods return it
+     */
+    static Map<String, Object> toResponse(Object result, Object error)
+    {
+        Map<String, Object> response = new HashMap<String, Object>();
+        if (error == null)
+        {
+            response.put("Status", "Success");
+            response.put("Value", result);
+            return response;
+        }
+
+        List<Object> description = new ArrayList<Object>();
+        if (error instanceof Map)
+        {
+            Map<?, ?> fields = (Map<?, ?>) error;
+            description.add(String.valueOf(fields.get("message")));
+            Object data = fields.get("data");
+            if (data instanceof Object[])
+            {
+                for (Object parameter : (Object[]) data)
+                    description.add(parameter == null ? "" : parameter);
+            }
+            else if (data != null)
+                description.add(data);
+        }
+        else
+            description.add(String.valueOf(error));
+        response.put("Status", "Failure");
+        response.put("ErrorDescription", description.toArray());
+        return response;
+    }
+
+    /**
+     * Parses a date-time as sent by the server over JSON-RPC, e.g. "20200131T12:34:56Z" or "2020-01-31T12:34:56Z".
+     */
+    static Date parseDate(String text)
+    {
+        String s = text.replace("-", "");
+        if (s.endsWith("Z"))
+            s = s.substring(0, s.length() - 1);
+        try
+        {
+            return Date.from(LocalDateTime.parse(s, LOCAL_DATE_TIME)
+                .toInstant(ZoneOffset.UTC));
+        }
+        catch (DateTimeParseException e)
+        {
+            throw new IllegalArgumentException("Invalid date-time: " + text, e);
+        }
+    }
+
+    private static void writeValue(StringBuilder json, Object value)
+    {
+        if (value instanceof String)
+            writeString(json, (String) value);
+        else if (value instanceof Boolean || value instanceof Integer)
+            json.append(value);
+        else if (value instanceof Double)
+        {
+            double d = (Double) value;
+            if (Double.isNaN(d) || Double.isInfinite(d))
+                writeString(json, value.toString());
+            else
+                json.append(d);
+        }
+        else if (value instanceof Date)
+            writeString(json, DATE_TIME.format(((Date) value).toInstant()));
+        else if (value instanceof byte[])
+            writeString(json, Base64.getEncoder().encodeToString((byte[]) value));
+        else if (value instanceof Object[])
+        {
+            json.append('[');
+            Object[] array = (Object[]) value;
+            for (int i = 0; i < array.length; i++)
+            {
+                if (i > 0)
+                    json.append(',');
+                writeValue(json, array[i]);
+            }
+            json.append(']');
+        }
+        else if (value instanceof List)
+        {
+            json.append('[');
+            boolean first = true;
+            for (Object element : (Collection<?>) value)
+            {
+                if (!first)
+                    json.append(',');
+                first = false;
+                writeValue(json, element);
+            }
+            json.append(']');
+        }
+        else if (value instanceof Map)
+        {
+            json.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet())
+            {
+                if (!first)
+                    json.append(',');
+                first = false;
+                writeString(json, String.valueOf(Marshalling.toXMLRPC(entry.getKey())));
+                json.append(':');
+                writeValue(json, entry.getValue());
+            }
+            json.append('}');
+        }
+        else
+        {
+            // Longs, enums, references, sets and null
+            writeValue(json, Marshalling.toXMLRPC(value));
+        }
+    }
+
+    private static void writeString(StringBuilder json, String s)
+    {
+        json.append('"');
+        for (int i = 0; i < s.length(); i++)
+        {
+            char c = s.charAt(i);
+            switch (c)
+            {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20)
+                        json.append(String.format("\\u%04x", (int) c));
+                    else
+                        json.append(c);
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.apache.xmlrpc.client.XmlRpcClient;
+import org.apache.xmlrpc.client.XmlRpcClientException;
+import org.apache.xmlrpc.client.XmlRpcHttpClientConfig;
+import org.apache.xmlrpc.client.XmlRpcTransport;
+import org.apache.xmlrpc.client.XmlRpcTransportFactoryImpl;
+
+/**
+ * An XmlRpcTransportFactory whose transports send each call to the server as a JSON-RPC request, and return the
+ * response as the same objects that the xml-rpc transports would have built, so that a Connection made with
+ * Protocol.JSON_RPC needs nothing else to change.
+ *
+ * The server does not take system.multicall over JSON-RPC, so the calls of a Batch are sent one after the other.
+ */
+final class JsonRpcTransportFactory extends XmlRpcTransportFactoryImpl
+{
+    private final HttpConnectionPool pool;
+    private final ResponseCounters counters;
+    private final JsonRpcCodec codec = new JsonRpcCodec();
+
+    /**
+     * @param pool The pool from which connections are leased, or null to open a new connection for every call
+     * @param counters Decompresses and counts the responses
+     */
+    JsonRpcTransportFactory(XmlRpcClient client, HttpConnectionPool pool, ResponseCounters counters)
+    {
+        super(client);
+        this.pool = pool;
+        this.counters = counters;
+    }
+
+    HttpConnectionPool getPool()
+    {
+        return pool;
+    }
+
+    public XmlRpcTransport getTransport()
+    {
+        return new XmlRpcTransport()
+        {
+            public Object sendRequest(XmlRpcRequest request) throws XmlRpcException
+            {
+                XmlRpcHttpClientConfig config = (XmlRpcHttpClientConfig) request.getConfig();
+                Object[] params = new Object[request.getParameterCount()];
+                for (int i = 0; i < params.length; i++)
+                    params[i] = request.getParameter(i);
+
+                if (request.getMethodName().equals("system.multicall"))
+                    return multicall(config, (Object[]) params[0]);
+                return call(config, request.getMethodName(), params);
+            }
+        };
+    }
+
+    private Object call(XmlRpcHttpClientConfig config, String method, Object[] params) throws XmlRpcException
+    {
+        InputStream in = Connection.post(pool, config, counters, codec, method, codec.encodeRequest(method, params));
+        try
+        {
+            return codec.decodeResponse(in);
+        }
+        finally
+        {
+            try
+            {
+                in.close();
+            }
+            catch (IOException e)
+            {
+                // Ignore
+            }
+        }
+    }
+
+    /**
+     * @return The results in the form of a system.multicall response: a one-element array holding the response of
+     * each call, or a fault struct
+     */
+    private Object[] multicall(XmlRpcHttpClientConfig config, Object[] calls) throws XmlRpcException
+    {
+        Object[] results = new Object[calls.length];
+        for (int i = 0; i < calls.length; i++)
+        {
+            Map<?, ?> call = (Map<?, ?>) calls[i];
+            Object params = call.get("params");
+            if (params instanceof List)
+                params = ((List<?>) params).toArray();
+            try
+            {
+                results[i] = new Object[]{ call(config, (String) call.get("methodName"), (Object[]) params) };
+            }
+            catch (XmlRpcClientException e)
+            {
+                // The server could not be reached, or its response read: the rest of the calls would fail alike
+                throw e;
+            }
+            catch (XmlRpcException e)
+            {
+                Map<String, Object> fault = new HashMap<String, Object>();
+                fault.put("faultCode", e.code);
+                fault.put("faultString", e.getMessage());
+                results[i] = fault;
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads JSON values from a stream, a token at a time, into the same objects that the xml-rpc client builds for the
+ * corresponding xml-rpc values: String, Boolean, Double, Map and Object[]. A number without a fraction or exponent is
+ * kept as its text, since the XenAPI sends its integers as strings over xml-rpc and Types.toLong() expects those.
+ *
+ * Objects and arrays can also be walked member by member, for decoders that do not want the whole value built:
+ * <pre>
+ *     reader.beginObject();
+ *     for (String name = reader.firstName(); name != null; name = reader.nextName())
+ *         reader.skipValue();
+ * </pre>
+ */
+final class JsonValueReader
+{
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int pos;
+    private int limit;
+    private long consumed;
+    private final ReferenceInterner interner;
+    private String memberName;
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * @param interner Interns the strings read, or null
+     */
+    JsonValueReader(Reader in, ReferenceInterner interner)
+    {
+        this.in = in;
+        this.interner = interner;
+    }
+
+    /**
+     * @return The first character of the next token, which is not consumed, or -1 at the end of the input
+     */
+    int peek() throws IOException
+    {
+        while (true)
+        {
+            if (pos == limit && !fill())
+                return -1;
+            char c = buffer[pos];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+                return c;
+            pos++;
+        }
+    }
+
+    void beginObject() throws IOException
+    {
+        expect('{');
+    }
+
+    /**
+     * Reads the name of the first member of an object whose start has just been read, leaving the reader on its value.
+     *
+     * @return The name, or null if the object is empty (in which case its end has been read)
+     */
+    String firstName() throws IOException
+    {
+        if (peek() == '}')
+        {
+            pos++;
+            return null;
+        }
+        return readName();
+    }
+
+    /**
+     * Reads the name of the next member of an object, after the value of the previous member.
+     *
+     * @return The name, or null after the last member (in which case the end of the object has been read)
+     */
+    String nextName() throws IOException
+    {
+        int c = peek();
+        if (c == '}')
+        {
+            pos++;
+            return null;
+        }
+        if (c != ',')
+            throw syntaxError("Expected ',' or '}'");
+        pos++;
+        return readName();
+    }
+
+    void beginArray() throws IOException
+    {
+        expect('[');
+    }
+
+    /**
+     * @return Whether an array whose start has just been read has an element, the reader being left on it; if not,
+     * the end of the array has been read
+     */
+    boolean firstElement() throws IOException
+    {
+        if (peek() == ']')
+        {
+            pos++;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return Whether there is another element after the previous one; if not, the end of the array has been read
+     */
+    boolean nextElement() throws IOException
+    {
+        int c = peek();
+        if (c == ']')
+        {
+            pos++;
+            return false;
+        }
+        if (c != ',')
+            throw syntaxError("Expected ',' or ']'");
+        pos++;
+        return true;
+    }
+
+    /**
+     * Reads a whole value.
+     */
+    Object readValue() throws IOException
+    {
+        int c = peek();
+        switch (c)
+        {
+            case '{':
+            {
+                pos++;
+                Map<String, Object> map = new HashMap<String, Object>();
+                for (String name = firstName(); name != null; name = nextName())
+                    map.put(name, readValue());
+                return map;
+            }
+            case '[':
+            {
+                pos++;
+                List<Object> list = new ArrayList<Object>();
+                for (boolean more = firstElement(); more; more = nextElement())
+                    list.add(readValue());
+                return list.toArray();
+            }
+            case '"':
+                pos++;
+                return intern(readString());
+            case 't':
+                expectWord("true");
+                return Boolean.TRUE;
+            case 'f':
+                expectWord("false");
+                return Boolean.FALSE;
+            case 'n':
+                expectWord("null");
+                return null;
+            case -1:
+                throw syntaxError("Unexpected end of input");
+            default:
+                return readNumber();
+        }
+    }
+
+    /**
+     * Skips a whole value without building it.
+     */
+    void skipValue() throws IOException
+    {
+        int c = peek();
+        switch (c)
+        {
+            case '{':
+                pos++;
+                for (String name = firstName(); name != null; name = nextName())
+                    skipValue();
+                return;
+            case '[':
+                pos++;
+                for (boolean more = firstElement(); more; more = nextElement())
+                    skipValue();
+                return;
+            case '"':
+                pos++;
+                skipString();
+                return;
+            default:
+                readValue();
+        }
+    }
+
+    void close() throws IOException
+    {
+        in.close();
+    }
+
+    private String readName() throws IOException
+    {
+        expect('"');
+        String name = readString();
+        expect(':');
+        memberName = name;
+        return intern(name);
+    }
+
+    private String intern(String s)
+    {
+        if (interner == null || ReferenceInterner.isOwnUuid(memberName))
+            return s;
+        return interner.intern(s);
+    }
+
+    /**
+     * Reads the rest of a string whose opening quote has been read.
+     */
+    private String readString() throws IOException
+    {
+        // Most strings have no escapes and lie within the buffer
+        for (int i = pos; i < limit; i++)
+        {
+            char c = buffer[i];
+            if (c == '"')
+            {
+                String s = new String(buffer, pos, i - pos);
+                pos = i + 1;
+                return s;
+            }
+            if (c == '\\')
+                break;
+        }
+
+        text.setLength(0);
+        while (true)
+        {
+            if (pos == limit && !fill())
+                throw syntaxError("Unterminated string");
+            char c = buffer[pos++];
+            if (c == '"')
+                return text.toString();
+            if (c == '\\')
+                text.append(readEscape());
+            else
+                text.append(c);
+        }
+    }
+
+    private void skipString() throws IOException
+    {
+        while (true)
+        {
+            if (pos == limit && !fill())
+                throw syntaxError("Unterminated string");
+            char c = buffer[pos++];
+            if (c == '"')
+                return;
+            if (c == '\\')
+                readEscape();
+        }
+    }
+
+    private char readEscape() throws IOException
+    {
+        char c = nextChar();
+        switch (c)
+        {
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int code = 0;
+                for (int i = 0; i < 4; i++)
+                {
+                    int digit = Character.digit(nextChar(), 16);
+                    if (digit < 0)
+                        throw syntaxError("Invalid \\u escape");
+                    code = code * 16 + digit;
+                }
+                return (char) code;
+            default:
+                throw syntaxError("Invalid escape \\" + c);
+        }
+    }
+
+    private Object readNumber() throws IOException
+    {
+        text.setLength(0);
+        boolean integral = true;
+        while (pos < limit || fill())
+        {
+            char c = buffer[pos];
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+')
+                text.append(c);
+            else if (c == '.' || c == 'e' || c == 'E')
+            {
+                integral = false;
+                text.append(c);
+            }
+            else
+                break;
+            pos++;
+        }
+        if (text.length() == 0)
+            throw syntaxError("Expected a value");
+        if (integral)
+            return text.toString();
+        try
+        {
+            return Double.valueOf(text.toString());
+        }
+        catch (NumberFormatException e)
+        {
+            throw syntaxError("Invalid number " + text);
+        }
+    }
+
+    private void expect(char expected) throws IOException
+    {
+        if (peek() != expected)
+            throw syntaxError("Expected '" + expected + "'");
+        pos++;
+    }
+
+    private void expectWord(String word) throws IOException
+    {
+        for (int i = 0; i < word.length(); i++)
+        {
+            if (nextChar() != word.charAt(i))
+                throw syntaxError("Expected " + word);
+        }
+    }
+
+    private char nextChar() throws IOException
+    {
+        if (pos == limit && !fill())
+            throw syntaxError("Unexpected end of input");
+        return buffer[pos++];
+    }
+
+    private boolean fill() throws IOException
+    {
+        consumed += limit;
+        pos = 0;
+        limit = 0;
+        int n = in.read(buffer, 0, buffer.length);
+        if (n <= 0)
+            return false;
+        limit = n;
+        return true;
+    }
+
+    private IOException syntaxError(String message)
+    {
+        return new IOException(message + " at character " + (consumed + pos));
+    }
+}
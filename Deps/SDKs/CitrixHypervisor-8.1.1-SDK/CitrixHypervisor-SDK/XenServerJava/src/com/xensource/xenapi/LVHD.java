@@ -120,6 +120,29 @@ public class LVHD extends XenAPIObject {
         public String uuid;
     }
 
+    /**
+     * The fields of a LVHD.Record, each named as on the wire
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given LVHD.
      * First published in XenServer 7.0.
@@ -135,7 +158,7 @@ public class LVHD extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLVHDRecord(result);
+            return c.decoded(method_call, Types.toLVHDRecord(result));
     }
 
     /**
@@ -154,7 +177,7 @@ public class LVHD extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLVHD(result);
+            return c.decoded(method_call, Types.toLVHD(result));
     }
 
     /**
@@ -172,7 +195,7 @@ public class LVHD extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -194,7 +217,7 @@ public class LVHD extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(host), Marshalling.toXMLRPC(SR), Marshalling.toXMLRPC(initialAllocation), Marshalling.toXMLRPC(allocationQuantum)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -216,7 +239,7 @@ public class LVHD extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(host), Marshalling.toXMLRPC(SR), Marshalling.toXMLRPC(initialAllocation), Marshalling.toXMLRPC(allocationQuantum)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations in the manner of HdrHistogram: each power of two is divided into 32 linear buckets, so that
+ * every duration up to about 19 hours is counted to within about 3% (or a microsecond, below 32 microseconds), in a
+ * fixed array of 1024 counters. Recording a value is a few shifts and an atomic increment, without locking or
+ * allocation.
+ */
+final class LatencyHistogram
+{
+    /**
+     * Durations are counted in units of 1024 ns
+     */
+    private static final int UNIT_SHIFT = 10;
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 35;
+    private static final long MAX_UNITS = (1L << (MAX_MAGNITUDE + 1)) - 1;
+
+    static final int BUCKETS = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long nanos)
+    {
+        counts.incrementAndGet(bucketOf(nanos));
+        count.increment();
+        total.add(nanos);
+        long current = max.get();
+        while (nanos > current && !max.compareAndSet(current, nanos))
+            current = max.get();
+    }
+
+    long getCount()
+    {
+        return count.sum();
+    }
+
+    long getTotal()
+    {
+        return total.sum();
+    }
+
+    long getMax()
+    {
+        return max.get();
+    }
+
+    /**
+     * @return A copy of the counters, which is not atomic with respect to concurrent calls to record()
+     */
+    long[] getCounts()
+    {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++)
+            copy[i] = counts.get(i);
+        return copy;
+    }
+
+    static int bucketOf(long nanos)
+    {
+        long units = Math.min(Math.max(nanos, 0) >>> UNIT_SHIFT, MAX_UNITS);
+        if (units < SUB_BUCKETS)
+            return (int) units;
+        int shift = 63 - Long.numberOfLeadingZeros(units) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((units >>> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * @return The highest duration, in nanoseconds, that is counted in a bucket
+     */
+    static long highestValueOf(int bucket)
+    {
+        if (bucket < SUB_BUCKETS)
+            return ((bucket + 1L) << UNIT_SHIFT) - 1;
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << shift;
+        return ((lowest + (1L << shift)) << UNIT_SHIFT) - 1;
+    }
+
+    /**
+     * @param counts Counters as returned by getCounts()
+     * @param percentile e.g. 99.0
+     * @param max The highest value recorded, which bounds the result
+     * @return The duration in nanoseconds at or below which the given percentage of the values fall, or 0 if there are
+     * none
+     */
+    static long valueAtPercentile(long[] counts, double percentile, long max)
+    {
+        long count = 0;
+        for (long c : counts)
+            count += c;
+        if (count == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++)
+        {
+            seen += counts[i];
+            if (seen >= rank)
+                return Math.min(highestValueOf(i), max);
+        }
+        return max;
+    }
+}
@@ -35,11 +35,18 @@ import java.util.*;
 /**
  * Marshalls Java types onto the wire.
  * Does not cope with records.  Use individual record.toMap()
+ *
+ * Maps and Sets are not copied: toXMLRPC() returns a read-only view that converts its contents as they are read, and
+ * that the xml-rpc client of a Connection writes into the request straight from the original collection. Arguments
+ * that are sent over and over again unchanged can be passed through constant(), so that their encoding is worked out
+ * only once.
  */
 public final class Marshalling {
     /**
      * Converts Integers to Strings
      * and Sets to Lists recursively.
+     *
+     * The Map or List returned for a Map or Set is a view of it, which reflects later changes to it.
      */
     public static Object toXMLRPC(Object o) {
         if (o instanceof String ||
@@ -47,31 +54,226 @@ public final class Marshalling {
             o instanceof Double ||
             o instanceof Date) {
             return o;
-	} else if (o instanceof Long) {
-	    return o.toString();
+        } else if (o instanceof Long) {
+            return o.toString();
         } else if (o instanceof Map) {
+            return new MarshalledMap((Map<?, ?>) o);
+        } else if (o instanceof Set) {
+            return new MarshalledList((Set<?>) o);
+        } else if (o instanceof XenAPIObject) {
+            return ((XenAPIObject) o).toWireString();
+        } else if (o instanceof Enum) {
+            return o.toString();
+        } else if (o == null) {
+            return "";
+        } else {
+            throw cannotMarshall(o);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable copy of a map whose xml-rpc encoding is worked out the first time it is sent, and reused
+     * by every later request that sends it, e.g. an other_config template passed to thousands of calls.
+     */
+    public static <K, V> Map<K, V> constant(Map<K, V> map) {
+        if (map instanceof ConstantMap)
+            return map;
+        return new ConstantMap<K, V>(map);
+    }
+
+    /**
+     * Returns an unmodifiable copy of a set whose xml-rpc encoding is worked out the first time it is sent, and reused
+     * by every later request that sends it.
+     */
+    public static <T> Set<T> constant(Set<T> set) {
+        if (set instanceof ConstantSet)
+            return set;
+        return new ConstantSet<T>(set);
+    }
+
+    /**
+     * Copies the views made by toXMLRPC() in a list of parameters, for a request that is not encoded until later.
+     */
+    static Object[] detach(Object[] params) {
+        if (params == null)
+            return null;
+        Object[] copy = new Object[params.length];
+        for (int i = 0; i < params.length; i++)
+            copy[i] = detach(params[i]);
+        return copy;
+    }
+
+    private static Object detach(Object o) {
+        if (o instanceof ConstantMap || o instanceof ConstantSet) {
+            return o;
+        } else if (o instanceof MarshalledMap) {
+            Map<?, ?> m = ((MarshalledMap) o).map;
+            if (m instanceof ConstantMap)
+                return o;
             Map<Object, Object> result = new HashMap<Object, Object>();
-            Map m = (Map)o;
-            for (Object k : m.keySet())
-            {
-                result.put(toXMLRPC(k), toXMLRPC(m.get(k)));
-            }
+            for (Map.Entry<?, ?> e : m.entrySet())
+                result.put(toXMLRPC(e.getKey()), detach(toXMLRPC(e.getValue())));
             return result;
-        } else if (o instanceof Set) {
-            List<Object> result = new ArrayList<Object>();
-            for (Object e : ((Set)o))
-            {
-                result.add(toXMLRPC(e));
-            }
+        } else if (o instanceof MarshalledList) {
+            Set<?> s = ((MarshalledList) o).set;
+            if (s instanceof ConstantSet)
+                return o;
+            List<Object> result = new ArrayList<Object>(s.size());
+            for (Object e : s)
+                result.add(detach(toXMLRPC(e)));
             return result;
-	} else if (o instanceof XenAPIObject) {
-	    return ((XenAPIObject) o).toWireString();
-	} else if (o instanceof Enum) {
-	    return o.toString();
-	}else if (o == null){
-	    return "";
         } else {
-		throw new RuntimeException ("=============don't know how to marshall:({[" + o + "]})");
+            return o;
+        }
+    }
+
+    static RuntimeException cannotMarshall(Object o) {
+        return new RuntimeException ("=============don't know how to marshall:({[" + o + "]})");
+    }
+
+    /**
+     * The view returned by toXMLRPC() for a Map.
+     */
+    static final class MarshalledMap extends AbstractMap<Object, Object> {
+        final Map<?, ?> map;
+
+        MarshalledMap(Map<?, ?> map) {
+            this.map = map;
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Set<Map.Entry<Object, Object>> entrySet() {
+            return new AbstractSet<Map.Entry<Object, Object>>() {
+                @Override
+                public int size() {
+                    return map.size();
+                }
+
+                @Override
+                public Iterator<Map.Entry<Object, Object>> iterator() {
+                    final Iterator<? extends Map.Entry<?, ?>> entries = map.entrySet().iterator();
+                    return new Iterator<Map.Entry<Object, Object>>() {
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        public Map.Entry<Object, Object> next() {
+                            Map.Entry<?, ?> e = entries.next();
+                            return new AbstractMap.SimpleImmutableEntry<Object, Object>(toXMLRPC(e.getKey()), toXMLRPC(e.getValue()));
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    /**
+     * The view returned by toXMLRPC() for a Set.
+     */
+    static final class MarshalledList extends AbstractList<Object> {
+        final Set<?> set;
+
+        MarshalledList(Set<?> set) {
+            this.set = set;
+        }
+
+        @Override
+        public int size() {
+            return set.size();
+        }
+
+        @Override
+        public Object get(int index) {
+            if (index < 0 || index >= set.size())
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + set.size());
+            Iterator<?> i = set.iterator();
+            for (int n = 0; n < index; n++)
+                i.next();
+            return toXMLRPC(i.next());
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            final Iterator<?> elements = set.iterator();
+            return new Iterator<Object>() {
+                public boolean hasNext() {
+                    return elements.hasNext();
+                }
+
+                public Object next() {
+                    return toXMLRPC(elements.next());
+                }
+            };
+        }
+    }
+
+    /**
+     * The map returned by constant().
+     */
+    static final class ConstantMap<K, V> extends AbstractMap<K, V> {
+        final Map<K, V> map;
+        /**
+         * Recorded by MarshallingTypeFactory the first time the map is written
+         */
+        volatile Object encoding;
+
+        ConstantMap(Map<K, V> map) {
+            this.map = Collections.unmodifiableMap(new LinkedHashMap<K, V>(map));
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            return map.entrySet();
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public V get(Object key) {
+            return map.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map.containsKey(key);
+        }
+    }
+
+    /**
+     * The set returned by constant().
+     */
+    static final class ConstantSet<T> extends AbstractSet<T> {
+        final Set<T> set;
+        /**
+         * Recorded by MarshallingTypeFactory the first time the set is written
+         */
+        volatile Object encoding;
+
+        ConstantSet(Set<T> set) {
+            this.set = Collections.unmodifiableSet(new LinkedHashSet<T>(set));
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return set.iterator();
+        }
+
+        @Override
+        public int size() {
+            return set.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return set.contains(o);
         }
     }
 }
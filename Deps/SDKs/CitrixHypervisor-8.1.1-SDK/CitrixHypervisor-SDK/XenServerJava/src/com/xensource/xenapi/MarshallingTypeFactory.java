@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+
+import org.apache.xmlrpc.common.TypeFactoryImpl;
+import org.apache.xmlrpc.common.XmlRpcController;
+import org.apache.xmlrpc.common.XmlRpcStreamConfig;
+import org.apache.xmlrpc.serializer.TypeSerializer;
+import org.apache.xmlrpc.serializer.TypeSerializerImpl;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * The type factory of the xml-rpc client of a Connection. It writes the views returned by Marshalling.toXMLRPC()
+ * straight from the Maps and Sets they wrap, converting Longs, references and enums as it goes, so that building the
+ * parameters of a call copies no collections. The maps and sets returned by Marshalling.constant() are written once
+ * into a recording of their encoding, which is then replayed into every request that sends them.
+ */
+final class MarshallingTypeFactory extends TypeFactoryImpl
+{
+    private static final String STRUCT_TAG = "struct";
+    private static final String MEMBER_TAG = "member";
+    private static final String NAME_TAG = "name";
+    private static final String ARRAY_TAG = "array";
+    private static final String DATA_TAG = "data";
+    private static final Attributes NO_ATTRIBUTES = new AttributesImpl();
+
+    MarshallingTypeFactory(XmlRpcController controller)
+    {
+        super(controller);
+    }
+
+    @Override
+    public TypeSerializer getSerializer(XmlRpcStreamConfig config, Object object) throws SAXException
+    {
+        if (object instanceof Marshalling.MarshalledMap || object instanceof Marshalling.MarshalledList
+            || object instanceof Marshalling.ConstantMap || object instanceof Marshalling.ConstantSet)
+            return new Writer(config);
+        return super.getSerializer(config, object);
+    }
+
+    /**
+     * Writes a marshalled value, and everything within it.
+     */
+    private final class Writer extends TypeSerializerImpl
+    {
+        private final XmlRpcStreamConfig config;
+        private char[] chars = new char[64];
+
+        Writer(XmlRpcStreamConfig config)
+        {
+            this.config = config;
+        }
+
+        public void write(ContentHandler handler, Object object) throws SAXException
+        {
+            writeValue(handler, object);
+        }
+
+        private void writeValue(ContentHandler handler, Object o) throws SAXException
+        {
+            if (o == null)
+                writeString(handler, "");
+            else if (o instanceof String)
+                writeString(handler, (String) o);
+            else if (o instanceof Long)
+                writeLong(handler, (Long) o);
+            else if (o instanceof XenAPIObject)
+                writeString(handler, ((XenAPIObject) o).toWireString());
+            else if (o instanceof Enum)
+                writeString(handler, o.toString());
+            else if (o instanceof Marshalling.MarshalledMap)
+                writeValue(handler, ((Marshalling.MarshalledMap) o).map);
+            else if (o instanceof Marshalling.MarshalledList)
+                writeValue(handler, ((Marshalling.MarshalledList) o).set);
+            else if (o instanceof Marshalling.ConstantMap)
+                writeConstant(handler, (Marshalling.ConstantMap<?, ?>) o);
+            else if (o instanceof Marshalling.ConstantSet)
+                writeConstant(handler, (Marshalling.ConstantSet<?>) o);
+            else if (o instanceof Map)
+                writeStruct(handler, (Map<?, ?>) o);
+            else if (o instanceof Set)
+                writeArray(handler, (Set<?>) o);
+            else if (o instanceof Boolean || o instanceof Double || o instanceof Date)
+                getSerializer(config, o).write(handler, o);
+            else
+                throw Marshalling.cannotMarshall(o);
+        }
+
+        private void writeStruct(ContentHandler handler, Map<?, ?> map) throws SAXException
+        {
+            handler.startElement("", VALUE_TAG, VALUE_TAG, ZERO_ATTRIBUTES);
+            handler.startElement("", STRUCT_TAG, STRUCT_TAG, ZERO_ATTRIBUTES);
+            for (Map.Entry<?, ?> entry : map.entrySet())
+            {
+                Object key = entry.getKey() instanceof String ? entry.getKey() : Marshalling.toXMLRPC(entry.getKey());
+                if (!(key instanceof String))
+                    throw Marshalling.cannotMarshall(entry.getKey());
+                handler.startElement("", MEMBER_TAG, MEMBER_TAG, ZERO_ATTRIBUTES);
+                handler.startElement("", NAME_TAG, NAME_TAG, ZERO_ATTRIBUTES);
+                characters(handler, (String) key);
+                handler.endElement("", NAME_TAG, NAME_TAG);
+                writeValue(handler, entry.getValue());
+                handler.endElement("", MEMBER_TAG, MEMBER_TAG);
+            }
+            handler.endElement("", STRUCT_TAG, STRUCT_TAG);
+            handler.endElement("", VALUE_TAG, VALUE_TAG);
+        }
+
+        private void writeArray(ContentHandler handler, Set<?> set) throws SAXException
+        {
+            handler.startElement("", VALUE_TAG, VALUE_TAG, ZERO_ATTRIBUTES);
+            handler.startElement("", ARRAY_TAG, ARRAY_TAG, ZERO_ATTRIBUTES);
+            handler.startElement("", DATA_TAG, DATA_TAG, ZERO_ATTRIBUTES);
+            for (Object element : set)
+                writeValue(handler, element);
+            handler.endElement("", DATA_TAG, DATA_TAG);
+            handler.endElement("", ARRAY_TAG, ARRAY_TAG);
+            handler.endElement("", VALUE_TAG, VALUE_TAG);
+        }
+
+        /**
+         * Writes a string as the xml-rpc client does, as the text of a value element without a string element.
+         */
+        private void writeString(ContentHandler handler, String s) throws SAXException
+        {
+            handler.startElement("", VALUE_TAG, VALUE_TAG, ZERO_ATTRIBUTES);
+            characters(handler, s);
+            handler.endElement("", VALUE_TAG, VALUE_TAG);
+        }
+
+        /**
+         * Writes a Long in decimal, as Marshalling.toXMLRPC() would convert it, without building the String.
+         */
+        private void writeLong(ContentHandler handler, long value) throws SAXException
+        {
+            if (value == Long.MIN_VALUE)
+            {
+                writeString(handler, Long.toString(value));
+                return;
+            }
+            boolean negative = value < 0;
+            long remaining = negative ? -value : value;
+            int start = 20;
+            do
+            {
+                chars[--start] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            } while (remaining != 0);
+            if (negative)
+                chars[--start] = '-';
+            handler.startElement("", VALUE_TAG, VALUE_TAG, ZERO_ATTRIBUTES);
+            handler.characters(chars, start, 20 - start);
+            handler.endElement("", VALUE_TAG, VALUE_TAG);
+        }
+
+        /**
+         * Passes a string to the handler through a buffer that is reused, since the handler writes it out at once.
+         */
+        private void characters(ContentHandler handler, String s) throws SAXException
+        {
+            int length = s.length();
+            if (length > chars.length)
+                chars = new char[Math.max(length, chars.length * 2)];
+            s.getChars(0, length, chars, 0);
+            handler.characters(chars, 0, length);
+        }
+
+        private void writeConstant(ContentHandler handler, Marshalling.ConstantMap<?, ?> constant) throws SAXException
+        {
+            Recording recording = (Recording) constant.encoding;
+            if (recording == null || !recording.timeZone.equals(config.getTimeZone()))
+            {
+                Recorder recorder = new Recorder();
+                writeStruct(recorder, constant.map);
+                recording = recorder.finish(config.getTimeZone());
+                constant.encoding = recording;
+            }
+            recording.replay(handler);
+        }
+
+        private void writeConstant(ContentHandler handler, Marshalling.ConstantSet<?> constant) throws SAXException
+        {
+            Recording recording = (Recording) constant.encoding;
+            if (recording == null || !recording.timeZone.equals(config.getTimeZone()))
+            {
+                Recorder recorder = new Recorder();
+                writeArray(recorder, constant.set);
+                recording = recorder.finish(config.getTimeZone());
+                constant.encoding = recording;
+            }
+            recording.replay(handler);
+        }
+    }
+
+    /**
+     * The sequence of elements and text that a constant is written as. Dates are written in the time zone of the
+     * connection, so a recording is only reused for connections in the time zone it was made in.
+     */
+    private static final class Recording
+    {
+        private static final byte START = 0;
+        private static final byte END = 1;
+        private static final byte TEXT = 2;
+
+        private final TimeZone timeZone;
+        private final byte[] kinds;
+        private final String[] names;
+        private final char[][] text;
+
+        Recording(TimeZone timeZone, byte[] kinds, String[] names, char[][] text)
+        {
+            this.timeZone = timeZone;
+            this.kinds = kinds;
+            this.names = names;
+            this.text = text;
+        }
+
+        void replay(ContentHandler handler) throws SAXException
+        {
+            for (int i = 0; i < kinds.length; i++)
+            {
+                switch (kinds[i])
+                {
+                    case START:
+                        handler.startElement("", names[i], names[i], NO_ATTRIBUTES);
+                        break;
+                    case END:
+                        handler.endElement("", names[i], names[i]);
+                        break;
+                    default:
+                        handler.characters(text[i], 0, text[i].length);
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the elements and text written for a constant.
+     */
+    private static final class Recorder extends DefaultHandler
+    {
+        private final List<Byte> kinds = new ArrayList<Byte>();
+        private final List<String> names = new ArrayList<String>();
+        private final List<char[]> text = new ArrayList<char[]>();
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes)
+        {
+            add(Recording.START, qName, null);
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName)
+        {
+            add(Recording.END, qName, null);
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length)
+        {
+            add(Recording.TEXT, null, Arrays.copyOfRange(ch, start, start + length));
+        }
+
+        private void add(byte kind, String name, char[] chars)
+        {
+            kinds.add(kind);
+            names.add(name);
+            text.add(chars);
+        }
+
+        Recording finish(TimeZone timeZone)
+        {
+            byte[] kindArray = new byte[kinds.size()];
+            for (int i = 0; i < kindArray.length; i++)
+                kindArray[i] = kinds.get(i);
+            return new Recording(timeZone, kindArray, names.toArray(new String[0]), text.toArray(new char[0][]));
+        }
+    }
+}
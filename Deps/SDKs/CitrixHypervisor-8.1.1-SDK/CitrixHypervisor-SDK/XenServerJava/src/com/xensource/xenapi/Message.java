@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -156,6 +157,54 @@ public class Message extends XenAPIObject {
         public String body;
     }
 
+    /**
+     * The fields of a Message.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * The name of the message
+         */
+        NAME("name"),
+        /**
+         * The message priority, 0 being low priority
+         */
+        PRIORITY("priority"),
+        /**
+         * The class of the object this message is associated with
+         */
+        CLS("cls"),
+        /**
+         * The uuid of the object this message is associated with
+         */
+        OBJ_UUID("obj_uuid"),
+        /**
+         * The time at which the message was created
+         */
+        TIMESTAMP("timestamp"),
+        /**
+         * The body of the message
+         */
+        BODY("body");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * 
      * First published in XenServer 5.0.
@@ -176,7 +225,7 @@ public class Message extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(name), Marshalling.toXMLRPC(priority), Marshalling.toXMLRPC(cls), Marshalling.toXMLRPC(objUuid), Marshalling.toXMLRPC(body)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMessage(result);
+            return c.decoded(method_call, Types.toMessage(result));
     }
 
     /**
@@ -213,7 +262,7 @@ public class Message extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(cls), Marshalling.toXMLRPC(objUuid), Marshalling.toXMLRPC(since)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfMessageMessageRecord(result);
+            return c.decoded(method_call, Types.toMapOfMessageMessageRecord(result));
     }
 
     /**
@@ -231,7 +280,7 @@ public class Message extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfMessage(result);
+            return c.decoded(method_call, Types.toSetOfMessage(result));
     }
 
     /**
@@ -250,7 +299,7 @@ public class Message extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(since)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfMessageMessageRecord(result);
+            return c.decoded(method_call, Types.toMapOfMessageMessageRecord(result));
     }
 
     /**
@@ -268,7 +317,7 @@ public class Message extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMessageRecord(result);
+            return c.decoded(method_call, Types.toMessageRecord(result));
     }
 
     /**
@@ -287,7 +336,7 @@ public class Message extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMessage(result);
+            return c.decoded(method_call, Types.toMessage(result));
     }
 
     /**
@@ -303,9 +352,78 @@ public class Message extends XenAPIObject {
         String method_call = "message.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfMessageMessageRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.MESSAGE_RECORD_DECODER);
+    }
+
+    /**
+     * Return all messages known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 5.0.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<Message, Message.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "message.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.MESSAGE_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all messages known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 5.0.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<Message, Message.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "message.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.MESSAGE_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all messages known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 5.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Message.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<Message, Message.Record> getAllRecordsWithFields(Connection c, Set<Message.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "message.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.MESSAGE_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all messages known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 5.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(Message.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<Message, Message.Record>> streamAllRecordsWithFields(Connection c, Set<Message.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "message.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.MESSAGE_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
     /**
@@ -324,7 +442,7 @@ public class Message extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(expr)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfMessageMessageRecord(result);
+            return c.decoded(method_call, Types.toMapOfMessageMessageRecord(result));
     }
 
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -144,6 +145,46 @@ public class NetworkSriov extends XenAPIObject {
         public Types.SriovConfigurationMode configurationMode;
     }
 
+    /**
+     * The fields of a NetworkSriov.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * The PIF that has SR-IOV enabled
+         */
+        PHYSICAL_PIF("physical_PIF"),
+        /**
+         * The logical PIF to connect to the SR-IOV network after enable SR-IOV on the physical PIF
+         */
+        LOGICAL_PIF("logical_PIF"),
+        /**
+         * Indicates whether the host need to be rebooted before SR-IOV is enabled on the physical PIF
+         */
+        REQUIRES_REBOOT("requires_reboot"),
+        /**
+         * The mode for configure network sriov
+         */
+        CONFIGURATION_MODE("configuration_mode");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given network_sriov.
      * First published in XenServer 7.5.
@@ -159,7 +200,7 @@ public class NetworkSriov extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toNetworkSriovRecord(result);
+            return c.decoded(method_call, Types.toNetworkSriovRecord(result));
     }
 
     /**
@@ -178,7 +219,7 @@ public class NetworkSriov extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toNetworkSriov(result);
+            return c.decoded(method_call, Types.toNetworkSriov(result));
     }
 
     /**
@@ -196,7 +237,7 @@ public class NetworkSriov extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -214,7 +255,7 @@ public class NetworkSriov extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPIF(result);
+            return c.decoded(method_call, Types.toPIF(result));
     }
 
     /**
@@ -232,7 +273,7 @@ public class NetworkSriov extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPIF(result);
+            return c.decoded(method_call, Types.toPIF(result));
     }
 
     /**
@@ -250,7 +291,7 @@ public class NetworkSriov extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -268,7 +309,7 @@ public class NetworkSriov extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSriovConfigurationMode(result);
+            return c.decoded(method_call, Types.toSriovConfigurationMode(result));
     }
 
     /**
@@ -288,7 +329,7 @@ public class NetworkSriov extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(pif), Marshalling.toXMLRPC(network)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -308,7 +349,7 @@ public class NetworkSriov extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(pif), Marshalling.toXMLRPC(network)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toNetworkSriov(result);
+            return c.decoded(method_call, Types.toNetworkSriov(result));
     }
 
     /**
@@ -326,7 +367,7 @@ public class NetworkSriov extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -360,7 +401,7 @@ public class NetworkSriov extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -378,7 +419,7 @@ public class NetworkSriov extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -396,7 +437,7 @@ public class NetworkSriov extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfNetworkSriov(result);
+            return c.decoded(method_call, Types.toSetOfNetworkSriov(result));
     }
 
     /**
@@ -412,9 +453,78 @@ public class NetworkSriov extends XenAPIObject {
         String method_call = "network_sriov.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfNetworkSriovNetworkSriovRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.NETWORK_SRIOV_RECORD_DECODER);
+    }
+
+    /**
+     * Return all network_sriovs known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 7.5.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<NetworkSriov, NetworkSriov.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "network_sriov.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.NETWORK_SRIOV_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all network_sriovs known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.5.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<NetworkSriov, NetworkSriov.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "network_sriov.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.NETWORK_SRIOV_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all network_sriovs known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 7.5.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(NetworkSriov.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<NetworkSriov, NetworkSriov.Record> getAllRecordsWithFields(Connection c, Set<NetworkSriov.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "network_sriov.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.NETWORK_SRIOV_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all network_sriovs known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.5.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(NetworkSriov.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<NetworkSriov, NetworkSriov.Record>> streamAllRecordsWithFields(Connection c, Set<NetworkSriov.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "network_sriov.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.NETWORK_SRIOV_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -193,6 +194,74 @@ public class PGPU extends XenAPIObject {
         public Map<String, String> compatibilityMetadata;
     }
 
+    /**
+     * The fields of a PGPU.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * Link to underlying PCI device
+         */
+        PCI("PCI"),
+        /**
+         * GPU group the pGPU is contained in
+         */
+        GPU_GROUP("GPU_group"),
+        /**
+         * Host that owns the GPU
+         */
+        HOST("host"),
+        /**
+         * Additional configuration
+         */
+        OTHER_CONFIG("other_config"),
+        /**
+         * List of VGPU types supported by the underlying hardware
+         */
+        SUPPORTED_VGPU_TYPES("supported_VGPU_types"),
+        /**
+         * List of VGPU types which have been enabled for this PGPU
+         */
+        ENABLED_VGPU_TYPES("enabled_VGPU_types"),
+        /**
+         * List of VGPUs running on this PGPU
+         */
+        RESIDENT_VGPUS("resident_VGPUs"),
+        /**
+         * A map relating each VGPU type supported on this GPU to the maximum number of VGPUs of that type which can run simultaneously on this GPU
+         */
+        SUPPORTED_VGPU_MAX_CAPACITIES("supported_VGPU_max_capacities"),
+        /**
+         * The accessibility of this device from dom0
+         */
+        DOM0_ACCESS("dom0_access"),
+        /**
+         * Is this device the system display device
+         */
+        IS_SYSTEM_DISPLAY_DEVICE("is_system_display_device"),
+        /**
+         * PGPU metadata to determine whether a VGPU can migrate between two PGPUs
+         */
+        COMPATIBILITY_METADATA("compatibility_metadata");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given PGPU.
      * First published in XenServer 6.0.
@@ -208,7 +277,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPGPURecord(result);
+            return c.decoded(method_call, Types.toPGPURecord(result));
     }
 
     /**
@@ -227,7 +296,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPGPU(result);
+            return c.decoded(method_call, Types.toPGPU(result));
     }
 
     /**
@@ -245,7 +314,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -263,7 +332,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPCI(result);
+            return c.decoded(method_call, Types.toPCI(result));
     }
 
     /**
@@ -281,7 +350,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toGPUGroup(result);
+            return c.decoded(method_call, Types.toGPUGroup(result));
     }
 
     /**
@@ -299,7 +368,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toHost(result);
+            return c.decoded(method_call, Types.toHost(result));
     }
 
     /**
@@ -317,7 +386,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -335,7 +404,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVGPUType(result);
+            return c.decoded(method_call, Types.toSetOfVGPUType(result));
     }
 
     /**
@@ -353,7 +422,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVGPUType(result);
+            return c.decoded(method_call, Types.toSetOfVGPUType(result));
     }
 
     /**
@@ -371,7 +440,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVGPU(result);
+            return c.decoded(method_call, Types.toSetOfVGPU(result));
     }
 
     /**
@@ -389,7 +458,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfVGPUTypeLong(result);
+            return c.decoded(method_call, Types.toMapOfVGPUTypeLong(result));
     }
 
     /**
@@ -407,7 +476,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPgpuDom0Access(result);
+            return c.decoded(method_call, Types.toPgpuDom0Access(result));
     }
 
     /**
@@ -425,7 +494,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -443,7 +512,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -514,7 +583,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref), Marshalling.toXMLRPC(value)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -550,7 +619,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref), Marshalling.toXMLRPC(value)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -586,7 +655,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref), Marshalling.toXMLRPC(value)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -622,7 +691,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref), Marshalling.toXMLRPC(value)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -658,7 +727,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref), Marshalling.toXMLRPC(vgpuType)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -677,7 +746,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref), Marshalling.toXMLRPC(vgpuType)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -695,7 +764,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -713,7 +782,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPgpuDom0Access(result);
+            return c.decoded(method_call, Types.toPgpuDom0Access(result));
     }
 
     /**
@@ -731,7 +800,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -749,7 +818,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPgpuDom0Access(result);
+            return c.decoded(method_call, Types.toPgpuDom0Access(result));
     }
 
     /**
@@ -767,7 +836,7 @@ public class PGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfPGPU(result);
+            return c.decoded(method_call, Types.toSetOfPGPU(result));
     }
 
     /**
@@ -783,9 +852,78 @@ public class PGPU extends XenAPIObject {
         String method_call = "PGPU.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfPGPUPGPURecord(result);
+        return c.readAllRecords(method_call, method_params, Types.PGPU_RECORD_DECODER);
+    }
+
+    /**
+     * Return all PGPUs known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 6.0.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<PGPU, PGPU.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PGPU.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.PGPU_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all PGPUs known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 6.0.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<PGPU, PGPU.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PGPU.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.PGPU_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all PGPUs known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 6.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(PGPU.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<PGPU, PGPU.Record> getAllRecordsWithFields(Connection c, Set<PGPU.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PGPU.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.PGPU_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all PGPUs known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 6.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(PGPU.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<PGPU, PGPU.Record>> streamAllRecordsWithFields(Connection c, Set<PGPU.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PGPU.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.PGPU_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -150,6 +151,50 @@ public class PVSCacheStorage extends XenAPIObject {
         public VDI VDI;
     }
 
+    /**
+     * The fields of a PVSCacheStorage.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * The host on which this object defines PVS cache storage
+         */
+        HOST("host"),
+        /**
+         * SR providing storage for the PVS cache
+         */
+        SR("SR"),
+        /**
+         * The PVS_site for which this object defines the storage
+         */
+        SITE("site"),
+        /**
+         * The size of the cache VDI (in bytes)
+         */
+        SIZE("size"),
+        /**
+         * The VDI used for caching
+         */
+        VDI("VDI");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given PVS_cache_storage.
      * First published in XenServer 7.1.
@@ -165,7 +210,7 @@ public class PVSCacheStorage extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSCacheStorageRecord(result);
+            return c.decoded(method_call, Types.toPVSCacheStorageRecord(result));
     }
 
     /**
@@ -184,7 +229,7 @@ public class PVSCacheStorage extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSCacheStorage(result);
+            return c.decoded(method_call, Types.toPVSCacheStorage(result));
     }
 
     /**
@@ -204,7 +249,7 @@ public class PVSCacheStorage extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(record_map)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -224,7 +269,7 @@ public class PVSCacheStorage extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(record_map)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSCacheStorage(result);
+            return c.decoded(method_call, Types.toPVSCacheStorage(result));
     }
 
     /**
@@ -242,7 +287,7 @@ public class PVSCacheStorage extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -276,7 +321,7 @@ public class PVSCacheStorage extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -294,7 +339,7 @@ public class PVSCacheStorage extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toHost(result);
+            return c.decoded(method_call, Types.toHost(result));
     }
 
     /**
@@ -312,7 +357,7 @@ public class PVSCacheStorage extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSR(result);
+            return c.decoded(method_call, Types.toSR(result));
     }
 
     /**
@@ -330,7 +375,7 @@ public class PVSCacheStorage extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSSite(result);
+            return c.decoded(method_call, Types.toPVSSite(result));
     }
 
     /**
@@ -348,7 +393,7 @@ public class PVSCacheStorage extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -366,7 +411,7 @@ public class PVSCacheStorage extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVDI(result);
+            return c.decoded(method_call, Types.toVDI(result));
     }
 
     /**
@@ -384,7 +429,7 @@ public class PVSCacheStorage extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfPVSCacheStorage(result);
+            return c.decoded(method_call, Types.toSetOfPVSCacheStorage(result));
     }
 
     /**
@@ -400,9 +445,78 @@ public class PVSCacheStorage extends XenAPIObject {
         String method_call = "PVS_cache_storage.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfPVSCacheStoragePVSCacheStorageRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.PVS_CACHE_STORAGE_RECORD_DECODER);
+    }
+
+    /**
+     * Return all PVS_cache_storages known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 7.1.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<PVSCacheStorage, PVSCacheStorage.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_cache_storage.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.PVS_CACHE_STORAGE_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all PVS_cache_storages known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.1.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<PVSCacheStorage, PVSCacheStorage.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_cache_storage.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.PVS_CACHE_STORAGE_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all PVS_cache_storages known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 7.1.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(PVSCacheStorage.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<PVSCacheStorage, PVSCacheStorage.Record> getAllRecordsWithFields(Connection c, Set<PVSCacheStorage.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_cache_storage.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.PVS_CACHE_STORAGE_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all PVS_cache_storages known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.1.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(PVSCacheStorage.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<PVSCacheStorage, PVSCacheStorage.Record>> streamAllRecordsWithFields(Connection c, Set<PVSCacheStorage.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_cache_storage.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.PVS_CACHE_STORAGE_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -144,6 +145,46 @@ public class PVSProxy extends XenAPIObject {
         public Types.PvsProxyStatus status;
     }
 
+    /**
+     * The fields of a PVSProxy.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * PVS site this proxy is part of
+         */
+        SITE("site"),
+        /**
+         * VIF of the VM using the proxy
+         */
+        VIF("VIF"),
+        /**
+         * true = VM is currently proxied
+         */
+        CURRENTLY_ATTACHED("currently_attached"),
+        /**
+         * The run-time status of the proxy
+         */
+        STATUS("status");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given PVS_proxy.
      * First published in XenServer 7.1.
@@ -159,7 +200,7 @@ public class PVSProxy extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSProxyRecord(result);
+            return c.decoded(method_call, Types.toPVSProxyRecord(result));
     }
 
     /**
@@ -178,7 +219,7 @@ public class PVSProxy extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSProxy(result);
+            return c.decoded(method_call, Types.toPVSProxy(result));
     }
 
     /**
@@ -196,7 +237,7 @@ public class PVSProxy extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -214,7 +255,7 @@ public class PVSProxy extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSSite(result);
+            return c.decoded(method_call, Types.toPVSSite(result));
     }
 
     /**
@@ -232,7 +273,7 @@ public class PVSProxy extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVIF(result);
+            return c.decoded(method_call, Types.toVIF(result));
     }
 
     /**
@@ -250,7 +291,7 @@ public class PVSProxy extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -268,7 +309,7 @@ public class PVSProxy extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPvsProxyStatus(result);
+            return c.decoded(method_call, Types.toPvsProxyStatus(result));
     }
 
     /**
@@ -288,7 +329,7 @@ public class PVSProxy extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(site), Marshalling.toXMLRPC(VIF)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -308,7 +349,7 @@ public class PVSProxy extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(site), Marshalling.toXMLRPC(VIF)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSProxy(result);
+            return c.decoded(method_call, Types.toPVSProxy(result));
     }
 
     /**
@@ -326,7 +367,7 @@ public class PVSProxy extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -360,7 +401,7 @@ public class PVSProxy extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfPVSProxy(result);
+            return c.decoded(method_call, Types.toSetOfPVSProxy(result));
     }
 
     /**
@@ -376,9 +417,78 @@ public class PVSProxy extends XenAPIObject {
         String method_call = "PVS_proxy.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfPVSProxyPVSProxyRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.PVS_PROXY_RECORD_DECODER);
+    }
+
+    /**
+     * Return all PVS_proxys known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 7.1.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<PVSProxy, PVSProxy.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_proxy.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.PVS_PROXY_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all PVS_proxys known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.1.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<PVSProxy, PVSProxy.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_proxy.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.PVS_PROXY_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all PVS_proxys known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 7.1.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(PVSProxy.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<PVSProxy, PVSProxy.Record> getAllRecordsWithFields(Connection c, Set<PVSProxy.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_proxy.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.PVS_PROXY_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all PVS_proxys known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.1.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(PVSProxy.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<PVSProxy, PVSProxy.Record>> streamAllRecordsWithFields(Connection c, Set<PVSProxy.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_proxy.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.PVS_PROXY_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
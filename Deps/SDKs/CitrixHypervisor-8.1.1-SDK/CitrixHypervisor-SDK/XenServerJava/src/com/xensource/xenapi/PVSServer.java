@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -144,6 +145,46 @@ public class PVSServer extends XenAPIObject {
         public PVSSite site;
     }
 
+    /**
+     * The fields of a PVSServer.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * IPv4 addresses of this server
+         */
+        ADDRESSES("addresses"),
+        /**
+         * First UDP port accepted by this server
+         */
+        FIRST_PORT("first_port"),
+        /**
+         * Last UDP port accepted by this server
+         */
+        LAST_PORT("last_port"),
+        /**
+         * PVS site this server is part of
+         */
+        SITE("site");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given PVS_server.
      * First published in XenServer 7.1.
@@ -159,7 +200,7 @@ public class PVSServer extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSServerRecord(result);
+            return c.decoded(method_call, Types.toPVSServerRecord(result));
     }
 
     /**
@@ -178,7 +219,7 @@ public class PVSServer extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSServer(result);
+            return c.decoded(method_call, Types.toPVSServer(result));
     }
 
     /**
@@ -196,7 +237,7 @@ public class PVSServer extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -214,7 +255,7 @@ public class PVSServer extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfString(result);
+            return c.decoded(method_call, Types.toSetOfString(result));
     }
 
     /**
@@ -232,7 +273,7 @@ public class PVSServer extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -250,7 +291,7 @@ public class PVSServer extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -268,7 +309,7 @@ public class PVSServer extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSSite(result);
+            return c.decoded(method_call, Types.toPVSSite(result));
     }
 
     /**
@@ -290,7 +331,7 @@ public class PVSServer extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(addresses), Marshalling.toXMLRPC(firstPort), Marshalling.toXMLRPC(lastPort), Marshalling.toXMLRPC(site)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -312,7 +353,7 @@ public class PVSServer extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(addresses), Marshalling.toXMLRPC(firstPort), Marshalling.toXMLRPC(lastPort), Marshalling.toXMLRPC(site)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSServer(result);
+            return c.decoded(method_call, Types.toPVSServer(result));
     }
 
     /**
@@ -330,7 +371,7 @@ public class PVSServer extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -364,7 +405,7 @@ public class PVSServer extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfPVSServer(result);
+            return c.decoded(method_call, Types.toSetOfPVSServer(result));
     }
 
     /**
@@ -380,9 +421,78 @@ public class PVSServer extends XenAPIObject {
         String method_call = "PVS_server.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfPVSServerPVSServerRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.PVS_SERVER_RECORD_DECODER);
+    }
+
+    /**
+     * Return all PVS_servers known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 7.1.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<PVSServer, PVSServer.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_server.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.PVS_SERVER_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all PVS_servers known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.1.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<PVSServer, PVSServer.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_server.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.PVS_SERVER_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all PVS_servers known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 7.1.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(PVSServer.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<PVSServer, PVSServer.Record> getAllRecordsWithFields(Connection c, Set<PVSServer.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_server.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.PVS_SERVER_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all PVS_servers known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.1.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(PVSServer.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<PVSServer, PVSServer.Record>> streamAllRecordsWithFields(Connection c, Set<PVSServer.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_server.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.PVS_SERVER_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
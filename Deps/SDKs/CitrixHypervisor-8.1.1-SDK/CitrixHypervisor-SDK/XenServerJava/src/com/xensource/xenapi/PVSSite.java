@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -156,6 +157,54 @@ public class PVSSite extends XenAPIObject {
         public Set<PVSProxy> proxies;
     }
 
+    /**
+     * The fields of a PVSSite.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * a human-readable name
+         */
+        NAME_LABEL("name_label"),
+        /**
+         * a notes field containing human-readable description
+         */
+        NAME_DESCRIPTION("name_description"),
+        /**
+         * Unique identifier of the PVS site, as configured in PVS
+         */
+        PVS_UUID("PVS_uuid"),
+        /**
+         * The SR used by PVS proxy for the cache
+         */
+        CACHE_STORAGE("cache_storage"),
+        /**
+         * The set of PVS servers in the site
+         */
+        SERVERS("servers"),
+        /**
+         * The set of proxies associated with the site
+         */
+        PROXIES("proxies");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given PVS_site.
      * First published in XenServer 7.1.
@@ -171,7 +220,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSSiteRecord(result);
+            return c.decoded(method_call, Types.toPVSSiteRecord(result));
     }
 
     /**
@@ -190,7 +239,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSSite(result);
+            return c.decoded(method_call, Types.toPVSSite(result));
     }
 
     /**
@@ -209,7 +258,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(label)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfPVSSite(result);
+            return c.decoded(method_call, Types.toSetOfPVSSite(result));
     }
 
     /**
@@ -227,7 +276,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -245,7 +294,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -263,7 +312,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -281,7 +330,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -299,7 +348,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfPVSCacheStorage(result);
+            return c.decoded(method_call, Types.toSetOfPVSCacheStorage(result));
     }
 
     /**
@@ -317,7 +366,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfPVSServer(result);
+            return c.decoded(method_call, Types.toSetOfPVSServer(result));
     }
 
     /**
@@ -335,7 +384,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfPVSProxy(result);
+            return c.decoded(method_call, Types.toSetOfPVSProxy(result));
     }
 
     /**
@@ -390,7 +439,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(nameLabel), Marshalling.toXMLRPC(nameDescription), Marshalling.toXMLRPC(PVSUuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -411,7 +460,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(nameLabel), Marshalling.toXMLRPC(nameDescription), Marshalling.toXMLRPC(PVSUuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPVSSite(result);
+            return c.decoded(method_call, Types.toPVSSite(result));
     }
 
     /**
@@ -431,7 +480,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -468,7 +517,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref), Marshalling.toXMLRPC(value)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -503,7 +552,7 @@ public class PVSSite extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfPVSSite(result);
+            return c.decoded(method_call, Types.toSetOfPVSSite(result));
     }
 
     /**
@@ -519,9 +568,78 @@ public class PVSSite extends XenAPIObject {
         String method_call = "PVS_site.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfPVSSitePVSSiteRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.PVS_SITE_RECORD_DECODER);
+    }
+
+    /**
+     * Return all PVS_sites known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 7.1.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<PVSSite, PVSSite.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_site.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.PVS_SITE_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all PVS_sites known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.1.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<PVSSite, PVSSite.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_site.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.PVS_SITE_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all PVS_sites known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 7.1.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(PVSSite.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<PVSSite, PVSSite.Record> getAllRecordsWithFields(Connection c, Set<PVSSite.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_site.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.PVS_SITE_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all PVS_sites known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.1.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(PVSSite.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<PVSSite, PVSSite.Record>> streamAllRecordsWithFields(Connection c, Set<PVSSite.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "PVS_site.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.PVS_SITE_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,533 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.xmlrpc.XmlRpcException;
+
+import com.xensource.xenapi.Types.XenAPIException;
+
+/**
+ * Reads the records of chosen classes from many pools at once, and merges them into a single Snapshot. For each
+ * pool, the sweep logs in to its master with Session.loginWithPassword, reads each class with get_all_records (a few
+ * classes at a time), and logs out.
+ *
+ * Several pools are swept at once, and each has its own time limit: a pool that is slow or unreachable is reported
+ * as timed out, with whatever it had returned by then, and does not hold up the others. The calls to such a pool
+ * carry on in the background until its connection times out, and its session is logged out once they finish.
+ */
+public class PoolSweep
+{
+    /**
+     * The number of pools swept at once, unless setMaxPools() is called
+     */
+    public static final int DEFAULT_MAX_POOLS = 16;
+
+    /**
+     * The number of get_all_records calls made at once to each pool, unless setMaxCallsPerPool() is called
+     */
+    public static final int DEFAULT_MAX_CALLS_PER_POOL = 4;
+
+    /**
+     * The number of seconds each pool is given, from login to its last record, unless setPoolTimeout() is called
+     */
+    public static final int DEFAULT_POOL_TIMEOUT = 60;
+
+    /**
+     * The classes read, unless setClasses() is called
+     */
+    public static final List<Class<? extends XenAPIObject>> DEFAULT_CLASSES = Collections.unmodifiableList(
+        Arrays.<Class<? extends XenAPIObject>>asList(Pool.class, Host.class, VM.class, SR.class, Network.class));
+
+    /**
+     * The master of a pool, and the credentials with which to log in to it.
+     */
+    public static final class Target
+    {
+        private final String name;
+        private final URL url;
+        private final String username;
+        private final String password;
+
+        /**
+         * @param name The name by which the pool is reported in the Snapshot
+         */
+        public Target(String name, URL url, String username, String password)
+        {
+            this.name = name;
+            this.url = url;
+            this.username = username;
+            this.password = password;
+        }
+
+        public String getName()
+        {
+            return name;
+        }
+
+        public URL getURL()
+        {
+            return url;
+        }
+
+        @Override
+        public String toString()
+        {
+            return name + " (" + url + ")";
+        }
+    }
+
+    private final List<Target> targets = new ArrayList<Target>();
+    private volatile List<RecordClass<?, ?>> classes = recordClasses(DEFAULT_CLASSES);
+    private volatile int maxPools = DEFAULT_MAX_POOLS;
+    private volatile int maxCallsPerPool = DEFAULT_MAX_CALLS_PER_POOL;
+    private volatile int poolTimeout = DEFAULT_POOL_TIMEOUT;
+    private volatile String originator;
+    private volatile HttpConnectionPool connectionPool;
+
+    public synchronized void addTarget(Target target)
+    {
+        targets.add(target);
+    }
+
+    public void addTarget(String name, URL url, String username, String password)
+    {
+        addTarget(new Target(name, url, username, password));
+    }
+
+    /**
+     * Sets the classes whose records are read from each pool.
+     *
+     * @throws IllegalArgumentException if a class has no get_all_records
+     */
+    public void setClasses(Collection<Class<? extends XenAPIObject>> types)
+    {
+        classes = recordClasses(types);
+    }
+
+    /**
+     * Sets the number of pools swept at once. The others wait for a free place before their time starts.
+     */
+    public void setMaxPools(int maxPools)
+    {
+        if (maxPools < 1)
+            throw new IllegalArgumentException("maxPools must be at least 1");
+        this.maxPools = maxPools;
+    }
+
+    /**
+     * Sets the number of get_all_records calls made at once to each pool.
+     */
+    public void setMaxCallsPerPool(int maxCallsPerPool)
+    {
+        if (maxCallsPerPool < 1)
+            throw new IllegalArgumentException("maxCallsPerPool must be at least 1");
+        this.maxCallsPerPool = maxCallsPerPool;
+    }
+
+    /**
+     * Sets the number of seconds each pool is given, from login to its last record. This is also the reply timeout
+     * of the connections to the pools.
+     */
+    public void setPoolTimeout(int seconds)
+    {
+        if (seconds < 1)
+            throw new IllegalArgumentException("The timeout must be at least 1 second");
+        this.poolTimeout = seconds;
+    }
+
+    /**
+     * Sets the originator passed to Session.loginWithPassword, which identifies the sessions in the server's logs.
+     */
+    public void setOriginator(String originator)
+    {
+        this.originator = originator;
+    }
+
+    /**
+     * Makes the connections to the pools use persistent http(s) connections from the given pool.
+     */
+    public void setConnectionPool(HttpConnectionPool connectionPool)
+    {
+        this.connectionPool = connectionPool;
+    }
+
+    /**
+     * Sweeps all the pools, and waits until each has finished or run out of time.
+     */
+    public Snapshot run() throws InterruptedException
+    {
+        final List<Target> pools;
+        synchronized (this)
+        {
+            pools = new ArrayList<Target>(targets);
+        }
+        long start = System.nanoTime();
+        final PoolResult[] results = new PoolResult[pools.size()];
+        final Semaphore permits = new Semaphore(maxPools);
+        final CountDownLatch done = new CountDownLatch(pools.size());
+        ThreadFactory threads = VirtualThreads.factory("xenapi-sweep");
+
+        try
+        {
+            for (int i = 0; i < pools.size(); i++)
+            {
+                permits.acquire();
+                final int index = i;
+                threads.newThread(new Runnable()
+                {
+                    public void run()
+                    {
+                        try
+                        {
+                            results[index] = sweep(pools.get(index));
+                        }
+                        finally
+                        {
+                            permits.release();
+                            done.countDown();
+                        }
+                    }
+                }).start();
+            }
+            done.await();
+        }
+        catch (InterruptedException e)
+        {
+            // Report the pools that have finished
+            for (int i = 0; i < results.length; i++)
+            {
+                if (results[i] == null)
+                    results[i] = new PoolResult(pools.get(i), Collections.<String, Map<XenAPIObject, Types.Record>>emptyMap(),
+                        Collections.<String, Exception>emptyMap(), e, false, 0);
+            }
+            Thread.currentThread().interrupt();
+        }
+        return new Snapshot(Arrays.asList(results), (System.nanoTime() - start) / 1000000);
+    }
+
+    /**
+     * Sweeps one pool, within its time limit.
+     */
+    private PoolResult sweep(final Target target)
+    {
+        final long start = System.nanoTime();
+        final long deadline = start + TimeUnit.SECONDS.toNanos(poolTimeout);
+        final List<RecordClass<?, ?>> toRead = classes;
+        final Map<String, Map<XenAPIObject, Types.Record>> records = new ConcurrentHashMap<String, Map<XenAPIObject, Types.Record>>();
+        final Map<String, Exception> failures = new ConcurrentHashMap<String, Exception>();
+        final AtomicReference<Exception> loginFailure = new AtomicReference<Exception>();
+        final CountDownLatch done = new CountDownLatch(1);
+        final ThreadFactory threads = VirtualThreads.factory("xenapi-sweep");
+
+        threads.newThread(new Runnable()
+        {
+            public void run()
+            {
+                Connection c = new Connection(target.url, poolTimeout, poolTimeout);
+                HttpConnectionPool pool = connectionPool;
+                if (pool != null)
+                    c.setConnectionPool(pool);
+                try
+                {
+                    Session.loginWithPassword(c, target.username, target.password, APIVersion.latest().toString(),
+                        originator == null ? "" : originator);
+                }
+                catch (Exception e)
+                {
+                    loginFailure.set(e);
+                    done.countDown();
+                    return;
+                }
+                try
+                {
+                    readAll(c, toRead, threads, records, failures);
+                }
+                finally
+                {
+                    done.countDown();
+                    try
+                    {
+                        Session.logout(c);
+                    }
+                    catch (Exception e)
+                    {
+                        // Ignore
+                    }
+                }
+            }
+        }).start();
+
+        boolean finished;
+        try
+        {
+            finished = done.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            finished = false;
+        }
+        Exception error = loginFailure.get();
+        if (!finished && error == null)
+            error = new XmlRpcException("Timed out after " + poolTimeout + " seconds");
+        return new PoolResult(target, new HashMap<String, Map<XenAPIObject, Types.Record>>(records),
+            new HashMap<String, Exception>(failures), error, !finished, (System.nanoTime() - start) / 1000000);
+    }
+
+    /**
+     * Reads the records of each class, at most maxCallsPerPool at a time, and waits for all of them.
+     */
+    private void readAll(final Connection c, List<RecordClass<?, ?>> toRead, ThreadFactory threads,
+                         final Map<String, Map<XenAPIObject, Types.Record>> records, final Map<String, Exception> failures)
+    {
+        final Semaphore permits = new Semaphore(maxCallsPerPool);
+        final CountDownLatch done = new CountDownLatch(toRead.size());
+        try
+        {
+            for (final RecordClass<?, ?> recordClass : toRead)
+            {
+                permits.acquire();
+                threads.newThread(new Runnable()
+                {
+                    public void run()
+                    {
+                        try
+                        {
+                            @SuppressWarnings("unchecked")
+                            Map<XenAPIObject, Types.Record> read = (Map<XenAPIObject, Types.Record>) recordClass.readAll(c);
+                            records.put(recordClass.wireName, read);
+                        }
+                        catch (Exception e)
+                        {
+                            failures.put(recordClass.wireName, e);
+                        }
+                        finally
+                        {
+                            permits.release();
+                            done.countDown();
+                        }
+                    }
+                }).start();
+            }
+            done.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<RecordClass<?, ?>> recordClasses(Collection<Class<? extends XenAPIObject>> types)
+    {
+        List<RecordClass<?, ?>> result = new ArrayList<RecordClass<?, ?>>();
+        for (Class<? extends XenAPIObject> type : types)
+        {
+            RecordClass<?, ?> recordClass = RecordClass.forType(type);
+            if (recordClass == null)
+                throw new IllegalArgumentException(type.getSimpleName() + " has no get_all_records");
+            result.add(recordClass);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * What was read from one pool.
+     */
+    public static final class PoolResult
+    {
+        private final Target target;
+        private final Map<String, Map<XenAPIObject, Types.Record>> records;
+        private final Map<String, Exception> failures;
+        private final Exception error;
+        private final boolean timedOut;
+        private final long elapsed;
+
+        PoolResult(Target target, Map<String, Map<XenAPIObject, Types.Record>> records, Map<String, Exception> failures,
+                   Exception error, boolean timedOut, long elapsed)
+        {
+            this.target = target;
+            this.records = records;
+            this.failures = failures;
+            this.error = error;
+            this.timedOut = timedOut;
+            this.elapsed = elapsed;
+        }
+
+        public Target getTarget()
+        {
+            return target;
+        }
+
+        /**
+         * @return Whether the records of every class were read in time
+         */
+        public boolean isComplete()
+        {
+            return error == null && failures.isEmpty();
+        }
+
+        public boolean isTimedOut()
+        {
+            return timedOut;
+        }
+
+        /**
+         * @return Why the pool could not be swept (the login failed, or it ran out of time), or null
+         */
+        public Exception getError()
+        {
+            return error;
+        }
+
+        /**
+         * @return The failures of the get_all_records calls, by class name as used in method names (e.g. "VM")
+         */
+        public Map<String, Exception> getFailures()
+        {
+            return Collections.unmodifiableMap(failures);
+        }
+
+        /**
+         * @return The records read of the given class, or null if they were not read
+         */
+        public <K extends XenAPIObject> Map<K, ? extends Types.Record> getRecords(Class<K> type)
+        {
+            RecordClass<?, ?> recordClass = RecordClass.forType(type);
+            if (recordClass == null)
+                return null;
+            @SuppressWarnings("unchecked")
+            Map<K, ? extends Types.Record> read = (Map<K, ? extends Types.Record>) (Map<?, ?>) records.get(recordClass.wireName);
+            return read == null ? null : Collections.unmodifiableMap(read);
+        }
+
+        /**
+         * @return The number of milliseconds spent on the pool, up to its time limit
+         */
+        public long getElapsedMillis()
+        {
+            return elapsed;
+        }
+    }
+
+    /**
+     * The records read from all the pools.
+     */
+    public static final class Snapshot
+    {
+        private final List<PoolResult> pools;
+        private final Map<XenAPIObject, PoolResult> poolOf = new HashMap<XenAPIObject, PoolResult>();
+        private final long elapsed;
+
+        Snapshot(List<PoolResult> pools, long elapsed)
+        {
+            this.pools = Collections.unmodifiableList(new ArrayList<PoolResult>(pools));
+            this.elapsed = elapsed;
+            for (PoolResult pool : pools)
+            {
+                for (Map<XenAPIObject, Types.Record> byRef : pool.records.values())
+                {
+                    for (XenAPIObject object : byRef.keySet())
+                        poolOf.put(object, pool);
+                }
+            }
+        }
+
+        /**
+         * @return The result of each pool, in the order in which the pools were added
+         */
+        public List<PoolResult> getPools()
+        {
+            return pools;
+        }
+
+        /**
+         * @return The results of the pools that could not be swept in full
+         */
+        public List<PoolResult> getIncompletePools()
+        {
+            List<PoolResult> incomplete = new ArrayList<PoolResult>();
+            for (PoolResult pool : pools)
+            {
+                if (!pool.isComplete())
+                    incomplete.add(pool);
+            }
+            return incomplete;
+        }
+
+        /**
+         * @return The records of the given class from all the pools. References are unique across pools, so no
+         * record hides another.
+         */
+        public <K extends XenAPIObject> Map<K, ? extends Types.Record> getRecords(Class<K> type)
+        {
+            Map<K, Types.Record> merged = new LinkedHashMap<K, Types.Record>();
+            for (PoolResult pool : pools)
+            {
+                Map<K, ? extends Types.Record> records = pool.getRecords(type);
+                if (records != null)
+                    merged.putAll(records);
+            }
+            return Collections.unmodifiableMap(merged);
+        }
+
+        /**
+         * @return The pool from which an object was read, or null if it was not read
+         */
+        public PoolResult getPool(XenAPIObject object)
+        {
+            return poolOf.get(object);
+        }
+
+        /**
+         * @return The number of milliseconds the sweep took
+         */
+        public long getElapsedMillis()
+        {
+            return elapsed;
+        }
+    }
+}
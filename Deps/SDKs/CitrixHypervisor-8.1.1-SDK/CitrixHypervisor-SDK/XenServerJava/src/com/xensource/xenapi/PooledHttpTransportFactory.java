@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.apache.xmlrpc.client.XmlRpcClient;
+import org.apache.xmlrpc.client.XmlRpcClientException;
+import org.apache.xmlrpc.client.XmlRpcHttpClientConfig;
+import org.apache.xmlrpc.client.XmlRpcHttpTransport;
+import org.apache.xmlrpc.client.XmlRpcHttpTransportException;
+import org.apache.xmlrpc.client.XmlRpcTransport;
+import org.apache.xmlrpc.client.XmlRpcTransportFactoryImpl;
+import org.apache.xmlrpc.common.XmlRpcStreamRequestConfig;
+import org.xml.sax.SAXException;
+
+/**
+ * An XmlRpcTransportFactory whose transports send each call over a persistent connection leased from an
+ * HttpConnectionPool, instead of opening (and handshaking) a new connection per call as the default transport does.
+ *
+ * Install it with Connection.setConnectionPool(HttpConnectionPool), or with Connection.setTransportFactory() if the
+ * factory is created by hand.
+ */
+public class PooledHttpTransportFactory extends XmlRpcTransportFactoryImpl
+{
+    private final HttpConnectionPool pool;
+    private final ResponseCounters counters;
+
+    /**
+     * @param client The client whose calls will be sent by the transports of this factory
+     * @param pool The pool from which connections are leased. It may be shared with other factories.
+     */
+    public PooledHttpTransportFactory(XmlRpcClient client, HttpConnectionPool pool)
+    {
+        this(client, pool, null);
+    }
+
+    /**
+     * @param counters Decompresses and counts the responses, or null to leave them to the xml-rpc library
+     */
+    PooledHttpTransportFactory(XmlRpcClient client, HttpConnectionPool pool, ResponseCounters counters)
+    {
+        super(client);
+        this.pool = pool;
+        this.counters = counters;
+    }
+
+    public HttpConnectionPool getPool()
+    {
+        return pool;
+    }
+
+    public XmlRpcTransport getTransport()
+    {
+        return new PooledHttpTransport(getClient(), pool, counters);
+    }
+
+    /**
+     * Sends a single call. A new instance is created for every call, as with the other XML-RPC transports.
+     */
+    private static class PooledHttpTransport extends XmlRpcHttpTransport
+    {
+        private static final String USER_AGENT = XmlRpcHttpTransport.USER_AGENT + " (XenServerJava pooled transport)";
+
+        private final HttpConnectionPool pool;
+        private final ResponseCounters counters;
+        private final Map<String, String> headers = new LinkedHashMap<String, String>();
+        private XmlRpcHttpClientConfig config;
+        private String method;
+        private byte[] request;
+        private HttpExchange exchange;
+
+        PooledHttpTransport(XmlRpcClient client, HttpConnectionPool pool, ResponseCounters counters)
+        {
+            super(client, USER_AGENT);
+            this.pool = pool;
+            this.counters = counters;
+        }
+
+        @Override
+        public Object sendRequest(XmlRpcRequest request) throws XmlRpcException
+        {
+            config = (XmlRpcHttpClientConfig) request.getConfig();
+            method = request.getMethodName();
+            return super.sendRequest(request);
+        }
+
+        @Override
+        protected void setCompressionHeaders(XmlRpcHttpClientConfig config)
+        {
+            super.setCompressionHeaders(config);
+            String acceptEncoding = counters == null ? null : counters.getAcceptEncoding();
+            if (acceptEncoding != null)
+                setRequestHeader("Accept-Encoding", acceptEncoding);
+        }
+
+        @Override
+        protected void setRequestHeader(String header, String value)
+        {
+            headers.put(header, value);
+        }
+
+        @Override
+        protected boolean isUsingByteArrayOutput(XmlRpcHttpClientConfig config)
+        {
+            // The request must be fully serialised before sending so that it can be retried on a fresh connection
+            return true;
+        }
+
+        @Override
+        protected void writeRequest(ReqWriter writer) throws XmlRpcException, IOException, SAXException
+        {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            writer.write(content);
+            request = content.toByteArray();
+
+            exchange = HttpExchange.post(pool, config.getServerURL(), ConnectionConfig.sslContext(config), method,
+                headers, request, config.getConnectionTimeout(), config.getReplyTimeout());
+
+            int status = exchange.getStatusCode();
+            if (status < 200 || status > 299)
+                throw new XmlRpcHttpTransportException(status, exchange.getStatusMessage());
+        }
+
+        @Override
+        protected boolean isResponseGzipCompressed(XmlRpcStreamRequestConfig config)
+        {
+            // Decompressed by getInputStream() if there are counters
+            if (counters != null)
+                return false;
+            String encoding = exchange.getResponseHeader("content-encoding");
+            return encoding != null && encoding.toLowerCase().contains("gzip");
+        }
+
+        @Override
+        protected InputStream getInputStream() throws XmlRpcException
+        {
+            if (counters == null)
+                return exchange.getBody();
+            try
+            {
+                return counters.wrap(method, request, exchange.getBody(),
+                    exchange.getResponseHeader("content-encoding"));
+            }
+            catch (IOException e)
+            {
+                throw new XmlRpcClientException("Failed to read server's response: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        protected void close() throws XmlRpcClientException
+        {
+            if (exchange != null)
+            {
+                exchange.close();
+                exchange = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.xmlrpc.XmlRpcException;
+
+import com.xensource.xenapi.Types.XenAPIException;
+
+/**
+ * A class of object whose records can all be read with get_all_records, and how to decode them.
+ */
+final class RecordClass<K extends XenAPIObject, R extends Types.Record>
+{
+    private static final Map<Class<?>, RecordClass<?, ?>> BY_TYPE = new LinkedHashMap<Class<?>, RecordClass<?, ?>>();
+    private static final Map<String, RecordClass<?, ?>> BY_NAME = new HashMap<String, RecordClass<?, ?>>();
+
+    final Class<K> type;
+
+    /**
+     * The class name used on the wire, with the case used in method names
+     */
+    final String wireName;
+
+    final RecordDecoder<K, R> decoder;
+
+    private RecordClass(Class<K> type, String wireName, RecordDecoder<K, R> decoder)
+    {
+        this.type = type;
+        this.wireName = wireName;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Reads the records of every object of this class.
+     */
+    Map<K, R> readAll(Connection c) throws XenAPIException, XmlRpcException
+    {
+        Object[] method_params = {Marshalling.toXMLRPC(c.getSessionReference())};
+        return RecordStream.readAll(c, wireName + ".get_all_records", method_params, decoder, null);
+    }
+
+    /**
+     * @return The class for the given Java type, or null if it has no get_all_records
+     */
+    static RecordClass<?, ?> forType(Class<?> type)
+    {
+        return BY_TYPE.get(type);
+    }
+
+    /**
+     * @param name A class name as used on the wire, in any case (events give it in lower case)
+     * @return The class of that name, or null if there is none with get_all_records
+     */
+    static RecordClass<?, ?> forName(String name)
+    {
+        return BY_NAME.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    static Collection<RecordClass<?, ?>> all()
+    {
+        return Collections.unmodifiableCollection(BY_TYPE.values());
+    }
+
+    private static <K extends XenAPIObject, R extends Types.Record> void register(Class<K> type, String wireName,
+                                                                                  RecordDecoder<K, R> decoder)
+    {
+        RecordClass<K, R> recordClass = new RecordClass<K, R>(type, wireName, decoder);
+        BY_TYPE.put(type, recordClass);
+        BY_NAME.put(wireName.toLowerCase(Locale.ROOT), recordClass);
+    }
+
+    static
+    {
+        register(Blob.class, "blob", Types.BLOB_RECORD_DECODER);
+        register(Bond.class, "Bond", Types.BOND_RECORD_DECODER);
+        register(Cluster.class, "Cluster", Types.CLUSTER_RECORD_DECODER);
+        register(ClusterHost.class, "Cluster_host", Types.CLUSTER_HOST_RECORD_DECODER);
+        register(Console.class, "console", Types.CONSOLE_RECORD_DECODER);
+        register(Crashdump.class, "crashdump", Types.CRASHDUMP_RECORD_DECODER);
+        register(DRTask.class, "DR_task", Types.DR_TASK_RECORD_DECODER);
+        register(Feature.class, "Feature", Types.FEATURE_RECORD_DECODER);
+        register(GPUGroup.class, "GPU_group", Types.GPU_GROUP_RECORD_DECODER);
+        register(Host.class, "host", Types.HOST_RECORD_DECODER);
+        register(HostCpu.class, "host_cpu", Types.HOST_CPU_RECORD_DECODER);
+        register(HostCrashdump.class, "host_crashdump", Types.HOST_CRASHDUMP_RECORD_DECODER);
+        register(HostMetrics.class, "host_metrics", Types.HOST_METRICS_RECORD_DECODER);
+        register(HostPatch.class, "host_patch", Types.HOST_PATCH_RECORD_DECODER);
+        register(Message.class, "message", Types.MESSAGE_RECORD_DECODER);
+        register(Network.class, "network", Types.NETWORK_RECORD_DECODER);
+        register(NetworkSriov.class, "network_sriov", Types.NETWORK_SRIOV_RECORD_DECODER);
+        register(PBD.class, "PBD", Types.PBD_RECORD_DECODER);
+        register(PCI.class, "PCI", Types.PCI_RECORD_DECODER);
+        register(PGPU.class, "PGPU", Types.PGPU_RECORD_DECODER);
+        register(PIF.class, "PIF", Types.PIF_RECORD_DECODER);
+        register(PIFMetrics.class, "PIF_metrics", Types.PIF_METRICS_RECORD_DECODER);
+        register(Pool.class, "pool", Types.POOL_RECORD_DECODER);
+        register(PoolPatch.class, "pool_patch", Types.POOL_PATCH_RECORD_DECODER);
+        register(PoolUpdate.class, "pool_update", Types.POOL_UPDATE_RECORD_DECODER);
+        register(PUSB.class, "PUSB", Types.PUSB_RECORD_DECODER);
+        register(PVSCacheStorage.class, "PVS_cache_storage", Types.PVS_CACHE_STORAGE_RECORD_DECODER);
+        register(PVSProxy.class, "PVS_proxy", Types.PVS_PROXY_RECORD_DECODER);
+        register(PVSServer.class, "PVS_server", Types.PVS_SERVER_RECORD_DECODER);
+        register(PVSSite.class, "PVS_site", Types.PVS_SITE_RECORD_DECODER);
+        register(Role.class, "role", Types.ROLE_RECORD_DECODER);
+        register(SDNController.class, "SDN_controller", Types.SDN_CONTROLLER_RECORD_DECODER);
+        register(Secret.class, "secret", Types.SECRET_RECORD_DECODER);
+        register(SM.class, "SM", Types.SM_RECORD_DECODER);
+        register(SR.class, "SR", Types.SR_RECORD_DECODER);
+        register(Subject.class, "subject", Types.SUBJECT_RECORD_DECODER);
+        register(Task.class, "task", Types.TASK_RECORD_DECODER);
+        register(Tunnel.class, "tunnel", Types.TUNNEL_RECORD_DECODER);
+        register(USBGroup.class, "USB_group", Types.USB_GROUP_RECORD_DECODER);
+        register(VBD.class, "VBD", Types.VBD_RECORD_DECODER);
+        register(VBDMetrics.class, "VBD_metrics", Types.VBD_METRICS_RECORD_DECODER);
+        register(VDI.class, "VDI", Types.VDI_RECORD_DECODER);
+        register(VGPU.class, "VGPU", Types.VGPU_RECORD_DECODER);
+        register(VGPUType.class, "VGPU_type", Types.VGPU_TYPE_RECORD_DECODER);
+        register(VIF.class, "VIF", Types.VIF_RECORD_DECODER);
+        register(VIFMetrics.class, "VIF_metrics", Types.VIF_METRICS_RECORD_DECODER);
+        register(VLAN.class, "VLAN", Types.VLAN_RECORD_DECODER);
+        register(VM.class, "VM", Types.VM_RECORD_DECODER);
+        register(VMAppliance.class, "VM_appliance", Types.VM_APPLIANCE_RECORD_DECODER);
+        register(VMGuestMetrics.class, "VM_guest_metrics", Types.VM_GUEST_METRICS_RECORD_DECODER);
+        register(VMMetrics.class, "VM_metrics", Types.VM_METRICS_RECORD_DECODER);
+        register(VMPP.class, "VMPP", Types.VMPP_RECORD_DECODER);
+        register(VMSS.class, "VMSS", Types.VMSS_RECORD_DECODER);
+        register(VUSB.class, "VUSB", Types.VUSB_RECORD_DECODER);
+    }
+}
@@ -0,0 +1,528 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.client.XmlRpcClientException;
+
+import com.xensource.xenapi.Types.XenAPIException;
+
+/**
+ * Reads the response to a get_all_records call as it arrives from the server, decoding one record at a time straight
+ * from the XML (or the JSON, if the connection uses JSON-RPC) into its Record object. Unlike the xml-rpc client, which
+ * builds the whole response as nested maps before Types converts it, only the record being decoded is held in memory
+ * besides those already handed out.
+ *
+ * The stream must be closed once it has been read to its end or abandoned. If Flight Recorder is recording a
+ * DecodeEvent, one is committed when it is closed.
+ */
+final class RecordStream<K, R> implements Iterator<Map.Entry<K, R>>, Closeable
+{
+    private final String method;
+    private final RecordDecoder<K, R> decoder;
+    private final Set<String> fields;
+    private final InputStream in;
+    private final XMLStreamReader xml;
+    private final XmlRpcValueReader values;
+    private final JsonValueReader json;
+    private boolean firstRecord = true;
+    private Map.Entry<K, R> next;
+    private boolean finished;
+    private DecodeEvent event;
+    private long records;
+    private long conversionTime;
+
+    private RecordStream(Connection connection, String method, InputStream in, RecordDecoder<K, R> decoder,
+                         Set<String> fields)
+        throws XMLStreamException
+    {
+        this.method = method;
+        if (DecodeEvent.isRecording())
+        {
+            event = new DecodeEvent();
+            event.begin();
+        }
+        this.decoder = decoder;
+        this.fields = fields;
+        this.in = in;
+        if (connection.getProtocol() == Connection.Protocol.JSON_RPC)
+        {
+            this.xml = null;
+            this.values = null;
+            this.json = new JsonValueReader(new InputStreamReader(in, StandardCharsets.UTF_8), connection.getInterner());
+        }
+        else
+        {
+            this.xml = XmlRpcValueReader.getInputFactory().createXMLStreamReader(in);
+            this.values = new XmlRpcValueReader(xml, connection.getConfig().getTimeZone(), connection.getInterner());
+            this.json = null;
+        }
+    }
+
+    /**
+     * Sends a get_all_records call and reads its response up to the first record.
+     *
+     * @param fields The wire names of the fields to decode, or null to decode all of them. The values of other fields
+     * are skipped without being parsed.
+     * @throws XenAPIException if the call failed. If it failed because the session is no longer valid and the
+     * connection has a Login, it is sent again with a new session first.
+     */
+    static <K, R> RecordStream<K, R> open(Connection c, String method_call, Object[] method_params,
+                                          RecordDecoder<K, R> decoder, Set<String> fields)
+        throws XenAPIException, XmlRpcException
+    {
+        String session = c.getSessionReference();
+        try
+        {
+            return openFollowingMaster(c, method_call, method_params, decoder, fields);
+        }
+        catch (Types.SessionInvalid e)
+        {
+            if (!c.renewSession(method_call, session))
+                throw e;
+        }
+        return openFollowingMaster(c, method_call, c.withNewSession(method_params, session), decoder, fields);
+    }
+
+    /**
+     * Opens the stream, sending the call on to the master if the connection follows it (see
+     * Connection.setFollowingMaster()).
+     */
+    private static <K, R> RecordStream<K, R> openFollowingMaster(Connection c, String method_call,
+                                                                 Object[] method_params, RecordDecoder<K, R> decoder,
+                                                                 Set<String> fields)
+        throws XenAPIException, XmlRpcException
+    {
+        for (int redirects = 0; ; redirects++)
+        {
+            URL url = c.getConfig().getServerURL();
+            try
+            {
+                return openOnce(c, method_call, method_params, decoder, fields);
+            }
+            catch (Types.HostIsSlave e)
+            {
+                if (redirects >= Connection.MAX_REDIRECTS || !c.redirect(url, e.masterIPAddress))
+                    throw e;
+            }
+            catch (XmlRpcException e)
+            {
+                if (redirects >= Connection.MAX_REDIRECTS || !c.findMaster(url, e))
+                    throw e;
+            }
+        }
+    }
+
+    private static <K, R> RecordStream<K, R> openOnce(Connection c, String method_call, Object[] method_params,
+                                                      RecordDecoder<K, R> decoder, Set<String> fields)
+        throws XenAPIException, XmlRpcException
+    {
+        InputStream in = c.openResponseStream(method_call, method_params);
+        boolean opened = false;
+        try
+        {
+            RecordStream<K, R> stream = new RecordStream<K, R>(c, method_call, in, decoder, fields);
+            if (stream.json != null)
+                stream.readJsonHead();
+            else
+                stream.readHead();
+            opened = true;
+            return stream;
+        }
+        catch (XMLStreamException e)
+        {
+            throw new XmlRpcClientException("Failed to parse server's response: " + e.getMessage(), e);
+        }
+        catch (XenAPIException e)
+        {
+            // An IOException too, but reported by the server rather than met reading its response
+            throw e;
+        }
+        catch (IOException e)
+        {
+            throw new XmlRpcClientException("Failed to parse server's response: " + e.getMessage(), e);
+        }
+        finally
+        {
+            if (!opened)
+                closeQuietly(in);
+        }
+    }
+
+    /**
+     * Sends a get_all_records call and passes each record to the handler as soon as it has been decoded.
+     */
+    static <K, R> void forEach(Connection c, String method_call, Object[] method_params, RecordDecoder<K, R> decoder,
+                               Set<String> fields, Types.RecordHandler<K, R> handler)
+        throws XenAPIException, XmlRpcException
+    {
+        RecordStream<K, R> stream = open(c, method_call, method_params, decoder, fields);
+        try
+        {
+            while (true)
+            {
+                Map.Entry<K, R> entry = stream.read();
+                if (entry == null)
+                    return;
+                handler.handle(entry.getKey(), entry.getValue());
+            }
+        }
+        finally
+        {
+            stream.close();
+        }
+    }
+
+    /**
+     * Sends a get_all_records call and collects the records by reference.
+     */
+    static <K, R> Map<K, R> readAll(Connection c, String method_call, Object[] method_params, RecordDecoder<K, R> decoder,
+                                    Set<String> fields)
+        throws XenAPIException, XmlRpcException
+    {
+        final Map<K, R> records = new HashMap<K, R>();
+        forEach(c, method_call, method_params, decoder, fields, new Types.RecordHandler<K, R>()
+        {
+            public void handle(K ref, R record)
+            {
+                records.put(ref, record);
+            }
+        });
+        return records;
+    }
+
+    /**
+     * Converts the value of a get_all_records response that has been decoded into maps, field by field through the
+     * decoder as a streamed response would be.
+     *
+     * @return The records by reference, or null if the value is null
+     */
+    static <K, R> Map<K, R> toRecords(Object value, RecordDecoder<K, R> decoder)
+    {
+        if (value == null)
+            return null;
+        Map<?, ?> map = (Map<?, ?>) value;
+        Map<K, R> records = new HashMap<K, R>(map.size() * 4 / 3 + 1);
+        for (Map.Entry<?, ?> entry : map.entrySet())
+        {
+            R record = decoder.newRecord();
+            for (Map.Entry<?, ?> field : ((Map<?, ?>) entry.getValue()).entrySet())
+                decoder.setField(record, (String) field.getKey(), field.getValue());
+            records.put(decoder.toRef((String) entry.getKey()), record);
+        }
+        return records;
+    }
+
+    /**
+     * @param fields Values of the Field enum of a class, whose toString() gives the name of the field on the wire
+     * @return The wire names of the fields, or null (meaning all fields) if fields is null
+     */
+    static Set<String> wireNames(Set<? extends Enum<?>> fields)
+    {
+        if (fields == null)
+            return null;
+        Set<String> names = new HashSet<String>();
+        for (Enum<?> field : fields)
+            names.add(field.toString());
+        return names;
+    }
+
+    /**
+     * @return The remaining records as a sequential Stream, which closes this RecordStream when it is closed
+     */
+    Stream<Map.Entry<K, R>> stream()
+    {
+        Spliterator<Map.Entry<K, R>> spliterator = Spliterators.spliteratorUnknownSize(this,
+            Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(new Runnable()
+        {
+            public void run()
+            {
+                close();
+            }
+        });
+    }
+
+    /**
+     * @throws UncheckedIOException if the response cannot be read or parsed. Its cause is an XmlRpcException wrapped
+     * in an IOException.
+     */
+    public boolean hasNext()
+    {
+        if (next == null && !finished)
+        {
+            try
+            {
+                next = read();
+            }
+            catch (XmlRpcException e)
+            {
+                throw new UncheckedIOException(new IOException(e.getMessage(), e));
+            }
+        }
+        return next != null;
+    }
+
+    public Map.Entry<K, R> next()
+    {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        Map.Entry<K, R> entry = next;
+        next = null;
+        return entry;
+    }
+
+    /**
+     * Releases the underlying connection. If the response has not been read to its end, the connection is closed
+     * rather than reused.
+     */
+    public void close()
+    {
+        finished = true;
+        if (event != null)
+        {
+            event.complete(method, records, conversionTime);
+            event = null;
+        }
+        if (xml != null)
+        {
+            try
+            {
+                xml.close();
+            }
+            catch (XMLStreamException e)
+            {
+                // Ignore
+            }
+        }
+        closeQuietly(in);
+    }
+
+    /**
+     * Reads the response up to the struct holding the records (or to its end, if the call failed).
+     */
+    private void readHead() throws XMLStreamException, XenAPIException, XmlRpcException
+    {
+        values.expectStart("methodResponse", xml.nextTag());
+        xml.nextTag();
+        if (xml.getLocalName().equals("fault"))
+        {
+            xml.nextTag();
+            Map fault = (Map) values.readValue();
+            Object code = fault.get("faultCode");
+            throw new XmlRpcException(code instanceof Integer ? (Integer) code : 0, String.valueOf(fault.get("faultString")));
+        }
+        values.expectStart("params", xml.getEventType());
+        values.expectStart("param", xml.nextTag());
+        values.expectStart("value", xml.nextTag());
+        values.expectStart("struct", xml.nextTag());
+
+        Map<String, Object> response = new HashMap<String, Object>();
+        while (xml.nextTag() == XMLStreamConstants.START_ELEMENT)
+        {
+            String name = values.readMemberName();
+            if (name.equals("Value") && !"Failure".equals(response.get("Status")))
+            {
+                values.expectStart("struct", xml.nextTag());
+                return;
+            }
+            response.put(name, values.readValue());
+            xml.nextTag();
+        }
+
+        // No records: either the call failed, or the server sent an empty success
+        finished = true;
+        close();
+        Types.checkResponse(response);
+    }
+
+    /**
+     * Reads a JSON-RPC response up to the object holding the records (or to its end, if the call failed).
+     */
+    private void readJsonHead() throws IOException, XenAPIException, XmlRpcException
+    {
+        Object result = null;
+        Object error = null;
+        json.beginObject();
+        for (String name = json.firstName(); name != null; name = json.nextName())
+        {
+            if (name.equals("result") && json.peek() == '{')
+            {
+                json.beginObject();
+                return;
+            }
+            if (name.equals("result"))
+                result = json.readValue();
+            else if (name.equals("error"))
+                error = json.readValue();
+            else
+                json.skipValue();
+        }
+
+        finished = true;
+        close();
+        Types.checkResponse(JsonRpcCodec.toResponse(result, error));
+    }
+
+    /**
+     * @return The next record, or null after the last one
+     */
+    private Map.Entry<K, R> read() throws XmlRpcException
+    {
+        if (finished)
+            return null;
+        if (json != null)
+            return readJson();
+        try
+        {
+            if (xml.nextTag() == XMLStreamConstants.END_ELEMENT)
+            {
+                close();
+                return null;
+            }
+
+            K ref = decoder.toRef(values.readMemberName());
+            values.expectStart("struct", xml.nextTag());
+            R record = decoder.newRecord();
+            while (xml.nextTag() == XMLStreamConstants.START_ELEMENT)
+            {
+                String field = values.readMemberName();
+                if (fields == null || fields.contains(field))
+                    setField(record, field, values.readValue());
+                else
+                    values.skipValue();
+                xml.nextTag();
+            }
+            xml.nextTag();
+            xml.nextTag();
+            records++;
+            return new AbstractMap.SimpleImmutableEntry<K, R>(ref, record);
+        }
+        catch (XMLStreamException e)
+        {
+            close();
+            throw new XmlRpcClientException("Failed to parse server's response: " + e.getMessage(), e);
+        }
+        catch (RuntimeException e)
+        {
+            close();
+            throw e;
+        }
+    }
+
+    private Map.Entry<K, R> readJson() throws XmlRpcException
+    {
+        try
+        {
+            String name = firstRecord ? json.firstName() : json.nextName();
+            firstRecord = false;
+            if (name == null)
+            {
+                close();
+                return null;
+            }
+
+            K ref = decoder.toRef(name);
+            R record = decoder.newRecord();
+            json.beginObject();
+            for (String field = json.firstName(); field != null; field = json.nextName())
+            {
+                if (fields == null || fields.contains(field))
+                    setField(record, field, json.readValue());
+                else
+                    json.skipValue();
+            }
+            records++;
+            return new AbstractMap.SimpleImmutableEntry<K, R>(ref, record);
+        }
+        catch (IOException e)
+        {
+            close();
+            throw new XmlRpcClientException("Failed to parse server's response: " + e.getMessage(), e);
+        }
+        catch (RuntimeException e)
+        {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Converts a field through the decoder, timing it if there is a DecodeEvent.
+     */
+    private void setField(R record, String field, Object value)
+    {
+        if (event == null)
+        {
+            decoder.setField(record, field, value);
+            return;
+        }
+        long start = System.nanoTime();
+        decoder.setField(record, field, value);
+        conversionTime += System.nanoTime() - start;
+    }
+
+    private static void closeQuietly(InputStream in)
+    {
+        try
+        {
+            in.close();
+        }
+        catch (IOException e)
+        {
+            // Ignore
+        }
+    }
+
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shares one String between all the occurrences of each OpaqueRef and UUID received on a Connection, so that e.g. the
+ * reference of a host, which appears in the resident_on of every VM running on it and in all of its PBDs and PIFs, is
+ * held in memory once rather than once per occurrence.
+ *
+ * The uuid field of a record is left as it is: an object's UUID seldom appears anywhere but in its own record, so
+ * interning it would cost a table entry and save nothing. UUIDs found elsewhere, e.g. in other_config, are interned.
+ *
+ * The table holds the strings weakly: an entry goes once nothing else refers to its string, so the table never keeps
+ * records of objects that have been destroyed. It is split into segments, each with its own lock, so that responses
+ * decoded on different threads seldom wait for one another.
+ *
+ * Whilst any connection interns, Types also shares one wrapper object (VM, Host, ...) between the occurrences of each
+ * reference, through a table per class that holds the wrappers weakly in the same way. That table is shared by all
+ * connections: a wrapper only holds its reference, so sharing one between connections changes nothing. The toXxx
+ * conversions do not know which connection a value came from, so wrappers are shared for every connection until
+ * each interner has been released, either explicitly or once the connection that owns it has been garbage collected.
+ */
+final class ReferenceInterner
+{
+    private static final int SEGMENTS = 16;
+
+    private static final ConcurrentMap<Class<?>, WrapperTable<?>> WRAPPERS = new ConcurrentHashMap<Class<?>, WrapperTable<?>>();
+
+    /**
+     * The number of interners that have not been released
+     */
+    private static final AtomicInteger SHARING_WRAPPERS = new AtomicInteger();
+
+    /**
+     * Releases the interners of connections that are dropped without turning interning off
+     */
+    private static final Cleaner OWNERS = Cleaner.create();
+
+    private final Segment<String>[] segments = newSegments();
+    private final Cleaner.Cleanable release;
+
+    /**
+     * @param owner The connection that interns; the interner is released when it becomes unreachable
+     */
+    ReferenceInterner(Object owner)
+    {
+        release = OWNERS.register(owner, new Release());
+    }
+
+    /**
+     * Stops this interner from keeping wrappers shared: once every interner has been released, Types creates a new
+     * wrapper for each reference again. Releasing an interner more than once has no further effect.
+     */
+    void release()
+    {
+        release.clean();
+    }
+
+    /**
+     * @return The string equal to s that was interned first, if s is a reference or a UUID, otherwise s
+     */
+    String intern(String s)
+    {
+        if (s == null || !isReferenceOrUuid(s))
+            return s;
+        Segment<String> segment = segments[segmentOf(s)];
+        synchronized (segment)
+        {
+            String interned = segment.get(s);
+            if (interned != null)
+                return interned;
+            segment.put(s, s);
+            return s;
+        }
+    }
+
+    /**
+     * Interns the strings within a value decoded by the xml-rpc client, replacing them in place in its Maps and
+     * arrays.
+     *
+     * @return The value, or a copy of it if it was a Map whose keys had to be replaced
+     */
+    Object intern(Object value)
+    {
+        if (value instanceof String)
+            return intern((String) value);
+        if (value instanceof Object[])
+        {
+            Object[] array = (Object[]) value;
+            for (int i = 0; i < array.length; i++)
+                array[i] = intern(array[i]);
+            return array;
+        }
+        if (value instanceof Map)
+        {
+            @SuppressWarnings("unchecked")
+            Map<Object, Object> map = (Map<Object, Object>) value;
+            boolean keysInterned = true;
+            for (Map.Entry<Object, Object> entry : map.entrySet())
+            {
+                Object v = entry.getValue();
+                Object interned = isOwnUuid(entry.getKey()) ? v : intern(v);
+                if (interned != v)
+                    entry.setValue(interned);
+                if (entry.getKey() instanceof String && intern((String) entry.getKey()) != entry.getKey())
+                    keysInterned = false;
+            }
+            if (keysInterned)
+                return map;
+            Map<Object, Object> copy = new HashMap<Object, Object>(map.size() * 4 / 3 + 1);
+            for (Map.Entry<Object, Object> entry : map.entrySet())
+            {
+                Object key = entry.getKey();
+                copy.put(key instanceof String ? intern((String) key) : key, entry.getValue());
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * Interns the strings within the Value of a XenAPI response.
+     */
+    void internResponse(Map response)
+    {
+        Object value = response.get("Value");
+        Object interned = intern(value);
+        if (interned != value)
+            response.put("Value", interned);
+    }
+
+    /**
+     * @return The number of distinct references and UUIDs held
+     */
+    int size()
+    {
+        int size = 0;
+        for (Segment<String> segment : segments)
+        {
+            synchronized (segment)
+            {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return Whether a struct member of the given name holds the UUID of the object whose record the struct is
+     */
+    static boolean isOwnUuid(Object memberName)
+    {
+        return "uuid".equals(memberName);
+    }
+
+    static boolean isSharingWrappers()
+    {
+        return SHARING_WRAPPERS.get() > 0;
+    }
+
+    /**
+     * @return The wrapper of the given class for the reference that was made first and is still in use, or a new one
+     */
+    static <T extends XenAPIObject> T wrapper(Class<T> type, String ref)
+    {
+        @SuppressWarnings("unchecked")
+        WrapperTable<T> table = (WrapperTable<T>) WRAPPERS.get(type);
+        if (table == null)
+        {
+            WrapperTable<T> created = new WrapperTable<T>(type);
+            @SuppressWarnings("unchecked")
+            WrapperTable<T> existing = (WrapperTable<T>) WRAPPERS.putIfAbsent(type, created);
+            table = existing == null ? created : existing;
+        }
+        return table.get(ref);
+    }
+
+    private static boolean isReferenceOrUuid(String s)
+    {
+        int length = s.length();
+        if (length > 10 && s.startsWith("OpaqueRef:"))
+            return true;
+        return length == 36 && s.charAt(8) == '-' && s.charAt(13) == '-' && s.charAt(18) == '-' && s.charAt(23) == '-';
+    }
+
+    private static int segmentOf(String s)
+    {
+        int h = s.hashCode();
+        return (h ^ (h >>> 16)) & (SEGMENTS - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Segment<V>[] newSegments()
+    {
+        Segment<V>[] segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++)
+            segments[i] = new Segment<V>();
+        return segments;
+    }
+
+    /**
+     * Counts an interner as sharing wrappers from when it is made until it is run. It must not refer to the interner's
+     * owner, or the owner would never become unreachable.
+     */
+    private static final class Release implements Runnable
+    {
+        Release()
+        {
+            SHARING_WRAPPERS.incrementAndGet();
+        }
+
+        @Override
+        public void run()
+        {
+            SHARING_WRAPPERS.decrementAndGet();
+        }
+    }
+
+    /**
+     * A part of a table, keyed by reference. Both the keys and the values are held weakly; each value must hold its
+     * key, so that the key stays in the table for as long as the value is in use.
+     */
+    private static final class Segment<V>
+    {
+        private final WeakHashMap<String, WeakReference<V>> map = new WeakHashMap<String, WeakReference<V>>();
+
+        V get(String key)
+        {
+            WeakReference<V> value = map.get(key);
+            return value == null ? null : value.get();
+        }
+
+        void put(String key, V value)
+        {
+            map.put(key, new WeakReference<V>(value));
+        }
+
+        int size()
+        {
+            return map.size();
+        }
+    }
+
+    /**
+     * The wrappers of one class, made through the constructor that Types uses.
+     */
+    private static final class WrapperTable<T extends XenAPIObject>
+    {
+        private final Constructor<T> constructor;
+        private final Segment<T>[] segments = newSegments();
+
+        WrapperTable(Class<T> type)
+        {
+            try
+            {
+                constructor = type.getDeclaredConstructor(String.class);
+            }
+            catch (NoSuchMethodException e)
+            {
+                throw new IllegalArgumentException(type.getName() + " has no constructor taking a reference", e);
+            }
+        }
+
+        T get(String ref)
+        {
+            Segment<T> segment = segments[segmentOf(ref)];
+            synchronized (segment)
+            {
+                T wrapper = segment.get(ref);
+                if (wrapper == null)
+                {
+                    wrapper = newWrapper(ref);
+                    // Key the entry on the wrapper's own string, which lives as long as the wrapper does
+                    segment.put(wrapper.toWireString(), wrapper);
+                }
+                return wrapper;
+            }
+        }
+
+        private T newWrapper(String ref)
+        {
+            try
+            {
+                return constructor.newInstance(ref);
+            }
+            catch (ReflectiveOperationException e)
+            {
+                throw new IllegalStateException("Cannot create a " + constructor.getDeclaringClass().getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.apache.xmlrpc.client.XmlRpcClient;
+import org.apache.xmlrpc.client.XmlRpcHttpClientConfig;
+import org.apache.xmlrpc.client.XmlRpcTransport;
+import org.apache.xmlrpc.client.XmlRpcTransportFactoryImpl;
+
+/**
+ * The transport factory of an XML-RPC Connection made by TrafficReplay. Its transports encode each call as the
+ * default transport would, Batches included, and have Connection.post() take the response from the replay.
+ *
+ * A JSON-RPC connection needs no such factory: JsonRpcTransportFactory already sends every call through post().
+ */
+final class ReplayTransportFactory extends XmlRpcTransportFactoryImpl
+{
+    private final RpcCodec codec;
+    private final ResponseCounters counters;
+
+    ReplayTransportFactory(XmlRpcClient client, RpcCodec codec, ResponseCounters counters)
+    {
+        super(client);
+        this.codec = codec;
+        this.counters = counters;
+    }
+
+    public XmlRpcTransport getTransport()
+    {
+        return new XmlRpcTransport()
+        {
+            public Object sendRequest(XmlRpcRequest request) throws XmlRpcException
+            {
+                XmlRpcHttpClientConfig config = (XmlRpcHttpClientConfig) request.getConfig();
+                String method = request.getMethodName();
+                Object[] params = new Object[request.getParameterCount()];
+                for (int i = 0; i < params.length; i++)
+                    params[i] = request.getParameter(i);
+
+                InputStream in = Connection.post(null, config, counters, codec, method,
+                    codec.encodeRequest(method, params));
+                try
+                {
+                    return codec.decodeResponse(in);
+                }
+                finally
+                {
+                    try
+                    {
+                        in.close();
+                    }
+                    catch (IOException e)
+                    {
+                        // Ignore
+                    }
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Decompresses the bodies of a Connection's responses according to their Content-Encoding, and counts their bytes as
+ * received and as decoded. Every transport of the connection passes its response bodies through wrap(), so that
+ * compression is negotiated and counted in the same way whichever transport carries a call. For the same reason, this
+ * is where the exchanges of the connection are handed to its TrafficRecorder, and where its transports look for the
+ * TrafficReplay that takes the place of the server.
+ */
+final class ResponseCounters
+{
+    private final LongAdder received = new LongAdder();
+    private final LongAdder decoded = new LongAdder();
+    private volatile boolean compression;
+    private volatile Connection.ResponseListener listener;
+    private volatile TrafficRecorder recorder;
+    private volatile TrafficReplay replay;
+
+    void setCompression(boolean enabled)
+    {
+        compression = enabled;
+    }
+
+    boolean isCompression()
+    {
+        return compression;
+    }
+
+    void setListener(Connection.ResponseListener listener)
+    {
+        this.listener = listener;
+    }
+
+    void setRecorder(TrafficRecorder recorder)
+    {
+        this.recorder = recorder;
+    }
+
+    TrafficRecorder getRecorder()
+    {
+        return recorder;
+    }
+
+    /**
+     * @return Whether the transports must pass the requests they send to wrap()
+     */
+    boolean isRecording()
+    {
+        return recorder != null;
+    }
+
+    void setReplay(TrafficReplay replay)
+    {
+        this.replay = replay;
+    }
+
+    /**
+     * @return The replay from which the responses are to be taken instead of the server, or null
+     */
+    TrafficReplay getReplay()
+    {
+        return replay;
+    }
+
+    /**
+     * @return The value of the Accept-Encoding header to send, or null if none is to be sent
+     */
+    String getAcceptEncoding()
+    {
+        return compression ? "gzip, deflate" : null;
+    }
+
+    long getBytesReceived()
+    {
+        return received.sum();
+    }
+
+    long getBytesDecoded()
+    {
+        return decoded.sum();
+    }
+
+    /**
+     * @param method The method called
+     * @param request The body of the request as sent; only needed if isRecording()
+     * @param body The body of the response, as received
+     * @param contentEncoding The Content-Encoding of the response, or null if it has none
+     * @return The decoded body, which counts the bytes when it is read to its end or closed
+     * @throws IOException if the body is compressed and its header cannot be read
+     */
+    InputStream wrap(String method, byte[] request, InputStream body, String contentEncoding) throws IOException
+    {
+        CallSample.responseStarted();
+        CountingInputStream raw = new CountingInputStream(body);
+        InputStream content = raw;
+        if (contentEncoding != null)
+        {
+            String encoding = contentEncoding.trim().toLowerCase(Locale.ROOT);
+            if (encoding.equals("gzip") || encoding.equals("x-gzip"))
+                content = new GZIPInputStream(raw, 8192);
+            else if (encoding.equals("deflate"))
+                content = new InflaterInputStream(raw);
+        }
+        TrafficRecorder recorder = this.recorder;
+        if (recorder != null && request != null)
+            return new DecodedInputStream(content, method, raw, recorder, request);
+        return new DecodedInputStream(content, method, raw, null, null);
+    }
+
+    private void record(String method, long bytesReceived, long bytesDecoded)
+    {
+        received.add(bytesReceived);
+        decoded.add(bytesDecoded);
+        CallSample.responseRead(bytesReceived);
+        Connection.ResponseListener l = listener;
+        if (l != null)
+            l.responseRead(method, bytesReceived, bytesDecoded);
+    }
+
+    private static class CountingInputStream extends FilterInputStream
+    {
+        long count;
+
+        CountingInputStream(InputStream in)
+        {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            int b = in.read();
+            if (b >= 0)
+                count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            int n = in.read(b, off, len);
+            if (n > 0)
+                count += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException
+        {
+            long skipped = in.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported()
+        {
+            return false;
+        }
+    }
+
+    /**
+     * The decoded body, which records the counts once, at its end or when it is closed; and, if there is a recorder,
+     * hands it a copy of the body along with the request.
+     */
+    private final class DecodedInputStream extends CountingInputStream
+    {
+        private final String method;
+        private final CountingInputStream raw;
+        private final TrafficRecorder recorder;
+        private final byte[] request;
+        private final ByteArrayOutputStream copy;
+        private boolean recorded;
+
+        DecodedInputStream(InputStream in, String method, CountingInputStream raw, TrafficRecorder recorder,
+                           byte[] request)
+        {
+            super(in);
+            this.method = method;
+            this.raw = raw;
+            this.recorder = recorder;
+            this.request = request;
+            this.copy = recorder == null ? null : new ByteArrayOutputStream(8192);
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            int b = super.read();
+            if (b < 0)
+                finish(true);
+            else if (copy != null)
+                copy.write(b);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            int n = super.read(b, off, len);
+            if (n < 0)
+                finish(true);
+            else if (copy != null)
+                copy.write(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException
+        {
+            if (copy == null)
+                return super.skip(n);
+            // Read what is skipped, so that it is copied
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            int read = read(buffer, 0, buffer.length);
+            return Math.max(read, 0);
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            if (copy != null && !recorded)
+                drain();
+            finish(false);
+            super.close();
+        }
+
+        /**
+         * Reads the rest of a body that its reader closes early, so that the whole of it is recorded.
+         */
+        private void drain()
+        {
+            try
+            {
+                byte[] buffer = new byte[8192];
+                while (read(buffer, 0, buffer.length) >= 0)
+                {
+                    // Copied by read()
+                }
+            }
+            catch (IOException e)
+            {
+                // Counted and closed as it is, but not recorded
+            }
+        }
+
+        private void finish(boolean complete)
+        {
+            if (recorded)
+                return;
+            recorded = true;
+            record(method, raw.count, count);
+            if (copy != null && complete)
+                recorder.record(method, request, copy.toByteArray());
+        }
+    }
+}
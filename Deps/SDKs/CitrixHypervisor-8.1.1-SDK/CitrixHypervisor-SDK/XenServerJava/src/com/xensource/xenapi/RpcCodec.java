@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.InputStream;
+import java.net.URL;
+
+import org.apache.xmlrpc.XmlRpcException;
+
+/**
+ * Encodes requests and decodes responses in one of the protocols in which the server takes calls, for the code paths
+ * that send calls without going through XmlRpcClient.execute().
+ */
+interface RpcCodec
+{
+    /**
+     * @return The request as it is sent
+     */
+    byte[] encodeRequest(String method, Object[] params) throws XmlRpcException;
+
+    /**
+     * @return The result of the call, which for a XenAPI method is the map holding its Status and its Value or
+     * ErrorDescription
+     * @throws XmlRpcException if the response cannot be parsed, or is a protocol-level fault
+     */
+    Object decodeResponse(InputStream in) throws XmlRpcException;
+
+    String getContentType();
+
+    /**
+     * @param serverURL The server URL of a Connection
+     * @return The URL to which the requests are posted
+     */
+    URL getEndpoint(URL serverURL) throws XmlRpcException;
+}
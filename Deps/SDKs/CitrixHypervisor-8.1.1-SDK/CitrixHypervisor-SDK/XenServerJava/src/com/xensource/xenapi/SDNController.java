@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -138,6 +139,42 @@ public class SDNController extends XenAPIObject {
         public Long port;
     }
 
+    /**
+     * The fields of a SDNController.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * Protocol to connect with SDN controller
+         */
+        PROTOCOL("protocol"),
+        /**
+         * IP address of the controller
+         */
+        ADDRESS("address"),
+        /**
+         * TCP port of the controller
+         */
+        PORT("port");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given SDN_controller.
      * First published in XenServer 7.2.
@@ -153,7 +190,7 @@ public class SDNController extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSDNControllerRecord(result);
+            return c.decoded(method_call, Types.toSDNControllerRecord(result));
     }
 
     /**
@@ -172,7 +209,7 @@ public class SDNController extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSDNController(result);
+            return c.decoded(method_call, Types.toSDNController(result));
     }
 
     /**
@@ -190,7 +227,7 @@ public class SDNController extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -208,7 +245,7 @@ public class SDNController extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSdnControllerProtocol(result);
+            return c.decoded(method_call, Types.toSdnControllerProtocol(result));
     }
 
     /**
@@ -226,7 +263,7 @@ public class SDNController extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -244,7 +281,7 @@ public class SDNController extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -265,7 +302,7 @@ public class SDNController extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(protocol), Marshalling.toXMLRPC(address), Marshalling.toXMLRPC(port)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -286,7 +323,7 @@ public class SDNController extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(protocol), Marshalling.toXMLRPC(address), Marshalling.toXMLRPC(port)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSDNController(result);
+            return c.decoded(method_call, Types.toSDNController(result));
     }
 
     /**
@@ -304,7 +341,7 @@ public class SDNController extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -338,7 +375,7 @@ public class SDNController extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfSDNController(result);
+            return c.decoded(method_call, Types.toSetOfSDNController(result));
     }
 
     /**
@@ -354,9 +391,78 @@ public class SDNController extends XenAPIObject {
         String method_call = "SDN_controller.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfSDNControllerSDNControllerRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.SDN_CONTROLLER_RECORD_DECODER);
+    }
+
+    /**
+     * Return all SDN_controllers known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 7.2.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<SDNController, SDNController.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "SDN_controller.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.SDN_CONTROLLER_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all SDN_controllers known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.2.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<SDNController, SDNController.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "SDN_controller.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.SDN_CONTROLLER_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all SDN_controllers known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 7.2.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(SDNController.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<SDNController, SDNController.Record> getAllRecordsWithFields(Connection c, Set<SDNController.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "SDN_controller.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.SDN_CONTROLLER_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all SDN_controllers known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 7.2.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(SDNController.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<SDNController, SDNController.Record>> streamAllRecordsWithFields(Connection c, Set<SDNController.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "SDN_controller.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.SDN_CONTROLLER_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
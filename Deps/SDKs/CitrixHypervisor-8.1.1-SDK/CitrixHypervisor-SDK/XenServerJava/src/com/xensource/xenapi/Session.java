@@ -214,6 +214,85 @@ public class Session extends XenAPIObject {
         public String originator;
     }
 
+    /**
+     * The fields of a Session.Record, each named as on the wire
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * Currently connected host
+         */
+        THIS_HOST("this_host"),
+        /**
+         * Currently connected user
+         */
+        THIS_USER("this_user"),
+        /**
+         * Timestamp for last time session was active
+         */
+        LAST_ACTIVE("last_active"),
+        /**
+         * True if this session relates to a intra-pool login, false otherwise
+         */
+        POOL("pool"),
+        /**
+         * additional configuration
+         */
+        OTHER_CONFIG("other_config"),
+        /**
+         * true iff this session was created using local superuser credentials
+         */
+        IS_LOCAL_SUPERUSER("is_local_superuser"),
+        /**
+         * references the subject instance that created the session. If a session instance has is_local_superuser set, then the value of this field is undefined.
+         */
+        SUBJECT("subject"),
+        /**
+         * time when session was last validated
+         */
+        VALIDATION_TIME("validation_time"),
+        /**
+         * the subject identifier of the user that was externally authenticated. If a session instance has is_local_superuser set, then the value of this field is undefined.
+         */
+        AUTH_USER_SID("auth_user_sid"),
+        /**
+         * the subject name of the user that was externally authenticated. If a session instance has is_local_superuser set, then the value of this field is undefined.
+         */
+        AUTH_USER_NAME("auth_user_name"),
+        /**
+         * list with all RBAC permissions for this session
+         */
+        RBAC_PERMISSIONS("rbac_permissions"),
+        /**
+         * list of tasks created using the current session
+         */
+        TASKS("tasks"),
+        /**
+         * references the parent session that created this session
+         */
+        PARENT("parent"),
+        /**
+         * a key string provided by a API user to distinguish itself from other users sharing the same login name
+         */
+        ORIGINATOR("originator");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given session.
      * First published in XenServer 4.0.
@@ -229,7 +308,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSessionRecord(result);
+            return c.decoded(method_call, Types.toSessionRecord(result));
     }
 
     /**
@@ -248,7 +327,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSession(result);
+            return c.decoded(method_call, Types.toSession(result));
     }
 
     /**
@@ -266,7 +345,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -284,7 +363,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toHost(result);
+            return c.decoded(method_call, Types.toHost(result));
     }
 
     /**
@@ -302,7 +381,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toUser(result);
+            return c.decoded(method_call, Types.toUser(result));
     }
 
     /**
@@ -320,7 +399,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toDate(result);
+            return c.decoded(method_call, Types.toDate(result));
     }
 
     /**
@@ -338,7 +417,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -356,7 +435,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -374,7 +453,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -392,7 +471,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSubject(result);
+            return c.decoded(method_call, Types.toSubject(result));
     }
 
     /**
@@ -410,7 +489,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toDate(result);
+            return c.decoded(method_call, Types.toDate(result));
     }
 
     /**
@@ -428,7 +507,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -446,7 +525,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -464,7 +543,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfString(result);
+            return c.decoded(method_call, Types.toSetOfString(result));
     }
 
     /**
@@ -482,7 +561,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfTask(result);
+            return c.decoded(method_call, Types.toSetOfTask(result));
     }
 
     /**
@@ -500,7 +579,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSession(result);
+            return c.decoded(method_call, Types.toSession(result));
     }
 
     /**
@@ -518,7 +597,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -591,7 +670,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(uname), Marshalling.toXMLRPC(pwd)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSession(result);
+            return c.decoded(method_call, Types.toSession(result));
     }
 
     /**
@@ -613,7 +692,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(uname), Marshalling.toXMLRPC(pwd), Marshalling.toXMLRPC(version)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSession(result);
+            return c.decoded(method_call, Types.toSession(result));
     }
 
     /**
@@ -636,7 +715,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(uname), Marshalling.toXMLRPC(pwd), Marshalling.toXMLRPC(version), Marshalling.toXMLRPC(originator)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSession(result);
+            return c.decoded(method_call, Types.toSession(result));
     }
 
     /**
@@ -689,7 +768,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(uname), Marshalling.toXMLRPC(pwd)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSession(result);
+            return c.decoded(method_call, Types.toSession(result));
     }
 
     /**
@@ -708,7 +787,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(filename)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -727,7 +806,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(filename)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSession(result);
+            return c.decoded(method_call, Types.toSession(result));
     }
 
     /**
@@ -761,7 +840,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -779,7 +858,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfString(result);
+            return c.decoded(method_call, Types.toSetOfString(result));
     }
 
     /**
@@ -798,7 +877,7 @@ public class Session extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(subjectIdentifier)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -0,0 +1,489 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.xmlrpc.XmlRpcException;
+
+import com.xensource.xenapi.Types.XenAPIException;
+
+/**
+ * Holds up to a fixed number of logged-in Connections to one server, and lends them out, so that callers do not log
+ * in for every piece of work and do not leave sessions behind for the server to expire. Connections are created and
+ * logged in on first need, and each is set up (see Connection.setLogin()) to log in again by itself if its session
+ * becomes invalid.
+ *
+ * A connection that has been idle for longer than the validation interval is checked with pool.get_all, a cheap
+ * read, before it is lent out; idle connections are also checked in the background at the keep-alive interval, which
+ * keeps their sessions from timing out. A connection whose session has expired logs in again during the check, as
+ * for any other read, and stays in the pool. close() logs out all the sessions.
+ *
+ * <pre>
+ *     SessionPool sessions = new SessionPool(url, "root", password, 4);
+ *     Set&lt;VM&gt; vms = sessions.call(c -&gt; VM.getAll(c));
+ * </pre>
+ */
+public class SessionPool
+{
+    /**
+     * The number of milliseconds a connection can be idle before it is checked when lent out, unless
+     * setValidationInterval() is called
+     */
+    public static final long DEFAULT_VALIDATION_INTERVAL = 30000;
+
+    /**
+     * The number of milliseconds between checks of the idle connections, unless setKeepAliveInterval() is called
+     */
+    public static final long DEFAULT_KEEP_ALIVE_INTERVAL = 300000;
+
+    private static final class Idle
+    {
+        final Connection connection;
+        final long since;
+
+        Idle(Connection connection, long since)
+        {
+            this.connection = connection;
+            this.since = since;
+        }
+    }
+
+    private final URL url;
+    private final String username;
+    private final String password;
+    private final int size;
+    private final int replyTimeout;
+    private final int connTimeout;
+    private final Deque<Idle> idle = new ArrayDeque<Idle>();
+    private final Set<Connection> borrowed = Collections.newSetFromMap(new IdentityHashMap<Connection, Boolean>());
+    private int open;
+    private boolean closed;
+    private Thread keeper;
+    private volatile String originator;
+    private volatile HttpConnectionPool connectionPool;
+    private volatile long validationInterval = DEFAULT_VALIDATION_INTERVAL;
+    private volatile long keepAliveInterval = DEFAULT_KEEP_ALIVE_INTERVAL;
+    private final AtomicLong logins = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+
+    private final Connection.Login login = new Connection.Login()
+    {
+        public void login(Connection c) throws XenAPIException, XmlRpcException
+        {
+            Session.loginWithPassword(c, username, password, APIVersion.latest().toString(),
+                originator == null ? "" : originator);
+            logins.incrementAndGet();
+        }
+    };
+
+    /**
+     * Creates a pool whose connections use the default values of the reply and connection timeouts for the xmlrpc
+     * calls (600 seconds and 5 seconds respectively). No connection is made until one is needed.
+     *
+     * @param size The maximum number of connections, and so of sessions, held at once
+     */
+    public SessionPool(URL url, String username, String password, int size)
+    {
+        this(url, username, password, size, Connection.DEFAULT_REPLY_TIMEOUT, Connection.DEFAULT_CONNECTION_TIMEOUT);
+    }
+
+    /**
+     * @param size The maximum number of connections, and so of sessions, held at once
+     * @param replyTimeout The reply timeout for xml-rpc calls in seconds
+     * @param connTimeout The connection timeout for xml-rpc calls in seconds
+     */
+    public SessionPool(URL url, String username, String password, int size, int replyTimeout, int connTimeout)
+    {
+        if (size < 1)
+            throw new IllegalArgumentException("size must be at least 1");
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.size = size;
+        this.replyTimeout = replyTimeout;
+        this.connTimeout = connTimeout;
+    }
+
+    /**
+     * Sets the originator passed to Session.loginWithPassword, which identifies the sessions in the server's logs.
+     */
+    public void setOriginator(String originator)
+    {
+        this.originator = originator;
+    }
+
+    /**
+     * Makes the connections created from now on keep their http(s) connections open in the given pool.
+     */
+    public void setConnectionPool(HttpConnectionPool pool)
+    {
+        this.connectionPool = pool;
+    }
+
+    /**
+     * @param millis The number of milliseconds a connection can be idle before it is checked when lent out, or 0 to
+     * check it every time
+     */
+    public void setValidationInterval(long millis)
+    {
+        if (millis < 0)
+            throw new IllegalArgumentException("The validation interval cannot be negative");
+        validationInterval = millis;
+    }
+
+    /**
+     * @param millis The number of milliseconds between checks of the idle connections, or 0 not to check them in the
+     * background
+     */
+    public void setKeepAliveInterval(long millis)
+    {
+        if (millis < 0)
+            throw new IllegalArgumentException("The keep-alive interval cannot be negative");
+        keepAliveInterval = millis;
+    }
+
+    /**
+     * Lends out a logged-in connection, waiting for one to be released if all of them are in use. The connection must
+     * be passed to release() once it is no longer needed, and must not be logged out.
+     *
+     * @throws XenAPIException if a new connection was needed and could not log in
+     * @throws XmlRpcException if a new connection was needed and could not log in
+     * @throws InterruptedException if the thread was interrupted whilst waiting
+     * @throws IllegalStateException if the pool has been closed
+     */
+    public Connection borrow() throws XenAPIException, XmlRpcException, InterruptedException
+    {
+        while (true)
+        {
+            Idle taken = null;
+            synchronized (this)
+            {
+                while (true)
+                {
+                    if (closed)
+                        throw new IllegalStateException("The session pool has been closed");
+                    if (!idle.isEmpty())
+                    {
+                        // The most recently used, whose session is the least likely to have expired
+                        taken = idle.pollFirst();
+                        break;
+                    }
+                    if (open < size)
+                    {
+                        open++;
+                        break;
+                    }
+                    wait();
+                }
+            }
+
+            if (taken == null)
+                return lend(create());
+            if (System.nanoTime() - taken.since < TimeUnit.MILLISECONDS.toNanos(validationInterval)
+                || validate(taken.connection))
+                return lend(taken.connection);
+            discard(taken.connection);
+        }
+    }
+
+    /**
+     * Returns a connection lent out by borrow(). If the pool has been closed since, its session is logged out.
+     */
+    public void release(Connection c)
+    {
+        synchronized (this)
+        {
+            if (!borrowed.remove(c))
+                throw new IllegalArgumentException("The connection was not borrowed from this pool");
+            if (!closed)
+            {
+                idle.addFirst(new Idle(c, System.nanoTime()));
+                notify();
+                return;
+            }
+        }
+        discard(c);
+    }
+
+    /**
+     * Makes a call on a borrowed connection, and releases the connection.
+     */
+    public <T> T call(Connection.Call<T> call) throws XenAPIException, XmlRpcException, InterruptedException
+    {
+        Connection c = borrow();
+        try
+        {
+            return call.call(c);
+        }
+        finally
+        {
+            release(c);
+        }
+    }
+
+    /**
+     * Logs out the sessions of the idle connections, and stops the background checks. The connections that are lent
+     * out are logged out when they are released. Further calls to borrow() throw IllegalStateException.
+     */
+    public void close()
+    {
+        List<Idle> toLogOut;
+        Thread thread;
+        synchronized (this)
+        {
+            if (closed)
+                return;
+            closed = true;
+            toLogOut = new ArrayList<Idle>(idle);
+            idle.clear();
+            thread = keeper;
+            keeper = null;
+            notifyAll();
+        }
+        if (thread != null)
+            thread.interrupt();
+        for (Idle i : toLogOut)
+            discard(i.connection);
+    }
+
+    public synchronized boolean isClosed()
+    {
+        return closed;
+    }
+
+    public int getSize()
+    {
+        return size;
+    }
+
+    /**
+     * @return The number of connections that are logged in, or logging in, whether lent out or idle
+     */
+    public synchronized int getOpenCount()
+    {
+        return open;
+    }
+
+    public synchronized int getIdleCount()
+    {
+        return idle.size();
+    }
+
+    /**
+     * @return The number of successful logins, including those made to replace invalid sessions
+     */
+    public long getLoginCount()
+    {
+        return logins.get();
+    }
+
+    /**
+     * @return The number of checks of idle connections that failed, other than by their session being invalid (from
+     * which they recover by logging in again)
+     */
+    public long getValidationFailureCount()
+    {
+        return validationFailures.get();
+    }
+
+    private Connection create() throws XenAPIException, XmlRpcException
+    {
+        boolean created = false;
+        try
+        {
+            Connection c = new Connection(url, replyTimeout, connTimeout);
+            HttpConnectionPool pool = connectionPool;
+            if (pool != null)
+                c.setConnectionPool(pool);
+            c.setLogin(login);
+            login.login(c);
+            created = true;
+            return c;
+        }
+        finally
+        {
+            if (!created)
+            {
+                synchronized (this)
+                {
+                    open--;
+                    notify();
+                }
+            }
+        }
+    }
+
+    private Connection lend(Connection c)
+    {
+        boolean lent = false;
+        synchronized (this)
+        {
+            if (!closed)
+            {
+                borrowed.add(c);
+                startKeeper();
+                lent = true;
+            }
+        }
+        if (!lent)
+        {
+            discard(c);
+            throw new IllegalStateException("The session pool has been closed");
+        }
+        return c;
+    }
+
+    /**
+     * Checks the session of a connection with a cheap read, which logs in again if the session is no longer valid.
+     * The read must not be a session method: Connection does not renew the session for those.
+     *
+     * @return Whether the connection can still be used
+     */
+    private boolean validate(Connection c)
+    {
+        try
+        {
+            Pool.getAll(c);
+            return true;
+        }
+        catch (Exception e)
+        {
+            validationFailures.incrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * Logs out a connection that leaves the pool, making room for a new one.
+     */
+    private void discard(Connection c)
+    {
+        synchronized (this)
+        {
+            open--;
+            notify();
+        }
+        try
+        {
+            Session.logout(c);
+        }
+        catch (Exception e)
+        {
+            // Ignore: the server will expire the session
+        }
+    }
+
+    private void startKeeper()
+    {
+        if (keeper != null || keepAliveInterval == 0)
+            return;
+        keeper = new Thread(new Runnable()
+        {
+            public void run()
+            {
+                keepAlive();
+            }
+        }, "xenapi-session-pool");
+        keeper.setDaemon(true);
+        keeper.start();
+    }
+
+    private void keepAlive()
+    {
+        while (true)
+        {
+            long interval = keepAliveInterval;
+            List<Idle> due = new ArrayList<Idle>();
+            synchronized (this)
+            {
+                if (closed || keeper != Thread.currentThread())
+                    return;
+                if (interval == 0)
+                {
+                    keeper = null;
+                    return;
+                }
+                // Take the connections that are due out of the pool whilst they are checked
+                long now = System.nanoTime();
+                for (Iterator<Idle> i = idle.iterator(); i.hasNext(); )
+                {
+                    Idle next = i.next();
+                    if (now - next.since >= TimeUnit.MILLISECONDS.toNanos(interval))
+                    {
+                        due.add(next);
+                        i.remove();
+                    }
+                }
+            }
+
+            for (Idle i : due)
+            {
+                if (!validate(i.connection))
+                {
+                    discard(i.connection);
+                    continue;
+                }
+                boolean returned = false;
+                synchronized (this)
+                {
+                    if (!closed)
+                    {
+                        idle.addLast(new Idle(i.connection, System.nanoTime()));
+                        notify();
+                        returned = true;
+                    }
+                }
+                if (!returned)
+                    discard(i.connection);
+            }
+
+            try
+            {
+                Thread.sleep(interval);
+            }
+            catch (InterruptedException e)
+            {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import org.apache.xmlrpc.XmlRpcException;
+
+import com.xensource.xenapi.Types.XenAPIException;
+
+/**
+ * Waits for tasks to complete by following the events of the task class, rather than by polling each task.
+ *
+ * A single XenObjectCache of tasks follows every change made to any task, so tracking any number of tasks costs no
+ * more calls than tracking one:
+ * <pre>
+ *     TaskTracker tracker = new TaskTracker(connection);
+ *     tracker.start();
+ *     CompletableFuture&lt;VM&gt; clone = tracker.trackResult(template.createCloneAsync(connection, name), Types::toVM);
+ * </pre>
+ * The record of a task is only read with task.get_record if the cache has still not seen the task once a poll that
+ * started after the task was tracked has returned, as happens when the task was destroyed before it was tracked.
+ *
+ * Futures are completed, and progress listeners called, on the cache's delivery thread, so callbacks attached to them
+ * should not block.
+ */
+public class TaskTracker
+{
+    /**
+     * Receives the progress of a task as it is reported by the server.
+     */
+    public interface ProgressListener
+    {
+        /**
+         * @param progress Between 0.0 and 1.0
+         */
+        void progress(Task task, double progress);
+    }
+
+    /**
+     * Decodes the result of a task that succeeded, such as Types.toVM(Task, Connection) does. Its call to
+     * task.get_result is answered from the record of the task that the tracker already holds.
+     */
+    public interface ResultDecoder<T>
+    {
+        T decode(Task task, Connection c) throws XenAPIException, XmlRpcException;
+    }
+
+    private final Connection connection;
+    private final XenObjectCache cache;
+    private final Map<Task, Tracked> tracked = new ConcurrentHashMap<Task, Tracked>();
+
+    /**
+     * @param c The connection to use, which must be logged in
+     */
+    public TaskTracker(Connection c)
+    {
+        this.connection = c;
+        this.cache = new XenObjectCache(c, Task.class);
+        cache.addListener(Task.class, new XenObjectCache.Listener<Task, Task.Record>()
+        {
+            public void changed(Task task, Types.EventOperation operation, Task.Record record)
+            {
+                Tracked t = tracked.get(task);
+                if (t == null)
+                    return;
+                if (operation == Types.EventOperation.DEL)
+                    t.destroyed(task);
+                else
+                    t.update(task, record);
+            }
+        });
+        cache.getPump().addDeliveryListener(new EventPump.DeliveryListener()
+        {
+            public void delivered(long poll)
+            {
+                for (Map.Entry<Task, Tracked> entry : tracked.entrySet())
+                {
+                    Tracked t = entry.getValue();
+                    if (t.unseenSince < poll)
+                    {
+                        t.unseenSince = Long.MAX_VALUE;
+                        lookup(entry.getKey(), t);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Sets how long each Event.from call waits for events before it returns empty, which bounds how long close()
+     * waits.
+     */
+    public void setPollTimeout(double seconds)
+    {
+        cache.setPollTimeout(seconds);
+    }
+
+    /**
+     * Sets how the session is renewed if it expires whilst the tracker is running.
+     */
+    public void setLogin(Connection.Login login)
+    {
+        cache.setLogin(login);
+    }
+
+    /**
+     * Reads the current tasks, then starts following their changes.
+     */
+    public void start() throws XenAPIException, XmlRpcException
+    {
+        cache.start();
+    }
+
+    /**
+     * Stops following the tasks. The futures of the tasks still being tracked are completed exceptionally.
+     */
+    public void close()
+    {
+        cache.close();
+        for (Map.Entry<Task, Tracked> entry : tracked.entrySet())
+        {
+            if (tracked.remove(entry.getKey(), entry.getValue()))
+                entry.getValue().future.completeExceptionally(new IllegalStateException("The task tracker was closed"));
+        }
+    }
+
+    /**
+     * @return The number of tasks being tracked that have not completed
+     */
+    public int getPendingCount()
+    {
+        return tracked.size();
+    }
+
+    /**
+     * @return A future that receives the record of the task once its status is SUCCESS, FAILURE or CANCELLED. It
+     * completes exceptionally if the task is destroyed before then, or already has been.
+     */
+    public CompletableFuture<Task.Record> track(Task task)
+    {
+        return track(task, null);
+    }
+
+    /**
+     * @param listener Called whenever the server reports a change in the task's progress, or null
+     * @return A future that receives the record of the task once its status is SUCCESS, FAILURE or CANCELLED. It
+     * completes exceptionally if the task is destroyed before then, or already has been.
+     */
+    public CompletableFuture<Task.Record> track(Task task, ProgressListener listener)
+    {
+        Tracked t = new Tracked();
+        Tracked existing = tracked.putIfAbsent(task, t);
+        if (existing != null)
+            t = existing;
+        if (listener != null)
+            t.listeners.add(listener);
+
+        // The task may have changed before it was tracked: its record is cached before listeners are told
+        long poll = cache.getPump().getPollCount();
+        Task.Record record = cache.task(task);
+        if (record != null)
+            t.update(task, record);
+        else
+            t.awaitPoll(poll);
+        return t.future;
+    }
+
+    /**
+     * Reads the record of a task that the cache had not seen when a poll that started after the task was tracked
+     * returned. The task was most likely destroyed before it was tracked, in which case no event will ever complete
+     * its future.
+     */
+    private void lookup(Task task, Tracked t)
+    {
+        try
+        {
+            t.update(task, task.getRecord(connection));
+        }
+        catch (Types.HandleInvalid e)
+        {
+            t.destroyed(task);
+        }
+        catch (Exception e)
+        {
+            // Leave the task to the events of the cache
+        }
+    }
+
+    /**
+     * @param decoder Decodes the result of the task once it has succeeded, such as Types::toVM. It is called on the
+     * tracker's thread, and must not make any call other than task.get_result, which is not sent to the server.
+     * @return A future that receives the decoded result of the task. It completes with the XenAPIException described
+     * by the task's error info if the task fails, or with a CancellationException if it is cancelled.
+     */
+    public <T> CompletableFuture<T> trackResult(final Task task, final ResultDecoder<T> decoder)
+    {
+        final CompletableFuture<T> result = new CompletableFuture<T>();
+        track(task).whenComplete(new BiConsumer<Task.Record, Throwable>()
+        {
+            public void accept(Task.Record record, Throwable error)
+            {
+                if (error != null)
+                {
+                    result.completeExceptionally(error);
+                    return;
+                }
+                switch (record.status)
+                {
+                    case SUCCESS:
+                        try
+                        {
+                            result.complete(decode(task, record, decoder));
+                        }
+                        catch (Exception e)
+                        {
+                            result.completeExceptionally(e);
+                        }
+                        break;
+                    case CANCELLED:
+                        result.completeExceptionally(new CancellationException("The task was cancelled"));
+                        break;
+                    default:
+                        result.completeExceptionally(taskFailure(record));
+                        break;
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Runs a decoder on the result held by the task's record. The decoder's task.get_result call is answered from
+     * the record, as CallCapture replays deferred calls, rather than sent to the server.
+     */
+    private <T> T decode(final Task task, Task.Record record, final ResultDecoder<T> decoder)
+        throws XenAPIException, XmlRpcException
+    {
+        Map<String, Object> response = new HashMap<String, Object>();
+        response.put("Status", "Success");
+        response.put("Value", record.result);
+        return CallCapture.replay(connection, new Connection.Call<T>()
+        {
+            public T call(Connection c) throws XenAPIException, XmlRpcException
+            {
+                return decoder.decode(task, c);
+            }
+        }, "task.get_result", response);
+    }
+
+    static XenAPIException taskFailure(Task.Record record)
+    {
+        if (record.errorInfo == null || record.errorInfo.isEmpty())
+            return new XenAPIException("The task failed without error info");
+        return Types.toXenAPIException(record.errorInfo.toArray(new String[record.errorInfo.size()]));
+    }
+
+    /**
+     * A task being tracked.
+     */
+    private final class Tracked
+    {
+        final CompletableFuture<Task.Record> future = new CompletableFuture<Task.Record>();
+        final List<ProgressListener> listeners = new CopyOnWriteArrayList<ProgressListener>();
+        private double lastProgress = -1.0;
+        private boolean seen;
+
+        /**
+         * The poll count when the task was tracked without a record, if none has been seen since; otherwise
+         * Long.MAX_VALUE
+         */
+        volatile long unseenSince = Long.MAX_VALUE;
+
+        synchronized void awaitPoll(long poll)
+        {
+            if (!seen && unseenSince == Long.MAX_VALUE)
+                unseenSince = poll;
+        }
+
+        void update(Task task, Task.Record record)
+        {
+            seen();
+            progress(task, record.progress);
+            if (record.status == Types.TaskStatusType.SUCCESS || record.status == Types.TaskStatusType.FAILURE
+                || record.status == Types.TaskStatusType.CANCELLED)
+            {
+                tracked.remove(task, this);
+                future.complete(record);
+            }
+        }
+
+        void destroyed(Task task)
+        {
+            tracked.remove(task, this);
+            future.completeExceptionally(new XenAPIException("The task was destroyed before it completed"));
+        }
+
+        private synchronized void seen()
+        {
+            seen = true;
+            unseenSince = Long.MAX_VALUE;
+        }
+
+        private synchronized void progress(Task task, Double progress)
+        {
+            if (progress == null || progress == lastProgress)
+                return;
+            lastProgress = progress;
+            for (ProgressListener listener : listeners)
+            {
+                try
+                {
+                    listener.progress(task, progress);
+                }
+                catch (RuntimeException e)
+                {
+                    // A failing listener must not stop the tracker
+                }
+            }
+        }
+    }
+}
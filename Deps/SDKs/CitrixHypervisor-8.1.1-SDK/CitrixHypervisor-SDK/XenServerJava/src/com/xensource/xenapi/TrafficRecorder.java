@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Records the calls of one or more Connections to a gzip-compressed file, as the request sent and the response
+ * received for each, so that a TrafficReplay can play them back later without a server: for example, to benchmark the
+ * decoding of a production pool's records on a laptop. For example:
+ *
+ * <pre>
+ *     TrafficRecorder recorder = new TrafficRecorder(new File("pool.xentraffic"), connection.getProtocol());
+ *     connection.setTrafficRecorder(recorder);
+ *     ... make calls ...
+ *     recorder.close();
+ * </pre>
+ *
+ * Responses are recorded decompressed, whatever Content-Encoding they were received in. The requests of the methods
+ * that carry credentials (see isRedacted()) are not recorded: only their responses are, and a replay matches them by
+ * method alone. The calls that read the values of secrets (see isResponseRedacted()) are not recorded at all, so they
+ * cannot be replayed.
+ *
+ * Everything else that the calls carried is in the file, session references included, and it may still hold
+ * secrets: for example the device_config of PBD records, or the values in the snapshots of events on the secret
+ * class. A recording should be kept as safe as the pool it came from.
+ *
+ * A call whose response is not read to its end, because it failed, is not recorded. Recording is safe from any number
+ * of threads. An error writing the file stops the recording without failing the calls, and is thrown by close().
+ */
+public class TrafficRecorder implements Closeable
+{
+    static final String MAGIC = "XenServerJava traffic";
+    static final int VERSION = 1;
+
+    /**
+     * Precedes each exchange in the file
+     */
+    static final int EXCHANGE = 1;
+
+    private static final byte[] REDACTED = new byte[0];
+
+    private static final Set<String> REDACTED_REQUESTS = new HashSet<String>(Arrays.asList(
+        "pool.join", "pool.join_force", "pool.enable_external_auth", "pool.disable_external_auth",
+        "host.enable_external_auth", "host.disable_external_auth", "SR.create", "SR.probe", "SR.probe_ext",
+        "PBD.create", "PBD.set_device_config", "secret.create", "secret.set_value"));
+
+    private static final Set<String> REDACTED_RESPONSES = new HashSet<String>(Arrays.asList(
+        "secret.get_value", "secret.get_record", "secret.get_all_records", "secret.get_all_records_where"));
+
+    private final Connection.Protocol protocol;
+    private final DataOutputStream out;
+    private long exchanges;
+    private boolean closed;
+    private IOException failure;
+
+    /**
+     * Creates the file, replacing any file of that name.
+     *
+     * @param protocol The protocol of the connections that will be recorded
+     */
+    public TrafficRecorder(File file, Connection.Protocol protocol) throws IOException
+    {
+        this.protocol = protocol;
+        this.out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(file),
+            65536), 65536));
+        out.writeUTF(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(protocol.name());
+    }
+
+    public Connection.Protocol getProtocol()
+    {
+        return protocol;
+    }
+
+    /**
+     * @return The number of exchanges recorded so far
+     */
+    public synchronized long getExchangeCount()
+    {
+        return exchanges;
+    }
+
+    /**
+     * @return Whether the request of a method is left out of recordings, because it carries a password or other
+     * credentials: the login methods, session.change_password, pool.join, the methods that enable or disable external
+     * authentication, those that pass a device_config (SR.create, SR.probe, PBD.create and PBD.set_device_config),
+     * and those that set the value of a secret; each with its Async variant
+     */
+    public static boolean isRedacted(String method)
+    {
+        String name = synchronous(method);
+        return name.startsWith("session.") && (name.contains("login") || name.contains("password")) ||
+            REDACTED_REQUESTS.contains(name);
+    }
+
+    /**
+     * @return Whether the calls of a method are left out of recordings altogether, because their response carries the
+     * value of a secret: secret.get_value, and the methods that read secret records
+     */
+    public static boolean isResponseRedacted(String method)
+    {
+        return REDACTED_RESPONSES.contains(synchronous(method));
+    }
+
+    private static String synchronous(String method)
+    {
+        return method.startsWith("Async.") ? method.substring("Async.".length()) : method;
+    }
+
+    /**
+     * Writes out the exchanges recorded so far, e.g. before leaving a long-running recording in a state that can be
+     * replayed. The file is only complete once closed.
+     */
+    public synchronized void flush() throws IOException
+    {
+        if (failure != null)
+            throw failure;
+        if (!closed)
+            out.flush();
+    }
+
+    /**
+     * Stops the recording and completes the file. Calls that complete afterwards are not recorded.
+     *
+     * @throws IOException if writing the file failed, now or during the recording
+     */
+    public synchronized void close() throws IOException
+    {
+        if (!closed)
+        {
+            closed = true;
+            try
+            {
+                out.close();
+            }
+            catch (IOException e)
+            {
+                if (failure == null)
+                    failure = e;
+            }
+        }
+        if (failure != null)
+            throw failure;
+    }
+
+    /**
+     * @param request The body of the request as sent
+     * @param response The body of the response, decompressed
+     */
+    synchronized void record(String method, byte[] request, byte[] response)
+    {
+        if (closed || isResponseRedacted(method))
+            return;
+        try
+        {
+            out.writeByte(EXCHANGE);
+            out.writeUTF(method);
+            write(isRedacted(method) ? REDACTED : request);
+            write(response);
+            exchanges++;
+        }
+        catch (IOException e)
+        {
+            failure = e;
+            closed = true;
+            try
+            {
+                out.close();
+            }
+            catch (IOException ignored)
+            {
+                // Already failed
+            }
+        }
+    }
+
+    private void write(byte[] bytes) throws IOException
+    {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
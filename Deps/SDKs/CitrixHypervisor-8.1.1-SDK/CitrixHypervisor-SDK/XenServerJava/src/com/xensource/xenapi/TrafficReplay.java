@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.xmlrpc.client.XmlRpcClientException;
+
+/**
+ * Plays back a file written by a TrafficRecorder: the Connections it makes take the response to each of their calls
+ * from the recording, after a configurable latency, instead of sending it to a server. Every generated method can be
+ * replayed, through every transport of the connection (including Batches, callAsync() and the record streams of
+ * getAllRecords(c, handler)), so that the decoding of a captured pool can be benchmarked without a network. For
+ * example:
+ *
+ * <pre>
+ *     TrafficReplay replay = TrafficReplay.load(new File("pool.xentraffic"));
+ *     replay.setLatency(2);
+ *     Connection c = replay.newConnection();
+ *     Session.loginWithPassword(c, "root", "", APIVersion.latest().toString());
+ *     Map&lt;VM, VM.Record&gt; vms = VM.getAllRecords(c);
+ * </pre>
+ *
+ * A call is answered with a response recorded for the same method and parameters, the JSON-RPC request id aside. The
+ * responses recorded for the same request are given in the order they were recorded, starting again from the first
+ * once all have been given, so that a replayed sequence of calls gets the same responses every time it is run; reset()
+ * starts them all again. Unless the replay is strict, a request that was never recorded is answered in the same way
+ * with the responses recorded for its method, whatever their parameters; a login, whose request is not recorded, is
+ * always answered so. A method that was never recorded fails with an XmlRpcClientException.
+ *
+ * The recording is held in memory, decompressed. A replay may be shared by any number of connections and threads.
+ */
+public class TrafficReplay
+{
+    private static final URL REPLAY_URL = replayURL();
+
+    /**
+     * Precedes the id at the end of a JSON-RPC request
+     */
+    private static final byte[] ID = ",\"id\":".getBytes(StandardCharsets.US_ASCII);
+
+    private final Connection.Protocol protocol;
+    private final Map<String, MethodResponses> methods = new LinkedHashMap<String, MethodResponses>();
+    private int exchanges;
+    private volatile long latency;
+    private volatile boolean strict;
+
+    private TrafficReplay(Connection.Protocol protocol)
+    {
+        this.protocol = protocol;
+    }
+
+    /**
+     * Reads a recording. One whose recorder was not closed, e.g. because its process died, is read up to the last
+     * exchange that reached the file.
+     *
+     * @throws IOException if the file cannot be read, or is not a recording
+     */
+    public static TrafficReplay load(File file) throws IOException
+    {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(file),
+            65536), 65536));
+        try
+        {
+            if (!TrafficRecorder.MAGIC.equals(in.readUTF()))
+                throw new IOException(file + " is not a recording of XenAPI calls");
+            int version = in.readInt();
+            if (version != TrafficRecorder.VERSION)
+                throw new IOException(file + " is a recording of version " + version + ", which cannot be read");
+            TrafficReplay replay = new TrafficReplay(Connection.Protocol.valueOf(in.readUTF()));
+
+            try
+            {
+                int marker;
+                while ((marker = in.read()) == TrafficRecorder.EXCHANGE)
+                {
+                    String method = in.readUTF();
+                    byte[] request = read(in);
+                    byte[] response = read(in);
+                    replay.add(method, request, response);
+                }
+                if (marker >= 0)
+                    throw new IOException(file + " is corrupt after " + replay.exchanges + " exchanges");
+            }
+            catch (EOFException e)
+            {
+                // Truncated: keep the exchanges read so far
+            }
+            return replay;
+        }
+        finally
+        {
+            in.close();
+        }
+    }
+
+    public Connection.Protocol getProtocol()
+    {
+        return protocol;
+    }
+
+    /**
+     * @return The number of exchanges in the recording
+     */
+    public synchronized int getExchangeCount()
+    {
+        return exchanges;
+    }
+
+    /**
+     * @return The methods that were recorded, in the order they were first called
+     */
+    public synchronized Set<String> getMethods()
+    {
+        return Collections.unmodifiableSet(new LinkedHashSet<String>(methods.keySet()));
+    }
+
+    /**
+     * @return The time in milliseconds that each call waits for its response
+     */
+    public long getLatency()
+    {
+        return latency;
+    }
+
+    /**
+     * Sets the time that each call waits for its response, in place of the time that the server took. The default is
+     * none, so that a benchmark measures the bindings alone. A call made with callAsync() does not block a thread
+     * whilst it waits.
+     *
+     * @param millis The latency in milliseconds
+     */
+    public void setLatency(long millis)
+    {
+        if (millis < 0)
+            throw new IllegalArgumentException("The latency cannot be negative");
+        latency = millis;
+    }
+
+    public boolean isStrict()
+    {
+        return strict;
+    }
+
+    /**
+     * @param strict Whether a request that was never recorded fails, rather than being answered with a response
+     * recorded for its method (by default, it is answered)
+     */
+    public void setStrict(boolean strict)
+    {
+        this.strict = strict;
+    }
+
+    /**
+     * Starts the responses to every request again from the first one recorded.
+     */
+    public synchronized void reset()
+    {
+        for (MethodResponses responses : methods.values())
+        {
+            responses.any.next = 0;
+            for (Responses byRequest : responses.byRequest.values())
+                byRequest.next = 0;
+        }
+    }
+
+    /**
+     * Creates a connection, in the protocol of the recording, whose calls are answered by this replay. It is not
+     * logged in: log it in as with a server, with any password.
+     */
+    public Connection newConnection()
+    {
+        Connection connection = new Connection(REPLAY_URL, protocol, Connection.DEFAULT_REPLY_TIMEOUT,
+            Connection.DEFAULT_CONNECTION_TIMEOUT);
+        connection.replayFrom(this);
+        return connection;
+    }
+
+    /**
+     * Waits for the latency, then returns the response to a request.
+     *
+     * @throws XmlRpcClientException if nothing was recorded for the request, or the wait was interrupted
+     */
+    InputStream respond(String method, byte[] request) throws XmlRpcClientException
+    {
+        long millis = latency;
+        if (millis > 0)
+        {
+            try
+            {
+                Thread.sleep(millis);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new XmlRpcClientException("Interrupted whilst waiting for the response to " + method, e);
+            }
+        }
+        return new ByteArrayInputStream(lookup(method, request));
+    }
+
+    /**
+     * @return The body of the response to a request, at once
+     * @throws XmlRpcClientException if nothing was recorded for the request
+     */
+    synchronized byte[] lookup(String method, byte[] request) throws XmlRpcClientException
+    {
+        MethodResponses responses = methods.get(method);
+        if (responses == null)
+            throw new XmlRpcClientException("No call to " + method + " was recorded", null);
+
+        if (TrafficRecorder.isRedacted(method))
+            return responses.any.next();
+        Responses byRequest = responses.byRequest.get(key(request));
+        if (byRequest != null)
+            return byRequest.next();
+        if (strict)
+            throw new XmlRpcClientException("No call to " + method + " with these parameters was recorded", null);
+        return responses.any.next();
+    }
+
+    private synchronized void add(String method, byte[] request, byte[] response)
+    {
+        MethodResponses responses = methods.get(method);
+        if (responses == null)
+        {
+            responses = new MethodResponses();
+            methods.put(method, responses);
+        }
+        responses.any.add(response);
+        if (!TrafficRecorder.isRedacted(method))
+        {
+            ByteBuffer key = key(request);
+            Responses byRequest = responses.byRequest.get(key);
+            if (byRequest == null)
+            {
+                byRequest = new Responses();
+                responses.byRequest.put(key, byRequest);
+            }
+            byRequest.add(response);
+        }
+        exchanges++;
+    }
+
+    /**
+     * @return The part of a request by which its response is found: all of it, except the id of a JSON-RPC request,
+     * which the codec writes at its end and which differs from one run to the next
+     */
+    private ByteBuffer key(byte[] request)
+    {
+        if (protocol == Connection.Protocol.JSON_RPC)
+        {
+            int id = lastIndexOf(request, ID);
+            if (id >= 0)
+                return ByteBuffer.wrap(request, 0, id);
+        }
+        return ByteBuffer.wrap(request);
+    }
+
+    private static int lastIndexOf(byte[] bytes, byte[] pattern)
+    {
+        outer:
+        for (int i = bytes.length - pattern.length; i >= 0; i--)
+        {
+            for (int j = 0; j < pattern.length; j++)
+            {
+                if (bytes[i + j] != pattern[j])
+                    continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static byte[] read(DataInputStream in) throws IOException
+    {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static URL replayURL()
+    {
+        try
+        {
+            return new URL("http://replay.invalid/");
+        }
+        catch (MalformedURLException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The responses recorded for one method: all of them, and those for each request
+     */
+    private static class MethodResponses
+    {
+        final Responses any = new Responses();
+        final Map<ByteBuffer, Responses> byRequest = new HashMap<ByteBuffer, Responses>();
+    }
+
+    /**
+     * Responses given in the order they were recorded, round and round
+     */
+    private static class Responses
+    {
+        final List<byte[]> bodies = new ArrayList<byte[]>(1);
+        int next;
+
+        void add(byte[] body)
+        {
+            bodies.add(body);
+        }
+
+        byte[] next()
+        {
+            byte[] body = bodies.get(next);
+            next = (next + 1) % bodies.size();
+            return body;
+        }
+    }
+}
@@ -36,10 +36,12 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.LinkedHashSet;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.io.IOException;
+import javax.xml.stream.XMLStreamException;
 
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -61,6 +63,14 @@ public class Types
         Map<String, Object> toMap();
     }
 
+    /**
+     * Receives the records of a streamed getAllRecords call, one at a time, as soon as each has been decoded
+     */
+    public static interface RecordHandler<K, R>
+    {
+        void handle(K ref, R record) throws XenAPIException, XmlRpcException;
+    }
+
     /**
      * Helper method.
      */
@@ -81,13 +91,13 @@ public class Types
         public final String shortDescription;
         public final String[] errorDescription;
 
-        XenAPIException(String shortDescription)
+        protected XenAPIException(String shortDescription)
         {
             this.shortDescription = shortDescription;
             this.errorDescription = null;
         }
 
-        XenAPIException(String[] errorDescription)
+        protected XenAPIException(String[] errorDescription)
         {
             this.errorDescription = errorDescription;
 
@@ -157,2604 +167,1149 @@ public class Types
         }
     }
 
-    private static String parseResult(String result) throws BadAsyncResult
-    {
-        Pattern pattern = Pattern.compile("<value>(.*)</value>");
-        Matcher matcher = pattern.matcher(result);
-        matcher.find();
+    private static final String VALUE_START = "<value>";
+    private static final String VALUE_END = "</value>";
 
-        if (matcher.groupCount() != 1)
-        {
-            throw new Types.BadAsyncResult("Can't interpret: " + result);
-        }
+    /**
+     * The time zone in which the server writes dates, as every Connection decodes them
+     */
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
 
-        return matcher.group(1);
-    }
-      /**
-     * Checks the provided server response was successful. If the call failed, throws a XenAPIException. If the server
-     * returned an invalid response, throws a BadServerResponse. Otherwise, returns the server response as passed in.
+    /**
+     * Decodes the result of an asynchronous call, as held in the result field of its task, into the object that the
+     * call would have returned if it had been made synchronously: a String (such as a reference), an Object[], a Map
+     * and so on, ready to be converted by the toXxx(Object) methods, e.g. toSetOfVM(parseAsyncResult(record.result)).
+     *
+     * A result that is a value element holding plain text, which is the case for references, is decoded without an
+     * XML parser.
+     *
+     * @return null if the result is null or empty
+     * @throws BadAsyncResult if the result is not an xml-rpc value
      */
-    static Map checkResponse(Map response) throws XenAPIException, BadServerResponse
+    public static Object parseAsyncResult(String result) throws BadAsyncResult
     {
-        if (response.get("Status").equals("Success"))
+        if (result == null)
+            return null;
+        String value = result.trim();
+        if (value.isEmpty())
+            return null;
+
+        int end = value.length() - VALUE_END.length();
+        if (value.startsWith(VALUE_START) && value.endsWith(VALUE_END)
+            && value.indexOf('<', VALUE_START.length()) == end && value.indexOf('&') < 0)
         {
-            return response;
+            return value.substring(VALUE_START.length(), end);
         }
 
-        if (response.get("Status").equals("Failure"))
+        try
         {
-            String[] ErrorDescription = ObjectArrayToStringArray((Object[]) response.get("ErrorDescription"));
-
-            if (ErrorDescription[0].equals("HOST_NOT_ENOUGH_PCPUS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.HostNotEnoughPcpus(p1, p2);
-            }
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED_DOMAIN_LOOKUP_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailedDomainLookupFailed(p1);
-            }
-            if (ErrorDescription[0].equals("PVS_SITE_CONTAINS_RUNNING_PROXIES"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PvsSiteContainsRunningProxies(p1);
-            }
-            if (ErrorDescription[0].equals("HA_ENABLE_IN_PROGRESS"))
-            {
-                throw new Types.HaEnableInProgress();
-            }
-            if (ErrorDescription[0].equals("DISK_VBD_MUST_BE_READWRITE_FOR_HVM"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DiskVbdMustBeReadwriteForHvm(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_PRECHECK_FAILED_UNKNOWN_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.UpdatePrecheckFailedUnknownError(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VDI_NOT_IN_MAP"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiNotInMap(p1);
-            }
-            if (ErrorDescription[0].equals("SR_FULL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.SrFull(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_HAS_SRIOV_VIF"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHasSriovVif(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_DISABLED_UNTIL_REBOOT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostDisabledUntilReboot(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_IS_NOT_PHYSICAL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIsNotPhysical(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_CONTACT_HOST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotContactHost(p1);
-            }
-            if (ErrorDescription[0].equals("EVENT_SUBSCRIPTION_PARSE_FAILURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.EventSubscriptionParseFailure(p1);
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR_PREMATURE_EOF"))
-            {
-                throw new Types.ImportErrorPrematureEof();
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_CANNOT_CONTAIN_SHARED_SRS"))
-            {
-                throw new Types.JoiningHostCannotContainSharedSrs();
-            }
-            if (ErrorDescription[0].equals("CANNOT_ADD_TUNNEL_TO_VLAN_ON_SRIOV_LOGICAL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotAddTunnelToVlanOnSriovLogical(p1);
-            }
-            if (ErrorDescription[0].equals("CLUSTER_STACK_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusterStackInUse(p1);
-            }
-            if (ErrorDescription[0].equals("AUTH_DISABLE_FAILED_PERMISSION_DENIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthDisableFailedPermissionDenied(p1);
-            }
-            if (ErrorDescription[0].equals("VM_CHECKPOINT_RESUME_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmCheckpointResumeFailed(p1);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_CREATING_SNAPSHOT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorCreatingSnapshot(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PIF_ALREADY_BONDED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifAlreadyBonded(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_HAS_NO_MANAGEMENT_IP"))
-            {
-                throw new Types.HostHasNoManagementIp();
-            }
-            if (ErrorDescription[0].equals("CLUSTER_ALREADY_EXISTS"))
-            {
-                throw new Types.ClusterAlreadyExists();
-            }
-            if (ErrorDescription[0].equals("INCOMPATIBLE_CLUSTER_STACK_ACTIVE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.IncompatibleClusterStackActive(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_UNKNOWN_TO_MASTER"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostUnknownToMaster(p1);
-            }
-            if (ErrorDescription[0].equals("ACTIVATION_WHILE_NOT_FREE"))
-            {
-                throw new Types.ActivationWhileNotFree();
-            }
-            if (ErrorDescription[0].equals("PUSB_VDI_CONFLICT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PusbVdiConflict(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NETWORK_INCOMPATIBLE_WITH_VLAN_ON_BRIDGE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkIncompatibleWithVlanOnBridge(p1);
-            }
-            if (ErrorDescription[0].equals("VM_CALL_PLUGIN_RATE_LIMIT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmCallPluginRateLimit(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("VM_ASSIGNED_TO_PROTECTION_POLICY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmAssignedToProtectionPolicy(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_SR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmRequiresSr(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HOST_ITS_OWN_SLAVE"))
-            {
-                throw new Types.HostItsOwnSlave();
-            }
-            if (ErrorDescription[0].equals("WLB_XENSERVER_AUTHENTICATION_FAILED"))
-            {
-                throw new Types.WlbXenserverAuthenticationFailed();
-            }
-            if (ErrorDescription[0].equals("NETWORK_SRIOV_DISABLE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.NetworkSriovDisableFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CPU_FEATURE_MASKING_NOT_SUPPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CpuFeatureMaskingNotSupported(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_CD_DRIVE_EMPTY"))
-            {
-                throw new Types.HostCdDriveEmpty();
-            }
-            if (ErrorDescription[0].equals("PGPU_INSUFFICIENT_CAPACITY_FOR_VGPU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PgpuInsufficientCapacityForVgpu(p1, p2);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_HAS_BONDS"))
-            {
-                throw new Types.PoolJoiningHostHasBonds();
-            }
-            if (ErrorDescription[0].equals("HA_CONSTRAINT_VIOLATION_SR_NOT_SHARED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HaConstraintViolationSrNotShared(p1);
-            }
-            if (ErrorDescription[0].equals("SUBJECT_CANNOT_BE_RESOLVED"))
-            {
-                throw new Types.SubjectCannotBeResolved();
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_DUPLICATE_HOSTNAME"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedDuplicateHostname(p1, p2);
-            }
-            if (ErrorDescription[0].equals("AUTH_DISABLE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthDisableFailed(p1);
-            }
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailed(p1);
-            }
-            if (ErrorDescription[0].equals("AUTH_SERVICE_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthServiceError(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_DISABLE_FAILED_PERMISSION_DENIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthDisableFailedPermissionDenied(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_NO_VCPUS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmNoVcpus(p1);
-            }
-            if (ErrorDescription[0].equals("VM_LACKS_FEATURE_STATIC_IP_SETTING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmLacksFeatureStaticIpSetting(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_INCOMPATIBLE_PRIMARY_ADDRESS_TYPE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIncompatiblePrimaryAddressType(p1);
-            }
-            if (ErrorDescription[0].equals("VMPP_HAS_VM"))
-            {
-                throw new Types.VmppHasVm();
-            }
-            if (ErrorDescription[0].equals("TASK_CANCELLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.TaskCancelled(p1);
-            }
-            if (ErrorDescription[0].equals("GPU_GROUP_CONTAINS_PGPU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.GpuGroupContainsPgpu(p1);
-            }
-            if (ErrorDescription[0].equals("HA_CONSTRAINT_VIOLATION_NETWORK_NOT_SHARED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HaConstraintViolationNetworkNotShared(p1);
-            }
-            if (ErrorDescription[0].equals("VBD_TRAY_LOCKED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VbdTrayLocked(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_VLAN_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifVlanExists(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_MANAGEMENT_VLAN_DOES_NOT_MATCH"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolJoiningHostManagementVlanDoesNotMatch(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PVS_PROXY_ALREADY_PRESENT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PvsProxyAlreadyPresent(p1);
-            }
-            if (ErrorDescription[0].equals("VM_BIOS_STRINGS_ALREADY_SET"))
-            {
-                throw new Types.VmBiosStringsAlreadySet();
-            }
-            if (ErrorDescription[0].equals("MESSAGE_REMOVED"))
-            {
-                throw new Types.MessageRemoved();
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR_UNEXPECTED_FILE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.ImportErrorUnexpectedFile(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_IS_PART_OF_AN_APPLIANCE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmIsPartOfAnAppliance(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_WRONG_SERVER_BUILD"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.PatchPrecheckFailedWrongServerBuild(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("CLUSTER_FORCE_DESTROY_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusterForceDestroyFailed(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_CONTAINS_VIF"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkContainsVif(p1);
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_OUT_OF_SPACE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.PatchPrecheckFailedOutOfSpace(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("IMPORT_INCOMPATIBLE_VERSION"))
-            {
-                throw new Types.ImportIncompatibleVersion();
-            }
-            if (ErrorDescription[0].equals("VIF_NOT_IN_MAP"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VifNotInMap(p1);
-            }
-            if (ErrorDescription[0].equals("OUT_OF_SPACE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.OutOfSpace(p1);
-            }
-            if (ErrorDescription[0].equals("PBD_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.PbdExists(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("HOST_MASTER_CANNOT_TALK_BACK"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostMasterCannotTalkBack(p1);
-            }
-            if (ErrorDescription[0].equals("INVALID_CIDR_ADDRESS_SPECIFIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidCidrAddressSpecified(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_CONNECTION_RESET"))
-            {
-                throw new Types.WlbConnectionReset();
-            }
-            if (ErrorDescription[0].equals("UPDATE_ALREADY_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UpdateAlreadyExists(p1);
-            }
-            if (ErrorDescription[0].equals("SR_BACKEND_FAILURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.SrBackendFailure(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("SR_ATTACH_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrAttachFailed(p1);
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_VM_RUNNING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PatchPrecheckFailedVmRunning(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_ENABLE_REDO_LOG"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotEnableRedoLog(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_DISABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostDisabled(p1);
-            }
-            if (ErrorDescription[0].equals("VLAN_TAG_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VlanTagInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("FAILED_TO_START_EMULATOR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.FailedToStartEmulator(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED_INVALID_OU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailedInvalidOu(p1);
-            }
-            if (ErrorDescription[0].equals("OBJECT_NOLONGER_EXISTS"))
-            {
-                throw new Types.ObjectNolongerExists();
-            }
-            if (ErrorDescription[0].equals("FEATURE_RESTRICTED"))
-            {
-                throw new Types.FeatureRestricted();
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_UNKNOWN_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PatchPrecheckFailedUnknownError(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CLUSTER_CREATE_IN_PROGRESS"))
-            {
-                throw new Types.ClusterCreateInProgress();
-            }
-            if (ErrorDescription[0].equals("VM_LACKS_FEATURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmLacksFeature(p1);
-            }
-            if (ErrorDescription[0].equals("INVALID_PATCH_WITH_LOG"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidPatchWithLog(p1);
-            }
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED_INVALID_ACCOUNT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailedInvalidAccount(p1);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_ADDING_VOLUME_TO_SNAPSET_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorAddingVolumeToSnapsetFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_PREREQUISITE_MISSING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PatchPrecheckFailedPrerequisiteMissing(p1, p2);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_PREPARING_WRITERS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorPreparingWriters(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_LACKS_FEATURE_SUSPEND"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmLacksFeatureSuspend(p1);
-            }
-            if (ErrorDescription[0].equals("BACKUP_SCRIPT_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.BackupScriptFailed(p1);
-            }
-            if (ErrorDescription[0].equals("TOO_MANY_STORAGE_MIGRATES"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.TooManyStorageMigrates(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_MALFORMED_REQUEST"))
-            {
-                throw new Types.WlbMalformedRequest();
-            }
-            if (ErrorDescription[0].equals("IS_TUNNEL_ACCESS_PIF"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.IsTunnelAccessPif(p1);
-            }
-            if (ErrorDescription[0].equals("OPERATION_BLOCKED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.OperationBlocked(p1, p2);
-            }
-            if (ErrorDescription[0].equals("TLS_CONNECTION_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.TlsConnectionFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SR_DOES_NOT_SUPPORT_MIGRATION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrDoesNotSupportMigration(p1);
-            }
-            if (ErrorDescription[0].equals("TOO_BUSY"))
-            {
-                throw new Types.TooBusy();
-            }
-            if (ErrorDescription[0].equals("VM_LACKS_FEATURE_SHUTDOWN"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmLacksFeatureShutdown(p1);
-            }
-            if (ErrorDescription[0].equals("PVS_SERVER_ADDRESS_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PvsServerAddressInUse(p1);
-            }
-            if (ErrorDescription[0].equals("PROVISION_FAILED_OUT_OF_SPACE"))
-            {
-                throw new Types.ProvisionFailedOutOfSpace();
-            }
-            if (ErrorDescription[0].equals("WLB_CONNECTION_REFUSED"))
-            {
-                throw new Types.WlbConnectionRefused();
-            }
-            if (ErrorDescription[0].equals("DOMAIN_BUILDER_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.DomainBuilderError(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("RBAC_PERMISSION_DENIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.RbacPermissionDenied(p1, p2);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_HAS_NON_MANAGEMENT_VLANS"))
-            {
-                throw new Types.PoolJoiningHostHasNonManagementVlans();
-            }
-            if (ErrorDescription[0].equals("PIF_BOND_NEEDS_MORE_MEMBERS"))
-            {
-                throw new Types.PifBondNeedsMoreMembers();
-            }
-            if (ErrorDescription[0].equals("PATCH_IS_APPLIED"))
-            {
-                throw new Types.PatchIsApplied();
-            }
-            if (ErrorDescription[0].equals("VDI_TOO_LARGE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiTooLarge(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_HAS_PCI_ATTACHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHasPciAttached(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_DOMAIN_LOOKUP_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedDomainLookupFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CANNOT_PLUG_BOND_SLAVE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotPlugBondSlave(p1);
-            }
-            if (ErrorDescription[0].equals("USER_IS_NOT_LOCAL_SUPERUSER"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UserIsNotLocalSuperuser(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_CREATE_STATE_FILE"))
-            {
-                throw new Types.CannotCreateStateFile();
-            }
-            if (ErrorDescription[0].equals("MAC_STILL_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.MacStillExists(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_PRECHECK_FAILED_OUT_OF_SPACE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.UpdatePrecheckFailedOutOfSpace(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("AUTH_UNKNOWN_TYPE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthUnknownType(p1);
-            }
-            if (ErrorDescription[0].equals("VM_MIGRATE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                String p4 = ErrorDescription.length > 4 ? ErrorDescription[4] : "";
-                throw new Types.VmMigrateFailed(p1, p2, p3, p4);
-            }
-            if (ErrorDescription[0].equals("HOST_POWER_ON_MODE_DISABLED"))
-            {
-                throw new Types.HostPowerOnModeDisabled();
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_PROV_NOT_LOADED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorProvNotLoaded(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SYSTEM_STATUS_RETRIEVAL_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SystemStatusRetrievalFailed(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_NOT_LIVE"))
-            {
-                throw new Types.HostNotLive();
-            }
-            if (ErrorDescription[0].equals("CANNOT_CHANGE_PIF_PROPERTIES"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotChangePifProperties(p1);
-            }
-            if (ErrorDescription[0].equals("VM_SUSPEND_TIMEOUT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmSuspendTimeout(p1, p2);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_UNAVAILABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedUnavailable(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NETWORK_HAS_INCOMPATIBLE_SRIOV_PIFS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.NetworkHasIncompatibleSriovPifs(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_HAS_CHECKPOINT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHasCheckpoint(p1);
-            }
-            if (ErrorDescription[0].equals("VM_HAS_TOO_MANY_SNAPSHOTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHasTooManySnapshots(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_MUST_HAVE_SAME_API_VERSION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolJoiningHostMustHaveSameApiVersion(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CANNOT_FORGET_SRIOV_LOGICAL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotForgetSriovLogical(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_NOT_MANAGED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiNotManaged(p1);
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_NETWORK"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmRequiresNetwork(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CLUSTER_DOES_NOT_HAVE_ONE_NODE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusterDoesNotHaveOneNode(p1);
-            }
-            if (ErrorDescription[0].equals("COULD_NOT_IMPORT_DATABASE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CouldNotImportDatabase(p1);
-            }
-            if (ErrorDescription[0].equals("VM_HOST_INCOMPATIBLE_VERSION_MIGRATE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmHostIncompatibleVersionMigrate(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HOST_IN_EMERGENCY_MODE"))
-            {
-                throw new Types.HostInEmergencyMode();
-            }
-            if (ErrorDescription[0].equals("HA_LOST_STATEFILE"))
-            {
-                throw new Types.HaLostStatefile();
-            }
-            if (ErrorDescription[0].equals("PIF_DEVICE_NOT_FOUND"))
-            {
-                throw new Types.PifDeviceNotFound();
-            }
-            if (ErrorDescription[0].equals("SR_INDESTRUCTIBLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrIndestructible(p1);
-            }
-            if (ErrorDescription[0].equals("PGPU_IN_USE_BY_VM"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PgpuInUseByVm(p1);
-            }
-            if (ErrorDescription[0].equals("BRIDGE_NOT_AVAILABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.BridgeNotAvailable(p1);
-            }
-            if (ErrorDescription[0].equals("XAPI_HOOK_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                String p4 = ErrorDescription.length > 4 ? ErrorDescription[4] : "";
-                throw new Types.XapiHookFailed(p1, p2, p3, p4);
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_WRONG_SERVER_VERSION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.PatchPrecheckFailedWrongServerVersion(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("HA_FAILED_TO_FORM_LIVESET"))
-            {
-                throw new Types.HaFailedToFormLiveset();
-            }
-            if (ErrorDescription[0].equals("VDI_NOT_AVAILABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiNotAvailable(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_XENSERVER_MALFORMED_RESPONSE"))
-            {
-                throw new Types.WlbXenserverMalformedResponse();
-            }
-            if (ErrorDescription[0].equals("NOT_SUPPORTED_DURING_UPGRADE"))
-            {
-                throw new Types.NotSupportedDuringUpgrade();
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_CONNECTION_FAILED"))
-            {
-                throw new Types.JoiningHostConnectionFailed();
-            }
-            if (ErrorDescription[0].equals("FEATURE_REQUIRES_HVM"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.FeatureRequiresHvm(p1);
-            }
-            if (ErrorDescription[0].equals("SUSPEND_IMAGE_NOT_ACCESSIBLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SuspendImageNotAccessible(p1);
-            }
-            if (ErrorDescription[0].equals("INVALID_CLUSTER_STACK"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidClusterStack(p1);
-            }
-            if (ErrorDescription[0].equals("TOO_MANY_PENDING_TASKS"))
-            {
-                throw new Types.TooManyPendingTasks();
-            }
-            if (ErrorDescription[0].equals("CANNOT_PLUG_VIF"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotPlugVif(p1);
-            }
-            if (ErrorDescription[0].equals("OTHER_OPERATION_IN_PROGRESS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.OtherOperationInProgress(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PIF_NOT_PRESENT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PifNotPresent(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CLUSTERING_ENABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusteringEnabled(p1);
-            }
-            if (ErrorDescription[0].equals("USB_GROUP_CONTAINS_VUSB"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UsbGroupContainsVusb(p1);
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_VUSB"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmRequiresVusb(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PIF_BOND_MORE_THAN_ONE_IP"))
-            {
-                throw new Types.PifBondMoreThanOneIp();
-            }
-            if (ErrorDescription[0].equals("PIF_IS_PHYSICAL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIsPhysical(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_INCOMPATIBLE_WITH_BOND"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkIncompatibleWithBond(p1);
-            }
-            if (ErrorDescription[0].equals("MESSAGE_DEPRECATED"))
-            {
-                throw new Types.MessageDeprecated();
-            }
-            if (ErrorDescription[0].equals("VDI_CONTAINS_METADATA_OF_THIS_POOL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiContainsMetadataOfThisPool(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_SNAPSHOT_WITH_QUIESCE_TIMEOUT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmSnapshotWithQuiesceTimeout(p1);
-            }
-            if (ErrorDescription[0].equals("VM_HVM_REQUIRED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHvmRequired(p1);
-            }
-            if (ErrorDescription[0].equals("SR_SOURCE_SPACE_INSUFFICIENT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrSourceSpaceInsufficient(p1);
-            }
-            if (ErrorDescription[0].equals("HA_NO_PLAN"))
-            {
-                throw new Types.HaNoPlan();
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_VGPU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmRequiresVgpu(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("WLB_AUTHENTICATION_FAILED"))
-            {
-                throw new Types.WlbAuthenticationFailed();
-            }
-            if (ErrorDescription[0].equals("VBD_CDS_MUST_BE_READONLY"))
-            {
-                throw new Types.VbdCdsMustBeReadonly();
-            }
-            if (ErrorDescription[0].equals("GPU_GROUP_CONTAINS_NO_PGPUS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.GpuGroupContainsNoPgpus(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_HAS_RESIDENT_VMS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostHasResidentVms(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_DISABLED"))
-            {
-                throw new Types.WlbDisabled();
-            }
-            if (ErrorDescription[0].equals("LICENSE_EXPIRED"))
-            {
-                throw new Types.LicenseExpired();
-            }
-            if (ErrorDescription[0].equals("HA_OPERATION_WOULD_BREAK_FAILOVER_PLAN"))
-            {
-                throw new Types.HaOperationWouldBreakFailoverPlan();
-            }
-            if (ErrorDescription[0].equals("VM_BAD_POWER_STATE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmBadPowerState(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("INCOMPATIBLE_PIF_PROPERTIES"))
-            {
-                throw new Types.IncompatiblePifProperties();
-            }
-            if (ErrorDescription[0].equals("USB_ALREADY_ATTACHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.UsbAlreadyAttached(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_IOMMU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmRequiresIommu(p1);
-            }
-            if (ErrorDescription[0].equals("HOSTS_NOT_HOMOGENEOUS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostsNotHomogeneous(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_IS_LIVE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostIsLive(p1);
-            }
-            if (ErrorDescription[0].equals("VM_IS_IMMOBILE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmIsImmobile(p1);
-            }
-            if (ErrorDescription[0].equals("VM_NO_EMPTY_CD_VBD"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmNoEmptyCdVbd(p1);
-            }
-            if (ErrorDescription[0].equals("TOO_MANY_VUSBS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.TooManyVusbs(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_ALREADY_APPLIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UpdateAlreadyApplied(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_IS_ENCRYPTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiIsEncrypted(p1);
-            }
-            if (ErrorDescription[0].equals("VM_ATTACHED_TO_MORE_THAN_ONE_VDI_WITH_TIMEOFFSET_MARKED_AS_RESET_ON_BOOT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmAttachedToMoreThanOneVdiWithTimeoffsetMarkedAsResetOnBoot(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_INCOMPATIBLE_WITH_SRIOV"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkIncompatibleWithSriov(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_MUST_HAVE_SAME_PRODUCT_VERSION"))
-            {
-                throw new Types.PoolJoiningHostMustHaveSameProductVersion();
-            }
-            if (ErrorDescription[0].equals("HOST_IS_SLAVE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostIsSlave(p1);
-            }
-            if (ErrorDescription[0].equals("UNKNOWN_BOOTLOADER"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.UnknownBootloader(p1, p2);
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_SERVICE_FAILED"))
-            {
-                throw new Types.JoiningHostServiceFailed();
-            }
-            if (ErrorDescription[0].equals("BALLOONING_TIMEOUT_BEFORE_MIGRATION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.BallooningTimeoutBeforeMigration(p1);
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_CANNOT_BE_MASTER_OF_OTHER_HOSTS"))
-            {
-                throw new Types.JoiningHostCannotBeMasterOfOtherHosts();
-            }
-            if (ErrorDescription[0].equals("PIF_NOT_ATTACHED_TO_HOST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PifNotAttachedToHost(p1, p2);
-            }
-            if (ErrorDescription[0].equals("DEVICE_ALREADY_DETACHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DeviceAlreadyDetached(p1);
-            }
-            if (ErrorDescription[0].equals("ADDRESS_VIOLATES_LOCKING_CONSTRAINT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AddressViolatesLockingConstraint(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_SRIOV_ALREADY_ENABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkSriovAlreadyEnabled(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_PRECHECK_FAILED_PREREQUISITE_MISSING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.UpdatePrecheckFailedPrerequisiteMissing(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VDI_INCOMPATIBLE_TYPE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiIncompatibleType(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_MEMORY_SIZE_TOO_LOW"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmMemorySizeTooLow(p1);
-            }
-            if (ErrorDescription[0].equals("VM_TO_IMPORT_IS_NOT_NEWER_VERSION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmToImportIsNotNewerVersion(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("SR_HAS_PBD"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrHasPbd(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_DOES_NOT_ALLOW_UNPLUG"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifDoesNotAllowUnplug(p1);
-            }
-            if (ErrorDescription[0].equals("PVS_CACHE_STORAGE_IS_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PvsCacheStorageIsInUse(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_IS_NOT_SRIOV_CAPABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIsNotSriovCapable(p1);
-            }
-            if (ErrorDescription[0].equals("DEVICE_ALREADY_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DeviceAlreadyExists(p1);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_START_SNAPSHOT_SET_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorStartSnapshotSetFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_HALTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHalted(p1);
-            }
-            if (ErrorDescription[0].equals("SESSION_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SessionInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_COPY_FAILED"))
-            {
-                throw new Types.VdiCopyFailed();
-            }
-            if (ErrorDescription[0].equals("VDI_NOT_SPARSE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiNotSparse(p1);
-            }
-            if (ErrorDescription[0].equals("ROLE_NOT_FOUND"))
-            {
-                throw new Types.RoleNotFound();
-            }
-            if (ErrorDescription[0].equals("INVALID_IP_ADDRESS_SPECIFIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidIpAddressSpecified(p1);
-            }
-            if (ErrorDescription[0].equals("XENAPI_PLUGIN_FAILURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.XenapiPluginFailure(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("HOST_CANNOT_READ_METRICS"))
-            {
-                throw new Types.HostCannotReadMetrics();
-            }
-            if (ErrorDescription[0].equals("VBD_NOT_EMPTY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VbdNotEmpty(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_TUNNEL_STILL_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifTunnelStillExists(p1);
-            }
-            if (ErrorDescription[0].equals("DEVICE_DETACH_REJECTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.DeviceDetachRejected(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("REQUIRED_PIF_IS_UNPLUGGED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.RequiredPifIsUnplugged(p1);
-            }
-            if (ErrorDescription[0].equals("PATCH_ALREADY_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PatchAlreadyExists(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_INCOMPATIBLE_WITH_TUNNEL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkIncompatibleWithTunnel(p1);
-            }
-            if (ErrorDescription[0].equals("HA_CANNOT_CHANGE_BOND_STATUS_OF_MGMT_IFACE"))
-            {
-                throw new Types.HaCannotChangeBondStatusOfMgmtIface();
-            }
-            if (ErrorDescription[0].equals("HA_HOST_IS_ARMED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HaHostIsArmed(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_HAS_INCOMPATIBLE_VLAN_ON_SRIOV_PIFS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.NetworkHasIncompatibleVlanOnSriovPifs(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SR_HAS_NO_PBDS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrHasNoPbds(p1);
-            }
-            if (ErrorDescription[0].equals("INVALID_UPDATE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidUpdate(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_IS_NOT_ISO"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiIsNotIso(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_NO_CRASHDUMP_SR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmNoCrashdumpSr(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_ADD_VLAN_TO_BOND_SLAVE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotAddVlanToBondSlave(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_FIND_STATE_PARTITION"))
-            {
-                throw new Types.CannotFindStatePartition();
-            }
-            if (ErrorDescription[0].equals("VM_HOST_INCOMPATIBLE_VERSION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmHostIncompatibleVersion(p1, p2);
-            }
-            if (ErrorDescription[0].equals("DEVICE_NOT_ATTACHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DeviceNotAttached(p1);
-            }
-            if (ErrorDescription[0].equals("VM_ASSIGNED_TO_SNAPSHOT_SCHEDULE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmAssignedToSnapshotSchedule(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_CHECKPOINT_SUSPEND_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmCheckpointSuspendFailed(p1);
-            }
-            if (ErrorDescription[0].equals("MAC_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.MacInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_IS_VLAN"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIsVlan(p1);
-            }
-            if (ErrorDescription[0].equals("V6D_FAILURE"))
-            {
-                throw new Types.V6dFailure();
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_CANNOT_HAVE_RUNNING_VMS"))
-            {
-                throw new Types.JoiningHostCannotHaveRunningVms();
-            }
-            if (ErrorDescription[0].equals("XEN_INCOMPATIBLE"))
-            {
-                throw new Types.XenIncompatible();
-            }
-            if (ErrorDescription[0].equals("HA_HOST_CANNOT_ACCESS_STATEFILE"))
-            {
-                throw new Types.HaHostCannotAccessStatefile();
-            }
-            if (ErrorDescription[0].equals("NETWORK_INCOMPATIBLE_PURPOSES"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.NetworkIncompatiblePurposes(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PATCH_APPLY_FAILED_BACKUP_FILES_EXIST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PatchApplyFailedBackupFilesExist(p1);
-            }
-            if (ErrorDescription[0].equals("RESTORE_TARGET_MISSING_DEVICE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.RestoreTargetMissingDevice(p1);
-            }
-            if (ErrorDescription[0].equals("VM_PV_DRIVERS_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmPvDriversInUse(p1);
-            }
-            if (ErrorDescription[0].equals("VIF_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VifInUse(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SLAVE_REQUIRES_MANAGEMENT_INTERFACE"))
-            {
-                throw new Types.SlaveRequiresManagementInterface();
-            }
-            if (ErrorDescription[0].equals("CERTIFICATE_NAME_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CertificateNameInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("VM_REBOOTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmRebooted(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_DISABLE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthDisableFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HOST_EVACUATE_IN_PROGRESS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostEvacuateInProgress(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_SRIOV_STILL_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifSriovStillExists(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_UNMANAGED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifUnmanaged(p1);
-            }
-            if (ErrorDescription[0].equals("VMSS_HAS_VM"))
-            {
-                throw new Types.VmssHasVm();
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR_ATTACHED_DISKS_NOT_FOUND"))
-            {
-                throw new Types.ImportErrorAttachedDisksNotFound();
-            }
-            if (ErrorDescription[0].equals("NOT_IN_EMERGENCY_MODE"))
-            {
-                throw new Types.NotInEmergencyMode();
-            }
-            if (ErrorDescription[0].equals("PIF_ALLOWS_UNPLUG"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifAllowsUnplug(p1);
-            }
-            if (ErrorDescription[0].equals("DEFAULT_SR_NOT_FOUND"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DefaultSrNotFound(p1);
-            }
-            if (ErrorDescription[0].equals("NVIDIA_TOOLS_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NvidiaToolsError(p1);
-            }
-            if (ErrorDescription[0].equals("RESTORE_INCOMPATIBLE_VERSION"))
-            {
-                throw new Types.RestoreIncompatibleVersion();
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_CANNOT_HAVE_RUNNING_OR_SUSPENDED_VMS"))
-            {
-                throw new Types.JoiningHostCannotHaveRunningOrSuspendedVms();
-            }
-            if (ErrorDescription[0].equals("VM_HOST_INCOMPATIBLE_VIRTUAL_HARDWARE_PLATFORM_VERSION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                String p4 = ErrorDescription.length > 4 ? ErrorDescription[4] : "";
-                throw new Types.VmHostIncompatibleVirtualHardwarePlatformVersion(p1, p2, p3, p4);
-            }
-            if (ErrorDescription[0].equals("CANNOT_RESET_CONTROL_DOMAIN"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotResetControlDomain(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_DESTROY_DISASTER_RECOVERY_TASK"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotDestroyDisasterRecoveryTask(p1);
-            }
-            if (ErrorDescription[0].equals("HA_SHOULD_BE_FENCED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HaShouldBeFenced(p1);
-            }
-            if (ErrorDescription[0].equals("SR_NOT_EMPTY"))
-            {
-                throw new Types.SrNotEmpty();
-            }
-            if (ErrorDescription[0].equals("HOST_STILL_BOOTING"))
-            {
-                throw new Types.HostStillBooting();
-            }
-            if (ErrorDescription[0].equals("VM_SNAPSHOT_WITH_QUIESCE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmSnapshotWithQuiesceFailed(p1);
-            }
-            if (ErrorDescription[0].equals("CHANGE_PASSWORD_REJECTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ChangePasswordRejected(p1);
-            }
-            if (ErrorDescription[0].equals("SR_OPERATION_NOT_SUPPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrOperationNotSupported(p1);
-            }
-            if (ErrorDescription[0].equals("VM_UNSAFE_BOOT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmUnsafeBoot(p1);
-            }
-            if (ErrorDescription[0].equals("MISSING_CONNECTION_DETAILS"))
-            {
-                throw new Types.MissingConnectionDetails();
-            }
-            if (ErrorDescription[0].equals("USB_GROUP_CONTAINS_PUSB"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UsbGroupContainsPusb(p1);
-            }
-            if (ErrorDescription[0].equals("CRL_CORRUPT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CrlCorrupt(p1);
-            }
-            if (ErrorDescription[0].equals("PATCH_ALREADY_APPLIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PatchAlreadyApplied(p1);
-            }
-            if (ErrorDescription[0].equals("NO_HOSTS_AVAILABLE"))
-            {
-                throw new Types.NoHostsAvailable();
-            }
-            if (ErrorDescription[0].equals("SR_NOT_ATTACHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrNotAttached(p1);
-            }
-            if (ErrorDescription[0].equals("VM_CRASHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmCrashed(p1);
-            }
-            if (ErrorDescription[0].equals("HA_DISABLE_IN_PROGRESS"))
-            {
-                throw new Types.HaDisableInProgress();
-            }
-            if (ErrorDescription[0].equals("AUTH_ALREADY_ENABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.AuthAlreadyEnabled(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_HAS_NO_SUSPEND_VDI"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHasNoSuspendVdi(p1);
-            }
-            if (ErrorDescription[0].equals("DEVICE_DETACH_TIMEOUT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.DeviceDetachTimeout(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_GPU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmRequiresGpu(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HOST_NOT_ENOUGH_FREE_MEMORY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.HostNotEnoughFreeMemory(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_IS_PROTECTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmIsProtected(p1);
-            }
-            if (ErrorDescription[0].equals("UNIMPLEMENTED_IN_SM_BACKEND"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UnimplementedInSmBackend(p1);
-            }
-            if (ErrorDescription[0].equals("NO_MORE_REDO_LOGS_ALLOWED"))
-            {
-                throw new Types.NoMoreRedoLogsAllowed();
-            }
-            if (ErrorDescription[0].equals("FIELD_TYPE_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.FieldTypeError(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_PRECHECK_FAILED_WRONG_SERVER_VERSION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.UpdatePrecheckFailedWrongServerVersion(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("VM_HAS_VGPU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHasVgpu(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_PERMISSION_DENIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedPermissionDenied(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SR_NOT_SHARABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.SrNotSharable(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PERMISSION_DENIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PermissionDenied(p1);
-            }
-            if (ErrorDescription[0].equals("MIRROR_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.MirrorFailed(p1);
-            }
-            if (ErrorDescription[0].equals("NO_COMPATIBLE_CLUSTER_HOST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NoCompatibleClusterHost(p1);
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ImportError(p1);
-            }
-            if (ErrorDescription[0].equals("VM_NOT_RESIDENT_HERE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmNotResidentHere(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PIF_VLAN_STILL_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifVlanStillExists(p1);
-            }
-            if (ErrorDescription[0].equals("LICENSE_CHECKOUT_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.LicenseCheckoutError(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_NOT_DISABLED"))
-            {
-                throw new Types.HostNotDisabled();
-            }
-            if (ErrorDescription[0].equals("DB_UNIQUENESS_CONSTRAINT_VIOLATION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.DbUniquenessConstraintViolation(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("PVS_CACHE_STORAGE_ALREADY_PRESENT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PvsCacheStorageAlreadyPresent(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VBD_NOT_REMOVABLE_MEDIA"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VbdNotRemovableMedia(p1);
-            }
-            if (ErrorDescription[0].equals("HA_ABORT_NEW_MASTER"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HaAbortNewMaster(p1);
-            }
-            if (ErrorDescription[0].equals("ONLY_ALLOWED_ON_OEM_EDITION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.OnlyAllowedOnOemEdition(p1);
-            }
-            if (ErrorDescription[0].equals("VM_IS_TEMPLATE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmIsTemplate(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_EVACUATE_HOST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotEvacuateHost(p1);
-            }
-            if (ErrorDescription[0].equals("VM_DUPLICATE_VBD_DEVICE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmDuplicateVbdDevice(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("WLB_NOT_INITIALIZED"))
-            {
-                throw new Types.WlbNotInitialized();
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_INVALID_ACCOUNT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedInvalidAccount(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HA_TOO_FEW_HOSTS"))
-            {
-                throw new Types.HaTooFewHosts();
-            }
-            if (ErrorDescription[0].equals("CANNOT_FIND_OEM_BACKUP_PARTITION"))
-            {
-                throw new Types.CannotFindOemBackupPartition();
-            }
-            if (ErrorDescription[0].equals("SM_PLUGIN_COMMUNICATION_FAILURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SmPluginCommunicationFailure(p1);
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR_CANNOT_HANDLE_CHUNKED"))
-            {
-                throw new Types.ImportErrorCannotHandleChunked();
-            }
-            if (ErrorDescription[0].equals("VM_SNAPSHOT_WITH_QUIESCE_PLUGIN_DEOS_NOT_RESPOND"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmSnapshotWithQuiescePluginDeosNotRespond(p1);
-            }
-            if (ErrorDescription[0].equals("HA_HEARTBEAT_DAEMON_STARTUP_FAILED"))
-            {
-                throw new Types.HaHeartbeatDaemonStartupFailed();
-            }
-            if (ErrorDescription[0].equals("VM_SHUTDOWN_TIMEOUT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmShutdownTimeout(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VDI_NEEDS_VM_FOR_MIGRATE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiNeedsVmForMigrate(p1);
-            }
-            if (ErrorDescription[0].equals("DUPLICATE_VM"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DuplicateVm(p1);
-            }
-            if (ErrorDescription[0].equals("LOCATION_NOT_UNIQUE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.LocationNotUnique(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SSL_VERIFY_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SslVerifyError(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_SRIOV_INSUFFICIENT_CAPACITY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkSriovInsufficientCapacity(p1);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_CREATING_SNAPSHOT_XML_STRING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorCreatingSnapshotXmlString(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_SNAPSHOT_WITH_QUIESCE_NOT_SUPPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmSnapshotWithQuiesceNotSupported(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NOT_SYSTEM_DOMAIN"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NotSystemDomain(p1);
-            }
-            if (ErrorDescription[0].equals("VGPU_DESTINATION_INCOMPATIBLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VgpuDestinationIncompatible(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("OPENVSWITCH_NOT_ACTIVE"))
-            {
-                throw new Types.OpenvswitchNotActive();
-            }
-            if (ErrorDescription[0].equals("PIF_CONFIGURATION_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PifConfigurationError(p1, p2);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_MUST_HAVE_PHYSICAL_MANAGEMENT_NIC"))
-            {
-                throw new Types.PoolJoiningHostMustHavePhysicalManagementNic();
-            }
-            if (ErrorDescription[0].equals("CLUSTER_HOST_IS_LAST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusterHostIsLast(p1);
-            }
-            if (ErrorDescription[0].equals("VM_REVERT_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmRevertFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("COULD_NOT_UPDATE_IGMP_SNOOPING_EVERYWHERE"))
-            {
-                throw new Types.CouldNotUpdateIgmpSnoopingEverywhere();
-            }
-            if (ErrorDescription[0].equals("VDI_NO_CBT_METADATA"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiNoCbtMetadata(p1);
-            }
-            if (ErrorDescription[0].equals("SR_VDI_LOCKING_FAILED"))
-            {
-                throw new Types.SrVdiLockingFailed();
-            }
-            if (ErrorDescription[0].equals("CERTIFICATE_DOES_NOT_EXIST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CertificateDoesNotExist(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_HAS_FCOE_SR_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PifHasFcoeSrInUse(p1, p2);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_DISABLE_FAILED_INVALID_ACCOUNT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthDisableFailedInvalidAccount(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VGPU_GUEST_DRIVER_LIMIT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VgpuGuestDriverLimit(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("PIF_HAS_NO_NETWORK_CONFIGURATION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifHasNoNetworkConfiguration(p1);
-            }
-            if (ErrorDescription[0].equals("CERTIFICATE_CORRUPT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CertificateCorrupt(p1);
-            }
-            if (ErrorDescription[0].equals("INVALID_DEVICE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidDevice(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_OFFLINE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostOffline(p1);
-            }
-            if (ErrorDescription[0].equals("VM_PCI_BUS_FULL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmPciBusFull(p1);
-            }
-            if (ErrorDescription[0].equals("SESSION_AUTHENTICATION_FAILED"))
-            {
-                throw new Types.SessionAuthenticationFailed();
-            }
-            if (ErrorDescription[0].equals("CLUSTERED_SR_DEGRADED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusteredSrDegraded(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_XENSERVER_UNKNOWN_HOST"))
-            {
-                throw new Types.WlbXenserverUnknownHost();
-            }
-            if (ErrorDescription[0].equals("BRIDGE_NAME_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.BridgeNameExists(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_XENSERVER_TIMEOUT"))
-            {
-                throw new Types.WlbXenserverTimeout();
-            }
-            if (ErrorDescription[0].equals("VM_LACKS_FEATURE_VCPU_HOTPLUG"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmLacksFeatureVcpuHotplug(p1);
-            }
-            if (ErrorDescription[0].equals("VM_MISSING_PV_DRIVERS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmMissingPvDrivers(p1);
-            }
-            if (ErrorDescription[0].equals("HA_NOT_INSTALLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HaNotInstalled(p1);
-            }
-            if (ErrorDescription[0].equals("PROVISION_ONLY_ALLOWED_ON_TEMPLATE"))
-            {
-                throw new Types.ProvisionOnlyAllowedOnTemplate();
-            }
-            if (ErrorDescription[0].equals("SR_IS_CACHE_SR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrIsCacheSr(p1);
-            }
-            if (ErrorDescription[0].equals("MEMORY_CONSTRAINT_VIOLATION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.MemoryConstraintViolation(p1);
-            }
-            if (ErrorDescription[0].equals("SYSTEM_STATUS_MUST_USE_TAR_ON_OEM"))
-            {
-                throw new Types.SystemStatusMustUseTarOnOem();
-            }
-            if (ErrorDescription[0].equals("UPDATE_PRECHECK_FAILED_GPGKEY_NOT_IMPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UpdatePrecheckFailedGpgkeyNotImported(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_INVALID_OU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedInvalidOu(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HOST_CANNOT_DESTROY_SELF"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostCannotDestroySelf(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_XENSERVER_CONNECTION_REFUSED"))
-            {
-                throw new Types.WlbXenserverConnectionRefused();
-            }
-            if (ErrorDescription[0].equals("INVALID_EDITION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidEdition(p1);
-            }
-            if (ErrorDescription[0].equals("INCOMPATIBLE_STATEFILE_SR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.IncompatibleStatefileSr(p1);
-            }
-            if (ErrorDescription[0].equals("EVENT_FROM_TOKEN_PARSE_FAILURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.EventFromTokenParseFailure(p1);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_NO_VOLUMES_SUPPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorNoVolumesSupported(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CERTIFICATE_ALREADY_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CertificateAlreadyExists(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_URL_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.WlbUrlInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_ALREADY_CONNECTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.NetworkAlreadyConnected(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VBD_NOT_UNPLUGGABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VbdNotUnpluggable(p1);
-            }
-            if (ErrorDescription[0].equals("DUPLICATE_PIF_DEVICE_NAME"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DuplicatePifDeviceName(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_ADD_TUNNEL_TO_SRIOV_LOGICAL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotAddTunnelToSriovLogical(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_ALREADY_APPLIED_IN_POOL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UpdateAlreadyAppliedInPool(p1);
-            }
-            if (ErrorDescription[0].equals("RESTORE_TARGET_MGMT_IF_NOT_IN_BACKUP"))
-            {
-                throw new Types.RestoreTargetMgmtIfNotInBackup();
-            }
-            if (ErrorDescription[0].equals("CANNOT_ADD_TUNNEL_TO_BOND_SLAVE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotAddTunnelToBondSlave(p1);
-            }
-            if (ErrorDescription[0].equals("USB_GROUP_CONFLICT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UsbGroupConflict(p1);
-            }
-            if (ErrorDescription[0].equals("HA_IS_ENABLED"))
-            {
-                throw new Types.HaIsEnabled();
-            }
-            if (ErrorDescription[0].equals("UPDATE_POOL_APPLY_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UpdatePoolApplyFailed(p1);
-            }
-            if (ErrorDescription[0].equals("INVALID_PATCH"))
-            {
-                throw new Types.InvalidPatch();
-            }
-            if (ErrorDescription[0].equals("WLB_UNKNOWN_HOST"))
-            {
-                throw new Types.WlbUnknownHost();
-            }
-            if (ErrorDescription[0].equals("OPERATION_NOT_ALLOWED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.OperationNotAllowed(p1);
-            }
-            if (ErrorDescription[0].equals("PVS_SITE_CONTAINS_SERVERS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PvsSiteContainsServers(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_TIMEOUT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.WlbTimeout(p1);
-            }
-            if (ErrorDescription[0].equals("LICENSE_DOES_NOT_SUPPORT_POOLING"))
-            {
-                throw new Types.LicenseDoesNotSupportPooling();
-            }
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED_PERMISSION_DENIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailedPermissionDenied(p1);
-            }
-            if (ErrorDescription[0].equals("VM_TOO_MANY_VCPUS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmTooManyVcpus(p1);
-            }
-            if (ErrorDescription[0].equals("LICENSE_DOES_NOT_SUPPORT_XHA"))
-            {
-                throw new Types.LicenseDoesNotSupportXha();
-            }
-            if (ErrorDescription[0].equals("VMPP_ARCHIVE_MORE_FREQUENT_THAN_BACKUP"))
-            {
-                throw new Types.VmppArchiveMoreFrequentThanBackup();
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_HAS_TUNNELS"))
-            {
-                throw new Types.PoolJoiningHostHasTunnels();
-            }
-            if (ErrorDescription[0].equals("VGPU_TYPE_NOT_COMPATIBLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VgpuTypeNotCompatible(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_IS_MANAGEMENT_INTERFACE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIsManagementInterface(p1);
-            }
-            if (ErrorDescription[0].equals("PATCH_APPLY_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PatchApplyFailed(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_WRONG_CREDENTIALS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedWrongCredentials(p1, p2);
-            }
-            if (ErrorDescription[0].equals("UPDATE_IS_APPLIED"))
-            {
-                throw new Types.UpdateIsApplied();
-            }
-            if (ErrorDescription[0].equals("LICENCE_RESTRICTION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.LicenceRestriction(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ALREADY_ENABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PoolAuthAlreadyEnabled(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_CANNOT_BOND_CROSS_HOST"))
-            {
-                throw new Types.PifCannotBondCrossHost();
-            }
-            if (ErrorDescription[0].equals("VM_MIGRATE_CONTACT_REMOTE_SERVICE_FAILED"))
-            {
-                throw new Types.VmMigrateContactRemoteServiceFailed();
-            }
-            if (ErrorDescription[0].equals("HA_POOL_IS_ENABLED_BUT_HOST_IS_DISABLED"))
-            {
-                throw new Types.HaPoolIsEnabledButHostIsDisabled();
-            }
-            if (ErrorDescription[0].equals("GPU_GROUP_CONTAINS_VGPU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.GpuGroupContainsVgpu(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_FIND_UPDATE"))
-            {
-                throw new Types.CannotFindUpdate();
-            }
-            if (ErrorDescription[0].equals("DEVICE_ALREADY_ATTACHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DeviceAlreadyAttached(p1);
-            }
-            if (ErrorDescription[0].equals("VMS_FAILED_TO_COOPERATE"))
-            {
-                throw new Types.VmsFailedToCooperate();
-            }
-            if (ErrorDescription[0].equals("AUTH_DISABLE_FAILED_WRONG_CREDENTIALS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthDisableFailedWrongCredentials(p1);
-            }
-            if (ErrorDescription[0].equals("MAP_DUPLICATE_KEY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                String p4 = ErrorDescription.length > 4 ? ErrorDescription[4] : "";
-                throw new Types.MapDuplicateKey(p1, p2, p3, p4);
-            }
-            if (ErrorDescription[0].equals("PIF_HAS_NO_V6_NETWORK_CONFIGURATION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifHasNoV6NetworkConfiguration(p1);
-            }
-            if (ErrorDescription[0].equals("XMLRPC_UNMARSHAL_FAILURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XmlrpcUnmarshalFailure(p1, p2);
-            }
-            if (ErrorDescription[0].equals("INTERFACE_HAS_NO_IP"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InterfaceHasNoIp(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.HostInUse(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("VM_HAS_VUSBS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHasVusbs(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_HAS_NETWORK_SRIOVS"))
-            {
-                throw new Types.PoolJoiningHostHasNetworkSriovs();
-            }
-            if (ErrorDescription[0].equals("LICENSE_HOST_POOL_MISMATCH"))
-            {
-                throw new Types.LicenseHostPoolMismatch();
-            }
-            if (ErrorDescription[0].equals("VGPU_TYPE_NOT_ENABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VgpuTypeNotEnabled(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CLUSTER_HOST_NOT_JOINED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusterHostNotJoined(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiInUse(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VBD_IS_EMPTY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VbdIsEmpty(p1);
-            }
-            if (ErrorDescription[0].equals("DUPLICATE_MAC_SEED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DuplicateMacSeed(p1);
-            }
-            if (ErrorDescription[0].equals("NO_CLUSTER_HOSTS_REACHABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NoClusterHostsReachable(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_APPLY_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UpdateApplyFailed(p1);
-            }
-            if (ErrorDescription[0].equals("SUBJECT_ALREADY_EXISTS"))
-            {
-                throw new Types.SubjectAlreadyExists();
-            }
-            if (ErrorDescription[0].equals("HA_HOST_CANNOT_SEE_PEERS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.HaHostCannotSeePeers(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED_UNAVAILABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailedUnavailable(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_SRIOV_ENABLE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.NetworkSriovEnableFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NOT_IMPLEMENTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NotImplemented(p1);
-            }
-            if (ErrorDescription[0].equals("SESSION_NOT_REGISTERED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SessionNotRegistered(p1);
-            }
-            if (ErrorDescription[0].equals("RESTORE_SCRIPT_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.RestoreScriptFailed(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_IS_A_PHYSICAL_DEVICE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiIsAPhysicalDevice(p1);
-            }
-            if (ErrorDescription[0].equals("AUTH_IS_DISABLED"))
-            {
-                throw new Types.AuthIsDisabled();
-            }
-            if (ErrorDescription[0].equals("ILLEGAL_VBD_DEVICE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.IllegalVbdDevice(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VALUE_NOT_SUPPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.ValueNotSupported(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("UUID_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.UuidInvalid(p1, p2);
-            }
-            if (ErrorDescription[0].equals("INVALID_FEATURE_STRING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidFeatureString(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_MISSING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiMissing(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VDI_LOCATION_MISSING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiLocationMissing(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SR_HAS_MULTIPLE_PBDS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrHasMultiplePbds(p1);
-            }
-            if (ErrorDescription[0].equals("COULD_NOT_FIND_NETWORK_INTERFACE_WITH_SPECIFIED_DEVICE_NAME_AND_MAC_ADDRESS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.CouldNotFindNetworkInterfaceWithSpecifiedDeviceNameAndMacAddress(p1, p2);
-            }
-            if (ErrorDescription[0].equals("MESSAGE_METHOD_UNKNOWN"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.MessageMethodUnknown(p1);
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR_SOME_CHECKSUMS_FAILED"))
-            {
-                throw new Types.ImportErrorSomeChecksumsFailed();
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_MUST_ONLY_HAVE_PHYSICAL_PIFS"))
-            {
-                throw new Types.PoolJoiningHostMustOnlyHavePhysicalPifs();
-            }
-            if (ErrorDescription[0].equals("VM_IS_USING_NESTED_VIRT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmIsUsingNestedVirt(p1);
-            }
-            if (ErrorDescription[0].equals("EVENTS_LOST"))
-            {
-                throw new Types.EventsLost();
-            }
-            if (ErrorDescription[0].equals("VM_OLD_PV_DRIVERS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmOldPvDrivers(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("UPDATE_PRECHECK_FAILED_CONFLICT_PRESENT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.UpdatePrecheckFailedConflictPresent(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_FAILED_SHUTDOWN_ACKNOWLEDGMENT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmFailedShutdownAcknowledgment(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_CANNOT_ATTACH_NETWORK"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.HostCannotAttachNetwork(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NETWORK_CONTAINS_PIF"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkContainsPif(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_READONLY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiReadonly(p1);
-            }
-            if (ErrorDescription[0].equals("CRL_DOES_NOT_EXIST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CrlDoesNotExist(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_ON_BOOT_MODE_INCOMPATIBLE_WITH_OPERATION"))
-            {
-                throw new Types.VdiOnBootModeIncompatibleWithOperation();
-            }
-            if (ErrorDescription[0].equals("HOST_NAME_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostNameInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_MALFORMED_RESPONSE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.WlbMalformedResponse(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("VGPU_TYPE_NOT_COMPATIBLE_WITH_RUNNING_TYPE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VgpuTypeNotCompatibleWithRunningType(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("VLAN_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VlanInUse(p1, p2);
-            }
-            if (ErrorDescription[0].equals("OPERATION_PARTIALLY_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.OperationPartiallyFailed(p1);
-            }
-            if (ErrorDescription[0].equals("DOMAIN_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.DomainExists(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_INCOMPATIBLE_WITH_THIS_HOST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmIncompatibleWithThisHost(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("XENAPI_MISSING_PLUGIN"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.XenapiMissingPlugin(p1);
-            }
-            if (ErrorDescription[0].equals("INVALID_VALUE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.InvalidValue(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HOSTS_NOT_COMPATIBLE"))
-            {
-                throw new Types.HostsNotCompatible();
-            }
-            if (ErrorDescription[0].equals("DEVICE_ATTACH_TIMEOUT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.DeviceAttachTimeout(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NETWORK_UNMANAGED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkUnmanaged(p1);
-            }
-            if (ErrorDescription[0].equals("SR_UNKNOWN_DRIVER"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrUnknownDriver(p1);
-            }
-            if (ErrorDescription[0].equals("SR_UUID_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrUuidExists(p1);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_INIT_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorInitFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("USB_GROUP_CONTAINS_NO_PUSBS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UsbGroupContainsNoPusbs(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_EXTERNAL_AUTH_MISMATCH"))
-            {
-                throw new Types.PoolJoiningExternalAuthMismatch();
-            }
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED_WRONG_CREDENTIALS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailedWrongCredentials(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_IS_SRIOV_LOGICAL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIsSriovLogical(p1);
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_ISO_MOUNTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PatchPrecheckFailedIsoMounted(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_DISABLE_FAILED_WRONG_CREDENTIALS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthDisableFailedWrongCredentials(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_CANNOT_DELETE_DEFAULT_TEMPLATE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmCannotDeleteDefaultTemplate(p1);
-            }
-            if (ErrorDescription[0].equals("ROLE_ALREADY_EXISTS"))
-            {
-                throw new Types.RoleAlreadyExists();
-            }
-            if (ErrorDescription[0].equals("LICENSE_FILE_DEPRECATED"))
-            {
-                throw new Types.LicenseFileDeprecated();
-            }
-            if (ErrorDescription[0].equals("PGPU_NOT_COMPATIBLE_WITH_GPU_GROUP"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PgpuNotCompatibleWithGpuGroup(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CANNOT_DESTROY_SYSTEM_NETWORK"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotDestroySystemNetwork(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_INCOMPATIBLE_WITH_VLAN_ON_SRIOV"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkIncompatibleWithVlanOnSriov(p1);
-            }
-            if (ErrorDescription[0].equals("MESSAGE_PARAMETER_COUNT_MISMATCH"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.MessageParameterCountMismatch(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("CRL_NAME_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CrlNameInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("VM_NO_SUSPEND_SR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmNoSuspendSr(p1);
-            }
-            if (ErrorDescription[0].equals("HANDLE_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.HandleInvalid(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CRL_ALREADY_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CrlAlreadyExists(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_HAS_RRDS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiHasRrds(p1);
-            }
-            if (ErrorDescription[0].equals("VGPU_TYPE_NOT_SUPPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VgpuTypeNotSupported(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NOT_ALLOWED_ON_OEM_EDITION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NotAllowedOnOemEdition(p1);
-            }
-            if (ErrorDescription[0].equals("LICENSE_CANNOT_DOWNGRADE_WHILE_IN_POOL"))
-            {
-                throw new Types.LicenseCannotDowngradeWhileInPool();
-            }
-            if (ErrorDescription[0].equals("HA_NOT_ENABLED"))
-            {
-                throw new Types.HaNotEnabled();
-            }
-            if (ErrorDescription[0].equals("CANNOT_FETCH_PATCH"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotFetchPatch(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_FIND_PATCH"))
-            {
-                throw new Types.CannotFindPatch();
-            }
-            if (ErrorDescription[0].equals("SR_DEVICE_IN_USE"))
-            {
-                throw new Types.SrDeviceInUse();
-            }
-            if (ErrorDescription[0].equals("TRANSPORT_PIF_NOT_CONFIGURED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.TransportPifNotConfigured(p1);
-            }
-            if (ErrorDescription[0].equals("LICENSE_PROCESSING_ERROR"))
-            {
-                throw new Types.LicenseProcessingError();
-            }
-            if (ErrorDescription[0].equals("VM_FAILED_SUSPEND_ACKNOWLEDGMENT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmFailedSuspendAcknowledgment(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_INTERNAL_ERROR"))
-            {
-                throw new Types.WlbInternalError();
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_MUST_HAVE_SAME_DB_SCHEMA"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolJoiningHostMustHaveSameDbSchema(p1, p2);
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_CANNOT_HAVE_VMS_WITH_CURRENT_OPERATIONS"))
-            {
-                throw new Types.JoiningHostCannotHaveVmsWithCurrentOperations();
-            }
-            if (ErrorDescription[0].equals("REDO_LOG_IS_ENABLED"))
-            {
-                throw new Types.RedoLogIsEnabled();
-            }
-            if (ErrorDescription[0].equals("CLUSTERING_DISABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusteringDisabled(p1);
-            }
-            if (ErrorDescription[0].equals("CERTIFICATE_LIBRARY_CORRUPT"))
-            {
-                throw new Types.CertificateLibraryCorrupt();
-            }
-            if (ErrorDescription[0].equals("BOOTLOADER_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.BootloaderFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("MAC_DOES_NOT_EXIST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.MacDoesNotExist(p1);
-            }
-            if (ErrorDescription[0].equals("INTERNAL_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InternalError(p1);
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR_FAILED_TO_FIND_OBJECT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ImportErrorFailedToFindObject(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VDI_TOO_SMALL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiTooSmall(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_VDI"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmRequiresVdi(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VDI_CBT_ENABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiCbtEnabled(p1);
-            }
-            if (ErrorDescription[0].equals("SR_REQUIRES_UPGRADE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrRequiresUpgrade(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_BROKEN"))
-            {
-                throw new Types.HostBroken();
-            }
+            return XmlRpcValueReader.parse(value, UTC);
+        }
+        catch (XMLStreamException | XmlRpcException e)
+        {
+            throw new Types.BadAsyncResult("Can't interpret: " + result);
+        }
+    }
+
+    // As for the other conversions, null gives null, so that the toXxx(Task, Connection) methods can be deferred by
+    // CallCapture
+    private static Object parseResult(String result) throws BadAsyncResult
+    {
+        return parseAsyncResult(result);
+    }
+
+    private static Object parseResult(Task.Record record) throws BadAsyncResult
+    {
+        return record == null ? null : parseAsyncResult(record.result);
+    }
+    /**
+     * Functions registered with registerErrorHandler(), by error code
+     */
+    private static final Map<String, Function<String[], ? extends XenAPIException>> customErrorHandlers =
+        new ConcurrentHashMap<String, Function<String[], ? extends XenAPIException>>();
+
+    /**
+     * @return The i-th element of an error description, or "" if the description is shorter
+     */
+    private static String errorParameter(String[] ErrorDescription, int i)
+    {
+        return ErrorDescription.length > i ? ErrorDescription[i] : "";
+    }
+
+    /**
+     * Registers a function that builds the exception to throw when a call fails with the given error code, in place of
+     * the exception class generated for that code (or of a plain XenAPIException, for codes unknown to these bindings).
+     *
+     * @param errorCode The error code, e.g. "NO_HOSTS_AVAILABLE"
+     * @param handler Builds the exception from the whole error description, whose first element is the error code
+     */
+    public static void registerErrorHandler(String errorCode, Function<String[], ? extends XenAPIException> handler)
+    {
+        customErrorHandlers.put(errorCode, handler);
+    }
+
+    /**
+     * Removes a function registered with registerErrorHandler(), restoring the default mapping of the error code.
+     */
+    public static void unregisterErrorHandler(String errorCode)
+    {
+        customErrorHandlers.remove(errorCode);
+    }
+
+    /**
+     * Checks the provided server response was successful. If the call failed, throws a XenAPIException. If the server
+     * returned an invalid response, throws a BadServerResponse. Otherwise, returns the server response as passed in.
+     */
+    static Map checkResponse(Map response) throws XenAPIException, BadServerResponse
+    {
+        if (response.get("Status").equals("Success"))
+        {
+            return response;
+        }
 
-            // An unknown error occurred
-            throw new Types.XenAPIException(ErrorDescription);
+        if (response.get("Status").equals("Failure"))
+        {
+            String[] ErrorDescription = ObjectArrayToStringArray((Object[]) response.get("ErrorDescription"));
+            throw toXenAPIException(ErrorDescription);
         }
 
         throw new BadServerResponse(response);
     }
 
+    /**
+     * @param ErrorDescription The error description of a failed call, whose first element is the error code
+     * @return The exception that the call throws: the one built by a function registered for the error code if there
+     * is one, else an instance of the exception class generated for the code, else a plain XenAPIException
+     */
+    public static XenAPIException toXenAPIException(String[] ErrorDescription)
+    {
+        if (!customErrorHandlers.isEmpty())
+        {
+            Function<String[], ? extends XenAPIException> handler = customErrorHandlers.get(ErrorDescription[0]);
+            if (handler != null)
+            {
+                return handler.apply(ErrorDescription);
+            }
+        }
+
+        switch (ErrorDescription[0])
+        {
+            case "HOST_NOT_ENOUGH_PCPUS":
+                return new Types.HostNotEnoughPcpus(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "AUTH_ENABLE_FAILED_DOMAIN_LOOKUP_FAILED":
+                return new Types.AuthEnableFailedDomainLookupFailed(errorParameter(ErrorDescription, 1));
+            case "PVS_SITE_CONTAINS_RUNNING_PROXIES":
+                return new Types.PvsSiteContainsRunningProxies(errorParameter(ErrorDescription, 1));
+            case "HA_ENABLE_IN_PROGRESS":
+                return new Types.HaEnableInProgress();
+            case "DISK_VBD_MUST_BE_READWRITE_FOR_HVM":
+                return new Types.DiskVbdMustBeReadwriteForHvm(errorParameter(ErrorDescription, 1));
+            case "UPDATE_PRECHECK_FAILED_UNKNOWN_ERROR":
+                return new Types.UpdatePrecheckFailedUnknownError(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VDI_NOT_IN_MAP":
+                return new Types.VdiNotInMap(errorParameter(ErrorDescription, 1));
+            case "SR_FULL":
+                return new Types.SrFull(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_HAS_SRIOV_VIF":
+                return new Types.VmHasSriovVif(errorParameter(ErrorDescription, 1));
+            case "HOST_DISABLED_UNTIL_REBOOT":
+                return new Types.HostDisabledUntilReboot(errorParameter(ErrorDescription, 1));
+            case "PIF_IS_NOT_PHYSICAL":
+                return new Types.PifIsNotPhysical(errorParameter(ErrorDescription, 1));
+            case "CANNOT_CONTACT_HOST":
+                return new Types.CannotContactHost(errorParameter(ErrorDescription, 1));
+            case "EVENT_SUBSCRIPTION_PARSE_FAILURE":
+                return new Types.EventSubscriptionParseFailure(errorParameter(ErrorDescription, 1));
+            case "IMPORT_ERROR_PREMATURE_EOF":
+                return new Types.ImportErrorPrematureEof();
+            case "JOINING_HOST_CANNOT_CONTAIN_SHARED_SRS":
+                return new Types.JoiningHostCannotContainSharedSrs();
+            case "CANNOT_ADD_TUNNEL_TO_VLAN_ON_SRIOV_LOGICAL":
+                return new Types.CannotAddTunnelToVlanOnSriovLogical(errorParameter(ErrorDescription, 1));
+            case "CLUSTER_STACK_IN_USE":
+                return new Types.ClusterStackInUse(errorParameter(ErrorDescription, 1));
+            case "AUTH_DISABLE_FAILED_PERMISSION_DENIED":
+                return new Types.AuthDisableFailedPermissionDenied(errorParameter(ErrorDescription, 1));
+            case "VM_CHECKPOINT_RESUME_FAILED":
+                return new Types.VmCheckpointResumeFailed(errorParameter(ErrorDescription, 1));
+            case "XEN_VSS_REQ_ERROR_CREATING_SNAPSHOT":
+                return new Types.XenVssReqErrorCreatingSnapshot(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "PIF_ALREADY_BONDED":
+                return new Types.PifAlreadyBonded(errorParameter(ErrorDescription, 1));
+            case "HOST_HAS_NO_MANAGEMENT_IP":
+                return new Types.HostHasNoManagementIp();
+            case "CLUSTER_ALREADY_EXISTS":
+                return new Types.ClusterAlreadyExists();
+            case "INCOMPATIBLE_CLUSTER_STACK_ACTIVE":
+                return new Types.IncompatibleClusterStackActive(errorParameter(ErrorDescription, 1));
+            case "HOST_UNKNOWN_TO_MASTER":
+                return new Types.HostUnknownToMaster(errorParameter(ErrorDescription, 1));
+            case "ACTIVATION_WHILE_NOT_FREE":
+                return new Types.ActivationWhileNotFree();
+            case "PUSB_VDI_CONFLICT":
+                return new Types.PusbVdiConflict(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "NETWORK_INCOMPATIBLE_WITH_VLAN_ON_BRIDGE":
+                return new Types.NetworkIncompatibleWithVlanOnBridge(errorParameter(ErrorDescription, 1));
+            case "VM_CALL_PLUGIN_RATE_LIMIT":
+                return new Types.VmCallPluginRateLimit(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "VM_ASSIGNED_TO_PROTECTION_POLICY":
+                return new Types.VmAssignedToProtectionPolicy(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_REQUIRES_SR":
+                return new Types.VmRequiresSr(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "HOST_ITS_OWN_SLAVE":
+                return new Types.HostItsOwnSlave();
+            case "WLB_XENSERVER_AUTHENTICATION_FAILED":
+                return new Types.WlbXenserverAuthenticationFailed();
+            case "NETWORK_SRIOV_DISABLE_FAILED":
+                return new Types.NetworkSriovDisableFailed(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "CPU_FEATURE_MASKING_NOT_SUPPORTED":
+                return new Types.CpuFeatureMaskingNotSupported(errorParameter(ErrorDescription, 1));
+            case "HOST_CD_DRIVE_EMPTY":
+                return new Types.HostCdDriveEmpty();
+            case "PGPU_INSUFFICIENT_CAPACITY_FOR_VGPU":
+                return new Types.PgpuInsufficientCapacityForVgpu(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "POOL_JOINING_HOST_HAS_BONDS":
+                return new Types.PoolJoiningHostHasBonds();
+            case "HA_CONSTRAINT_VIOLATION_SR_NOT_SHARED":
+                return new Types.HaConstraintViolationSrNotShared(errorParameter(ErrorDescription, 1));
+            case "SUBJECT_CANNOT_BE_RESOLVED":
+                return new Types.SubjectCannotBeResolved();
+            case "POOL_AUTH_ENABLE_FAILED_DUPLICATE_HOSTNAME":
+                return new Types.PoolAuthEnableFailedDuplicateHostname(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "AUTH_DISABLE_FAILED":
+                return new Types.AuthDisableFailed(errorParameter(ErrorDescription, 1));
+            case "AUTH_ENABLE_FAILED":
+                return new Types.AuthEnableFailed(errorParameter(ErrorDescription, 1));
+            case "AUTH_SERVICE_ERROR":
+                return new Types.AuthServiceError(errorParameter(ErrorDescription, 1));
+            case "POOL_AUTH_DISABLE_FAILED_PERMISSION_DENIED":
+                return new Types.PoolAuthDisableFailedPermissionDenied(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_NO_VCPUS":
+                return new Types.VmNoVcpus(errorParameter(ErrorDescription, 1));
+            case "VM_LACKS_FEATURE_STATIC_IP_SETTING":
+                return new Types.VmLacksFeatureStaticIpSetting(errorParameter(ErrorDescription, 1));
+            case "PIF_INCOMPATIBLE_PRIMARY_ADDRESS_TYPE":
+                return new Types.PifIncompatiblePrimaryAddressType(errorParameter(ErrorDescription, 1));
+            case "VMPP_HAS_VM":
+                return new Types.VmppHasVm();
+            case "TASK_CANCELLED":
+                return new Types.TaskCancelled(errorParameter(ErrorDescription, 1));
+            case "GPU_GROUP_CONTAINS_PGPU":
+                return new Types.GpuGroupContainsPgpu(errorParameter(ErrorDescription, 1));
+            case "HA_CONSTRAINT_VIOLATION_NETWORK_NOT_SHARED":
+                return new Types.HaConstraintViolationNetworkNotShared(errorParameter(ErrorDescription, 1));
+            case "VBD_TRAY_LOCKED":
+                return new Types.VbdTrayLocked(errorParameter(ErrorDescription, 1));
+            case "PIF_VLAN_EXISTS":
+                return new Types.PifVlanExists(errorParameter(ErrorDescription, 1));
+            case "POOL_JOINING_HOST_MANAGEMENT_VLAN_DOES_NOT_MATCH":
+                return new Types.PoolJoiningHostManagementVlanDoesNotMatch(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "PVS_PROXY_ALREADY_PRESENT":
+                return new Types.PvsProxyAlreadyPresent(errorParameter(ErrorDescription, 1));
+            case "VM_BIOS_STRINGS_ALREADY_SET":
+                return new Types.VmBiosStringsAlreadySet();
+            case "MESSAGE_REMOVED":
+                return new Types.MessageRemoved();
+            case "IMPORT_ERROR_UNEXPECTED_FILE":
+                return new Types.ImportErrorUnexpectedFile(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_IS_PART_OF_AN_APPLIANCE":
+                return new Types.VmIsPartOfAnAppliance(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "PATCH_PRECHECK_FAILED_WRONG_SERVER_BUILD":
+                return new Types.PatchPrecheckFailedWrongServerBuild(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "CLUSTER_FORCE_DESTROY_FAILED":
+                return new Types.ClusterForceDestroyFailed(errorParameter(ErrorDescription, 1));
+            case "NETWORK_CONTAINS_VIF":
+                return new Types.NetworkContainsVif(errorParameter(ErrorDescription, 1));
+            case "PATCH_PRECHECK_FAILED_OUT_OF_SPACE":
+                return new Types.PatchPrecheckFailedOutOfSpace(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "IMPORT_INCOMPATIBLE_VERSION":
+                return new Types.ImportIncompatibleVersion();
+            case "VIF_NOT_IN_MAP":
+                return new Types.VifNotInMap(errorParameter(ErrorDescription, 1));
+            case "OUT_OF_SPACE":
+                return new Types.OutOfSpace(errorParameter(ErrorDescription, 1));
+            case "PBD_EXISTS":
+                return new Types.PbdExists(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "HOST_MASTER_CANNOT_TALK_BACK":
+                return new Types.HostMasterCannotTalkBack(errorParameter(ErrorDescription, 1));
+            case "INVALID_CIDR_ADDRESS_SPECIFIED":
+                return new Types.InvalidCidrAddressSpecified(errorParameter(ErrorDescription, 1));
+            case "WLB_CONNECTION_RESET":
+                return new Types.WlbConnectionReset();
+            case "UPDATE_ALREADY_EXISTS":
+                return new Types.UpdateAlreadyExists(errorParameter(ErrorDescription, 1));
+            case "SR_BACKEND_FAILURE":
+                return new Types.SrBackendFailure(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "SR_ATTACH_FAILED":
+                return new Types.SrAttachFailed(errorParameter(ErrorDescription, 1));
+            case "PATCH_PRECHECK_FAILED_VM_RUNNING":
+                return new Types.PatchPrecheckFailedVmRunning(errorParameter(ErrorDescription, 1));
+            case "CANNOT_ENABLE_REDO_LOG":
+                return new Types.CannotEnableRedoLog(errorParameter(ErrorDescription, 1));
+            case "HOST_DISABLED":
+                return new Types.HostDisabled(errorParameter(ErrorDescription, 1));
+            case "VLAN_TAG_INVALID":
+                return new Types.VlanTagInvalid(errorParameter(ErrorDescription, 1));
+            case "FAILED_TO_START_EMULATOR":
+                return new Types.FailedToStartEmulator(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "AUTH_ENABLE_FAILED_INVALID_OU":
+                return new Types.AuthEnableFailedInvalidOu(errorParameter(ErrorDescription, 1));
+            case "OBJECT_NOLONGER_EXISTS":
+                return new Types.ObjectNolongerExists();
+            case "FEATURE_RESTRICTED":
+                return new Types.FeatureRestricted();
+            case "PATCH_PRECHECK_FAILED_UNKNOWN_ERROR":
+                return new Types.PatchPrecheckFailedUnknownError(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "CLUSTER_CREATE_IN_PROGRESS":
+                return new Types.ClusterCreateInProgress();
+            case "VM_LACKS_FEATURE":
+                return new Types.VmLacksFeature(errorParameter(ErrorDescription, 1));
+            case "INVALID_PATCH_WITH_LOG":
+                return new Types.InvalidPatchWithLog(errorParameter(ErrorDescription, 1));
+            case "AUTH_ENABLE_FAILED_INVALID_ACCOUNT":
+                return new Types.AuthEnableFailedInvalidAccount(errorParameter(ErrorDescription, 1));
+            case "XEN_VSS_REQ_ERROR_ADDING_VOLUME_TO_SNAPSET_FAILED":
+                return new Types.XenVssReqErrorAddingVolumeToSnapsetFailed(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "PATCH_PRECHECK_FAILED_PREREQUISITE_MISSING":
+                return new Types.PatchPrecheckFailedPrerequisiteMissing(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "XEN_VSS_REQ_ERROR_PREPARING_WRITERS":
+                return new Types.XenVssReqErrorPreparingWriters(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_LACKS_FEATURE_SUSPEND":
+                return new Types.VmLacksFeatureSuspend(errorParameter(ErrorDescription, 1));
+            case "BACKUP_SCRIPT_FAILED":
+                return new Types.BackupScriptFailed(errorParameter(ErrorDescription, 1));
+            case "TOO_MANY_STORAGE_MIGRATES":
+                return new Types.TooManyStorageMigrates(errorParameter(ErrorDescription, 1));
+            case "WLB_MALFORMED_REQUEST":
+                return new Types.WlbMalformedRequest();
+            case "IS_TUNNEL_ACCESS_PIF":
+                return new Types.IsTunnelAccessPif(errorParameter(ErrorDescription, 1));
+            case "OPERATION_BLOCKED":
+                return new Types.OperationBlocked(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "TLS_CONNECTION_FAILED":
+                return new Types.TlsConnectionFailed(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "SR_DOES_NOT_SUPPORT_MIGRATION":
+                return new Types.SrDoesNotSupportMigration(errorParameter(ErrorDescription, 1));
+            case "TOO_BUSY":
+                return new Types.TooBusy();
+            case "VM_LACKS_FEATURE_SHUTDOWN":
+                return new Types.VmLacksFeatureShutdown(errorParameter(ErrorDescription, 1));
+            case "PVS_SERVER_ADDRESS_IN_USE":
+                return new Types.PvsServerAddressInUse(errorParameter(ErrorDescription, 1));
+            case "PROVISION_FAILED_OUT_OF_SPACE":
+                return new Types.ProvisionFailedOutOfSpace();
+            case "WLB_CONNECTION_REFUSED":
+                return new Types.WlbConnectionRefused();
+            case "DOMAIN_BUILDER_ERROR":
+                return new Types.DomainBuilderError(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "RBAC_PERMISSION_DENIED":
+                return new Types.RbacPermissionDenied(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "POOL_JOINING_HOST_HAS_NON_MANAGEMENT_VLANS":
+                return new Types.PoolJoiningHostHasNonManagementVlans();
+            case "PIF_BOND_NEEDS_MORE_MEMBERS":
+                return new Types.PifBondNeedsMoreMembers();
+            case "PATCH_IS_APPLIED":
+                return new Types.PatchIsApplied();
+            case "VDI_TOO_LARGE":
+                return new Types.VdiTooLarge(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_HAS_PCI_ATTACHED":
+                return new Types.VmHasPciAttached(errorParameter(ErrorDescription, 1));
+            case "POOL_AUTH_ENABLE_FAILED_DOMAIN_LOOKUP_FAILED":
+                return new Types.PoolAuthEnableFailedDomainLookupFailed(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "CANNOT_PLUG_BOND_SLAVE":
+                return new Types.CannotPlugBondSlave(errorParameter(ErrorDescription, 1));
+            case "USER_IS_NOT_LOCAL_SUPERUSER":
+                return new Types.UserIsNotLocalSuperuser(errorParameter(ErrorDescription, 1));
+            case "CANNOT_CREATE_STATE_FILE":
+                return new Types.CannotCreateStateFile();
+            case "MAC_STILL_EXISTS":
+                return new Types.MacStillExists(errorParameter(ErrorDescription, 1));
+            case "UPDATE_PRECHECK_FAILED_OUT_OF_SPACE":
+                return new Types.UpdatePrecheckFailedOutOfSpace(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "AUTH_UNKNOWN_TYPE":
+                return new Types.AuthUnknownType(errorParameter(ErrorDescription, 1));
+            case "VM_MIGRATE_FAILED":
+                return new Types.VmMigrateFailed(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3), errorParameter(ErrorDescription, 4));
+            case "HOST_POWER_ON_MODE_DISABLED":
+                return new Types.HostPowerOnModeDisabled();
+            case "XEN_VSS_REQ_ERROR_PROV_NOT_LOADED":
+                return new Types.XenVssReqErrorProvNotLoaded(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "SYSTEM_STATUS_RETRIEVAL_FAILED":
+                return new Types.SystemStatusRetrievalFailed(errorParameter(ErrorDescription, 1));
+            case "HOST_NOT_LIVE":
+                return new Types.HostNotLive();
+            case "CANNOT_CHANGE_PIF_PROPERTIES":
+                return new Types.CannotChangePifProperties(errorParameter(ErrorDescription, 1));
+            case "VM_SUSPEND_TIMEOUT":
+                return new Types.VmSuspendTimeout(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "POOL_AUTH_ENABLE_FAILED_UNAVAILABLE":
+                return new Types.PoolAuthEnableFailedUnavailable(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "NETWORK_HAS_INCOMPATIBLE_SRIOV_PIFS":
+                return new Types.NetworkHasIncompatibleSriovPifs(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_HAS_CHECKPOINT":
+                return new Types.VmHasCheckpoint(errorParameter(ErrorDescription, 1));
+            case "VM_HAS_TOO_MANY_SNAPSHOTS":
+                return new Types.VmHasTooManySnapshots(errorParameter(ErrorDescription, 1));
+            case "POOL_JOINING_HOST_MUST_HAVE_SAME_API_VERSION":
+                return new Types.PoolJoiningHostMustHaveSameApiVersion(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "CANNOT_FORGET_SRIOV_LOGICAL":
+                return new Types.CannotForgetSriovLogical(errorParameter(ErrorDescription, 1));
+            case "VDI_NOT_MANAGED":
+                return new Types.VdiNotManaged(errorParameter(ErrorDescription, 1));
+            case "VM_REQUIRES_NETWORK":
+                return new Types.VmRequiresNetwork(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "CLUSTER_DOES_NOT_HAVE_ONE_NODE":
+                return new Types.ClusterDoesNotHaveOneNode(errorParameter(ErrorDescription, 1));
+            case "COULD_NOT_IMPORT_DATABASE":
+                return new Types.CouldNotImportDatabase(errorParameter(ErrorDescription, 1));
+            case "VM_HOST_INCOMPATIBLE_VERSION_MIGRATE":
+                return new Types.VmHostIncompatibleVersionMigrate(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "HOST_IN_EMERGENCY_MODE":
+                return new Types.HostInEmergencyMode();
+            case "HA_LOST_STATEFILE":
+                return new Types.HaLostStatefile();
+            case "PIF_DEVICE_NOT_FOUND":
+                return new Types.PifDeviceNotFound();
+            case "SR_INDESTRUCTIBLE":
+                return new Types.SrIndestructible(errorParameter(ErrorDescription, 1));
+            case "PGPU_IN_USE_BY_VM":
+                return new Types.PgpuInUseByVm(errorParameter(ErrorDescription, 1));
+            case "BRIDGE_NOT_AVAILABLE":
+                return new Types.BridgeNotAvailable(errorParameter(ErrorDescription, 1));
+            case "XAPI_HOOK_FAILED":
+                return new Types.XapiHookFailed(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3), errorParameter(ErrorDescription, 4));
+            case "PATCH_PRECHECK_FAILED_WRONG_SERVER_VERSION":
+                return new Types.PatchPrecheckFailedWrongServerVersion(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "HA_FAILED_TO_FORM_LIVESET":
+                return new Types.HaFailedToFormLiveset();
+            case "VDI_NOT_AVAILABLE":
+                return new Types.VdiNotAvailable(errorParameter(ErrorDescription, 1));
+            case "WLB_XENSERVER_MALFORMED_RESPONSE":
+                return new Types.WlbXenserverMalformedResponse();
+            case "NOT_SUPPORTED_DURING_UPGRADE":
+                return new Types.NotSupportedDuringUpgrade();
+            case "JOINING_HOST_CONNECTION_FAILED":
+                return new Types.JoiningHostConnectionFailed();
+            case "FEATURE_REQUIRES_HVM":
+                return new Types.FeatureRequiresHvm(errorParameter(ErrorDescription, 1));
+            case "SUSPEND_IMAGE_NOT_ACCESSIBLE":
+                return new Types.SuspendImageNotAccessible(errorParameter(ErrorDescription, 1));
+            case "INVALID_CLUSTER_STACK":
+                return new Types.InvalidClusterStack(errorParameter(ErrorDescription, 1));
+            case "TOO_MANY_PENDING_TASKS":
+                return new Types.TooManyPendingTasks();
+            case "CANNOT_PLUG_VIF":
+                return new Types.CannotPlugVif(errorParameter(ErrorDescription, 1));
+            case "OTHER_OPERATION_IN_PROGRESS":
+                return new Types.OtherOperationInProgress(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "PIF_NOT_PRESENT":
+                return new Types.PifNotPresent(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "CLUSTERING_ENABLED":
+                return new Types.ClusteringEnabled(errorParameter(ErrorDescription, 1));
+            case "USB_GROUP_CONTAINS_VUSB":
+                return new Types.UsbGroupContainsVusb(errorParameter(ErrorDescription, 1));
+            case "VM_REQUIRES_VUSB":
+                return new Types.VmRequiresVusb(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "PIF_BOND_MORE_THAN_ONE_IP":
+                return new Types.PifBondMoreThanOneIp();
+            case "PIF_IS_PHYSICAL":
+                return new Types.PifIsPhysical(errorParameter(ErrorDescription, 1));
+            case "NETWORK_INCOMPATIBLE_WITH_BOND":
+                return new Types.NetworkIncompatibleWithBond(errorParameter(ErrorDescription, 1));
+            case "MESSAGE_DEPRECATED":
+                return new Types.MessageDeprecated();
+            case "VDI_CONTAINS_METADATA_OF_THIS_POOL":
+                return new Types.VdiContainsMetadataOfThisPool(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_SNAPSHOT_WITH_QUIESCE_TIMEOUT":
+                return new Types.VmSnapshotWithQuiesceTimeout(errorParameter(ErrorDescription, 1));
+            case "VM_HVM_REQUIRED":
+                return new Types.VmHvmRequired(errorParameter(ErrorDescription, 1));
+            case "SR_SOURCE_SPACE_INSUFFICIENT":
+                return new Types.SrSourceSpaceInsufficient(errorParameter(ErrorDescription, 1));
+            case "HA_NO_PLAN":
+                return new Types.HaNoPlan();
+            case "VM_REQUIRES_VGPU":
+                return new Types.VmRequiresVgpu(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "WLB_AUTHENTICATION_FAILED":
+                return new Types.WlbAuthenticationFailed();
+            case "VBD_CDS_MUST_BE_READONLY":
+                return new Types.VbdCdsMustBeReadonly();
+            case "GPU_GROUP_CONTAINS_NO_PGPUS":
+                return new Types.GpuGroupContainsNoPgpus(errorParameter(ErrorDescription, 1));
+            case "HOST_HAS_RESIDENT_VMS":
+                return new Types.HostHasResidentVms(errorParameter(ErrorDescription, 1));
+            case "WLB_DISABLED":
+                return new Types.WlbDisabled();
+            case "LICENSE_EXPIRED":
+                return new Types.LicenseExpired();
+            case "HA_OPERATION_WOULD_BREAK_FAILOVER_PLAN":
+                return new Types.HaOperationWouldBreakFailoverPlan();
+            case "VM_BAD_POWER_STATE":
+                return new Types.VmBadPowerState(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "INCOMPATIBLE_PIF_PROPERTIES":
+                return new Types.IncompatiblePifProperties();
+            case "USB_ALREADY_ATTACHED":
+                return new Types.UsbAlreadyAttached(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_REQUIRES_IOMMU":
+                return new Types.VmRequiresIommu(errorParameter(ErrorDescription, 1));
+            case "HOSTS_NOT_HOMOGENEOUS":
+                return new Types.HostsNotHomogeneous(errorParameter(ErrorDescription, 1));
+            case "HOST_IS_LIVE":
+                return new Types.HostIsLive(errorParameter(ErrorDescription, 1));
+            case "VM_IS_IMMOBILE":
+                return new Types.VmIsImmobile(errorParameter(ErrorDescription, 1));
+            case "VM_NO_EMPTY_CD_VBD":
+                return new Types.VmNoEmptyCdVbd(errorParameter(ErrorDescription, 1));
+            case "TOO_MANY_VUSBS":
+                return new Types.TooManyVusbs(errorParameter(ErrorDescription, 1));
+            case "UPDATE_ALREADY_APPLIED":
+                return new Types.UpdateAlreadyApplied(errorParameter(ErrorDescription, 1));
+            case "VDI_IS_ENCRYPTED":
+                return new Types.VdiIsEncrypted(errorParameter(ErrorDescription, 1));
+            case "VM_ATTACHED_TO_MORE_THAN_ONE_VDI_WITH_TIMEOFFSET_MARKED_AS_RESET_ON_BOOT":
+                return new Types.VmAttachedToMoreThanOneVdiWithTimeoffsetMarkedAsResetOnBoot(errorParameter(ErrorDescription, 1));
+            case "NETWORK_INCOMPATIBLE_WITH_SRIOV":
+                return new Types.NetworkIncompatibleWithSriov(errorParameter(ErrorDescription, 1));
+            case "POOL_JOINING_HOST_MUST_HAVE_SAME_PRODUCT_VERSION":
+                return new Types.PoolJoiningHostMustHaveSameProductVersion();
+            case "HOST_IS_SLAVE":
+                return new Types.HostIsSlave(errorParameter(ErrorDescription, 1));
+            case "UNKNOWN_BOOTLOADER":
+                return new Types.UnknownBootloader(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "JOINING_HOST_SERVICE_FAILED":
+                return new Types.JoiningHostServiceFailed();
+            case "BALLOONING_TIMEOUT_BEFORE_MIGRATION":
+                return new Types.BallooningTimeoutBeforeMigration(errorParameter(ErrorDescription, 1));
+            case "JOINING_HOST_CANNOT_BE_MASTER_OF_OTHER_HOSTS":
+                return new Types.JoiningHostCannotBeMasterOfOtherHosts();
+            case "PIF_NOT_ATTACHED_TO_HOST":
+                return new Types.PifNotAttachedToHost(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "DEVICE_ALREADY_DETACHED":
+                return new Types.DeviceAlreadyDetached(errorParameter(ErrorDescription, 1));
+            case "ADDRESS_VIOLATES_LOCKING_CONSTRAINT":
+                return new Types.AddressViolatesLockingConstraint(errorParameter(ErrorDescription, 1));
+            case "NETWORK_SRIOV_ALREADY_ENABLED":
+                return new Types.NetworkSriovAlreadyEnabled(errorParameter(ErrorDescription, 1));
+            case "UPDATE_PRECHECK_FAILED_PREREQUISITE_MISSING":
+                return new Types.UpdatePrecheckFailedPrerequisiteMissing(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VDI_INCOMPATIBLE_TYPE":
+                return new Types.VdiIncompatibleType(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_MEMORY_SIZE_TOO_LOW":
+                return new Types.VmMemorySizeTooLow(errorParameter(ErrorDescription, 1));
+            case "VM_TO_IMPORT_IS_NOT_NEWER_VERSION":
+                return new Types.VmToImportIsNotNewerVersion(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "SR_HAS_PBD":
+                return new Types.SrHasPbd(errorParameter(ErrorDescription, 1));
+            case "PIF_DOES_NOT_ALLOW_UNPLUG":
+                return new Types.PifDoesNotAllowUnplug(errorParameter(ErrorDescription, 1));
+            case "PVS_CACHE_STORAGE_IS_IN_USE":
+                return new Types.PvsCacheStorageIsInUse(errorParameter(ErrorDescription, 1));
+            case "PIF_IS_NOT_SRIOV_CAPABLE":
+                return new Types.PifIsNotSriovCapable(errorParameter(ErrorDescription, 1));
+            case "DEVICE_ALREADY_EXISTS":
+                return new Types.DeviceAlreadyExists(errorParameter(ErrorDescription, 1));
+            case "XEN_VSS_REQ_ERROR_START_SNAPSHOT_SET_FAILED":
+                return new Types.XenVssReqErrorStartSnapshotSetFailed(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_HALTED":
+                return new Types.VmHalted(errorParameter(ErrorDescription, 1));
+            case "SESSION_INVALID":
+                return new Types.SessionInvalid(errorParameter(ErrorDescription, 1));
+            case "VDI_COPY_FAILED":
+                return new Types.VdiCopyFailed();
+            case "VDI_NOT_SPARSE":
+                return new Types.VdiNotSparse(errorParameter(ErrorDescription, 1));
+            case "ROLE_NOT_FOUND":
+                return new Types.RoleNotFound();
+            case "INVALID_IP_ADDRESS_SPECIFIED":
+                return new Types.InvalidIpAddressSpecified(errorParameter(ErrorDescription, 1));
+            case "XENAPI_PLUGIN_FAILURE":
+                return new Types.XenapiPluginFailure(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "HOST_CANNOT_READ_METRICS":
+                return new Types.HostCannotReadMetrics();
+            case "VBD_NOT_EMPTY":
+                return new Types.VbdNotEmpty(errorParameter(ErrorDescription, 1));
+            case "PIF_TUNNEL_STILL_EXISTS":
+                return new Types.PifTunnelStillExists(errorParameter(ErrorDescription, 1));
+            case "DEVICE_DETACH_REJECTED":
+                return new Types.DeviceDetachRejected(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "REQUIRED_PIF_IS_UNPLUGGED":
+                return new Types.RequiredPifIsUnplugged(errorParameter(ErrorDescription, 1));
+            case "PATCH_ALREADY_EXISTS":
+                return new Types.PatchAlreadyExists(errorParameter(ErrorDescription, 1));
+            case "NETWORK_INCOMPATIBLE_WITH_TUNNEL":
+                return new Types.NetworkIncompatibleWithTunnel(errorParameter(ErrorDescription, 1));
+            case "HA_CANNOT_CHANGE_BOND_STATUS_OF_MGMT_IFACE":
+                return new Types.HaCannotChangeBondStatusOfMgmtIface();
+            case "HA_HOST_IS_ARMED":
+                return new Types.HaHostIsArmed(errorParameter(ErrorDescription, 1));
+            case "NETWORK_HAS_INCOMPATIBLE_VLAN_ON_SRIOV_PIFS":
+                return new Types.NetworkHasIncompatibleVlanOnSriovPifs(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "SR_HAS_NO_PBDS":
+                return new Types.SrHasNoPbds(errorParameter(ErrorDescription, 1));
+            case "INVALID_UPDATE":
+                return new Types.InvalidUpdate(errorParameter(ErrorDescription, 1));
+            case "VDI_IS_NOT_ISO":
+                return new Types.VdiIsNotIso(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_NO_CRASHDUMP_SR":
+                return new Types.VmNoCrashdumpSr(errorParameter(ErrorDescription, 1));
+            case "CANNOT_ADD_VLAN_TO_BOND_SLAVE":
+                return new Types.CannotAddVlanToBondSlave(errorParameter(ErrorDescription, 1));
+            case "CANNOT_FIND_STATE_PARTITION":
+                return new Types.CannotFindStatePartition();
+            case "VM_HOST_INCOMPATIBLE_VERSION":
+                return new Types.VmHostIncompatibleVersion(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "DEVICE_NOT_ATTACHED":
+                return new Types.DeviceNotAttached(errorParameter(ErrorDescription, 1));
+            case "VM_ASSIGNED_TO_SNAPSHOT_SCHEDULE":
+                return new Types.VmAssignedToSnapshotSchedule(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_CHECKPOINT_SUSPEND_FAILED":
+                return new Types.VmCheckpointSuspendFailed(errorParameter(ErrorDescription, 1));
+            case "MAC_INVALID":
+                return new Types.MacInvalid(errorParameter(ErrorDescription, 1));
+            case "PIF_IS_VLAN":
+                return new Types.PifIsVlan(errorParameter(ErrorDescription, 1));
+            case "V6D_FAILURE":
+                return new Types.V6dFailure();
+            case "JOINING_HOST_CANNOT_HAVE_RUNNING_VMS":
+                return new Types.JoiningHostCannotHaveRunningVms();
+            case "XEN_INCOMPATIBLE":
+                return new Types.XenIncompatible();
+            case "HA_HOST_CANNOT_ACCESS_STATEFILE":
+                return new Types.HaHostCannotAccessStatefile();
+            case "NETWORK_INCOMPATIBLE_PURPOSES":
+                return new Types.NetworkIncompatiblePurposes(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "PATCH_APPLY_FAILED_BACKUP_FILES_EXIST":
+                return new Types.PatchApplyFailedBackupFilesExist(errorParameter(ErrorDescription, 1));
+            case "RESTORE_TARGET_MISSING_DEVICE":
+                return new Types.RestoreTargetMissingDevice(errorParameter(ErrorDescription, 1));
+            case "VM_PV_DRIVERS_IN_USE":
+                return new Types.VmPvDriversInUse(errorParameter(ErrorDescription, 1));
+            case "VIF_IN_USE":
+                return new Types.VifInUse(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "SLAVE_REQUIRES_MANAGEMENT_INTERFACE":
+                return new Types.SlaveRequiresManagementInterface();
+            case "CERTIFICATE_NAME_INVALID":
+                return new Types.CertificateNameInvalid(errorParameter(ErrorDescription, 1));
+            case "VM_REBOOTED":
+                return new Types.VmRebooted(errorParameter(ErrorDescription, 1));
+            case "POOL_AUTH_DISABLE_FAILED":
+                return new Types.PoolAuthDisableFailed(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "HOST_EVACUATE_IN_PROGRESS":
+                return new Types.HostEvacuateInProgress(errorParameter(ErrorDescription, 1));
+            case "PIF_SRIOV_STILL_EXISTS":
+                return new Types.PifSriovStillExists(errorParameter(ErrorDescription, 1));
+            case "PIF_UNMANAGED":
+                return new Types.PifUnmanaged(errorParameter(ErrorDescription, 1));
+            case "VMSS_HAS_VM":
+                return new Types.VmssHasVm();
+            case "IMPORT_ERROR_ATTACHED_DISKS_NOT_FOUND":
+                return new Types.ImportErrorAttachedDisksNotFound();
+            case "NOT_IN_EMERGENCY_MODE":
+                return new Types.NotInEmergencyMode();
+            case "PIF_ALLOWS_UNPLUG":
+                return new Types.PifAllowsUnplug(errorParameter(ErrorDescription, 1));
+            case "DEFAULT_SR_NOT_FOUND":
+                return new Types.DefaultSrNotFound(errorParameter(ErrorDescription, 1));
+            case "NVIDIA_TOOLS_ERROR":
+                return new Types.NvidiaToolsError(errorParameter(ErrorDescription, 1));
+            case "RESTORE_INCOMPATIBLE_VERSION":
+                return new Types.RestoreIncompatibleVersion();
+            case "JOINING_HOST_CANNOT_HAVE_RUNNING_OR_SUSPENDED_VMS":
+                return new Types.JoiningHostCannotHaveRunningOrSuspendedVms();
+            case "VM_HOST_INCOMPATIBLE_VIRTUAL_HARDWARE_PLATFORM_VERSION":
+                return new Types.VmHostIncompatibleVirtualHardwarePlatformVersion(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3), errorParameter(ErrorDescription, 4));
+            case "CANNOT_RESET_CONTROL_DOMAIN":
+                return new Types.CannotResetControlDomain(errorParameter(ErrorDescription, 1));
+            case "CANNOT_DESTROY_DISASTER_RECOVERY_TASK":
+                return new Types.CannotDestroyDisasterRecoveryTask(errorParameter(ErrorDescription, 1));
+            case "HA_SHOULD_BE_FENCED":
+                return new Types.HaShouldBeFenced(errorParameter(ErrorDescription, 1));
+            case "SR_NOT_EMPTY":
+                return new Types.SrNotEmpty();
+            case "HOST_STILL_BOOTING":
+                return new Types.HostStillBooting();
+            case "VM_SNAPSHOT_WITH_QUIESCE_FAILED":
+                return new Types.VmSnapshotWithQuiesceFailed(errorParameter(ErrorDescription, 1));
+            case "CHANGE_PASSWORD_REJECTED":
+                return new Types.ChangePasswordRejected(errorParameter(ErrorDescription, 1));
+            case "SR_OPERATION_NOT_SUPPORTED":
+                return new Types.SrOperationNotSupported(errorParameter(ErrorDescription, 1));
+            case "VM_UNSAFE_BOOT":
+                return new Types.VmUnsafeBoot(errorParameter(ErrorDescription, 1));
+            case "MISSING_CONNECTION_DETAILS":
+                return new Types.MissingConnectionDetails();
+            case "USB_GROUP_CONTAINS_PUSB":
+                return new Types.UsbGroupContainsPusb(errorParameter(ErrorDescription, 1));
+            case "CRL_CORRUPT":
+                return new Types.CrlCorrupt(errorParameter(ErrorDescription, 1));
+            case "PATCH_ALREADY_APPLIED":
+                return new Types.PatchAlreadyApplied(errorParameter(ErrorDescription, 1));
+            case "NO_HOSTS_AVAILABLE":
+                return new Types.NoHostsAvailable();
+            case "SR_NOT_ATTACHED":
+                return new Types.SrNotAttached(errorParameter(ErrorDescription, 1));
+            case "VM_CRASHED":
+                return new Types.VmCrashed(errorParameter(ErrorDescription, 1));
+            case "HA_DISABLE_IN_PROGRESS":
+                return new Types.HaDisableInProgress();
+            case "AUTH_ALREADY_ENABLED":
+                return new Types.AuthAlreadyEnabled(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_HAS_NO_SUSPEND_VDI":
+                return new Types.VmHasNoSuspendVdi(errorParameter(ErrorDescription, 1));
+            case "DEVICE_DETACH_TIMEOUT":
+                return new Types.DeviceDetachTimeout(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_REQUIRES_GPU":
+                return new Types.VmRequiresGpu(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "HOST_NOT_ENOUGH_FREE_MEMORY":
+                return new Types.HostNotEnoughFreeMemory(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_IS_PROTECTED":
+                return new Types.VmIsProtected(errorParameter(ErrorDescription, 1));
+            case "UNIMPLEMENTED_IN_SM_BACKEND":
+                return new Types.UnimplementedInSmBackend(errorParameter(ErrorDescription, 1));
+            case "NO_MORE_REDO_LOGS_ALLOWED":
+                return new Types.NoMoreRedoLogsAllowed();
+            case "FIELD_TYPE_ERROR":
+                return new Types.FieldTypeError(errorParameter(ErrorDescription, 1));
+            case "UPDATE_PRECHECK_FAILED_WRONG_SERVER_VERSION":
+                return new Types.UpdatePrecheckFailedWrongServerVersion(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "VM_HAS_VGPU":
+                return new Types.VmHasVgpu(errorParameter(ErrorDescription, 1));
+            case "POOL_AUTH_ENABLE_FAILED_PERMISSION_DENIED":
+                return new Types.PoolAuthEnableFailedPermissionDenied(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "SR_NOT_SHARABLE":
+                return new Types.SrNotSharable(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "PERMISSION_DENIED":
+                return new Types.PermissionDenied(errorParameter(ErrorDescription, 1));
+            case "MIRROR_FAILED":
+                return new Types.MirrorFailed(errorParameter(ErrorDescription, 1));
+            case "NO_COMPATIBLE_CLUSTER_HOST":
+                return new Types.NoCompatibleClusterHost(errorParameter(ErrorDescription, 1));
+            case "IMPORT_ERROR":
+                return new Types.ImportError(errorParameter(ErrorDescription, 1));
+            case "VM_NOT_RESIDENT_HERE":
+                return new Types.VmNotResidentHere(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "PIF_VLAN_STILL_EXISTS":
+                return new Types.PifVlanStillExists(errorParameter(ErrorDescription, 1));
+            case "LICENSE_CHECKOUT_ERROR":
+                return new Types.LicenseCheckoutError(errorParameter(ErrorDescription, 1));
+            case "HOST_NOT_DISABLED":
+                return new Types.HostNotDisabled();
+            case "DB_UNIQUENESS_CONSTRAINT_VIOLATION":
+                return new Types.DbUniquenessConstraintViolation(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "PVS_CACHE_STORAGE_ALREADY_PRESENT":
+                return new Types.PvsCacheStorageAlreadyPresent(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VBD_NOT_REMOVABLE_MEDIA":
+                return new Types.VbdNotRemovableMedia(errorParameter(ErrorDescription, 1));
+            case "HA_ABORT_NEW_MASTER":
+                return new Types.HaAbortNewMaster(errorParameter(ErrorDescription, 1));
+            case "ONLY_ALLOWED_ON_OEM_EDITION":
+                return new Types.OnlyAllowedOnOemEdition(errorParameter(ErrorDescription, 1));
+            case "VM_IS_TEMPLATE":
+                return new Types.VmIsTemplate(errorParameter(ErrorDescription, 1));
+            case "CANNOT_EVACUATE_HOST":
+                return new Types.CannotEvacuateHost(errorParameter(ErrorDescription, 1));
+            case "VM_DUPLICATE_VBD_DEVICE":
+                return new Types.VmDuplicateVbdDevice(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "WLB_NOT_INITIALIZED":
+                return new Types.WlbNotInitialized();
+            case "POOL_AUTH_ENABLE_FAILED_INVALID_ACCOUNT":
+                return new Types.PoolAuthEnableFailedInvalidAccount(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "HA_TOO_FEW_HOSTS":
+                return new Types.HaTooFewHosts();
+            case "CANNOT_FIND_OEM_BACKUP_PARTITION":
+                return new Types.CannotFindOemBackupPartition();
+            case "SM_PLUGIN_COMMUNICATION_FAILURE":
+                return new Types.SmPluginCommunicationFailure(errorParameter(ErrorDescription, 1));
+            case "IMPORT_ERROR_CANNOT_HANDLE_CHUNKED":
+                return new Types.ImportErrorCannotHandleChunked();
+            case "VM_SNAPSHOT_WITH_QUIESCE_PLUGIN_DEOS_NOT_RESPOND":
+                return new Types.VmSnapshotWithQuiescePluginDeosNotRespond(errorParameter(ErrorDescription, 1));
+            case "HA_HEARTBEAT_DAEMON_STARTUP_FAILED":
+                return new Types.HaHeartbeatDaemonStartupFailed();
+            case "VM_SHUTDOWN_TIMEOUT":
+                return new Types.VmShutdownTimeout(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VDI_NEEDS_VM_FOR_MIGRATE":
+                return new Types.VdiNeedsVmForMigrate(errorParameter(ErrorDescription, 1));
+            case "DUPLICATE_VM":
+                return new Types.DuplicateVm(errorParameter(ErrorDescription, 1));
+            case "LOCATION_NOT_UNIQUE":
+                return new Types.LocationNotUnique(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "SSL_VERIFY_ERROR":
+                return new Types.SslVerifyError(errorParameter(ErrorDescription, 1));
+            case "NETWORK_SRIOV_INSUFFICIENT_CAPACITY":
+                return new Types.NetworkSriovInsufficientCapacity(errorParameter(ErrorDescription, 1));
+            case "XEN_VSS_REQ_ERROR_CREATING_SNAPSHOT_XML_STRING":
+                return new Types.XenVssReqErrorCreatingSnapshotXmlString(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_SNAPSHOT_WITH_QUIESCE_NOT_SUPPORTED":
+                return new Types.VmSnapshotWithQuiesceNotSupported(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "NOT_SYSTEM_DOMAIN":
+                return new Types.NotSystemDomain(errorParameter(ErrorDescription, 1));
+            case "VGPU_DESTINATION_INCOMPATIBLE":
+                return new Types.VgpuDestinationIncompatible(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "OPENVSWITCH_NOT_ACTIVE":
+                return new Types.OpenvswitchNotActive();
+            case "PIF_CONFIGURATION_ERROR":
+                return new Types.PifConfigurationError(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "POOL_JOINING_HOST_MUST_HAVE_PHYSICAL_MANAGEMENT_NIC":
+                return new Types.PoolJoiningHostMustHavePhysicalManagementNic();
+            case "CLUSTER_HOST_IS_LAST":
+                return new Types.ClusterHostIsLast(errorParameter(ErrorDescription, 1));
+            case "VM_REVERT_FAILED":
+                return new Types.VmRevertFailed(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "COULD_NOT_UPDATE_IGMP_SNOOPING_EVERYWHERE":
+                return new Types.CouldNotUpdateIgmpSnoopingEverywhere();
+            case "VDI_NO_CBT_METADATA":
+                return new Types.VdiNoCbtMetadata(errorParameter(ErrorDescription, 1));
+            case "SR_VDI_LOCKING_FAILED":
+                return new Types.SrVdiLockingFailed();
+            case "CERTIFICATE_DOES_NOT_EXIST":
+                return new Types.CertificateDoesNotExist(errorParameter(ErrorDescription, 1));
+            case "PIF_HAS_FCOE_SR_IN_USE":
+                return new Types.PifHasFcoeSrInUse(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "POOL_AUTH_DISABLE_FAILED_INVALID_ACCOUNT":
+                return new Types.PoolAuthDisableFailedInvalidAccount(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VGPU_GUEST_DRIVER_LIMIT":
+                return new Types.VgpuGuestDriverLimit(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "PIF_HAS_NO_NETWORK_CONFIGURATION":
+                return new Types.PifHasNoNetworkConfiguration(errorParameter(ErrorDescription, 1));
+            case "CERTIFICATE_CORRUPT":
+                return new Types.CertificateCorrupt(errorParameter(ErrorDescription, 1));
+            case "INVALID_DEVICE":
+                return new Types.InvalidDevice(errorParameter(ErrorDescription, 1));
+            case "HOST_OFFLINE":
+                return new Types.HostOffline(errorParameter(ErrorDescription, 1));
+            case "VM_PCI_BUS_FULL":
+                return new Types.VmPciBusFull(errorParameter(ErrorDescription, 1));
+            case "SESSION_AUTHENTICATION_FAILED":
+                return new Types.SessionAuthenticationFailed();
+            case "CLUSTERED_SR_DEGRADED":
+                return new Types.ClusteredSrDegraded(errorParameter(ErrorDescription, 1));
+            case "WLB_XENSERVER_UNKNOWN_HOST":
+                return new Types.WlbXenserverUnknownHost();
+            case "BRIDGE_NAME_EXISTS":
+                return new Types.BridgeNameExists(errorParameter(ErrorDescription, 1));
+            case "WLB_XENSERVER_TIMEOUT":
+                return new Types.WlbXenserverTimeout();
+            case "VM_LACKS_FEATURE_VCPU_HOTPLUG":
+                return new Types.VmLacksFeatureVcpuHotplug(errorParameter(ErrorDescription, 1));
+            case "VM_MISSING_PV_DRIVERS":
+                return new Types.VmMissingPvDrivers(errorParameter(ErrorDescription, 1));
+            case "HA_NOT_INSTALLED":
+                return new Types.HaNotInstalled(errorParameter(ErrorDescription, 1));
+            case "PROVISION_ONLY_ALLOWED_ON_TEMPLATE":
+                return new Types.ProvisionOnlyAllowedOnTemplate();
+            case "SR_IS_CACHE_SR":
+                return new Types.SrIsCacheSr(errorParameter(ErrorDescription, 1));
+            case "MEMORY_CONSTRAINT_VIOLATION":
+                return new Types.MemoryConstraintViolation(errorParameter(ErrorDescription, 1));
+            case "SYSTEM_STATUS_MUST_USE_TAR_ON_OEM":
+                return new Types.SystemStatusMustUseTarOnOem();
+            case "UPDATE_PRECHECK_FAILED_GPGKEY_NOT_IMPORTED":
+                return new Types.UpdatePrecheckFailedGpgkeyNotImported(errorParameter(ErrorDescription, 1));
+            case "POOL_AUTH_ENABLE_FAILED_INVALID_OU":
+                return new Types.PoolAuthEnableFailedInvalidOu(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "HOST_CANNOT_DESTROY_SELF":
+                return new Types.HostCannotDestroySelf(errorParameter(ErrorDescription, 1));
+            case "WLB_XENSERVER_CONNECTION_REFUSED":
+                return new Types.WlbXenserverConnectionRefused();
+            case "INVALID_EDITION":
+                return new Types.InvalidEdition(errorParameter(ErrorDescription, 1));
+            case "INCOMPATIBLE_STATEFILE_SR":
+                return new Types.IncompatibleStatefileSr(errorParameter(ErrorDescription, 1));
+            case "EVENT_FROM_TOKEN_PARSE_FAILURE":
+                return new Types.EventFromTokenParseFailure(errorParameter(ErrorDescription, 1));
+            case "XEN_VSS_REQ_ERROR_NO_VOLUMES_SUPPORTED":
+                return new Types.XenVssReqErrorNoVolumesSupported(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "CERTIFICATE_ALREADY_EXISTS":
+                return new Types.CertificateAlreadyExists(errorParameter(ErrorDescription, 1));
+            case "WLB_URL_INVALID":
+                return new Types.WlbUrlInvalid(errorParameter(ErrorDescription, 1));
+            case "NETWORK_ALREADY_CONNECTED":
+                return new Types.NetworkAlreadyConnected(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VBD_NOT_UNPLUGGABLE":
+                return new Types.VbdNotUnpluggable(errorParameter(ErrorDescription, 1));
+            case "DUPLICATE_PIF_DEVICE_NAME":
+                return new Types.DuplicatePifDeviceName(errorParameter(ErrorDescription, 1));
+            case "CANNOT_ADD_TUNNEL_TO_SRIOV_LOGICAL":
+                return new Types.CannotAddTunnelToSriovLogical(errorParameter(ErrorDescription, 1));
+            case "UPDATE_ALREADY_APPLIED_IN_POOL":
+                return new Types.UpdateAlreadyAppliedInPool(errorParameter(ErrorDescription, 1));
+            case "RESTORE_TARGET_MGMT_IF_NOT_IN_BACKUP":
+                return new Types.RestoreTargetMgmtIfNotInBackup();
+            case "CANNOT_ADD_TUNNEL_TO_BOND_SLAVE":
+                return new Types.CannotAddTunnelToBondSlave(errorParameter(ErrorDescription, 1));
+            case "USB_GROUP_CONFLICT":
+                return new Types.UsbGroupConflict(errorParameter(ErrorDescription, 1));
+            case "HA_IS_ENABLED":
+                return new Types.HaIsEnabled();
+            case "UPDATE_POOL_APPLY_FAILED":
+                return new Types.UpdatePoolApplyFailed(errorParameter(ErrorDescription, 1));
+            case "INVALID_PATCH":
+                return new Types.InvalidPatch();
+            case "WLB_UNKNOWN_HOST":
+                return new Types.WlbUnknownHost();
+            case "OPERATION_NOT_ALLOWED":
+                return new Types.OperationNotAllowed(errorParameter(ErrorDescription, 1));
+            case "PVS_SITE_CONTAINS_SERVERS":
+                return new Types.PvsSiteContainsServers(errorParameter(ErrorDescription, 1));
+            case "WLB_TIMEOUT":
+                return new Types.WlbTimeout(errorParameter(ErrorDescription, 1));
+            case "LICENSE_DOES_NOT_SUPPORT_POOLING":
+                return new Types.LicenseDoesNotSupportPooling();
+            case "AUTH_ENABLE_FAILED_PERMISSION_DENIED":
+                return new Types.AuthEnableFailedPermissionDenied(errorParameter(ErrorDescription, 1));
+            case "VM_TOO_MANY_VCPUS":
+                return new Types.VmTooManyVcpus(errorParameter(ErrorDescription, 1));
+            case "LICENSE_DOES_NOT_SUPPORT_XHA":
+                return new Types.LicenseDoesNotSupportXha();
+            case "VMPP_ARCHIVE_MORE_FREQUENT_THAN_BACKUP":
+                return new Types.VmppArchiveMoreFrequentThanBackup();
+            case "POOL_JOINING_HOST_HAS_TUNNELS":
+                return new Types.PoolJoiningHostHasTunnels();
+            case "VGPU_TYPE_NOT_COMPATIBLE":
+                return new Types.VgpuTypeNotCompatible(errorParameter(ErrorDescription, 1));
+            case "PIF_IS_MANAGEMENT_INTERFACE":
+                return new Types.PifIsManagementInterface(errorParameter(ErrorDescription, 1));
+            case "PATCH_APPLY_FAILED":
+                return new Types.PatchApplyFailed(errorParameter(ErrorDescription, 1));
+            case "POOL_AUTH_ENABLE_FAILED_WRONG_CREDENTIALS":
+                return new Types.PoolAuthEnableFailedWrongCredentials(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "UPDATE_IS_APPLIED":
+                return new Types.UpdateIsApplied();
+            case "LICENCE_RESTRICTION":
+                return new Types.LicenceRestriction(errorParameter(ErrorDescription, 1));
+            case "POOL_AUTH_ALREADY_ENABLED":
+                return new Types.PoolAuthAlreadyEnabled(errorParameter(ErrorDescription, 1));
+            case "PIF_CANNOT_BOND_CROSS_HOST":
+                return new Types.PifCannotBondCrossHost();
+            case "VM_MIGRATE_CONTACT_REMOTE_SERVICE_FAILED":
+                return new Types.VmMigrateContactRemoteServiceFailed();
+            case "HA_POOL_IS_ENABLED_BUT_HOST_IS_DISABLED":
+                return new Types.HaPoolIsEnabledButHostIsDisabled();
+            case "GPU_GROUP_CONTAINS_VGPU":
+                return new Types.GpuGroupContainsVgpu(errorParameter(ErrorDescription, 1));
+            case "CANNOT_FIND_UPDATE":
+                return new Types.CannotFindUpdate();
+            case "DEVICE_ALREADY_ATTACHED":
+                return new Types.DeviceAlreadyAttached(errorParameter(ErrorDescription, 1));
+            case "VMS_FAILED_TO_COOPERATE":
+                return new Types.VmsFailedToCooperate();
+            case "AUTH_DISABLE_FAILED_WRONG_CREDENTIALS":
+                return new Types.AuthDisableFailedWrongCredentials(errorParameter(ErrorDescription, 1));
+            case "MAP_DUPLICATE_KEY":
+                return new Types.MapDuplicateKey(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3), errorParameter(ErrorDescription, 4));
+            case "PIF_HAS_NO_V6_NETWORK_CONFIGURATION":
+                return new Types.PifHasNoV6NetworkConfiguration(errorParameter(ErrorDescription, 1));
+            case "XMLRPC_UNMARSHAL_FAILURE":
+                return new Types.XmlrpcUnmarshalFailure(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "INTERFACE_HAS_NO_IP":
+                return new Types.InterfaceHasNoIp(errorParameter(ErrorDescription, 1));
+            case "HOST_IN_USE":
+                return new Types.HostInUse(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "VM_HAS_VUSBS":
+                return new Types.VmHasVusbs(errorParameter(ErrorDescription, 1));
+            case "POOL_JOINING_HOST_HAS_NETWORK_SRIOVS":
+                return new Types.PoolJoiningHostHasNetworkSriovs();
+            case "LICENSE_HOST_POOL_MISMATCH":
+                return new Types.LicenseHostPoolMismatch();
+            case "VGPU_TYPE_NOT_ENABLED":
+                return new Types.VgpuTypeNotEnabled(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "CLUSTER_HOST_NOT_JOINED":
+                return new Types.ClusterHostNotJoined(errorParameter(ErrorDescription, 1));
+            case "VDI_IN_USE":
+                return new Types.VdiInUse(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VBD_IS_EMPTY":
+                return new Types.VbdIsEmpty(errorParameter(ErrorDescription, 1));
+            case "DUPLICATE_MAC_SEED":
+                return new Types.DuplicateMacSeed(errorParameter(ErrorDescription, 1));
+            case "NO_CLUSTER_HOSTS_REACHABLE":
+                return new Types.NoClusterHostsReachable(errorParameter(ErrorDescription, 1));
+            case "UPDATE_APPLY_FAILED":
+                return new Types.UpdateApplyFailed(errorParameter(ErrorDescription, 1));
+            case "SUBJECT_ALREADY_EXISTS":
+                return new Types.SubjectAlreadyExists();
+            case "HA_HOST_CANNOT_SEE_PEERS":
+                return new Types.HaHostCannotSeePeers(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "AUTH_ENABLE_FAILED_UNAVAILABLE":
+                return new Types.AuthEnableFailedUnavailable(errorParameter(ErrorDescription, 1));
+            case "NETWORK_SRIOV_ENABLE_FAILED":
+                return new Types.NetworkSriovEnableFailed(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "NOT_IMPLEMENTED":
+                return new Types.NotImplemented(errorParameter(ErrorDescription, 1));
+            case "SESSION_NOT_REGISTERED":
+                return new Types.SessionNotRegistered(errorParameter(ErrorDescription, 1));
+            case "RESTORE_SCRIPT_FAILED":
+                return new Types.RestoreScriptFailed(errorParameter(ErrorDescription, 1));
+            case "VDI_IS_A_PHYSICAL_DEVICE":
+                return new Types.VdiIsAPhysicalDevice(errorParameter(ErrorDescription, 1));
+            case "AUTH_IS_DISABLED":
+                return new Types.AuthIsDisabled();
+            case "ILLEGAL_VBD_DEVICE":
+                return new Types.IllegalVbdDevice(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VALUE_NOT_SUPPORTED":
+                return new Types.ValueNotSupported(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "UUID_INVALID":
+                return new Types.UuidInvalid(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "INVALID_FEATURE_STRING":
+                return new Types.InvalidFeatureString(errorParameter(ErrorDescription, 1));
+            case "VDI_MISSING":
+                return new Types.VdiMissing(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VDI_LOCATION_MISSING":
+                return new Types.VdiLocationMissing(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "SR_HAS_MULTIPLE_PBDS":
+                return new Types.SrHasMultiplePbds(errorParameter(ErrorDescription, 1));
+            case "COULD_NOT_FIND_NETWORK_INTERFACE_WITH_SPECIFIED_DEVICE_NAME_AND_MAC_ADDRESS":
+                return new Types.CouldNotFindNetworkInterfaceWithSpecifiedDeviceNameAndMacAddress(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "MESSAGE_METHOD_UNKNOWN":
+                return new Types.MessageMethodUnknown(errorParameter(ErrorDescription, 1));
+            case "IMPORT_ERROR_SOME_CHECKSUMS_FAILED":
+                return new Types.ImportErrorSomeChecksumsFailed();
+            case "POOL_JOINING_HOST_MUST_ONLY_HAVE_PHYSICAL_PIFS":
+                return new Types.PoolJoiningHostMustOnlyHavePhysicalPifs();
+            case "VM_IS_USING_NESTED_VIRT":
+                return new Types.VmIsUsingNestedVirt(errorParameter(ErrorDescription, 1));
+            case "EVENTS_LOST":
+                return new Types.EventsLost();
+            case "VM_OLD_PV_DRIVERS":
+                return new Types.VmOldPvDrivers(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "UPDATE_PRECHECK_FAILED_CONFLICT_PRESENT":
+                return new Types.UpdatePrecheckFailedConflictPresent(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_FAILED_SHUTDOWN_ACKNOWLEDGMENT":
+                return new Types.VmFailedShutdownAcknowledgment(errorParameter(ErrorDescription, 1));
+            case "HOST_CANNOT_ATTACH_NETWORK":
+                return new Types.HostCannotAttachNetwork(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "NETWORK_CONTAINS_PIF":
+                return new Types.NetworkContainsPif(errorParameter(ErrorDescription, 1));
+            case "VDI_READONLY":
+                return new Types.VdiReadonly(errorParameter(ErrorDescription, 1));
+            case "CRL_DOES_NOT_EXIST":
+                return new Types.CrlDoesNotExist(errorParameter(ErrorDescription, 1));
+            case "VDI_ON_BOOT_MODE_INCOMPATIBLE_WITH_OPERATION":
+                return new Types.VdiOnBootModeIncompatibleWithOperation();
+            case "HOST_NAME_INVALID":
+                return new Types.HostNameInvalid(errorParameter(ErrorDescription, 1));
+            case "WLB_MALFORMED_RESPONSE":
+                return new Types.WlbMalformedResponse(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "VGPU_TYPE_NOT_COMPATIBLE_WITH_RUNNING_TYPE":
+                return new Types.VgpuTypeNotCompatibleWithRunningType(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "VLAN_IN_USE":
+                return new Types.VlanInUse(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "OPERATION_PARTIALLY_FAILED":
+                return new Types.OperationPartiallyFailed(errorParameter(ErrorDescription, 1));
+            case "DOMAIN_EXISTS":
+                return new Types.DomainExists(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_INCOMPATIBLE_WITH_THIS_HOST":
+                return new Types.VmIncompatibleWithThisHost(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "XENAPI_MISSING_PLUGIN":
+                return new Types.XenapiMissingPlugin(errorParameter(ErrorDescription, 1));
+            case "INVALID_VALUE":
+                return new Types.InvalidValue(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "HOSTS_NOT_COMPATIBLE":
+                return new Types.HostsNotCompatible();
+            case "DEVICE_ATTACH_TIMEOUT":
+                return new Types.DeviceAttachTimeout(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "NETWORK_UNMANAGED":
+                return new Types.NetworkUnmanaged(errorParameter(ErrorDescription, 1));
+            case "SR_UNKNOWN_DRIVER":
+                return new Types.SrUnknownDriver(errorParameter(ErrorDescription, 1));
+            case "SR_UUID_EXISTS":
+                return new Types.SrUuidExists(errorParameter(ErrorDescription, 1));
+            case "XEN_VSS_REQ_ERROR_INIT_FAILED":
+                return new Types.XenVssReqErrorInitFailed(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "USB_GROUP_CONTAINS_NO_PUSBS":
+                return new Types.UsbGroupContainsNoPusbs(errorParameter(ErrorDescription, 1));
+            case "POOL_JOINING_EXTERNAL_AUTH_MISMATCH":
+                return new Types.PoolJoiningExternalAuthMismatch();
+            case "AUTH_ENABLE_FAILED_WRONG_CREDENTIALS":
+                return new Types.AuthEnableFailedWrongCredentials(errorParameter(ErrorDescription, 1));
+            case "PIF_IS_SRIOV_LOGICAL":
+                return new Types.PifIsSriovLogical(errorParameter(ErrorDescription, 1));
+            case "PATCH_PRECHECK_FAILED_ISO_MOUNTED":
+                return new Types.PatchPrecheckFailedIsoMounted(errorParameter(ErrorDescription, 1));
+            case "POOL_AUTH_DISABLE_FAILED_WRONG_CREDENTIALS":
+                return new Types.PoolAuthDisableFailedWrongCredentials(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_CANNOT_DELETE_DEFAULT_TEMPLATE":
+                return new Types.VmCannotDeleteDefaultTemplate(errorParameter(ErrorDescription, 1));
+            case "ROLE_ALREADY_EXISTS":
+                return new Types.RoleAlreadyExists();
+            case "LICENSE_FILE_DEPRECATED":
+                return new Types.LicenseFileDeprecated();
+            case "PGPU_NOT_COMPATIBLE_WITH_GPU_GROUP":
+                return new Types.PgpuNotCompatibleWithGpuGroup(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "CANNOT_DESTROY_SYSTEM_NETWORK":
+                return new Types.CannotDestroySystemNetwork(errorParameter(ErrorDescription, 1));
+            case "NETWORK_INCOMPATIBLE_WITH_VLAN_ON_SRIOV":
+                return new Types.NetworkIncompatibleWithVlanOnSriov(errorParameter(ErrorDescription, 1));
+            case "MESSAGE_PARAMETER_COUNT_MISMATCH":
+                return new Types.MessageParameterCountMismatch(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2), errorParameter(ErrorDescription, 3));
+            case "CRL_NAME_INVALID":
+                return new Types.CrlNameInvalid(errorParameter(ErrorDescription, 1));
+            case "VM_NO_SUSPEND_SR":
+                return new Types.VmNoSuspendSr(errorParameter(ErrorDescription, 1));
+            case "HANDLE_INVALID":
+                return new Types.HandleInvalid(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "CRL_ALREADY_EXISTS":
+                return new Types.CrlAlreadyExists(errorParameter(ErrorDescription, 1));
+            case "VDI_HAS_RRDS":
+                return new Types.VdiHasRrds(errorParameter(ErrorDescription, 1));
+            case "VGPU_TYPE_NOT_SUPPORTED":
+                return new Types.VgpuTypeNotSupported(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "NOT_ALLOWED_ON_OEM_EDITION":
+                return new Types.NotAllowedOnOemEdition(errorParameter(ErrorDescription, 1));
+            case "LICENSE_CANNOT_DOWNGRADE_WHILE_IN_POOL":
+                return new Types.LicenseCannotDowngradeWhileInPool();
+            case "HA_NOT_ENABLED":
+                return new Types.HaNotEnabled();
+            case "CANNOT_FETCH_PATCH":
+                return new Types.CannotFetchPatch(errorParameter(ErrorDescription, 1));
+            case "CANNOT_FIND_PATCH":
+                return new Types.CannotFindPatch();
+            case "SR_DEVICE_IN_USE":
+                return new Types.SrDeviceInUse();
+            case "TRANSPORT_PIF_NOT_CONFIGURED":
+                return new Types.TransportPifNotConfigured(errorParameter(ErrorDescription, 1));
+            case "LICENSE_PROCESSING_ERROR":
+                return new Types.LicenseProcessingError();
+            case "VM_FAILED_SUSPEND_ACKNOWLEDGMENT":
+                return new Types.VmFailedSuspendAcknowledgment(errorParameter(ErrorDescription, 1));
+            case "WLB_INTERNAL_ERROR":
+                return new Types.WlbInternalError();
+            case "POOL_JOINING_HOST_MUST_HAVE_SAME_DB_SCHEMA":
+                return new Types.PoolJoiningHostMustHaveSameDbSchema(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "JOINING_HOST_CANNOT_HAVE_VMS_WITH_CURRENT_OPERATIONS":
+                return new Types.JoiningHostCannotHaveVmsWithCurrentOperations();
+            case "REDO_LOG_IS_ENABLED":
+                return new Types.RedoLogIsEnabled();
+            case "CLUSTERING_DISABLED":
+                return new Types.ClusteringDisabled(errorParameter(ErrorDescription, 1));
+            case "CERTIFICATE_LIBRARY_CORRUPT":
+                return new Types.CertificateLibraryCorrupt();
+            case "BOOTLOADER_FAILED":
+                return new Types.BootloaderFailed(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "MAC_DOES_NOT_EXIST":
+                return new Types.MacDoesNotExist(errorParameter(ErrorDescription, 1));
+            case "INTERNAL_ERROR":
+                return new Types.InternalError(errorParameter(ErrorDescription, 1));
+            case "IMPORT_ERROR_FAILED_TO_FIND_OBJECT":
+                return new Types.ImportErrorFailedToFindObject(errorParameter(ErrorDescription, 1));
+            case "POOL_AUTH_ENABLE_FAILED":
+                return new Types.PoolAuthEnableFailed(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VDI_TOO_SMALL":
+                return new Types.VdiTooSmall(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VM_REQUIRES_VDI":
+                return new Types.VmRequiresVdi(errorParameter(ErrorDescription, 1), errorParameter(ErrorDescription, 2));
+            case "VDI_CBT_ENABLED":
+                return new Types.VdiCbtEnabled(errorParameter(ErrorDescription, 1));
+            case "SR_REQUIRES_UPGRADE":
+                return new Types.SrRequiresUpgrade(errorParameter(ErrorDescription, 1));
+            case "HOST_BROKEN":
+                return new Types.HostBroken();
+            default:
+                // An unknown error occurred
+                return new Types.XenAPIException(ErrorDescription);
+        }
+    }
+
     public enum StorageOperations {
         /**
          * The value does not belong to this enumeration
@@ -14196,6 +12751,10 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof String) {
+            // Over JSON-RPC, a whole number comes without a decimal point
+            return Double.valueOf((String) object);
+        }
         return (Double) object;
     }
 
@@ -14210,6 +12769,10 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof String && ((String) object).indexOf('T') >= 0) {
+            // Over JSON-RPC, date-times come as strings
+            return JsonRpcCodec.parseDate((String) object);
+        }
         try {
             return (Date) object;
         } catch (ClassCastException e){
@@ -14219,598 +12782,513 @@ public class Types
         }
     }
 
+    /**
+     * Enables or disables counting, for each enum type, the values received from the server that these bindings do
+     * not know, and so decode to UNRECOGNIZED. Counting is disabled by default.
+     */
+    public static void setCountUnrecognizedEnumValues(boolean enabled) {
+        EnumDecoder.setCountUnrecognized(enabled);
+    }
+
+    /**
+     * @return The number of unrecognized values decoded whilst counting was enabled, for each enum type for which
+     * there were any
+     */
+    public static Map<Class<? extends Enum<?>>, Long> getUnrecognizedEnumValueCounts() {
+        return EnumDecoder.getUnrecognizedCounts();
+    }
+
+    /**
+     * Sets the counts returned by getUnrecognizedEnumValueCounts() back to zero.
+     */
+    public static void resetUnrecognizedEnumValueCounts() {
+        EnumDecoder.resetUnrecognizedCounts();
+    }
+
+    private static final EnumDecoder<XenAPIObjects> XEN_API_OBJECTS_DECODER = new EnumDecoder<XenAPIObjects>(XenAPIObjects.class, XenAPIObjects.UNRECOGNIZED);
+
     public static Types.XenAPIObjects toXenAPIObjects(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return XenAPIObjects.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return XenAPIObjects.UNRECOGNIZED;
-        }
+        return XEN_API_OBJECTS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<AfterApplyGuidance> AFTER_APPLY_GUIDANCE_DECODER = new EnumDecoder<AfterApplyGuidance>(AfterApplyGuidance.class, AfterApplyGuidance.UNRECOGNIZED);
+
     public static Types.AfterApplyGuidance toAfterApplyGuidance(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return AfterApplyGuidance.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return AfterApplyGuidance.UNRECOGNIZED;
-        }
+        return AFTER_APPLY_GUIDANCE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<AllocationAlgorithm> ALLOCATION_ALGORITHM_DECODER = new EnumDecoder<AllocationAlgorithm>(AllocationAlgorithm.class, AllocationAlgorithm.UNRECOGNIZED);
+
     public static Types.AllocationAlgorithm toAllocationAlgorithm(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return AllocationAlgorithm.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return AllocationAlgorithm.UNRECOGNIZED;
-        }
+        return ALLOCATION_ALGORITHM_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<BondMode> BOND_MODE_DECODER = new EnumDecoder<BondMode>(BondMode.class, BondMode.UNRECOGNIZED);
+
     public static Types.BondMode toBondMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return BondMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return BondMode.UNRECOGNIZED;
-        }
+        return BOND_MODE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<Cls> CLS_DECODER = new EnumDecoder<Cls>(Cls.class, Cls.UNRECOGNIZED);
+
     public static Types.Cls toCls(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return Cls.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return Cls.UNRECOGNIZED;
-        }
+        return CLS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<ClusterHostOperation> CLUSTER_HOST_OPERATION_DECODER = new EnumDecoder<ClusterHostOperation>(ClusterHostOperation.class, ClusterHostOperation.UNRECOGNIZED);
+
     public static Types.ClusterHostOperation toClusterHostOperation(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return ClusterHostOperation.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return ClusterHostOperation.UNRECOGNIZED;
-        }
+        return CLUSTER_HOST_OPERATION_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<ClusterOperation> CLUSTER_OPERATION_DECODER = new EnumDecoder<ClusterOperation>(ClusterOperation.class, ClusterOperation.UNRECOGNIZED);
+
     public static Types.ClusterOperation toClusterOperation(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return ClusterOperation.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return ClusterOperation.UNRECOGNIZED;
-        }
+        return CLUSTER_OPERATION_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<ConsoleProtocol> CONSOLE_PROTOCOL_DECODER = new EnumDecoder<ConsoleProtocol>(ConsoleProtocol.class, ConsoleProtocol.UNRECOGNIZED);
+
     public static Types.ConsoleProtocol toConsoleProtocol(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return ConsoleProtocol.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return ConsoleProtocol.UNRECOGNIZED;
-        }
+        return CONSOLE_PROTOCOL_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<DomainType> DOMAIN_TYPE_DECODER = new EnumDecoder<DomainType>(DomainType.class, DomainType.UNRECOGNIZED);
+
     public static Types.DomainType toDomainType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return DomainType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return DomainType.UNRECOGNIZED;
-        }
+        return DOMAIN_TYPE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<EventOperation> EVENT_OPERATION_DECODER = new EnumDecoder<EventOperation>(EventOperation.class, EventOperation.UNRECOGNIZED);
+
     public static Types.EventOperation toEventOperation(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return EventOperation.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return EventOperation.UNRECOGNIZED;
-        }
+        return EVENT_OPERATION_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<HostAllowedOperations> HOST_ALLOWED_OPERATIONS_DECODER = new EnumDecoder<HostAllowedOperations>(HostAllowedOperations.class, HostAllowedOperations.UNRECOGNIZED);
+
     public static Types.HostAllowedOperations toHostAllowedOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return HostAllowedOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return HostAllowedOperations.UNRECOGNIZED;
-        }
+        return HOST_ALLOWED_OPERATIONS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<HostDisplay> HOST_DISPLAY_DECODER = new EnumDecoder<HostDisplay>(HostDisplay.class, HostDisplay.UNRECOGNIZED);
+
     public static Types.HostDisplay toHostDisplay(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return HostDisplay.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return HostDisplay.UNRECOGNIZED;
-        }
+        return HOST_DISPLAY_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<IpConfigurationMode> IP_CONFIGURATION_MODE_DECODER = new EnumDecoder<IpConfigurationMode>(IpConfigurationMode.class, IpConfigurationMode.UNRECOGNIZED);
+
     public static Types.IpConfigurationMode toIpConfigurationMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return IpConfigurationMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return IpConfigurationMode.UNRECOGNIZED;
-        }
+        return IP_CONFIGURATION_MODE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<Ipv6ConfigurationMode> IPV6_CONFIGURATION_MODE_DECODER = new EnumDecoder<Ipv6ConfigurationMode>(Ipv6ConfigurationMode.class, Ipv6ConfigurationMode.UNRECOGNIZED);
+
     public static Types.Ipv6ConfigurationMode toIpv6ConfigurationMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return Ipv6ConfigurationMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return Ipv6ConfigurationMode.UNRECOGNIZED;
-        }
+        return IPV6_CONFIGURATION_MODE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<LivepatchStatus> LIVEPATCH_STATUS_DECODER = new EnumDecoder<LivepatchStatus>(LivepatchStatus.class, LivepatchStatus.UNRECOGNIZED);
+
     public static Types.LivepatchStatus toLivepatchStatus(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return LivepatchStatus.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return LivepatchStatus.UNRECOGNIZED;
-        }
+        return LIVEPATCH_STATUS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<NetworkDefaultLockingMode> NETWORK_DEFAULT_LOCKING_MODE_DECODER = new EnumDecoder<NetworkDefaultLockingMode>(NetworkDefaultLockingMode.class, NetworkDefaultLockingMode.UNRECOGNIZED);
+
     public static Types.NetworkDefaultLockingMode toNetworkDefaultLockingMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return NetworkDefaultLockingMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return NetworkDefaultLockingMode.UNRECOGNIZED;
-        }
+        return NETWORK_DEFAULT_LOCKING_MODE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<NetworkOperations> NETWORK_OPERATIONS_DECODER = new EnumDecoder<NetworkOperations>(NetworkOperations.class, NetworkOperations.UNRECOGNIZED);
+
     public static Types.NetworkOperations toNetworkOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return NetworkOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return NetworkOperations.UNRECOGNIZED;
-        }
+        return NETWORK_OPERATIONS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<NetworkPurpose> NETWORK_PURPOSE_DECODER = new EnumDecoder<NetworkPurpose>(NetworkPurpose.class, NetworkPurpose.UNRECOGNIZED);
+
     public static Types.NetworkPurpose toNetworkPurpose(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return NetworkPurpose.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return NetworkPurpose.UNRECOGNIZED;
-        }
+        return NETWORK_PURPOSE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<OnBoot> ON_BOOT_DECODER = new EnumDecoder<OnBoot>(OnBoot.class, OnBoot.UNRECOGNIZED);
+
     public static Types.OnBoot toOnBoot(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return OnBoot.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return OnBoot.UNRECOGNIZED;
-        }
+        return ON_BOOT_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<OnCrashBehaviour> ON_CRASH_BEHAVIOUR_DECODER = new EnumDecoder<OnCrashBehaviour>(OnCrashBehaviour.class, OnCrashBehaviour.UNRECOGNIZED);
+
     public static Types.OnCrashBehaviour toOnCrashBehaviour(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return OnCrashBehaviour.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return OnCrashBehaviour.UNRECOGNIZED;
-        }
+        return ON_CRASH_BEHAVIOUR_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<OnNormalExit> ON_NORMAL_EXIT_DECODER = new EnumDecoder<OnNormalExit>(OnNormalExit.class, OnNormalExit.UNRECOGNIZED);
+
     public static Types.OnNormalExit toOnNormalExit(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return OnNormalExit.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return OnNormalExit.UNRECOGNIZED;
-        }
+        return ON_NORMAL_EXIT_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<PgpuDom0Access> PGPU_DOM0_ACCESS_DECODER = new EnumDecoder<PgpuDom0Access>(PgpuDom0Access.class, PgpuDom0Access.UNRECOGNIZED);
+
     public static Types.PgpuDom0Access toPgpuDom0Access(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return PgpuDom0Access.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return PgpuDom0Access.UNRECOGNIZED;
-        }
+        return PGPU_DOM0_ACCESS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<PifIgmpStatus> PIF_IGMP_STATUS_DECODER = new EnumDecoder<PifIgmpStatus>(PifIgmpStatus.class, PifIgmpStatus.UNRECOGNIZED);
+
     public static Types.PifIgmpStatus toPifIgmpStatus(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return PifIgmpStatus.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return PifIgmpStatus.UNRECOGNIZED;
-        }
+        return PIF_IGMP_STATUS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<PoolAllowedOperations> POOL_ALLOWED_OPERATIONS_DECODER = new EnumDecoder<PoolAllowedOperations>(PoolAllowedOperations.class, PoolAllowedOperations.UNRECOGNIZED);
+
     public static Types.PoolAllowedOperations toPoolAllowedOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return PoolAllowedOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return PoolAllowedOperations.UNRECOGNIZED;
-        }
+        return POOL_ALLOWED_OPERATIONS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<PrimaryAddressType> PRIMARY_ADDRESS_TYPE_DECODER = new EnumDecoder<PrimaryAddressType>(PrimaryAddressType.class, PrimaryAddressType.UNRECOGNIZED);
+
     public static Types.PrimaryAddressType toPrimaryAddressType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return PrimaryAddressType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return PrimaryAddressType.UNRECOGNIZED;
-        }
+        return PRIMARY_ADDRESS_TYPE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<PvsProxyStatus> PVS_PROXY_STATUS_DECODER = new EnumDecoder<PvsProxyStatus>(PvsProxyStatus.class, PvsProxyStatus.UNRECOGNIZED);
+
     public static Types.PvsProxyStatus toPvsProxyStatus(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return PvsProxyStatus.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return PvsProxyStatus.UNRECOGNIZED;
-        }
+        return PVS_PROXY_STATUS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<SdnControllerProtocol> SDN_CONTROLLER_PROTOCOL_DECODER = new EnumDecoder<SdnControllerProtocol>(SdnControllerProtocol.class, SdnControllerProtocol.UNRECOGNIZED);
+
     public static Types.SdnControllerProtocol toSdnControllerProtocol(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return SdnControllerProtocol.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return SdnControllerProtocol.UNRECOGNIZED;
-        }
+        return SDN_CONTROLLER_PROTOCOL_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<SrHealth> SR_HEALTH_DECODER = new EnumDecoder<SrHealth>(SrHealth.class, SrHealth.UNRECOGNIZED);
+
     public static Types.SrHealth toSrHealth(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return SrHealth.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return SrHealth.UNRECOGNIZED;
-        }
+        return SR_HEALTH_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<SriovConfigurationMode> SRIOV_CONFIGURATION_MODE_DECODER = new EnumDecoder<SriovConfigurationMode>(SriovConfigurationMode.class, SriovConfigurationMode.UNRECOGNIZED);
+
     public static Types.SriovConfigurationMode toSriovConfigurationMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return SriovConfigurationMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return SriovConfigurationMode.UNRECOGNIZED;
-        }
+        return SRIOV_CONFIGURATION_MODE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<StorageOperations> STORAGE_OPERATIONS_DECODER = new EnumDecoder<StorageOperations>(StorageOperations.class, StorageOperations.UNRECOGNIZED);
+
     public static Types.StorageOperations toStorageOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return StorageOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return StorageOperations.UNRECOGNIZED;
-        }
+        return STORAGE_OPERATIONS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<TaskAllowedOperations> TASK_ALLOWED_OPERATIONS_DECODER = new EnumDecoder<TaskAllowedOperations>(TaskAllowedOperations.class, TaskAllowedOperations.UNRECOGNIZED);
+
     public static Types.TaskAllowedOperations toTaskAllowedOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return TaskAllowedOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return TaskAllowedOperations.UNRECOGNIZED;
-        }
+        return TASK_ALLOWED_OPERATIONS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<TaskStatusType> TASK_STATUS_TYPE_DECODER = new EnumDecoder<TaskStatusType>(TaskStatusType.class, TaskStatusType.UNRECOGNIZED);
+
     public static Types.TaskStatusType toTaskStatusType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return TaskStatusType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return TaskStatusType.UNRECOGNIZED;
-        }
+        return TASK_STATUS_TYPE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<TristateType> TRISTATE_TYPE_DECODER = new EnumDecoder<TristateType>(TristateType.class, TristateType.UNRECOGNIZED);
+
     public static Types.TristateType toTristateType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return TristateType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return TristateType.UNRECOGNIZED;
-        }
+        return TRISTATE_TYPE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<UpdateAfterApplyGuidance> UPDATE_AFTER_APPLY_GUIDANCE_DECODER = new EnumDecoder<UpdateAfterApplyGuidance>(UpdateAfterApplyGuidance.class, UpdateAfterApplyGuidance.UNRECOGNIZED);
+
     public static Types.UpdateAfterApplyGuidance toUpdateAfterApplyGuidance(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return UpdateAfterApplyGuidance.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return UpdateAfterApplyGuidance.UNRECOGNIZED;
-        }
+        return UPDATE_AFTER_APPLY_GUIDANCE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VbdMode> VBD_MODE_DECODER = new EnumDecoder<VbdMode>(VbdMode.class, VbdMode.UNRECOGNIZED);
+
     public static Types.VbdMode toVbdMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VbdMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VbdMode.UNRECOGNIZED;
-        }
+        return VBD_MODE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VbdOperations> VBD_OPERATIONS_DECODER = new EnumDecoder<VbdOperations>(VbdOperations.class, VbdOperations.UNRECOGNIZED);
+
     public static Types.VbdOperations toVbdOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VbdOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VbdOperations.UNRECOGNIZED;
-        }
+        return VBD_OPERATIONS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VbdType> VBD_TYPE_DECODER = new EnumDecoder<VbdType>(VbdType.class, VbdType.UNRECOGNIZED);
+
     public static Types.VbdType toVbdType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VbdType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VbdType.UNRECOGNIZED;
-        }
+        return VBD_TYPE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VdiOperations> VDI_OPERATIONS_DECODER = new EnumDecoder<VdiOperations>(VdiOperations.class, VdiOperations.UNRECOGNIZED);
+
     public static Types.VdiOperations toVdiOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VdiOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VdiOperations.UNRECOGNIZED;
-        }
+        return VDI_OPERATIONS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VdiType> VDI_TYPE_DECODER = new EnumDecoder<VdiType>(VdiType.class, VdiType.UNRECOGNIZED);
+
     public static Types.VdiType toVdiType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VdiType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VdiType.UNRECOGNIZED;
-        }
+        return VDI_TYPE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VgpuTypeImplementation> VGPU_TYPE_IMPLEMENTATION_DECODER = new EnumDecoder<VgpuTypeImplementation>(VgpuTypeImplementation.class, VgpuTypeImplementation.UNRECOGNIZED);
+
     public static Types.VgpuTypeImplementation toVgpuTypeImplementation(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VgpuTypeImplementation.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VgpuTypeImplementation.UNRECOGNIZED;
-        }
+        return VGPU_TYPE_IMPLEMENTATION_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VifIpv4ConfigurationMode> VIF_IPV4_CONFIGURATION_MODE_DECODER = new EnumDecoder<VifIpv4ConfigurationMode>(VifIpv4ConfigurationMode.class, VifIpv4ConfigurationMode.UNRECOGNIZED);
+
     public static Types.VifIpv4ConfigurationMode toVifIpv4ConfigurationMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VifIpv4ConfigurationMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VifIpv4ConfigurationMode.UNRECOGNIZED;
-        }
+        return VIF_IPV4_CONFIGURATION_MODE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VifIpv6ConfigurationMode> VIF_IPV6_CONFIGURATION_MODE_DECODER = new EnumDecoder<VifIpv6ConfigurationMode>(VifIpv6ConfigurationMode.class, VifIpv6ConfigurationMode.UNRECOGNIZED);
+
     public static Types.VifIpv6ConfigurationMode toVifIpv6ConfigurationMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VifIpv6ConfigurationMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VifIpv6ConfigurationMode.UNRECOGNIZED;
-        }
+        return VIF_IPV6_CONFIGURATION_MODE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VifLockingMode> VIF_LOCKING_MODE_DECODER = new EnumDecoder<VifLockingMode>(VifLockingMode.class, VifLockingMode.UNRECOGNIZED);
+
     public static Types.VifLockingMode toVifLockingMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VifLockingMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VifLockingMode.UNRECOGNIZED;
-        }
+        return VIF_LOCKING_MODE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VifOperations> VIF_OPERATIONS_DECODER = new EnumDecoder<VifOperations>(VifOperations.class, VifOperations.UNRECOGNIZED);
+
     public static Types.VifOperations toVifOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VifOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VifOperations.UNRECOGNIZED;
-        }
+        return VIF_OPERATIONS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VmApplianceOperation> VM_APPLIANCE_OPERATION_DECODER = new EnumDecoder<VmApplianceOperation>(VmApplianceOperation.class, VmApplianceOperation.UNRECOGNIZED);
+
     public static Types.VmApplianceOperation toVmApplianceOperation(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmApplianceOperation.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmApplianceOperation.UNRECOGNIZED;
-        }
+        return VM_APPLIANCE_OPERATION_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VmOperations> VM_OPERATIONS_DECODER = new EnumDecoder<VmOperations>(VmOperations.class, VmOperations.UNRECOGNIZED);
+
     public static Types.VmOperations toVmOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmOperations.UNRECOGNIZED;
-        }
+        return VM_OPERATIONS_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VmPowerState> VM_POWER_STATE_DECODER = new EnumDecoder<VmPowerState>(VmPowerState.class, VmPowerState.UNRECOGNIZED);
+
     public static Types.VmPowerState toVmPowerState(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmPowerState.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmPowerState.UNRECOGNIZED;
-        }
+        return VM_POWER_STATE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VmppArchiveFrequency> VMPP_ARCHIVE_FREQUENCY_DECODER = new EnumDecoder<VmppArchiveFrequency>(VmppArchiveFrequency.class, VmppArchiveFrequency.UNRECOGNIZED);
+
     public static Types.VmppArchiveFrequency toVmppArchiveFrequency(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmppArchiveFrequency.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmppArchiveFrequency.UNRECOGNIZED;
-        }
+        return VMPP_ARCHIVE_FREQUENCY_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VmppArchiveTargetType> VMPP_ARCHIVE_TARGET_TYPE_DECODER = new EnumDecoder<VmppArchiveTargetType>(VmppArchiveTargetType.class, VmppArchiveTargetType.UNRECOGNIZED);
+
     public static Types.VmppArchiveTargetType toVmppArchiveTargetType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmppArchiveTargetType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmppArchiveTargetType.UNRECOGNIZED;
-        }
+        return VMPP_ARCHIVE_TARGET_TYPE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VmppBackupFrequency> VMPP_BACKUP_FREQUENCY_DECODER = new EnumDecoder<VmppBackupFrequency>(VmppBackupFrequency.class, VmppBackupFrequency.UNRECOGNIZED);
+
     public static Types.VmppBackupFrequency toVmppBackupFrequency(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmppBackupFrequency.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmppBackupFrequency.UNRECOGNIZED;
-        }
+        return VMPP_BACKUP_FREQUENCY_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VmppBackupType> VMPP_BACKUP_TYPE_DECODER = new EnumDecoder<VmppBackupType>(VmppBackupType.class, VmppBackupType.UNRECOGNIZED);
+
     public static Types.VmppBackupType toVmppBackupType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmppBackupType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmppBackupType.UNRECOGNIZED;
-        }
+        return VMPP_BACKUP_TYPE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VmssFrequency> VMSS_FREQUENCY_DECODER = new EnumDecoder<VmssFrequency>(VmssFrequency.class, VmssFrequency.UNRECOGNIZED);
+
     public static Types.VmssFrequency toVmssFrequency(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmssFrequency.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmssFrequency.UNRECOGNIZED;
-        }
+        return VMSS_FREQUENCY_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VmssType> VMSS_TYPE_DECODER = new EnumDecoder<VmssType>(VmssType.class, VmssType.UNRECOGNIZED);
+
     public static Types.VmssType toVmssType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmssType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmssType.UNRECOGNIZED;
-        }
+        return VMSS_TYPE_DECODER.decode((String) object);
     }
 
+    private static final EnumDecoder<VusbOperations> VUSB_OPERATIONS_DECODER = new EnumDecoder<VusbOperations>(VusbOperations.class, VusbOperations.UNRECOGNIZED);
+
     public static Types.VusbOperations toVusbOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VusbOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VusbOperations.UNRECOGNIZED;
-        }
+        return VUSB_OPERATIONS_DECODER.decode((String) object);
     }
 
     public static Set<String> toSetOfString(Object object) {
@@ -15776,13 +14254,17 @@ public class Types
     }
 
     public static Set<Event.Record> toSetOfEventRecord(Object object) {
+        return toSetOfEventRecord(object, Event.SnapshotMode.EAGER);
+    }
+
+    public static Set<Event.Record> toSetOfEventRecord(Object object, Event.SnapshotMode mode) {
         if (object == null) {
             return null;
         }
         Object[] items = (Object[]) object;
         Set<Event.Record> result = new LinkedHashSet<Event.Record>();
         for(Object item: items) {
-            Event.Record typed = toEventRecord(item);
+            Event.Record typed = toEventRecord(item, mode);
             result.add(typed);
         }
         return result;
@@ -17063,6 +15545,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Bond.class, (String) object);
+        }
         return new Bond((String) object);
     }
 
@@ -17070,6 +15555,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Cluster.class, (String) object);
+        }
         return new Cluster((String) object);
     }
 
@@ -17077,6 +15565,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(ClusterHost.class, (String) object);
+        }
         return new ClusterHost((String) object);
     }
 
@@ -17084,6 +15575,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(DRTask.class, (String) object);
+        }
         return new DRTask((String) object);
     }
 
@@ -17091,6 +15585,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Feature.class, (String) object);
+        }
         return new Feature((String) object);
     }
 
@@ -17098,6 +15595,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(GPUGroup.class, (String) object);
+        }
         return new GPUGroup((String) object);
     }
 
@@ -17105,6 +15605,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(LVHD.class, (String) object);
+        }
         return new LVHD((String) object);
     }
 
@@ -17112,6 +15615,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(PBD.class, (String) object);
+        }
         return new PBD((String) object);
     }
 
@@ -17119,6 +15625,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(PCI.class, (String) object);
+        }
         return new PCI((String) object);
     }
 
@@ -17126,6 +15635,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(PGPU.class, (String) object);
+        }
         return new PGPU((String) object);
     }
 
@@ -17133,6 +15645,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(PIF.class, (String) object);
+        }
         return new PIF((String) object);
     }
 
@@ -17140,6 +15655,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(PIFMetrics.class, (String) object);
+        }
         return new PIFMetrics((String) object);
     }
 
@@ -17147,6 +15665,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(PUSB.class, (String) object);
+        }
         return new PUSB((String) object);
     }
 
@@ -17154,6 +15675,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(PVSCacheStorage.class, (String) object);
+        }
         return new PVSCacheStorage((String) object);
     }
 
@@ -17161,6 +15685,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(PVSProxy.class, (String) object);
+        }
         return new PVSProxy((String) object);
     }
 
@@ -17168,6 +15695,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(PVSServer.class, (String) object);
+        }
         return new PVSServer((String) object);
     }
 
@@ -17175,6 +15705,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(PVSSite.class, (String) object);
+        }
         return new PVSSite((String) object);
     }
 
@@ -17182,6 +15715,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(SDNController.class, (String) object);
+        }
         return new SDNController((String) object);
     }
 
@@ -17189,6 +15725,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(SM.class, (String) object);
+        }
         return new SM((String) object);
     }
 
@@ -17196,6 +15735,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(SR.class, (String) object);
+        }
         return new SR((String) object);
     }
 
@@ -17203,6 +15745,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(USBGroup.class, (String) object);
+        }
         return new USBGroup((String) object);
     }
 
@@ -17210,6 +15755,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VBD.class, (String) object);
+        }
         return new VBD((String) object);
     }
 
@@ -17217,6 +15765,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VBDMetrics.class, (String) object);
+        }
         return new VBDMetrics((String) object);
     }
 
@@ -17224,6 +15775,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VDI.class, (String) object);
+        }
         return new VDI((String) object);
     }
 
@@ -17231,6 +15785,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VGPU.class, (String) object);
+        }
         return new VGPU((String) object);
     }
 
@@ -17238,6 +15795,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VGPUType.class, (String) object);
+        }
         return new VGPUType((String) object);
     }
 
@@ -17245,6 +15805,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VIF.class, (String) object);
+        }
         return new VIF((String) object);
     }
 
@@ -17252,6 +15815,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VIFMetrics.class, (String) object);
+        }
         return new VIFMetrics((String) object);
     }
 
@@ -17259,6 +15825,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VLAN.class, (String) object);
+        }
         return new VLAN((String) object);
     }
 
@@ -17266,6 +15835,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VM.class, (String) object);
+        }
         return new VM((String) object);
     }
 
@@ -17273,6 +15845,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VMPP.class, (String) object);
+        }
         return new VMPP((String) object);
     }
 
@@ -17280,6 +15855,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VMSS.class, (String) object);
+        }
         return new VMSS((String) object);
     }
 
@@ -17287,6 +15865,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VMAppliance.class, (String) object);
+        }
         return new VMAppliance((String) object);
     }
 
@@ -17294,6 +15875,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VMGuestMetrics.class, (String) object);
+        }
         return new VMGuestMetrics((String) object);
     }
 
@@ -17301,6 +15885,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VMMetrics.class, (String) object);
+        }
         return new VMMetrics((String) object);
     }
 
@@ -17308,6 +15895,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VTPM.class, (String) object);
+        }
         return new VTPM((String) object);
     }
 
@@ -17315,6 +15905,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(VUSB.class, (String) object);
+        }
         return new VUSB((String) object);
     }
 
@@ -17322,6 +15915,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Blob.class, (String) object);
+        }
         return new Blob((String) object);
     }
 
@@ -17329,6 +15925,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Console.class, (String) object);
+        }
         return new Console((String) object);
     }
 
@@ -17336,6 +15935,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Crashdump.class, (String) object);
+        }
         return new Crashdump((String) object);
     }
 
@@ -17343,6 +15945,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Host.class, (String) object);
+        }
         return new Host((String) object);
     }
 
@@ -17350,6 +15955,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(HostCpu.class, (String) object);
+        }
         return new HostCpu((String) object);
     }
 
@@ -17357,6 +15965,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(HostCrashdump.class, (String) object);
+        }
         return new HostCrashdump((String) object);
     }
 
@@ -17364,6 +15975,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(HostMetrics.class, (String) object);
+        }
         return new HostMetrics((String) object);
     }
 
@@ -17371,6 +15985,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(HostPatch.class, (String) object);
+        }
         return new HostPatch((String) object);
     }
 
@@ -17378,6 +15995,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Message.class, (String) object);
+        }
         return new Message((String) object);
     }
 
@@ -17385,6 +16005,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Network.class, (String) object);
+        }
         return new Network((String) object);
     }
 
@@ -17392,6 +16015,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(NetworkSriov.class, (String) object);
+        }
         return new NetworkSriov((String) object);
     }
 
@@ -17399,6 +16025,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Pool.class, (String) object);
+        }
         return new Pool((String) object);
     }
 
@@ -17406,6 +16035,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(PoolPatch.class, (String) object);
+        }
         return new PoolPatch((String) object);
     }
 
@@ -17413,6 +16045,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(PoolUpdate.class, (String) object);
+        }
         return new PoolUpdate((String) object);
     }
 
@@ -17420,6 +16055,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Role.class, (String) object);
+        }
         return new Role((String) object);
     }
 
@@ -17427,6 +16065,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Secret.class, (String) object);
+        }
         return new Secret((String) object);
     }
 
@@ -17434,6 +16075,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Session.class, (String) object);
+        }
         return new Session((String) object);
     }
 
@@ -17441,6 +16085,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Subject.class, (String) object);
+        }
         return new Subject((String) object);
     }
 
@@ -17448,6 +16095,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Task.class, (String) object);
+        }
         return new Task((String) object);
     }
 
@@ -17455,6 +16105,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(Tunnel.class, (String) object);
+        }
         return new Tunnel((String) object);
     }
 
@@ -17462,6 +16115,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (ReferenceInterner.isSharingWrappers()) {
+            return ReferenceInterner.wrapper(User.class, (String) object);
+        }
         return new User((String) object);
     }
 
@@ -17483,6 +16139,32 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Bond.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setBondRecordField(Bond.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "master": record.master = toPIF(value); return true;
+            case "slaves": record.slaves = toSetOfPIF(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "primary_slave": record.primarySlave = toPIF(value); return true;
+            case "mode": record.mode = toBondMode(value); return true;
+            case "properties": record.properties = toMapOfStringString(value); return true;
+            case "links_up": record.linksUp = toLong(value); return true;
+            case "auto_update_mac": record.autoUpdateMac = toBoolean(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Bond, Bond.Record> BOND_RECORD_DECODER = new RecordDecoder<Bond, Bond.Record>() {
+        Bond toRef(String ref) { return toBond(ref); }
+        Bond.Record newRecord() { return new Bond.Record(); }
+        boolean setField(Bond.Record record, String field, Object value) { return setBondRecordField(record, field, value); }
+    };
+
     public static Cluster.Record toClusterRecord(Object object) {
         if (object == null) {
             return null;
@@ -17504,6 +16186,35 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Cluster.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setClusterRecordField(Cluster.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "cluster_hosts": record.clusterHosts = toSetOfClusterHost(value); return true;
+            case "pending_forget": record.pendingForget = toSetOfString(value); return true;
+            case "cluster_token": record.clusterToken = toString(value); return true;
+            case "cluster_stack": record.clusterStack = toString(value); return true;
+            case "allowed_operations": record.allowedOperations = toSetOfClusterOperation(value); return true;
+            case "current_operations": record.currentOperations = toMapOfStringClusterOperation(value); return true;
+            case "pool_auto_join": record.poolAutoJoin = toBoolean(value); return true;
+            case "token_timeout": record.tokenTimeout = toDouble(value); return true;
+            case "token_timeout_coefficient": record.tokenTimeoutCoefficient = toDouble(value); return true;
+            case "cluster_config": record.clusterConfig = toMapOfStringString(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Cluster, Cluster.Record> CLUSTER_RECORD_DECODER = new RecordDecoder<Cluster, Cluster.Record>() {
+        Cluster toRef(String ref) { return toCluster(ref); }
+        Cluster.Record newRecord() { return new Cluster.Record(); }
+        boolean setField(Cluster.Record record, String field, Object value) { return setClusterRecordField(record, field, value); }
+    };
+
     public static ClusterHost.Record toClusterHostRecord(Object object) {
         if (object == null) {
             return null;
@@ -17522,6 +16233,32 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a ClusterHost.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setClusterHostRecordField(ClusterHost.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "cluster": record.cluster = toCluster(value); return true;
+            case "host": record.host = toHost(value); return true;
+            case "enabled": record.enabled = toBoolean(value); return true;
+            case "PIF": record.PIF = toPIF(value); return true;
+            case "joined": record.joined = toBoolean(value); return true;
+            case "allowed_operations": record.allowedOperations = toSetOfClusterHostOperation(value); return true;
+            case "current_operations": record.currentOperations = toMapOfStringClusterHostOperation(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<ClusterHost, ClusterHost.Record> CLUSTER_HOST_RECORD_DECODER = new RecordDecoder<ClusterHost, ClusterHost.Record>() {
+        ClusterHost toRef(String ref) { return toClusterHost(ref); }
+        ClusterHost.Record newRecord() { return new ClusterHost.Record(); }
+        boolean setField(ClusterHost.Record record, String field, Object value) { return setClusterHostRecordField(record, field, value); }
+    };
+
     public static DRTask.Record toDRTaskRecord(Object object) {
         if (object == null) {
             return null;
@@ -17533,6 +16270,25 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a DRTask.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setDRTaskRecordField(DRTask.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "introduced_SRs": record.introducedSRs = toSetOfSR(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<DRTask, DRTask.Record> DR_TASK_RECORD_DECODER = new RecordDecoder<DRTask, DRTask.Record>() {
+        DRTask toRef(String ref) { return toDRTask(ref); }
+        DRTask.Record newRecord() { return new DRTask.Record(); }
+        boolean setField(DRTask.Record record, String field, Object value) { return setDRTaskRecordField(record, field, value); }
+    };
+
     public static Feature.Record toFeatureRecord(Object object) {
         if (object == null) {
             return null;
@@ -17549,6 +16305,30 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Feature.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setFeatureRecordField(Feature.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "enabled": record.enabled = toBoolean(value); return true;
+            case "experimental": record.experimental = toBoolean(value); return true;
+            case "version": record.version = toString(value); return true;
+            case "host": record.host = toHost(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Feature, Feature.Record> FEATURE_RECORD_DECODER = new RecordDecoder<Feature, Feature.Record>() {
+        Feature toRef(String ref) { return toFeature(ref); }
+        Feature.Record newRecord() { return new Feature.Record(); }
+        boolean setField(Feature.Record record, String field, Object value) { return setFeatureRecordField(record, field, value); }
+    };
+
     public static GPUGroup.Record toGPUGroupRecord(Object object) {
         if (object == null) {
             return null;
@@ -17568,6 +16348,33 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a GPUGroup.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setGPUGroupRecordField(GPUGroup.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "PGPUs": record.PGPUs = toSetOfPGPU(value); return true;
+            case "VGPUs": record.VGPUs = toSetOfVGPU(value); return true;
+            case "GPU_types": record.GPUTypes = toSetOfString(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "allocation_algorithm": record.allocationAlgorithm = toAllocationAlgorithm(value); return true;
+            case "supported_VGPU_types": record.supportedVGPUTypes = toSetOfVGPUType(value); return true;
+            case "enabled_VGPU_types": record.enabledVGPUTypes = toSetOfVGPUType(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<GPUGroup, GPUGroup.Record> GPU_GROUP_RECORD_DECODER = new RecordDecoder<GPUGroup, GPUGroup.Record>() {
+        GPUGroup toRef(String ref) { return toGPUGroup(ref); }
+        GPUGroup.Record newRecord() { return new GPUGroup.Record(); }
+        boolean setField(GPUGroup.Record record, String field, Object value) { return setGPUGroupRecordField(record, field, value); }
+    };
+
     public static LVHD.Record toLVHDRecord(Object object) {
         if (object == null) {
             return null;
@@ -17578,6 +16385,24 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a LVHD.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setLVHDRecordField(LVHD.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<LVHD, LVHD.Record> LVHD_RECORD_DECODER = new RecordDecoder<LVHD, LVHD.Record>() {
+        LVHD toRef(String ref) { return toLVHD(ref); }
+        LVHD.Record newRecord() { return new LVHD.Record(); }
+        boolean setField(LVHD.Record record, String field, Object value) { return setLVHDRecordField(record, field, value); }
+    };
+
     public static PBD.Record toPBDRecord(Object object) {
         if (object == null) {
             return null;
@@ -17593,6 +16418,29 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a PBD.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setPBDRecordField(PBD.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "host": record.host = toHost(value); return true;
+            case "SR": record.SR = toSR(value); return true;
+            case "device_config": record.deviceConfig = toMapOfStringString(value); return true;
+            case "currently_attached": record.currentlyAttached = toBoolean(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<PBD, PBD.Record> PBD_RECORD_DECODER = new RecordDecoder<PBD, PBD.Record>() {
+        PBD toRef(String ref) { return toPBD(ref); }
+        PBD.Record newRecord() { return new PBD.Record(); }
+        boolean setField(PBD.Record record, String field, Object value) { return setPBDRecordField(record, field, value); }
+    };
+
     public static PCI.Record toPCIRecord(Object object) {
         if (object == null) {
             return null;
@@ -17613,6 +16461,34 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a PCI.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setPCIRecordField(PCI.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "class_name": record.clazzName = toString(value); return true;
+            case "vendor_name": record.vendorName = toString(value); return true;
+            case "device_name": record.deviceName = toString(value); return true;
+            case "host": record.host = toHost(value); return true;
+            case "pci_id": record.pciId = toString(value); return true;
+            case "dependencies": record.dependencies = toSetOfPCI(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "subsystem_vendor_name": record.subsystemVendorName = toString(value); return true;
+            case "subsystem_device_name": record.subsystemDeviceName = toString(value); return true;
+            case "driver_name": record.driverName = toString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<PCI, PCI.Record> PCI_RECORD_DECODER = new RecordDecoder<PCI, PCI.Record>() {
+        PCI toRef(String ref) { return toPCI(ref); }
+        PCI.Record newRecord() { return new PCI.Record(); }
+        boolean setField(PCI.Record record, String field, Object value) { return setPCIRecordField(record, field, value); }
+    };
+
     public static PGPU.Record toPGPURecord(Object object) {
         if (object == null) {
             return null;
@@ -17634,6 +16510,35 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a PGPU.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setPGPURecordField(PGPU.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "PCI": record.PCI = toPCI(value); return true;
+            case "GPU_group": record.GPUGroup = toGPUGroup(value); return true;
+            case "host": record.host = toHost(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "supported_VGPU_types": record.supportedVGPUTypes = toSetOfVGPUType(value); return true;
+            case "enabled_VGPU_types": record.enabledVGPUTypes = toSetOfVGPUType(value); return true;
+            case "resident_VGPUs": record.residentVGPUs = toSetOfVGPU(value); return true;
+            case "supported_VGPU_max_capacities": record.supportedVGPUMaxCapacities = toMapOfVGPUTypeLong(value); return true;
+            case "dom0_access": record.dom0Access = toPgpuDom0Access(value); return true;
+            case "is_system_display_device": record.isSystemDisplayDevice = toBoolean(value); return true;
+            case "compatibility_metadata": record.compatibilityMetadata = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<PGPU, PGPU.Record> PGPU_RECORD_DECODER = new RecordDecoder<PGPU, PGPU.Record>() {
+        PGPU toRef(String ref) { return toPGPU(ref); }
+        PGPU.Record newRecord() { return new PGPU.Record(); }
+        boolean setField(PGPU.Record record, String field, Object value) { return setPGPURecordField(record, field, value); }
+    };
+
     public static PIF.Record toPIFRecord(Object object) {
         if (object == null) {
             return null;
@@ -17678,6 +16583,58 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a PIF.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setPIFRecordField(PIF.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "device": record.device = toString(value); return true;
+            case "network": record.network = toNetwork(value); return true;
+            case "host": record.host = toHost(value); return true;
+            case "MAC": record.MAC = toString(value); return true;
+            case "MTU": record.MTU = toLong(value); return true;
+            case "VLAN": record.VLAN = toLong(value); return true;
+            case "metrics": record.metrics = toPIFMetrics(value); return true;
+            case "physical": record.physical = toBoolean(value); return true;
+            case "currently_attached": record.currentlyAttached = toBoolean(value); return true;
+            case "ip_configuration_mode": record.ipConfigurationMode = toIpConfigurationMode(value); return true;
+            case "IP": record.IP = toString(value); return true;
+            case "netmask": record.netmask = toString(value); return true;
+            case "gateway": record.gateway = toString(value); return true;
+            case "DNS": record.DNS = toString(value); return true;
+            case "bond_slave_of": record.bondSlaveOf = toBond(value); return true;
+            case "bond_master_of": record.bondMasterOf = toSetOfBond(value); return true;
+            case "VLAN_master_of": record.VLANMasterOf = toVLAN(value); return true;
+            case "VLAN_slave_of": record.VLANSlaveOf = toSetOfVLAN(value); return true;
+            case "management": record.management = toBoolean(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "disallow_unplug": record.disallowUnplug = toBoolean(value); return true;
+            case "tunnel_access_PIF_of": record.tunnelAccessPIFOf = toSetOfTunnel(value); return true;
+            case "tunnel_transport_PIF_of": record.tunnelTransportPIFOf = toSetOfTunnel(value); return true;
+            case "ipv6_configuration_mode": record.ipv6ConfigurationMode = toIpv6ConfigurationMode(value); return true;
+            case "IPv6": record.IPv6 = toSetOfString(value); return true;
+            case "ipv6_gateway": record.ipv6Gateway = toString(value); return true;
+            case "primary_address_type": record.primaryAddressType = toPrimaryAddressType(value); return true;
+            case "managed": record.managed = toBoolean(value); return true;
+            case "properties": record.properties = toMapOfStringString(value); return true;
+            case "capabilities": record.capabilities = toSetOfString(value); return true;
+            case "igmp_snooping_status": record.igmpSnoopingStatus = toPifIgmpStatus(value); return true;
+            case "sriov_physical_PIF_of": record.sriovPhysicalPIFOf = toSetOfNetworkSriov(value); return true;
+            case "sriov_logical_PIF_of": record.sriovLogicalPIFOf = toSetOfNetworkSriov(value); return true;
+            case "PCI": record.PCI = toPCI(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<PIF, PIF.Record> PIF_RECORD_DECODER = new RecordDecoder<PIF, PIF.Record>() {
+        PIF toRef(String ref) { return toPIF(ref); }
+        PIF.Record newRecord() { return new PIF.Record(); }
+        boolean setField(PIF.Record record, String field, Object value) { return setPIFRecordField(record, field, value); }
+    };
+
     public static PIFMetrics.Record toPIFMetricsRecord(Object object) {
         if (object == null) {
             return null;
@@ -17700,6 +16657,36 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a PIFMetrics.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setPIFMetricsRecordField(PIFMetrics.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "io_read_kbs": record.ioReadKbs = toDouble(value); return true;
+            case "io_write_kbs": record.ioWriteKbs = toDouble(value); return true;
+            case "carrier": record.carrier = toBoolean(value); return true;
+            case "vendor_id": record.vendorId = toString(value); return true;
+            case "vendor_name": record.vendorName = toString(value); return true;
+            case "device_id": record.deviceId = toString(value); return true;
+            case "device_name": record.deviceName = toString(value); return true;
+            case "speed": record.speed = toLong(value); return true;
+            case "duplex": record.duplex = toBoolean(value); return true;
+            case "pci_bus_path": record.pciBusPath = toString(value); return true;
+            case "last_updated": record.lastUpdated = toDate(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<PIFMetrics, PIFMetrics.Record> PIF_METRICS_RECORD_DECODER = new RecordDecoder<PIFMetrics, PIFMetrics.Record>() {
+        PIFMetrics toRef(String ref) { return toPIFMetrics(ref); }
+        PIFMetrics.Record newRecord() { return new PIFMetrics.Record(); }
+        boolean setField(PIFMetrics.Record record, String field, Object value) { return setPIFMetricsRecordField(record, field, value); }
+    };
+
     public static PUSB.Record toPUSBRecord(Object object) {
         if (object == null) {
             return null;
@@ -17722,6 +16709,36 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a PUSB.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setPUSBRecordField(PUSB.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "USB_group": record.USBGroup = toUSBGroup(value); return true;
+            case "host": record.host = toHost(value); return true;
+            case "path": record.path = toString(value); return true;
+            case "vendor_id": record.vendorId = toString(value); return true;
+            case "vendor_desc": record.vendorDesc = toString(value); return true;
+            case "product_id": record.productId = toString(value); return true;
+            case "product_desc": record.productDesc = toString(value); return true;
+            case "serial": record.serial = toString(value); return true;
+            case "version": record.version = toString(value); return true;
+            case "description": record.description = toString(value); return true;
+            case "passthrough_enabled": record.passthroughEnabled = toBoolean(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<PUSB, PUSB.Record> PUSB_RECORD_DECODER = new RecordDecoder<PUSB, PUSB.Record>() {
+        PUSB toRef(String ref) { return toPUSB(ref); }
+        PUSB.Record newRecord() { return new PUSB.Record(); }
+        boolean setField(PUSB.Record record, String field, Object value) { return setPUSBRecordField(record, field, value); }
+    };
+
     public static PVSCacheStorage.Record toPVSCacheStorageRecord(Object object) {
         if (object == null) {
             return null;
@@ -17737,6 +16754,29 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a PVSCacheStorage.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setPVSCacheStorageRecordField(PVSCacheStorage.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "host": record.host = toHost(value); return true;
+            case "SR": record.SR = toSR(value); return true;
+            case "site": record.site = toPVSSite(value); return true;
+            case "size": record.size = toLong(value); return true;
+            case "VDI": record.VDI = toVDI(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<PVSCacheStorage, PVSCacheStorage.Record> PVS_CACHE_STORAGE_RECORD_DECODER = new RecordDecoder<PVSCacheStorage, PVSCacheStorage.Record>() {
+        PVSCacheStorage toRef(String ref) { return toPVSCacheStorage(ref); }
+        PVSCacheStorage.Record newRecord() { return new PVSCacheStorage.Record(); }
+        boolean setField(PVSCacheStorage.Record record, String field, Object value) { return setPVSCacheStorageRecordField(record, field, value); }
+    };
+
     public static PVSProxy.Record toPVSProxyRecord(Object object) {
         if (object == null) {
             return null;
@@ -17751,6 +16791,28 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a PVSProxy.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setPVSProxyRecordField(PVSProxy.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "site": record.site = toPVSSite(value); return true;
+            case "VIF": record.VIF = toVIF(value); return true;
+            case "currently_attached": record.currentlyAttached = toBoolean(value); return true;
+            case "status": record.status = toPvsProxyStatus(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<PVSProxy, PVSProxy.Record> PVS_PROXY_RECORD_DECODER = new RecordDecoder<PVSProxy, PVSProxy.Record>() {
+        PVSProxy toRef(String ref) { return toPVSProxy(ref); }
+        PVSProxy.Record newRecord() { return new PVSProxy.Record(); }
+        boolean setField(PVSProxy.Record record, String field, Object value) { return setPVSProxyRecordField(record, field, value); }
+    };
+
     public static PVSServer.Record toPVSServerRecord(Object object) {
         if (object == null) {
             return null;
@@ -17765,6 +16827,28 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a PVSServer.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setPVSServerRecordField(PVSServer.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "addresses": record.addresses = toSetOfString(value); return true;
+            case "first_port": record.firstPort = toLong(value); return true;
+            case "last_port": record.lastPort = toLong(value); return true;
+            case "site": record.site = toPVSSite(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<PVSServer, PVSServer.Record> PVS_SERVER_RECORD_DECODER = new RecordDecoder<PVSServer, PVSServer.Record>() {
+        PVSServer toRef(String ref) { return toPVSServer(ref); }
+        PVSServer.Record newRecord() { return new PVSServer.Record(); }
+        boolean setField(PVSServer.Record record, String field, Object value) { return setPVSServerRecordField(record, field, value); }
+    };
+
     public static PVSSite.Record toPVSSiteRecord(Object object) {
         if (object == null) {
             return null;
@@ -17781,6 +16865,30 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a PVSSite.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setPVSSiteRecordField(PVSSite.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "PVS_uuid": record.PVSUuid = toString(value); return true;
+            case "cache_storage": record.cacheStorage = toSetOfPVSCacheStorage(value); return true;
+            case "servers": record.servers = toSetOfPVSServer(value); return true;
+            case "proxies": record.proxies = toSetOfPVSProxy(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<PVSSite, PVSSite.Record> PVS_SITE_RECORD_DECODER = new RecordDecoder<PVSSite, PVSSite.Record>() {
+        PVSSite toRef(String ref) { return toPVSSite(ref); }
+        PVSSite.Record newRecord() { return new PVSSite.Record(); }
+        boolean setField(PVSSite.Record record, String field, Object value) { return setPVSSiteRecordField(record, field, value); }
+    };
+
     public static SDNController.Record toSDNControllerRecord(Object object) {
         if (object == null) {
             return null;
@@ -17794,6 +16902,27 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a SDNController.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setSDNControllerRecordField(SDNController.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "protocol": record.protocol = toSdnControllerProtocol(value); return true;
+            case "address": record.address = toString(value); return true;
+            case "port": record.port = toLong(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<SDNController, SDNController.Record> SDN_CONTROLLER_RECORD_DECODER = new RecordDecoder<SDNController, SDNController.Record>() {
+        SDNController toRef(String ref) { return toSDNController(ref); }
+        SDNController.Record newRecord() { return new SDNController.Record(); }
+        boolean setField(SDNController.Record record, String field, Object value) { return setSDNControllerRecordField(record, field, value); }
+    };
+
     public static SM.Record toSMRecord(Object object) {
         if (object == null) {
             return null;
@@ -17817,6 +16946,37 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a SM.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setSMRecordField(SM.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "type": record.type = toString(value); return true;
+            case "vendor": record.vendor = toString(value); return true;
+            case "copyright": record.copyright = toString(value); return true;
+            case "version": record.version = toString(value); return true;
+            case "required_api_version": record.requiredApiVersion = toString(value); return true;
+            case "configuration": record.configuration = toMapOfStringString(value); return true;
+            case "capabilities": record.capabilities = toSetOfString(value); return true;
+            case "features": record.features = toMapOfStringLong(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "driver_filename": record.driverFilename = toString(value); return true;
+            case "required_cluster_stack": record.requiredClusterStack = toSetOfString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<SM, SM.Record> SM_RECORD_DECODER = new RecordDecoder<SM, SM.Record>() {
+        SM toRef(String ref) { return toSM(ref); }
+        SM.Record newRecord() { return new SM.Record(); }
+        boolean setField(SM.Record record, String field, Object value) { return setSMRecordField(record, field, value); }
+    };
+
     public static SR.Record toSRRecord(Object object) {
         if (object == null) {
             return null;
@@ -17847,6 +17007,44 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a SR.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setSRRecordField(SR.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "allowed_operations": record.allowedOperations = toSetOfStorageOperations(value); return true;
+            case "current_operations": record.currentOperations = toMapOfStringStorageOperations(value); return true;
+            case "VDIs": record.VDIs = toSetOfVDI(value); return true;
+            case "PBDs": record.PBDs = toSetOfPBD(value); return true;
+            case "virtual_allocation": record.virtualAllocation = toLong(value); return true;
+            case "physical_utilisation": record.physicalUtilisation = toLong(value); return true;
+            case "physical_size": record.physicalSize = toLong(value); return true;
+            case "type": record.type = toString(value); return true;
+            case "content_type": record.contentType = toString(value); return true;
+            case "shared": record.shared = toBoolean(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "tags": record.tags = toSetOfString(value); return true;
+            case "sm_config": record.smConfig = toMapOfStringString(value); return true;
+            case "blobs": record.blobs = toMapOfStringBlob(value); return true;
+            case "local_cache_enabled": record.localCacheEnabled = toBoolean(value); return true;
+            case "introduced_by": record.introducedBy = toDRTask(value); return true;
+            case "clustered": record.clustered = toBoolean(value); return true;
+            case "is_tools_sr": record.isToolsSr = toBoolean(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<SR, SR.Record> SR_RECORD_DECODER = new RecordDecoder<SR, SR.Record>() {
+        SR toRef(String ref) { return toSR(ref); }
+        SR.Record newRecord() { return new SR.Record(); }
+        boolean setField(SR.Record record, String field, Object value) { return setSRRecordField(record, field, value); }
+    };
+
     public static USBGroup.Record toUSBGroupRecord(Object object) {
         if (object == null) {
             return null;
@@ -17862,6 +17060,29 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a USBGroup.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setUSBGroupRecordField(USBGroup.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "PUSBs": record.PUSBs = toSetOfPUSB(value); return true;
+            case "VUSBs": record.VUSBs = toSetOfVUSB(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<USBGroup, USBGroup.Record> USB_GROUP_RECORD_DECODER = new RecordDecoder<USBGroup, USBGroup.Record>() {
+        USBGroup toRef(String ref) { return toUSBGroup(ref); }
+        USBGroup.Record newRecord() { return new USBGroup.Record(); }
+        boolean setField(USBGroup.Record record, String field, Object value) { return setUSBGroupRecordField(record, field, value); }
+    };
+
     public static VBD.Record toVBDRecord(Object object) {
         if (object == null) {
             return null;
@@ -17893,6 +17114,45 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VBD.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVBDRecordField(VBD.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "allowed_operations": record.allowedOperations = toSetOfVbdOperations(value); return true;
+            case "current_operations": record.currentOperations = toMapOfStringVbdOperations(value); return true;
+            case "VM": record.VM = toVM(value); return true;
+            case "VDI": record.VDI = toVDI(value); return true;
+            case "device": record.device = toString(value); return true;
+            case "userdevice": record.userdevice = toString(value); return true;
+            case "bootable": record.bootable = toBoolean(value); return true;
+            case "mode": record.mode = toVbdMode(value); return true;
+            case "type": record.type = toVbdType(value); return true;
+            case "unpluggable": record.unpluggable = toBoolean(value); return true;
+            case "storage_lock": record.storageLock = toBoolean(value); return true;
+            case "empty": record.empty = toBoolean(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "currently_attached": record.currentlyAttached = toBoolean(value); return true;
+            case "status_code": record.statusCode = toLong(value); return true;
+            case "status_detail": record.statusDetail = toString(value); return true;
+            case "runtime_properties": record.runtimeProperties = toMapOfStringString(value); return true;
+            case "qos_algorithm_type": record.qosAlgorithmType = toString(value); return true;
+            case "qos_algorithm_params": record.qosAlgorithmParams = toMapOfStringString(value); return true;
+            case "qos_supported_algorithms": record.qosSupportedAlgorithms = toSetOfString(value); return true;
+            case "metrics": record.metrics = toVBDMetrics(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VBD, VBD.Record> VBD_RECORD_DECODER = new RecordDecoder<VBD, VBD.Record>() {
+        VBD toRef(String ref) { return toVBD(ref); }
+        VBD.Record newRecord() { return new VBD.Record(); }
+        boolean setField(VBD.Record record, String field, Object value) { return setVBDRecordField(record, field, value); }
+    };
+
     public static VBDMetrics.Record toVBDMetricsRecord(Object object) {
         if (object == null) {
             return null;
@@ -17907,6 +17167,28 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VBDMetrics.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVBDMetricsRecordField(VBDMetrics.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "io_read_kbs": record.ioReadKbs = toDouble(value); return true;
+            case "io_write_kbs": record.ioWriteKbs = toDouble(value); return true;
+            case "last_updated": record.lastUpdated = toDate(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VBDMetrics, VBDMetrics.Record> VBD_METRICS_RECORD_DECODER = new RecordDecoder<VBDMetrics, VBDMetrics.Record>() {
+        VBDMetrics toRef(String ref) { return toVBDMetrics(ref); }
+        VBDMetrics.Record newRecord() { return new VBDMetrics.Record(); }
+        boolean setField(VBDMetrics.Record record, String field, Object value) { return setVBDMetricsRecordField(record, field, value); }
+    };
+
     public static VDI.Record toVDIRecord(Object object) {
         if (object == null) {
             return null;
@@ -17948,6 +17230,55 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VDI.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVDIRecordField(VDI.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "allowed_operations": record.allowedOperations = toSetOfVdiOperations(value); return true;
+            case "current_operations": record.currentOperations = toMapOfStringVdiOperations(value); return true;
+            case "SR": record.SR = toSR(value); return true;
+            case "VBDs": record.VBDs = toSetOfVBD(value); return true;
+            case "crash_dumps": record.crashDumps = toSetOfCrashdump(value); return true;
+            case "virtual_size": record.virtualSize = toLong(value); return true;
+            case "physical_utilisation": record.physicalUtilisation = toLong(value); return true;
+            case "type": record.type = toVdiType(value); return true;
+            case "sharable": record.sharable = toBoolean(value); return true;
+            case "read_only": record.readOnly = toBoolean(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "storage_lock": record.storageLock = toBoolean(value); return true;
+            case "location": record.location = toString(value); return true;
+            case "managed": record.managed = toBoolean(value); return true;
+            case "missing": record.missing = toBoolean(value); return true;
+            case "parent": record.parent = toVDI(value); return true;
+            case "xenstore_data": record.xenstoreData = toMapOfStringString(value); return true;
+            case "sm_config": record.smConfig = toMapOfStringString(value); return true;
+            case "is_a_snapshot": record.isASnapshot = toBoolean(value); return true;
+            case "snapshot_of": record.snapshotOf = toVDI(value); return true;
+            case "snapshots": record.snapshots = toSetOfVDI(value); return true;
+            case "snapshot_time": record.snapshotTime = toDate(value); return true;
+            case "tags": record.tags = toSetOfString(value); return true;
+            case "allow_caching": record.allowCaching = toBoolean(value); return true;
+            case "on_boot": record.onBoot = toOnBoot(value); return true;
+            case "metadata_of_pool": record.metadataOfPool = toPool(value); return true;
+            case "metadata_latest": record.metadataLatest = toBoolean(value); return true;
+            case "is_tools_iso": record.isToolsIso = toBoolean(value); return true;
+            case "cbt_enabled": record.cbtEnabled = toBoolean(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VDI, VDI.Record> VDI_RECORD_DECODER = new RecordDecoder<VDI, VDI.Record>() {
+        VDI toRef(String ref) { return toVDI(ref); }
+        VDI.Record newRecord() { return new VDI.Record(); }
+        boolean setField(VDI.Record record, String field, Object value) { return setVDIRecordField(record, field, value); }
+    };
+
     public static VGPU.Record toVGPURecord(Object object) {
         if (object == null) {
             return null;
@@ -17969,6 +17300,35 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VGPU.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVGPURecordField(VGPU.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "VM": record.VM = toVM(value); return true;
+            case "GPU_group": record.GPUGroup = toGPUGroup(value); return true;
+            case "device": record.device = toString(value); return true;
+            case "currently_attached": record.currentlyAttached = toBoolean(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "type": record.type = toVGPUType(value); return true;
+            case "resident_on": record.residentOn = toPGPU(value); return true;
+            case "scheduled_to_be_resident_on": record.scheduledToBeResidentOn = toPGPU(value); return true;
+            case "compatibility_metadata": record.compatibilityMetadata = toMapOfStringString(value); return true;
+            case "extra_args": record.extraArgs = toString(value); return true;
+            case "PCI": record.PCI = toPCI(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VGPU, VGPU.Record> VGPU_RECORD_DECODER = new RecordDecoder<VGPU, VGPU.Record>() {
+        VGPU toRef(String ref) { return toVGPU(ref); }
+        VGPU.Record newRecord() { return new VGPU.Record(); }
+        boolean setField(VGPU.Record record, String field, Object value) { return setVGPURecordField(record, field, value); }
+    };
+
     public static VGPUType.Record toVGPUTypeRecord(Object object) {
         if (object == null) {
             return null;
@@ -17994,6 +17354,39 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VGPUType.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVGPUTypeRecordField(VGPUType.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "vendor_name": record.vendorName = toString(value); return true;
+            case "model_name": record.modelName = toString(value); return true;
+            case "framebuffer_size": record.framebufferSize = toLong(value); return true;
+            case "max_heads": record.maxHeads = toLong(value); return true;
+            case "max_resolution_x": record.maxResolutionX = toLong(value); return true;
+            case "max_resolution_y": record.maxResolutionY = toLong(value); return true;
+            case "supported_on_PGPUs": record.supportedOnPGPUs = toSetOfPGPU(value); return true;
+            case "enabled_on_PGPUs": record.enabledOnPGPUs = toSetOfPGPU(value); return true;
+            case "VGPUs": record.VGPUs = toSetOfVGPU(value); return true;
+            case "supported_on_GPU_groups": record.supportedOnGPUGroups = toSetOfGPUGroup(value); return true;
+            case "enabled_on_GPU_groups": record.enabledOnGPUGroups = toSetOfGPUGroup(value); return true;
+            case "implementation": record.implementation = toVgpuTypeImplementation(value); return true;
+            case "identifier": record.identifier = toString(value); return true;
+            case "experimental": record.experimental = toBoolean(value); return true;
+            case "compatible_types_in_vm": record.compatibleTypesInVm = toSetOfVGPUType(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VGPUType, VGPUType.Record> VGPU_TYPE_RECORD_DECODER = new RecordDecoder<VGPUType, VGPUType.Record>() {
+        VGPUType toRef(String ref) { return toVGPUType(ref); }
+        VGPUType.Record newRecord() { return new VGPUType.Record(); }
+        boolean setField(VGPUType.Record record, String field, Object value) { return setVGPUTypeRecordField(record, field, value); }
+    };
+
     public static VIF.Record toVIFRecord(Object object) {
         if (object == null) {
             return null;
@@ -18030,6 +17423,50 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VIF.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVIFRecordField(VIF.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "allowed_operations": record.allowedOperations = toSetOfVifOperations(value); return true;
+            case "current_operations": record.currentOperations = toMapOfStringVifOperations(value); return true;
+            case "device": record.device = toString(value); return true;
+            case "network": record.network = toNetwork(value); return true;
+            case "VM": record.VM = toVM(value); return true;
+            case "MAC": record.MAC = toString(value); return true;
+            case "MTU": record.MTU = toLong(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "currently_attached": record.currentlyAttached = toBoolean(value); return true;
+            case "status_code": record.statusCode = toLong(value); return true;
+            case "status_detail": record.statusDetail = toString(value); return true;
+            case "runtime_properties": record.runtimeProperties = toMapOfStringString(value); return true;
+            case "qos_algorithm_type": record.qosAlgorithmType = toString(value); return true;
+            case "qos_algorithm_params": record.qosAlgorithmParams = toMapOfStringString(value); return true;
+            case "qos_supported_algorithms": record.qosSupportedAlgorithms = toSetOfString(value); return true;
+            case "metrics": record.metrics = toVIFMetrics(value); return true;
+            case "MAC_autogenerated": record.MACAutogenerated = toBoolean(value); return true;
+            case "locking_mode": record.lockingMode = toVifLockingMode(value); return true;
+            case "ipv4_allowed": record.ipv4Allowed = toSetOfString(value); return true;
+            case "ipv6_allowed": record.ipv6Allowed = toSetOfString(value); return true;
+            case "ipv4_configuration_mode": record.ipv4ConfigurationMode = toVifIpv4ConfigurationMode(value); return true;
+            case "ipv4_addresses": record.ipv4Addresses = toSetOfString(value); return true;
+            case "ipv4_gateway": record.ipv4Gateway = toString(value); return true;
+            case "ipv6_configuration_mode": record.ipv6ConfigurationMode = toVifIpv6ConfigurationMode(value); return true;
+            case "ipv6_addresses": record.ipv6Addresses = toSetOfString(value); return true;
+            case "ipv6_gateway": record.ipv6Gateway = toString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VIF, VIF.Record> VIF_RECORD_DECODER = new RecordDecoder<VIF, VIF.Record>() {
+        VIF toRef(String ref) { return toVIF(ref); }
+        VIF.Record newRecord() { return new VIF.Record(); }
+        boolean setField(VIF.Record record, String field, Object value) { return setVIFRecordField(record, field, value); }
+    };
+
     public static VIFMetrics.Record toVIFMetricsRecord(Object object) {
         if (object == null) {
             return null;
@@ -18044,6 +17481,28 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VIFMetrics.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVIFMetricsRecordField(VIFMetrics.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "io_read_kbs": record.ioReadKbs = toDouble(value); return true;
+            case "io_write_kbs": record.ioWriteKbs = toDouble(value); return true;
+            case "last_updated": record.lastUpdated = toDate(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VIFMetrics, VIFMetrics.Record> VIF_METRICS_RECORD_DECODER = new RecordDecoder<VIFMetrics, VIFMetrics.Record>() {
+        VIFMetrics toRef(String ref) { return toVIFMetrics(ref); }
+        VIFMetrics.Record newRecord() { return new VIFMetrics.Record(); }
+        boolean setField(VIFMetrics.Record record, String field, Object value) { return setVIFMetricsRecordField(record, field, value); }
+    };
+
     public static VLAN.Record toVLANRecord(Object object) {
         if (object == null) {
             return null;
@@ -18058,6 +17517,28 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VLAN.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVLANRecordField(VLAN.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "tagged_PIF": record.taggedPIF = toPIF(value); return true;
+            case "untagged_PIF": record.untaggedPIF = toPIF(value); return true;
+            case "tag": record.tag = toLong(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VLAN, VLAN.Record> VLAN_RECORD_DECODER = new RecordDecoder<VLAN, VLAN.Record>() {
+        VLAN toRef(String ref) { return toVLAN(ref); }
+        VLAN.Record newRecord() { return new VLAN.Record(); }
+        boolean setField(VLAN.Record record, String field, Object value) { return setVLANRecordField(record, field, value); }
+    };
+
     public static VM.Record toVMRecord(Object object) {
         if (object == null) {
             return null;
@@ -18152,6 +17633,108 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VM.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVMRecordField(VM.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "allowed_operations": record.allowedOperations = toSetOfVmOperations(value); return true;
+            case "current_operations": record.currentOperations = toMapOfStringVmOperations(value); return true;
+            case "power_state": record.powerState = toVmPowerState(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "user_version": record.userVersion = toLong(value); return true;
+            case "is_a_template": record.isATemplate = toBoolean(value); return true;
+            case "is_default_template": record.isDefaultTemplate = toBoolean(value); return true;
+            case "suspend_VDI": record.suspendVDI = toVDI(value); return true;
+            case "resident_on": record.residentOn = toHost(value); return true;
+            case "affinity": record.affinity = toHost(value); return true;
+            case "memory_overhead": record.memoryOverhead = toLong(value); return true;
+            case "memory_target": record.memoryTarget = toLong(value); return true;
+            case "memory_static_max": record.memoryStaticMax = toLong(value); return true;
+            case "memory_dynamic_max": record.memoryDynamicMax = toLong(value); return true;
+            case "memory_dynamic_min": record.memoryDynamicMin = toLong(value); return true;
+            case "memory_static_min": record.memoryStaticMin = toLong(value); return true;
+            case "VCPUs_params": record.VCPUsParams = toMapOfStringString(value); return true;
+            case "VCPUs_max": record.VCPUsMax = toLong(value); return true;
+            case "VCPUs_at_startup": record.VCPUsAtStartup = toLong(value); return true;
+            case "actions_after_shutdown": record.actionsAfterShutdown = toOnNormalExit(value); return true;
+            case "actions_after_reboot": record.actionsAfterReboot = toOnNormalExit(value); return true;
+            case "actions_after_crash": record.actionsAfterCrash = toOnCrashBehaviour(value); return true;
+            case "consoles": record.consoles = toSetOfConsole(value); return true;
+            case "VIFs": record.VIFs = toSetOfVIF(value); return true;
+            case "VBDs": record.VBDs = toSetOfVBD(value); return true;
+            case "VUSBs": record.VUSBs = toSetOfVUSB(value); return true;
+            case "crash_dumps": record.crashDumps = toSetOfCrashdump(value); return true;
+            case "VTPMs": record.VTPMs = toSetOfVTPM(value); return true;
+            case "PV_bootloader": record.PVBootloader = toString(value); return true;
+            case "PV_kernel": record.PVKernel = toString(value); return true;
+            case "PV_ramdisk": record.PVRamdisk = toString(value); return true;
+            case "PV_args": record.PVArgs = toString(value); return true;
+            case "PV_bootloader_args": record.PVBootloaderArgs = toString(value); return true;
+            case "PV_legacy_args": record.PVLegacyArgs = toString(value); return true;
+            case "HVM_boot_policy": record.HVMBootPolicy = toString(value); return true;
+            case "HVM_boot_params": record.HVMBootParams = toMapOfStringString(value); return true;
+            case "HVM_shadow_multiplier": record.HVMShadowMultiplier = toDouble(value); return true;
+            case "platform": record.platform = toMapOfStringString(value); return true;
+            case "PCI_bus": record.PCIBus = toString(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "domid": record.domid = toLong(value); return true;
+            case "domarch": record.domarch = toString(value); return true;
+            case "last_boot_CPU_flags": record.lastBootCPUFlags = toMapOfStringString(value); return true;
+            case "is_control_domain": record.isControlDomain = toBoolean(value); return true;
+            case "metrics": record.metrics = toVMMetrics(value); return true;
+            case "guest_metrics": record.guestMetrics = toVMGuestMetrics(value); return true;
+            case "last_booted_record": record.lastBootedRecord = toString(value); return true;
+            case "recommendations": record.recommendations = toString(value); return true;
+            case "xenstore_data": record.xenstoreData = toMapOfStringString(value); return true;
+            case "ha_always_run": record.haAlwaysRun = toBoolean(value); return true;
+            case "ha_restart_priority": record.haRestartPriority = toString(value); return true;
+            case "is_a_snapshot": record.isASnapshot = toBoolean(value); return true;
+            case "snapshot_of": record.snapshotOf = toVM(value); return true;
+            case "snapshots": record.snapshots = toSetOfVM(value); return true;
+            case "snapshot_time": record.snapshotTime = toDate(value); return true;
+            case "transportable_snapshot_id": record.transportableSnapshotId = toString(value); return true;
+            case "blobs": record.blobs = toMapOfStringBlob(value); return true;
+            case "tags": record.tags = toSetOfString(value); return true;
+            case "blocked_operations": record.blockedOperations = toMapOfVmOperationsString(value); return true;
+            case "snapshot_info": record.snapshotInfo = toMapOfStringString(value); return true;
+            case "snapshot_metadata": record.snapshotMetadata = toString(value); return true;
+            case "parent": record.parent = toVM(value); return true;
+            case "children": record.children = toSetOfVM(value); return true;
+            case "bios_strings": record.biosStrings = toMapOfStringString(value); return true;
+            case "protection_policy": record.protectionPolicy = toVMPP(value); return true;
+            case "is_snapshot_from_vmpp": record.isSnapshotFromVmpp = toBoolean(value); return true;
+            case "snapshot_schedule": record.snapshotSchedule = toVMSS(value); return true;
+            case "is_vmss_snapshot": record.isVmssSnapshot = toBoolean(value); return true;
+            case "appliance": record.appliance = toVMAppliance(value); return true;
+            case "start_delay": record.startDelay = toLong(value); return true;
+            case "shutdown_delay": record.shutdownDelay = toLong(value); return true;
+            case "order": record.order = toLong(value); return true;
+            case "VGPUs": record.VGPUs = toSetOfVGPU(value); return true;
+            case "attached_PCIs": record.attachedPCIs = toSetOfPCI(value); return true;
+            case "suspend_SR": record.suspendSR = toSR(value); return true;
+            case "version": record.version = toLong(value); return true;
+            case "generation_id": record.generationId = toString(value); return true;
+            case "hardware_platform_version": record.hardwarePlatformVersion = toLong(value); return true;
+            case "has_vendor_device": record.hasVendorDevice = toBoolean(value); return true;
+            case "requires_reboot": record.requiresReboot = toBoolean(value); return true;
+            case "reference_label": record.referenceLabel = toString(value); return true;
+            case "domain_type": record.domainType = toDomainType(value); return true;
+            case "NVRAM": record.NVRAM = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VM, VM.Record> VM_RECORD_DECODER = new RecordDecoder<VM, VM.Record>() {
+        VM toRef(String ref) { return toVM(ref); }
+        VM.Record newRecord() { return new VM.Record(); }
+        boolean setField(VM.Record record, String field, Object value) { return setVMRecordField(record, field, value); }
+    };
+
     public static VMPP.Record toVMPPRecord(Object object) {
         if (object == null) {
             return null;
@@ -18181,6 +17764,43 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VMPP.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVMPPRecordField(VMPP.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "is_policy_enabled": record.isPolicyEnabled = toBoolean(value); return true;
+            case "backup_type": record.backupType = toVmppBackupType(value); return true;
+            case "backup_retention_value": record.backupRetentionValue = toLong(value); return true;
+            case "backup_frequency": record.backupFrequency = toVmppBackupFrequency(value); return true;
+            case "backup_schedule": record.backupSchedule = toMapOfStringString(value); return true;
+            case "is_backup_running": record.isBackupRunning = toBoolean(value); return true;
+            case "backup_last_run_time": record.backupLastRunTime = toDate(value); return true;
+            case "archive_target_type": record.archiveTargetType = toVmppArchiveTargetType(value); return true;
+            case "archive_target_config": record.archiveTargetConfig = toMapOfStringString(value); return true;
+            case "archive_frequency": record.archiveFrequency = toVmppArchiveFrequency(value); return true;
+            case "archive_schedule": record.archiveSchedule = toMapOfStringString(value); return true;
+            case "is_archive_running": record.isArchiveRunning = toBoolean(value); return true;
+            case "archive_last_run_time": record.archiveLastRunTime = toDate(value); return true;
+            case "VMs": record.VMs = toSetOfVM(value); return true;
+            case "is_alarm_enabled": record.isAlarmEnabled = toBoolean(value); return true;
+            case "alarm_config": record.alarmConfig = toMapOfStringString(value); return true;
+            case "recent_alerts": record.recentAlerts = toSetOfString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VMPP, VMPP.Record> VMPP_RECORD_DECODER = new RecordDecoder<VMPP, VMPP.Record>() {
+        VMPP toRef(String ref) { return toVMPP(ref); }
+        VMPP.Record newRecord() { return new VMPP.Record(); }
+        boolean setField(VMPP.Record record, String field, Object value) { return setVMPPRecordField(record, field, value); }
+    };
+
     public static VMSS.Record toVMSSRecord(Object object) {
         if (object == null) {
             return null;
@@ -18200,6 +17820,33 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VMSS.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVMSSRecordField(VMSS.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "enabled": record.enabled = toBoolean(value); return true;
+            case "type": record.type = toVmssType(value); return true;
+            case "retained_snapshots": record.retainedSnapshots = toLong(value); return true;
+            case "frequency": record.frequency = toVmssFrequency(value); return true;
+            case "schedule": record.schedule = toMapOfStringString(value); return true;
+            case "last_run_time": record.lastRunTime = toDate(value); return true;
+            case "VMs": record.VMs = toSetOfVM(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VMSS, VMSS.Record> VMSS_RECORD_DECODER = new RecordDecoder<VMSS, VMSS.Record>() {
+        VMSS toRef(String ref) { return toVMSS(ref); }
+        VMSS.Record newRecord() { return new VMSS.Record(); }
+        boolean setField(VMSS.Record record, String field, Object value) { return setVMSSRecordField(record, field, value); }
+    };
+
     public static VMAppliance.Record toVMApplianceRecord(Object object) {
         if (object == null) {
             return null;
@@ -18215,6 +17862,29 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VMAppliance.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVMApplianceRecordField(VMAppliance.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "allowed_operations": record.allowedOperations = toSetOfVmApplianceOperation(value); return true;
+            case "current_operations": record.currentOperations = toMapOfStringVmApplianceOperation(value); return true;
+            case "VMs": record.VMs = toSetOfVM(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VMAppliance, VMAppliance.Record> VM_APPLIANCE_RECORD_DECODER = new RecordDecoder<VMAppliance, VMAppliance.Record>() {
+        VMAppliance toRef(String ref) { return toVMAppliance(ref); }
+        VMAppliance.Record newRecord() { return new VMAppliance.Record(); }
+        boolean setField(VMAppliance.Record record, String field, Object value) { return setVMApplianceRecordField(record, field, value); }
+    };
+
     public static VMGuestMetrics.Record toVMGuestMetricsRecord(Object object) {
         if (object == null) {
             return null;
@@ -18238,6 +17908,37 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VMGuestMetrics.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVMGuestMetricsRecordField(VMGuestMetrics.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "os_version": record.osVersion = toMapOfStringString(value); return true;
+            case "PV_drivers_version": record.PVDriversVersion = toMapOfStringString(value); return true;
+            case "PV_drivers_up_to_date": record.PVDriversUpToDate = toBoolean(value); return true;
+            case "memory": record.memory = toMapOfStringString(value); return true;
+            case "disks": record.disks = toMapOfStringString(value); return true;
+            case "networks": record.networks = toMapOfStringString(value); return true;
+            case "other": record.other = toMapOfStringString(value); return true;
+            case "last_updated": record.lastUpdated = toDate(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "live": record.live = toBoolean(value); return true;
+            case "can_use_hotplug_vbd": record.canUseHotplugVbd = toTristateType(value); return true;
+            case "can_use_hotplug_vif": record.canUseHotplugVif = toTristateType(value); return true;
+            case "PV_drivers_detected": record.PVDriversDetected = toBoolean(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VMGuestMetrics, VMGuestMetrics.Record> VM_GUEST_METRICS_RECORD_DECODER = new RecordDecoder<VMGuestMetrics, VMGuestMetrics.Record>() {
+        VMGuestMetrics toRef(String ref) { return toVMGuestMetrics(ref); }
+        VMGuestMetrics.Record newRecord() { return new VMGuestMetrics.Record(); }
+        boolean setField(VMGuestMetrics.Record record, String field, Object value) { return setVMGuestMetricsRecordField(record, field, value); }
+    };
+
     public static VMMetrics.Record toVMMetricsRecord(Object object) {
         if (object == null) {
             return null;
@@ -18263,6 +17964,39 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VMMetrics.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVMMetricsRecordField(VMMetrics.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "memory_actual": record.memoryActual = toLong(value); return true;
+            case "VCPUs_number": record.VCPUsNumber = toLong(value); return true;
+            case "VCPUs_utilisation": record.VCPUsUtilisation = toMapOfLongDouble(value); return true;
+            case "VCPUs_CPU": record.VCPUsCPU = toMapOfLongLong(value); return true;
+            case "VCPUs_params": record.VCPUsParams = toMapOfStringString(value); return true;
+            case "VCPUs_flags": record.VCPUsFlags = toMapOfLongSetOfString(value); return true;
+            case "state": record.state = toSetOfString(value); return true;
+            case "start_time": record.startTime = toDate(value); return true;
+            case "install_time": record.installTime = toDate(value); return true;
+            case "last_updated": record.lastUpdated = toDate(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "hvm": record.hvm = toBoolean(value); return true;
+            case "nested_virt": record.nestedVirt = toBoolean(value); return true;
+            case "nomigrate": record.nomigrate = toBoolean(value); return true;
+            case "current_domain_type": record.currentDomainType = toDomainType(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VMMetrics, VMMetrics.Record> VM_METRICS_RECORD_DECODER = new RecordDecoder<VMMetrics, VMMetrics.Record>() {
+        VMMetrics toRef(String ref) { return toVMMetrics(ref); }
+        VMMetrics.Record newRecord() { return new VMMetrics.Record(); }
+        boolean setField(VMMetrics.Record record, String field, Object value) { return setVMMetricsRecordField(record, field, value); }
+    };
+
     public static VTPM.Record toVTPMRecord(Object object) {
         if (object == null) {
             return null;
@@ -18275,6 +18009,26 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VTPM.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVTPMRecordField(VTPM.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "VM": record.VM = toVM(value); return true;
+            case "backend": record.backend = toVM(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VTPM, VTPM.Record> VTPM_RECORD_DECODER = new RecordDecoder<VTPM, VTPM.Record>() {
+        VTPM toRef(String ref) { return toVTPM(ref); }
+        VTPM.Record newRecord() { return new VTPM.Record(); }
+        boolean setField(VTPM.Record record, String field, Object value) { return setVTPMRecordField(record, field, value); }
+    };
+
     public static VUSB.Record toVUSBRecord(Object object) {
         if (object == null) {
             return null;
@@ -18291,6 +18045,30 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a VUSB.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setVUSBRecordField(VUSB.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "allowed_operations": record.allowedOperations = toSetOfVusbOperations(value); return true;
+            case "current_operations": record.currentOperations = toMapOfStringVusbOperations(value); return true;
+            case "VM": record.VM = toVM(value); return true;
+            case "USB_group": record.USBGroup = toUSBGroup(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "currently_attached": record.currentlyAttached = toBoolean(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<VUSB, VUSB.Record> VUSB_RECORD_DECODER = new RecordDecoder<VUSB, VUSB.Record>() {
+        VUSB toRef(String ref) { return toVUSB(ref); }
+        VUSB.Record newRecord() { return new VUSB.Record(); }
+        boolean setField(VUSB.Record record, String field, Object value) { return setVUSBRecordField(record, field, value); }
+    };
+
     public static Blob.Record toBlobRecord(Object object) {
         if (object == null) {
             return null;
@@ -18307,6 +18085,30 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Blob.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setBlobRecordField(Blob.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "size": record.size = toLong(value); return true;
+            case "public": record._public = toBoolean(value); return true;
+            case "last_updated": record.lastUpdated = toDate(value); return true;
+            case "mime_type": record.mimeType = toString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Blob, Blob.Record> BLOB_RECORD_DECODER = new RecordDecoder<Blob, Blob.Record>() {
+        Blob toRef(String ref) { return toBlob(ref); }
+        Blob.Record newRecord() { return new Blob.Record(); }
+        boolean setField(Blob.Record record, String field, Object value) { return setBlobRecordField(record, field, value); }
+    };
+
     public static Console.Record toConsoleRecord(Object object) {
         if (object == null) {
             return null;
@@ -18321,6 +18123,28 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Console.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setConsoleRecordField(Console.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "protocol": record.protocol = toConsoleProtocol(value); return true;
+            case "location": record.location = toString(value); return true;
+            case "VM": record.VM = toVM(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Console, Console.Record> CONSOLE_RECORD_DECODER = new RecordDecoder<Console, Console.Record>() {
+        Console toRef(String ref) { return toConsole(ref); }
+        Console.Record newRecord() { return new Console.Record(); }
+        boolean setField(Console.Record record, String field, Object value) { return setConsoleRecordField(record, field, value); }
+    };
+
     public static Crashdump.Record toCrashdumpRecord(Object object) {
         if (object == null) {
             return null;
@@ -18334,6 +18158,27 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Crashdump.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setCrashdumpRecordField(Crashdump.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "VM": record.VM = toVM(value); return true;
+            case "VDI": record.VDI = toVDI(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Crashdump, Crashdump.Record> CRASHDUMP_RECORD_DECODER = new RecordDecoder<Crashdump, Crashdump.Record>() {
+        Crashdump toRef(String ref) { return toCrashdump(ref); }
+        Crashdump.Record newRecord() { return new Crashdump.Record(); }
+        boolean setField(Crashdump.Record record, String field, Object value) { return setCrashdumpRecordField(record, field, value); }
+    };
+
     public static DataSource.Record toDataSourceRecord(Object object) {
         if (object == null) {
             return null;
@@ -18352,6 +18197,13 @@ public class Types
     }
 
     public static Event.Record toEventRecord(Object object) {
+        return toEventRecord(object, Event.SnapshotMode.EAGER);
+    }
+
+    /**
+     * Converts an event, decoding its snapshot as given by mode.
+     */
+    public static Event.Record toEventRecord(Object object, Event.SnapshotMode mode) {
         if (object == null) {
             return null;
         }
@@ -18364,10 +18216,20 @@ public class Types
             record.ref = toString(map.get("ref"));
             record.objUuid = toString(map.get("obj_uuid"));
 
+        switch (mode) {
+            case EAGER: record.snapshot = toEventSnapshot(record.clazz, map.get("snapshot")); break;
+            case LAZY: record.rawSnapshot = map.get("snapshot"); break;
+            default: break;
+        }
+        return record;
+    }
 
-        Object a,b;
-        a=map.get("snapshot");
-        switch(toXenAPIObjects(record.clazz))
+    /**
+     * Converts the snapshot of an event on an object of the given class into that class's Record.
+     */
+    static Object toEventSnapshot(String clazz, Object a) {
+        Object b;
+        switch(toXenAPIObjects(clazz))
         {
                 case           SESSION: b =           toSessionRecord(a); break;
                 case           SUBJECT: b =           toSubjectRecord(a); break;
@@ -18434,8 +18296,7 @@ public class Types
                 case      CLUSTER_HOST: b =       toClusterHostRecord(a); break;
                 default: throw new RuntimeException("Internal error in auto-generated code whilst unmarshalling event snapshot");
         }
-        record.snapshot = b;
-        return record;
+        return b;
     }
 
     public static Host.Record toHostRecord(Object object) {
@@ -18506,6 +18367,82 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Host.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setHostRecordField(Host.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "memory_overhead": record.memoryOverhead = toLong(value); return true;
+            case "allowed_operations": record.allowedOperations = toSetOfHostAllowedOperations(value); return true;
+            case "current_operations": record.currentOperations = toMapOfStringHostAllowedOperations(value); return true;
+            case "API_version_major": record.APIVersionMajor = toLong(value); return true;
+            case "API_version_minor": record.APIVersionMinor = toLong(value); return true;
+            case "API_version_vendor": record.APIVersionVendor = toString(value); return true;
+            case "API_version_vendor_implementation": record.APIVersionVendorImplementation = toMapOfStringString(value); return true;
+            case "enabled": record.enabled = toBoolean(value); return true;
+            case "software_version": record.softwareVersion = toMapOfStringString(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "capabilities": record.capabilities = toSetOfString(value); return true;
+            case "cpu_configuration": record.cpuConfiguration = toMapOfStringString(value); return true;
+            case "sched_policy": record.schedPolicy = toString(value); return true;
+            case "supported_bootloaders": record.supportedBootloaders = toSetOfString(value); return true;
+            case "resident_VMs": record.residentVMs = toSetOfVM(value); return true;
+            case "logging": record.logging = toMapOfStringString(value); return true;
+            case "PIFs": record.PIFs = toSetOfPIF(value); return true;
+            case "suspend_image_sr": record.suspendImageSr = toSR(value); return true;
+            case "crash_dump_sr": record.crashDumpSr = toSR(value); return true;
+            case "crashdumps": record.crashdumps = toSetOfHostCrashdump(value); return true;
+            case "patches": record.patches = toSetOfHostPatch(value); return true;
+            case "updates": record.updates = toSetOfPoolUpdate(value); return true;
+            case "PBDs": record.PBDs = toSetOfPBD(value); return true;
+            case "host_CPUs": record.hostCPUs = toSetOfHostCpu(value); return true;
+            case "cpu_info": record.cpuInfo = toMapOfStringString(value); return true;
+            case "hostname": record.hostname = toString(value); return true;
+            case "address": record.address = toString(value); return true;
+            case "metrics": record.metrics = toHostMetrics(value); return true;
+            case "license_params": record.licenseParams = toMapOfStringString(value); return true;
+            case "ha_statefiles": record.haStatefiles = toSetOfString(value); return true;
+            case "ha_network_peers": record.haNetworkPeers = toSetOfString(value); return true;
+            case "blobs": record.blobs = toMapOfStringBlob(value); return true;
+            case "tags": record.tags = toSetOfString(value); return true;
+            case "external_auth_type": record.externalAuthType = toString(value); return true;
+            case "external_auth_service_name": record.externalAuthServiceName = toString(value); return true;
+            case "external_auth_configuration": record.externalAuthConfiguration = toMapOfStringString(value); return true;
+            case "edition": record.edition = toString(value); return true;
+            case "license_server": record.licenseServer = toMapOfStringString(value); return true;
+            case "bios_strings": record.biosStrings = toMapOfStringString(value); return true;
+            case "power_on_mode": record.powerOnMode = toString(value); return true;
+            case "power_on_config": record.powerOnConfig = toMapOfStringString(value); return true;
+            case "local_cache_sr": record.localCacheSr = toSR(value); return true;
+            case "chipset_info": record.chipsetInfo = toMapOfStringString(value); return true;
+            case "PCIs": record.PCIs = toSetOfPCI(value); return true;
+            case "PGPUs": record.PGPUs = toSetOfPGPU(value); return true;
+            case "PUSBs": record.PUSBs = toSetOfPUSB(value); return true;
+            case "ssl_legacy": record.sslLegacy = toBoolean(value); return true;
+            case "guest_VCPUs_params": record.guestVCPUsParams = toMapOfStringString(value); return true;
+            case "display": record.display = toHostDisplay(value); return true;
+            case "virtual_hardware_platform_versions": record.virtualHardwarePlatformVersions = toSetOfLong(value); return true;
+            case "control_domain": record.controlDomain = toVM(value); return true;
+            case "updates_requiring_reboot": record.updatesRequiringReboot = toSetOfPoolUpdate(value); return true;
+            case "features": record.features = toSetOfFeature(value); return true;
+            case "iscsi_iqn": record.iscsiIqn = toString(value); return true;
+            case "multipathing": record.multipathing = toBoolean(value); return true;
+            case "uefi_certificates": record.uefiCertificates = toString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Host, Host.Record> HOST_RECORD_DECODER = new RecordDecoder<Host, Host.Record>() {
+        Host toRef(String ref) { return toHost(ref); }
+        Host.Record newRecord() { return new Host.Record(); }
+        boolean setField(Host.Record record, String field, Object value) { return setHostRecordField(record, field, value); }
+    };
+
     public static HostCpu.Record toHostCpuRecord(Object object) {
         if (object == null) {
             return null;
@@ -18528,6 +18465,36 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a HostCpu.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setHostCpuRecordField(HostCpu.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "host": record.host = toHost(value); return true;
+            case "number": record.number = toLong(value); return true;
+            case "vendor": record.vendor = toString(value); return true;
+            case "speed": record.speed = toLong(value); return true;
+            case "modelname": record.modelname = toString(value); return true;
+            case "family": record.family = toLong(value); return true;
+            case "model": record.model = toLong(value); return true;
+            case "stepping": record.stepping = toString(value); return true;
+            case "flags": record.flags = toString(value); return true;
+            case "features": record.features = toString(value); return true;
+            case "utilisation": record.utilisation = toDouble(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<HostCpu, HostCpu.Record> HOST_CPU_RECORD_DECODER = new RecordDecoder<HostCpu, HostCpu.Record>() {
+        HostCpu toRef(String ref) { return toHostCpu(ref); }
+        HostCpu.Record newRecord() { return new HostCpu.Record(); }
+        boolean setField(HostCpu.Record record, String field, Object value) { return setHostCpuRecordField(record, field, value); }
+    };
+
     public static HostCrashdump.Record toHostCrashdumpRecord(Object object) {
         if (object == null) {
             return null;
@@ -18542,6 +18509,28 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a HostCrashdump.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setHostCrashdumpRecordField(HostCrashdump.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "host": record.host = toHost(value); return true;
+            case "timestamp": record.timestamp = toDate(value); return true;
+            case "size": record.size = toLong(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<HostCrashdump, HostCrashdump.Record> HOST_CRASHDUMP_RECORD_DECODER = new RecordDecoder<HostCrashdump, HostCrashdump.Record>() {
+        HostCrashdump toRef(String ref) { return toHostCrashdump(ref); }
+        HostCrashdump.Record newRecord() { return new HostCrashdump.Record(); }
+        boolean setField(HostCrashdump.Record record, String field, Object value) { return setHostCrashdumpRecordField(record, field, value); }
+    };
+
     public static HostMetrics.Record toHostMetricsRecord(Object object) {
         if (object == null) {
             return null;
@@ -18557,6 +18546,29 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a HostMetrics.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setHostMetricsRecordField(HostMetrics.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "memory_total": record.memoryTotal = toLong(value); return true;
+            case "memory_free": record.memoryFree = toLong(value); return true;
+            case "live": record.live = toBoolean(value); return true;
+            case "last_updated": record.lastUpdated = toDate(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<HostMetrics, HostMetrics.Record> HOST_METRICS_RECORD_DECODER = new RecordDecoder<HostMetrics, HostMetrics.Record>() {
+        HostMetrics toRef(String ref) { return toHostMetrics(ref); }
+        HostMetrics.Record newRecord() { return new HostMetrics.Record(); }
+        boolean setField(HostMetrics.Record record, String field, Object value) { return setHostMetricsRecordField(record, field, value); }
+    };
+
     public static HostPatch.Record toHostPatchRecord(Object object) {
         if (object == null) {
             return null;
@@ -18576,6 +18588,33 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a HostPatch.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setHostPatchRecordField(HostPatch.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "version": record.version = toString(value); return true;
+            case "host": record.host = toHost(value); return true;
+            case "applied": record.applied = toBoolean(value); return true;
+            case "timestamp_applied": record.timestampApplied = toDate(value); return true;
+            case "size": record.size = toLong(value); return true;
+            case "pool_patch": record.poolPatch = toPoolPatch(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<HostPatch, HostPatch.Record> HOST_PATCH_RECORD_DECODER = new RecordDecoder<HostPatch, HostPatch.Record>() {
+        HostPatch toRef(String ref) { return toHostPatch(ref); }
+        HostPatch.Record newRecord() { return new HostPatch.Record(); }
+        boolean setField(HostPatch.Record record, String field, Object value) { return setHostPatchRecordField(record, field, value); }
+    };
+
     public static Message.Record toMessageRecord(Object object) {
         if (object == null) {
             return null;
@@ -18592,6 +18631,30 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Message.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setMessageRecordField(Message.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name": record.name = toString(value); return true;
+            case "priority": record.priority = toLong(value); return true;
+            case "cls": record.cls = toCls(value); return true;
+            case "obj_uuid": record.objUuid = toString(value); return true;
+            case "timestamp": record.timestamp = toDate(value); return true;
+            case "body": record.body = toString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Message, Message.Record> MESSAGE_RECORD_DECODER = new RecordDecoder<Message, Message.Record>() {
+        Message toRef(String ref) { return toMessage(ref); }
+        Message.Record newRecord() { return new Message.Record(); }
+        boolean setField(Message.Record record, String field, Object value) { return setMessageRecordField(record, field, value); }
+    };
+
     public static Network.Record toNetworkRecord(Object object) {
         if (object == null) {
             return null;
@@ -18617,6 +18680,39 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Network.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setNetworkRecordField(Network.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "allowed_operations": record.allowedOperations = toSetOfNetworkOperations(value); return true;
+            case "current_operations": record.currentOperations = toMapOfStringNetworkOperations(value); return true;
+            case "VIFs": record.VIFs = toSetOfVIF(value); return true;
+            case "PIFs": record.PIFs = toSetOfPIF(value); return true;
+            case "MTU": record.MTU = toLong(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "bridge": record.bridge = toString(value); return true;
+            case "managed": record.managed = toBoolean(value); return true;
+            case "blobs": record.blobs = toMapOfStringBlob(value); return true;
+            case "tags": record.tags = toSetOfString(value); return true;
+            case "default_locking_mode": record.defaultLockingMode = toNetworkDefaultLockingMode(value); return true;
+            case "assigned_ips": record.assignedIps = toMapOfVIFString(value); return true;
+            case "purpose": record.purpose = toSetOfNetworkPurpose(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Network, Network.Record> NETWORK_RECORD_DECODER = new RecordDecoder<Network, Network.Record>() {
+        Network toRef(String ref) { return toNetwork(ref); }
+        Network.Record newRecord() { return new Network.Record(); }
+        boolean setField(Network.Record record, String field, Object value) { return setNetworkRecordField(record, field, value); }
+    };
+
     public static NetworkSriov.Record toNetworkSriovRecord(Object object) {
         if (object == null) {
             return null;
@@ -18631,6 +18727,28 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a NetworkSriov.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setNetworkSriovRecordField(NetworkSriov.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "physical_PIF": record.physicalPIF = toPIF(value); return true;
+            case "logical_PIF": record.logicalPIF = toPIF(value); return true;
+            case "requires_reboot": record.requiresReboot = toBoolean(value); return true;
+            case "configuration_mode": record.configurationMode = toSriovConfigurationMode(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<NetworkSriov, NetworkSriov.Record> NETWORK_SRIOV_RECORD_DECODER = new RecordDecoder<NetworkSriov, NetworkSriov.Record>() {
+        NetworkSriov toRef(String ref) { return toNetworkSriov(ref); }
+        NetworkSriov.Record newRecord() { return new NetworkSriov.Record(); }
+        boolean setField(NetworkSriov.Record record, String field, Object value) { return setNetworkSriovRecordField(record, field, value); }
+    };
+
     public static Pool.Record toPoolRecord(Object object) {
         if (object == null) {
             return null;
@@ -18677,6 +18795,60 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Pool.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setPoolRecordField(Pool.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "master": record.master = toHost(value); return true;
+            case "default_SR": record.defaultSR = toSR(value); return true;
+            case "suspend_image_SR": record.suspendImageSR = toSR(value); return true;
+            case "crash_dump_SR": record.crashDumpSR = toSR(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "ha_enabled": record.haEnabled = toBoolean(value); return true;
+            case "ha_configuration": record.haConfiguration = toMapOfStringString(value); return true;
+            case "ha_statefiles": record.haStatefiles = toSetOfString(value); return true;
+            case "ha_host_failures_to_tolerate": record.haHostFailuresToTolerate = toLong(value); return true;
+            case "ha_plan_exists_for": record.haPlanExistsFor = toLong(value); return true;
+            case "ha_allow_overcommit": record.haAllowOvercommit = toBoolean(value); return true;
+            case "ha_overcommitted": record.haOvercommitted = toBoolean(value); return true;
+            case "blobs": record.blobs = toMapOfStringBlob(value); return true;
+            case "tags": record.tags = toSetOfString(value); return true;
+            case "gui_config": record.guiConfig = toMapOfStringString(value); return true;
+            case "health_check_config": record.healthCheckConfig = toMapOfStringString(value); return true;
+            case "wlb_url": record.wlbUrl = toString(value); return true;
+            case "wlb_username": record.wlbUsername = toString(value); return true;
+            case "wlb_enabled": record.wlbEnabled = toBoolean(value); return true;
+            case "wlb_verify_cert": record.wlbVerifyCert = toBoolean(value); return true;
+            case "redo_log_enabled": record.redoLogEnabled = toBoolean(value); return true;
+            case "redo_log_vdi": record.redoLogVdi = toVDI(value); return true;
+            case "vswitch_controller": record.vswitchController = toString(value); return true;
+            case "restrictions": record.restrictions = toMapOfStringString(value); return true;
+            case "metadata_VDIs": record.metadataVDIs = toSetOfVDI(value); return true;
+            case "ha_cluster_stack": record.haClusterStack = toString(value); return true;
+            case "allowed_operations": record.allowedOperations = toSetOfPoolAllowedOperations(value); return true;
+            case "current_operations": record.currentOperations = toMapOfStringPoolAllowedOperations(value); return true;
+            case "guest_agent_config": record.guestAgentConfig = toMapOfStringString(value); return true;
+            case "cpu_info": record.cpuInfo = toMapOfStringString(value); return true;
+            case "policy_no_vendor_device": record.policyNoVendorDevice = toBoolean(value); return true;
+            case "live_patching_disabled": record.livePatchingDisabled = toBoolean(value); return true;
+            case "igmp_snooping_enabled": record.igmpSnoopingEnabled = toBoolean(value); return true;
+            case "uefi_certificates": record.uefiCertificates = toString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Pool, Pool.Record> POOL_RECORD_DECODER = new RecordDecoder<Pool, Pool.Record>() {
+        Pool toRef(String ref) { return toPool(ref); }
+        Pool.Record newRecord() { return new Pool.Record(); }
+        boolean setField(Pool.Record record, String field, Object value) { return setPoolRecordField(record, field, value); }
+    };
+
     public static PoolPatch.Record toPoolPatchRecord(Object object) {
         if (object == null) {
             return null;
@@ -18696,6 +18868,33 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a PoolPatch.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setPoolPatchRecordField(PoolPatch.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "version": record.version = toString(value); return true;
+            case "size": record.size = toLong(value); return true;
+            case "pool_applied": record.poolApplied = toBoolean(value); return true;
+            case "host_patches": record.hostPatches = toSetOfHostPatch(value); return true;
+            case "after_apply_guidance": record.afterApplyGuidance = toSetOfAfterApplyGuidance(value); return true;
+            case "pool_update": record.poolUpdate = toPoolUpdate(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<PoolPatch, PoolPatch.Record> POOL_PATCH_RECORD_DECODER = new RecordDecoder<PoolPatch, PoolPatch.Record>() {
+        PoolPatch toRef(String ref) { return toPoolPatch(ref); }
+        PoolPatch.Record newRecord() { return new PoolPatch.Record(); }
+        boolean setField(PoolPatch.Record record, String field, Object value) { return setPoolPatchRecordField(record, field, value); }
+    };
+
     public static PoolUpdate.Record toPoolUpdateRecord(Object object) {
         if (object == null) {
             return null;
@@ -18716,6 +18915,34 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a PoolUpdate.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setPoolUpdateRecordField(PoolUpdate.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "version": record.version = toString(value); return true;
+            case "installation_size": record.installationSize = toLong(value); return true;
+            case "key": record.key = toString(value); return true;
+            case "after_apply_guidance": record.afterApplyGuidance = toSetOfUpdateAfterApplyGuidance(value); return true;
+            case "vdi": record.vdi = toVDI(value); return true;
+            case "hosts": record.hosts = toSetOfHost(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "enforce_homogeneity": record.enforceHomogeneity = toBoolean(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<PoolUpdate, PoolUpdate.Record> POOL_UPDATE_RECORD_DECODER = new RecordDecoder<PoolUpdate, PoolUpdate.Record>() {
+        PoolUpdate toRef(String ref) { return toPoolUpdate(ref); }
+        PoolUpdate.Record newRecord() { return new PoolUpdate.Record(); }
+        boolean setField(PoolUpdate.Record record, String field, Object value) { return setPoolUpdateRecordField(record, field, value); }
+    };
+
     public static ProbeResult.Record toProbeResultRecord(Object object) {
         if (object == null) {
             return null;
@@ -18742,6 +18969,27 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Role.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setRoleRecordField(Role.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "subroles": record.subroles = toSetOfRole(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Role, Role.Record> ROLE_RECORD_DECODER = new RecordDecoder<Role, Role.Record>() {
+        Role toRef(String ref) { return toRole(ref); }
+        Role.Record newRecord() { return new Role.Record(); }
+        boolean setField(Role.Record record, String field, Object value) { return setRoleRecordField(record, field, value); }
+    };
+
     public static Secret.Record toSecretRecord(Object object) {
         if (object == null) {
             return null;
@@ -18754,6 +19002,26 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Secret.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setSecretRecordField(Secret.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "value": record.value = toString(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Secret, Secret.Record> SECRET_RECORD_DECODER = new RecordDecoder<Secret, Secret.Record>() {
+        Secret toRef(String ref) { return toSecret(ref); }
+        Secret.Record newRecord() { return new Secret.Record(); }
+        boolean setField(Secret.Record record, String field, Object value) { return setSecretRecordField(record, field, value); }
+    };
+
     public static Session.Record toSessionRecord(Object object) {
         if (object == null) {
             return null;
@@ -18778,6 +19046,38 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Session.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setSessionRecordField(Session.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "this_host": record.thisHost = toHost(value); return true;
+            case "this_user": record.thisUser = toUser(value); return true;
+            case "last_active": record.lastActive = toDate(value); return true;
+            case "pool": record.pool = toBoolean(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "is_local_superuser": record.isLocalSuperuser = toBoolean(value); return true;
+            case "subject": record.subject = toSubject(value); return true;
+            case "validation_time": record.validationTime = toDate(value); return true;
+            case "auth_user_sid": record.authUserSid = toString(value); return true;
+            case "auth_user_name": record.authUserName = toString(value); return true;
+            case "rbac_permissions": record.rbacPermissions = toSetOfString(value); return true;
+            case "tasks": record.tasks = toSetOfTask(value); return true;
+            case "parent": record.parent = toSession(value); return true;
+            case "originator": record.originator = toString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Session, Session.Record> SESSION_RECORD_DECODER = new RecordDecoder<Session, Session.Record>() {
+        Session toRef(String ref) { return toSession(ref); }
+        Session.Record newRecord() { return new Session.Record(); }
+        boolean setField(Session.Record record, String field, Object value) { return setSessionRecordField(record, field, value); }
+    };
+
     public static SrStat.Record toSrStatRecord(Object object) {
         if (object == null) {
             return null;
@@ -18807,6 +19107,27 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Subject.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setSubjectRecordField(Subject.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "subject_identifier": record.subjectIdentifier = toString(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "roles": record.roles = toSetOfRole(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Subject, Subject.Record> SUBJECT_RECORD_DECODER = new RecordDecoder<Subject, Subject.Record>() {
+        Subject toRef(String ref) { return toSubject(ref); }
+        Subject.Record newRecord() { return new Subject.Record(); }
+        boolean setField(Subject.Record record, String field, Object value) { return setSubjectRecordField(record, field, value); }
+    };
+
     public static Task.Record toTaskRecord(Object object) {
         if (object == null) {
             return null;
@@ -18833,6 +19154,40 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Task.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setTaskRecordField(Task.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "name_label": record.nameLabel = toString(value); return true;
+            case "name_description": record.nameDescription = toString(value); return true;
+            case "allowed_operations": record.allowedOperations = toSetOfTaskAllowedOperations(value); return true;
+            case "current_operations": record.currentOperations = toMapOfStringTaskAllowedOperations(value); return true;
+            case "created": record.created = toDate(value); return true;
+            case "finished": record.finished = toDate(value); return true;
+            case "status": record.status = toTaskStatusType(value); return true;
+            case "resident_on": record.residentOn = toHost(value); return true;
+            case "progress": record.progress = toDouble(value); return true;
+            case "type": record.type = toString(value); return true;
+            case "result": record.result = toString(value); return true;
+            case "error_info": record.errorInfo = toSetOfString(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            case "subtask_of": record.subtaskOf = toTask(value); return true;
+            case "subtasks": record.subtasks = toSetOfTask(value); return true;
+            case "backtrace": record.backtrace = toString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Task, Task.Record> TASK_RECORD_DECODER = new RecordDecoder<Task, Task.Record>() {
+        Task toRef(String ref) { return toTask(ref); }
+        Task.Record newRecord() { return new Task.Record(); }
+        boolean setField(Task.Record record, String field, Object value) { return setTaskRecordField(record, field, value); }
+    };
+
     public static Tunnel.Record toTunnelRecord(Object object) {
         if (object == null) {
             return null;
@@ -18847,6 +19202,28 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a Tunnel.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setTunnelRecordField(Tunnel.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "access_PIF": record.accessPIF = toPIF(value); return true;
+            case "transport_PIF": record.transportPIF = toPIF(value); return true;
+            case "status": record.status = toMapOfStringString(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<Tunnel, Tunnel.Record> TUNNEL_RECORD_DECODER = new RecordDecoder<Tunnel, Tunnel.Record>() {
+        Tunnel toRef(String ref) { return toTunnel(ref); }
+        Tunnel.Record newRecord() { return new Tunnel.Record(); }
+        boolean setField(Tunnel.Record record, String field, Object value) { return setTunnelRecordField(record, field, value); }
+    };
+
     public static User.Record toUserRecord(Object object) {
         if (object == null) {
             return null;
@@ -18860,6 +19237,27 @@ public class Types
         return record;
     }
 
+    /**
+     * Decodes one field of a User.Record from its xml-rpc value.
+     *
+     * @return false if there is no such field
+     */
+    static boolean setUserRecordField(User.Record record, String field, Object value) {
+        switch (field) {
+            case "uuid": record.uuid = toString(value); return true;
+            case "short_name": record.shortName = toString(value); return true;
+            case "fullname": record.fullname = toString(value); return true;
+            case "other_config": record.otherConfig = toMapOfStringString(value); return true;
+            default: return false;
+        }
+    }
+
+    static final RecordDecoder<User, User.Record> USER_RECORD_DECODER = new RecordDecoder<User, User.Record>() {
+        User toRef(String ref) { return toUser(ref); }
+        User.Record newRecord() { return new User.Record(); }
+        boolean setField(User.Record record, String field, Object value) { return setUserRecordField(record, field, value); }
+    };
+
     public static VdiNbdServerInfo.Record toVdiNbdServerInfoRecord(Object object) {
         if (object == null) {
             return null;
@@ -18879,236 +19277,472 @@ public class Types
         return Types.toBond(parseResult(task.getResult(connection)));
     }
 
+    public static Bond toBond(Task.Record record) throws BadAsyncResult{
+        return Types.toBond(parseResult(record));
+    }
+
     public static Cluster toCluster(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toCluster(parseResult(task.getResult(connection)));
     }
 
+    public static Cluster toCluster(Task.Record record) throws BadAsyncResult{
+        return Types.toCluster(parseResult(record));
+    }
+
     public static ClusterHost toClusterHost(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toClusterHost(parseResult(task.getResult(connection)));
     }
 
+    public static ClusterHost toClusterHost(Task.Record record) throws BadAsyncResult{
+        return Types.toClusterHost(parseResult(record));
+    }
+
     public static DRTask toDRTask(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toDRTask(parseResult(task.getResult(connection)));
     }
 
+    public static DRTask toDRTask(Task.Record record) throws BadAsyncResult{
+        return Types.toDRTask(parseResult(record));
+    }
+
     public static Feature toFeature(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toFeature(parseResult(task.getResult(connection)));
     }
 
+    public static Feature toFeature(Task.Record record) throws BadAsyncResult{
+        return Types.toFeature(parseResult(record));
+    }
+
     public static GPUGroup toGPUGroup(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toGPUGroup(parseResult(task.getResult(connection)));
     }
 
+    public static GPUGroup toGPUGroup(Task.Record record) throws BadAsyncResult{
+        return Types.toGPUGroup(parseResult(record));
+    }
+
     public static LVHD toLVHD(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toLVHD(parseResult(task.getResult(connection)));
     }
 
+    public static LVHD toLVHD(Task.Record record) throws BadAsyncResult{
+        return Types.toLVHD(parseResult(record));
+    }
+
     public static PBD toPBD(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toPBD(parseResult(task.getResult(connection)));
     }
 
+    public static PBD toPBD(Task.Record record) throws BadAsyncResult{
+        return Types.toPBD(parseResult(record));
+    }
+
     public static PCI toPCI(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toPCI(parseResult(task.getResult(connection)));
     }
 
+    public static PCI toPCI(Task.Record record) throws BadAsyncResult{
+        return Types.toPCI(parseResult(record));
+    }
+
     public static PGPU toPGPU(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toPGPU(parseResult(task.getResult(connection)));
     }
 
+    public static PGPU toPGPU(Task.Record record) throws BadAsyncResult{
+        return Types.toPGPU(parseResult(record));
+    }
+
     public static PIF toPIF(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toPIF(parseResult(task.getResult(connection)));
     }
 
+    public static PIF toPIF(Task.Record record) throws BadAsyncResult{
+        return Types.toPIF(parseResult(record));
+    }
+
     public static PIFMetrics toPIFMetrics(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toPIFMetrics(parseResult(task.getResult(connection)));
     }
 
+    public static PIFMetrics toPIFMetrics(Task.Record record) throws BadAsyncResult{
+        return Types.toPIFMetrics(parseResult(record));
+    }
+
     public static PUSB toPUSB(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toPUSB(parseResult(task.getResult(connection)));
     }
 
+    public static PUSB toPUSB(Task.Record record) throws BadAsyncResult{
+        return Types.toPUSB(parseResult(record));
+    }
+
     public static PVSCacheStorage toPVSCacheStorage(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toPVSCacheStorage(parseResult(task.getResult(connection)));
     }
 
+    public static PVSCacheStorage toPVSCacheStorage(Task.Record record) throws BadAsyncResult{
+        return Types.toPVSCacheStorage(parseResult(record));
+    }
+
     public static PVSProxy toPVSProxy(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toPVSProxy(parseResult(task.getResult(connection)));
     }
 
+    public static PVSProxy toPVSProxy(Task.Record record) throws BadAsyncResult{
+        return Types.toPVSProxy(parseResult(record));
+    }
+
     public static PVSServer toPVSServer(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toPVSServer(parseResult(task.getResult(connection)));
     }
 
+    public static PVSServer toPVSServer(Task.Record record) throws BadAsyncResult{
+        return Types.toPVSServer(parseResult(record));
+    }
+
     public static PVSSite toPVSSite(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toPVSSite(parseResult(task.getResult(connection)));
     }
 
+    public static PVSSite toPVSSite(Task.Record record) throws BadAsyncResult{
+        return Types.toPVSSite(parseResult(record));
+    }
+
     public static SDNController toSDNController(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toSDNController(parseResult(task.getResult(connection)));
     }
 
+    public static SDNController toSDNController(Task.Record record) throws BadAsyncResult{
+        return Types.toSDNController(parseResult(record));
+    }
+
     public static SM toSM(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toSM(parseResult(task.getResult(connection)));
     }
 
+    public static SM toSM(Task.Record record) throws BadAsyncResult{
+        return Types.toSM(parseResult(record));
+    }
+
     public static SR toSR(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toSR(parseResult(task.getResult(connection)));
     }
 
+    public static SR toSR(Task.Record record) throws BadAsyncResult{
+        return Types.toSR(parseResult(record));
+    }
+
     public static USBGroup toUSBGroup(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toUSBGroup(parseResult(task.getResult(connection)));
     }
 
+    public static USBGroup toUSBGroup(Task.Record record) throws BadAsyncResult{
+        return Types.toUSBGroup(parseResult(record));
+    }
+
     public static VBD toVBD(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVBD(parseResult(task.getResult(connection)));
     }
 
+    public static VBD toVBD(Task.Record record) throws BadAsyncResult{
+        return Types.toVBD(parseResult(record));
+    }
+
     public static VBDMetrics toVBDMetrics(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVBDMetrics(parseResult(task.getResult(connection)));
     }
 
+    public static VBDMetrics toVBDMetrics(Task.Record record) throws BadAsyncResult{
+        return Types.toVBDMetrics(parseResult(record));
+    }
+
     public static VDI toVDI(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVDI(parseResult(task.getResult(connection)));
     }
 
+    public static VDI toVDI(Task.Record record) throws BadAsyncResult{
+        return Types.toVDI(parseResult(record));
+    }
+
     public static VGPU toVGPU(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVGPU(parseResult(task.getResult(connection)));
     }
 
+    public static VGPU toVGPU(Task.Record record) throws BadAsyncResult{
+        return Types.toVGPU(parseResult(record));
+    }
+
     public static VGPUType toVGPUType(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVGPUType(parseResult(task.getResult(connection)));
     }
 
+    public static VGPUType toVGPUType(Task.Record record) throws BadAsyncResult{
+        return Types.toVGPUType(parseResult(record));
+    }
+
     public static VIF toVIF(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVIF(parseResult(task.getResult(connection)));
     }
 
+    public static VIF toVIF(Task.Record record) throws BadAsyncResult{
+        return Types.toVIF(parseResult(record));
+    }
+
     public static VIFMetrics toVIFMetrics(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVIFMetrics(parseResult(task.getResult(connection)));
     }
 
+    public static VIFMetrics toVIFMetrics(Task.Record record) throws BadAsyncResult{
+        return Types.toVIFMetrics(parseResult(record));
+    }
+
     public static VLAN toVLAN(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVLAN(parseResult(task.getResult(connection)));
     }
 
+    public static VLAN toVLAN(Task.Record record) throws BadAsyncResult{
+        return Types.toVLAN(parseResult(record));
+    }
+
     public static VM toVM(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVM(parseResult(task.getResult(connection)));
     }
 
+    public static VM toVM(Task.Record record) throws BadAsyncResult{
+        return Types.toVM(parseResult(record));
+    }
+
     public static VMPP toVMPP(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVMPP(parseResult(task.getResult(connection)));
     }
 
+    public static VMPP toVMPP(Task.Record record) throws BadAsyncResult{
+        return Types.toVMPP(parseResult(record));
+    }
+
     public static VMSS toVMSS(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVMSS(parseResult(task.getResult(connection)));
     }
 
+    public static VMSS toVMSS(Task.Record record) throws BadAsyncResult{
+        return Types.toVMSS(parseResult(record));
+    }
+
     public static VMAppliance toVMAppliance(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVMAppliance(parseResult(task.getResult(connection)));
     }
 
+    public static VMAppliance toVMAppliance(Task.Record record) throws BadAsyncResult{
+        return Types.toVMAppliance(parseResult(record));
+    }
+
     public static VMGuestMetrics toVMGuestMetrics(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVMGuestMetrics(parseResult(task.getResult(connection)));
     }
 
+    public static VMGuestMetrics toVMGuestMetrics(Task.Record record) throws BadAsyncResult{
+        return Types.toVMGuestMetrics(parseResult(record));
+    }
+
     public static VMMetrics toVMMetrics(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVMMetrics(parseResult(task.getResult(connection)));
     }
 
+    public static VMMetrics toVMMetrics(Task.Record record) throws BadAsyncResult{
+        return Types.toVMMetrics(parseResult(record));
+    }
+
     public static VTPM toVTPM(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVTPM(parseResult(task.getResult(connection)));
     }
 
+    public static VTPM toVTPM(Task.Record record) throws BadAsyncResult{
+        return Types.toVTPM(parseResult(record));
+    }
+
     public static VUSB toVUSB(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toVUSB(parseResult(task.getResult(connection)));
     }
 
+    public static VUSB toVUSB(Task.Record record) throws BadAsyncResult{
+        return Types.toVUSB(parseResult(record));
+    }
+
     public static Blob toBlob(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toBlob(parseResult(task.getResult(connection)));
     }
 
+    public static Blob toBlob(Task.Record record) throws BadAsyncResult{
+        return Types.toBlob(parseResult(record));
+    }
+
     public static Console toConsole(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toConsole(parseResult(task.getResult(connection)));
     }
 
+    public static Console toConsole(Task.Record record) throws BadAsyncResult{
+        return Types.toConsole(parseResult(record));
+    }
+
     public static Crashdump toCrashdump(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toCrashdump(parseResult(task.getResult(connection)));
     }
 
+    public static Crashdump toCrashdump(Task.Record record) throws BadAsyncResult{
+        return Types.toCrashdump(parseResult(record));
+    }
+
     public static Host toHost(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toHost(parseResult(task.getResult(connection)));
     }
 
+    public static Host toHost(Task.Record record) throws BadAsyncResult{
+        return Types.toHost(parseResult(record));
+    }
+
     public static HostCpu toHostCpu(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toHostCpu(parseResult(task.getResult(connection)));
     }
 
+    public static HostCpu toHostCpu(Task.Record record) throws BadAsyncResult{
+        return Types.toHostCpu(parseResult(record));
+    }
+
     public static HostCrashdump toHostCrashdump(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toHostCrashdump(parseResult(task.getResult(connection)));
     }
 
+    public static HostCrashdump toHostCrashdump(Task.Record record) throws BadAsyncResult{
+        return Types.toHostCrashdump(parseResult(record));
+    }
+
     public static HostMetrics toHostMetrics(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toHostMetrics(parseResult(task.getResult(connection)));
     }
 
+    public static HostMetrics toHostMetrics(Task.Record record) throws BadAsyncResult{
+        return Types.toHostMetrics(parseResult(record));
+    }
+
     public static HostPatch toHostPatch(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toHostPatch(parseResult(task.getResult(connection)));
     }
 
+    public static HostPatch toHostPatch(Task.Record record) throws BadAsyncResult{
+        return Types.toHostPatch(parseResult(record));
+    }
+
     public static Message toMessage(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toMessage(parseResult(task.getResult(connection)));
     }
 
+    public static Message toMessage(Task.Record record) throws BadAsyncResult{
+        return Types.toMessage(parseResult(record));
+    }
+
     public static Network toNetwork(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toNetwork(parseResult(task.getResult(connection)));
     }
 
+    public static Network toNetwork(Task.Record record) throws BadAsyncResult{
+        return Types.toNetwork(parseResult(record));
+    }
+
     public static NetworkSriov toNetworkSriov(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toNetworkSriov(parseResult(task.getResult(connection)));
     }
 
+    public static NetworkSriov toNetworkSriov(Task.Record record) throws BadAsyncResult{
+        return Types.toNetworkSriov(parseResult(record));
+    }
+
     public static Pool toPool(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toPool(parseResult(task.getResult(connection)));
     }
 
+    public static Pool toPool(Task.Record record) throws BadAsyncResult{
+        return Types.toPool(parseResult(record));
+    }
+
     public static PoolPatch toPoolPatch(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toPoolPatch(parseResult(task.getResult(connection)));
     }
 
+    public static PoolPatch toPoolPatch(Task.Record record) throws BadAsyncResult{
+        return Types.toPoolPatch(parseResult(record));
+    }
+
     public static PoolUpdate toPoolUpdate(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toPoolUpdate(parseResult(task.getResult(connection)));
     }
 
+    public static PoolUpdate toPoolUpdate(Task.Record record) throws BadAsyncResult{
+        return Types.toPoolUpdate(parseResult(record));
+    }
+
     public static Role toRole(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toRole(parseResult(task.getResult(connection)));
     }
 
+    public static Role toRole(Task.Record record) throws BadAsyncResult{
+        return Types.toRole(parseResult(record));
+    }
+
     public static Secret toSecret(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toSecret(parseResult(task.getResult(connection)));
     }
 
+    public static Secret toSecret(Task.Record record) throws BadAsyncResult{
+        return Types.toSecret(parseResult(record));
+    }
+
     public static Session toSession(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toSession(parseResult(task.getResult(connection)));
     }
 
+    public static Session toSession(Task.Record record) throws BadAsyncResult{
+        return Types.toSession(parseResult(record));
+    }
+
     public static Subject toSubject(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toSubject(parseResult(task.getResult(connection)));
     }
 
+    public static Subject toSubject(Task.Record record) throws BadAsyncResult{
+        return Types.toSubject(parseResult(record));
+    }
+
     public static Task toTask(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toTask(parseResult(task.getResult(connection)));
     }
 
+    public static Task toTask(Task.Record record) throws BadAsyncResult{
+        return Types.toTask(parseResult(record));
+    }
+
     public static Tunnel toTunnel(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toTunnel(parseResult(task.getResult(connection)));
     }
 
+    public static Tunnel toTunnel(Task.Record record) throws BadAsyncResult{
+        return Types.toTunnel(parseResult(record));
+    }
+
     public static User toUser(Task task, Connection connection) throws XenAPIException, BadServerResponse, XmlRpcException, BadAsyncResult{
         return Types.toUser(parseResult(task.getResult(connection)));
     }
 
+    public static User toUser(Task.Record record) throws BadAsyncResult{
+        return Types.toUser(parseResult(record));
+    }
+
 
         public static EventBatch toEventBatch(Object object) {
+        return toEventBatch(object, Event.SnapshotMode.EAGER);
+    }
+
+    public static EventBatch toEventBatch(Object object, Event.SnapshotMode mode) {
         if (object == null) {
             return null;
         }
@@ -19117,6 +19751,6 @@ public class Types
         EventBatch batch = new EventBatch();
         batch.token = toString(map.get("token"));
         batch.validRefCounts = map.get("valid_ref_counts");
-        batch.events = toSetOfEventRecord(map.get("events"));
+        batch.events = toSetOfEventRecord(map.get("events"), mode);
         return batch;
     }}
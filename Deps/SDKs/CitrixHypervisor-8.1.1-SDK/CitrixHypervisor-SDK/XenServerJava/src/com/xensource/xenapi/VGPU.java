@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -192,6 +193,74 @@ public class VGPU extends XenAPIObject {
         public PCI PCI;
     }
 
+    /**
+     * The fields of a VGPU.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * VM that owns the vGPU
+         */
+        VM("VM"),
+        /**
+         * GPU group used by the vGPU
+         */
+        GPU_GROUP("GPU_group"),
+        /**
+         * Order in which the devices are plugged into the VM
+         */
+        DEVICE("device"),
+        /**
+         * Reflects whether the virtual device is currently connected to a physical device
+         */
+        CURRENTLY_ATTACHED("currently_attached"),
+        /**
+         * Additional configuration
+         */
+        OTHER_CONFIG("other_config"),
+        /**
+         * Preset type for this VGPU
+         */
+        TYPE("type"),
+        /**
+         * The PGPU on which this VGPU is running
+         */
+        RESIDENT_ON("resident_on"),
+        /**
+         * The PGPU on which this VGPU is scheduled to run
+         */
+        SCHEDULED_TO_BE_RESIDENT_ON("scheduled_to_be_resident_on"),
+        /**
+         * VGPU metadata to determine whether a VGPU can migrate between two PGPUs
+         */
+        COMPATIBILITY_METADATA("compatibility_metadata"),
+        /**
+         * Extra arguments for vGPU and passed to demu
+         */
+        EXTRA_ARGS("extra_args"),
+        /**
+         * Device passed trough to VM, either as full device or SR-IOV virtual function
+         */
+        PCI("PCI");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given VGPU.
      * First published in XenServer 6.0.
@@ -207,7 +276,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVGPURecord(result);
+            return c.decoded(method_call, Types.toVGPURecord(result));
     }
 
     /**
@@ -226,7 +295,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVGPU(result);
+            return c.decoded(method_call, Types.toVGPU(result));
     }
 
     /**
@@ -244,7 +313,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -262,7 +331,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVM(result);
+            return c.decoded(method_call, Types.toVM(result));
     }
 
     /**
@@ -280,7 +349,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toGPUGroup(result);
+            return c.decoded(method_call, Types.toGPUGroup(result));
     }
 
     /**
@@ -298,7 +367,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -316,7 +385,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -334,7 +403,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -352,7 +421,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVGPUType(result);
+            return c.decoded(method_call, Types.toVGPUType(result));
     }
 
     /**
@@ -370,7 +439,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPGPU(result);
+            return c.decoded(method_call, Types.toPGPU(result));
     }
 
     /**
@@ -388,7 +457,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPGPU(result);
+            return c.decoded(method_call, Types.toPGPU(result));
     }
 
     /**
@@ -406,7 +475,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -424,7 +493,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -442,7 +511,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toPCI(result);
+            return c.decoded(method_call, Types.toPCI(result));
     }
 
     /**
@@ -533,7 +602,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(VM), Marshalling.toXMLRPC(GPUGroup), Marshalling.toXMLRPC(device), Marshalling.toXMLRPC(otherConfig)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -555,7 +624,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(VM), Marshalling.toXMLRPC(GPUGroup), Marshalling.toXMLRPC(device), Marshalling.toXMLRPC(otherConfig)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVGPU(result);
+            return c.decoded(method_call, Types.toVGPU(result));
     }
 
     /**
@@ -578,7 +647,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(VM), Marshalling.toXMLRPC(GPUGroup), Marshalling.toXMLRPC(device), Marshalling.toXMLRPC(otherConfig), Marshalling.toXMLRPC(type)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -601,7 +670,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(VM), Marshalling.toXMLRPC(GPUGroup), Marshalling.toXMLRPC(device), Marshalling.toXMLRPC(otherConfig), Marshalling.toXMLRPC(type)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVGPU(result);
+            return c.decoded(method_call, Types.toVGPU(result));
     }
 
     /**
@@ -619,7 +688,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -653,7 +722,7 @@ public class VGPU extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVGPU(result);
+            return c.decoded(method_call, Types.toSetOfVGPU(result));
     }
 
     /**
@@ -669,9 +738,78 @@ public class VGPU extends XenAPIObject {
         String method_call = "VGPU.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfVGPUVGPURecord(result);
+        return c.readAllRecords(method_call, method_params, Types.VGPU_RECORD_DECODER);
+    }
+
+    /**
+     * Return all VGPUs known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 6.0.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<VGPU, VGPU.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VGPU.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.VGPU_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all VGPUs known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 6.0.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<VGPU, VGPU.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VGPU.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.VGPU_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all VGPUs known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 6.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(VGPU.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<VGPU, VGPU.Record> getAllRecordsWithFields(Connection c, Set<VGPU.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VGPU.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.VGPU_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all VGPUs known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 6.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(VGPU.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<VGPU, VGPU.Record>> streamAllRecordsWithFields(Connection c, Set<VGPU.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VGPU.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.VGPU_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
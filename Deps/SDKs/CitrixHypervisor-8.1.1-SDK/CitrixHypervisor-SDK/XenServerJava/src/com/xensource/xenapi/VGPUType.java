@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -218,6 +219,90 @@ public class VGPUType extends XenAPIObject {
         public Set<VGPUType> compatibleTypesInVm;
     }
 
+    /**
+     * The fields of a VGPUType.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * Name of VGPU vendor
+         */
+        VENDOR_NAME("vendor_name"),
+        /**
+         * Model name associated with the VGPU type
+         */
+        MODEL_NAME("model_name"),
+        /**
+         * Framebuffer size of the VGPU type, in bytes
+         */
+        FRAMEBUFFER_SIZE("framebuffer_size"),
+        /**
+         * Maximum number of displays supported by the VGPU type
+         */
+        MAX_HEADS("max_heads"),
+        /**
+         * Maximum resolution (width) supported by the VGPU type
+         */
+        MAX_RESOLUTION_X("max_resolution_x"),
+        /**
+         * Maximum resolution (height) supported by the VGPU type
+         */
+        MAX_RESOLUTION_Y("max_resolution_y"),
+        /**
+         * List of PGPUs that support this VGPU type
+         */
+        SUPPORTED_ON_PGPUS("supported_on_PGPUs"),
+        /**
+         * List of PGPUs that have this VGPU type enabled
+         */
+        ENABLED_ON_PGPUS("enabled_on_PGPUs"),
+        /**
+         * List of VGPUs of this type
+         */
+        VGPUS("VGPUs"),
+        /**
+         * List of GPU groups in which at least one PGPU supports this VGPU type
+         */
+        SUPPORTED_ON_GPU_GROUPS("supported_on_GPU_groups"),
+        /**
+         * List of GPU groups in which at least one have this VGPU type enabled
+         */
+        ENABLED_ON_GPU_GROUPS("enabled_on_GPU_groups"),
+        /**
+         * The internal implementation of this VGPU type
+         */
+        IMPLEMENTATION("implementation"),
+        /**
+         * Key used to identify VGPU types and avoid creating duplicates - this field is used internally and not intended for interpretation by API clients
+         */
+        IDENTIFIER("identifier"),
+        /**
+         * Indicates whether VGPUs of this type should be considered experimental
+         */
+        EXPERIMENTAL("experimental"),
+        /**
+         * List of VGPU types which are compatible in one VM
+         */
+        COMPATIBLE_TYPES_IN_VM("compatible_types_in_vm");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given VGPU_type.
      * First published in XenServer 6.2 SP1 Tech-Preview.
@@ -233,7 +318,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVGPUTypeRecord(result);
+            return c.decoded(method_call, Types.toVGPUTypeRecord(result));
     }
 
     /**
@@ -252,7 +337,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVGPUType(result);
+            return c.decoded(method_call, Types.toVGPUType(result));
     }
 
     /**
@@ -270,7 +355,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -288,7 +373,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -306,7 +391,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -324,7 +409,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -342,7 +427,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -360,7 +445,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -378,7 +463,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -396,7 +481,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfPGPU(result);
+            return c.decoded(method_call, Types.toSetOfPGPU(result));
     }
 
     /**
@@ -414,7 +499,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfPGPU(result);
+            return c.decoded(method_call, Types.toSetOfPGPU(result));
     }
 
     /**
@@ -432,7 +517,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVGPU(result);
+            return c.decoded(method_call, Types.toSetOfVGPU(result));
     }
 
     /**
@@ -450,7 +535,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfGPUGroup(result);
+            return c.decoded(method_call, Types.toSetOfGPUGroup(result));
     }
 
     /**
@@ -468,7 +553,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfGPUGroup(result);
+            return c.decoded(method_call, Types.toSetOfGPUGroup(result));
     }
 
     /**
@@ -486,7 +571,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVgpuTypeImplementation(result);
+            return c.decoded(method_call, Types.toVgpuTypeImplementation(result));
     }
 
     /**
@@ -504,7 +589,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -522,7 +607,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -540,7 +625,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVGPUType(result);
+            return c.decoded(method_call, Types.toSetOfVGPUType(result));
     }
 
     /**
@@ -558,7 +643,7 @@ public class VGPUType extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVGPUType(result);
+            return c.decoded(method_call, Types.toSetOfVGPUType(result));
     }
 
     /**
@@ -574,9 +659,78 @@ public class VGPUType extends XenAPIObject {
         String method_call = "VGPU_type.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfVGPUTypeVGPUTypeRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.VGPU_TYPE_RECORD_DECODER);
+    }
+
+    /**
+     * Return all VGPU_types known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 6.2 SP1 Tech-Preview.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<VGPUType, VGPUType.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VGPU_type.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.VGPU_TYPE_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all VGPU_types known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 6.2 SP1 Tech-Preview.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<VGPUType, VGPUType.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VGPU_type.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.VGPU_TYPE_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all VGPU_types known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 6.2 SP1 Tech-Preview.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(VGPUType.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<VGPUType, VGPUType.Record> getAllRecordsWithFields(Connection c, Set<VGPUType.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VGPU_type.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.VGPU_TYPE_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all VGPU_types known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 6.2 SP1 Tech-Preview.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(VGPUType.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<VGPUType, VGPUType.Record>> streamAllRecordsWithFields(Connection c, Set<VGPUType.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VGPU_type.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.VGPU_TYPE_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
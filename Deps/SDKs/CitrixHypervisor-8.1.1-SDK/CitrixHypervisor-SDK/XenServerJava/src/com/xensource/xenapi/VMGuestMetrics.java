@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -203,6 +204,82 @@ public class VMGuestMetrics extends XenAPIObject {
         public Boolean PVDriversDetected;
     }
 
+    /**
+     * The fields of a VMGuestMetrics.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * version of the OS
+         */
+        OS_VERSION("os_version"),
+        /**
+         * version of the PV drivers
+         */
+        PV_DRIVERS_VERSION("PV_drivers_version"),
+        /**
+         * Logically equivalent to PV_drivers_detected
+         */
+        PV_DRIVERS_UP_TO_DATE("PV_drivers_up_to_date"),
+        /**
+         * This field exists but has no data. Use the memory and memory_internal_free RRD data-sources instead.
+         */
+        MEMORY("memory"),
+        /**
+         * This field exists but has no data.
+         */
+        DISKS("disks"),
+        /**
+         * network configuration
+         */
+        NETWORKS("networks"),
+        /**
+         * anything else
+         */
+        OTHER("other"),
+        /**
+         * Time at which this information was last updated
+         */
+        LAST_UPDATED("last_updated"),
+        /**
+         * additional configuration
+         */
+        OTHER_CONFIG("other_config"),
+        /**
+         * True if the guest is sending heartbeat messages via the guest agent
+         */
+        LIVE("live"),
+        /**
+         * The guest's statement of whether it supports VBD hotplug, i.e. whether it is capable of responding immediately to instantiation of a new VBD by bringing online a new PV block device. If the guest states that it is not capable, then the VBD plug and unplug operations will not be allowed while the guest is running.
+         */
+        CAN_USE_HOTPLUG_VBD("can_use_hotplug_vbd"),
+        /**
+         * The guest's statement of whether it supports VIF hotplug, i.e. whether it is capable of responding immediately to instantiation of a new VIF by bringing online a new PV network device. If the guest states that it is not capable, then the VIF plug and unplug operations will not be allowed while the guest is running.
+         */
+        CAN_USE_HOTPLUG_VIF("can_use_hotplug_vif"),
+        /**
+         * At least one of the guest's devices has successfully connected to the backend.
+         */
+        PV_DRIVERS_DETECTED("PV_drivers_detected");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given VM_guest_metrics.
      * First published in XenServer 4.0.
@@ -218,7 +295,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVMGuestMetricsRecord(result);
+            return c.decoded(method_call, Types.toVMGuestMetricsRecord(result));
     }
 
     /**
@@ -237,7 +314,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVMGuestMetrics(result);
+            return c.decoded(method_call, Types.toVMGuestMetrics(result));
     }
 
     /**
@@ -255,7 +332,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -273,7 +350,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -291,7 +368,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -310,7 +387,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -328,7 +405,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -346,7 +423,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -364,7 +441,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -382,7 +459,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -400,7 +477,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toDate(result);
+            return c.decoded(method_call, Types.toDate(result));
     }
 
     /**
@@ -418,7 +495,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -436,7 +513,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -454,7 +531,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toTristateType(result);
+            return c.decoded(method_call, Types.toTristateType(result));
     }
 
     /**
@@ -472,7 +549,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toTristateType(result);
+            return c.decoded(method_call, Types.toTristateType(result));
     }
 
     /**
@@ -490,7 +567,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -560,7 +637,7 @@ public class VMGuestMetrics extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVMGuestMetrics(result);
+            return c.decoded(method_call, Types.toSetOfVMGuestMetrics(result));
     }
 
     /**
@@ -576,9 +653,78 @@ public class VMGuestMetrics extends XenAPIObject {
         String method_call = "VM_guest_metrics.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfVMGuestMetricsVMGuestMetricsRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.VM_GUEST_METRICS_RECORD_DECODER);
+    }
+
+    /**
+     * Return all VM_guest_metrics instances known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 4.0.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<VMGuestMetrics, VMGuestMetrics.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VM_guest_metrics.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.VM_GUEST_METRICS_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all VM_guest_metrics instances known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 4.0.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<VMGuestMetrics, VMGuestMetrics.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VM_guest_metrics.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.VM_GUEST_METRICS_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all VM_guest_metrics instances known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 4.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(VMGuestMetrics.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<VMGuestMetrics, VMGuestMetrics.Record> getAllRecordsWithFields(Connection c, Set<VMGuestMetrics.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VM_guest_metrics.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.VM_GUEST_METRICS_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all VM_guest_metrics instances known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 4.0.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(VMGuestMetrics.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<VMGuestMetrics, VMGuestMetrics.Record>> streamAllRecordsWithFields(Connection c, Set<VMGuestMetrics.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VM_guest_metrics.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.VM_GUEST_METRICS_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.xmlrpc.XmlRpcException;
 
@@ -234,6 +235,106 @@ public class VMPP extends XenAPIObject {
         public Set<String> recentAlerts;
     }
 
+    /**
+     * The fields of a VMPP.Record, for fetching only some of them with getAllRecordsWithFields(c, fields) or
+     * streamAllRecordsWithFields(c, fields)
+     */
+    public enum Field {
+        /**
+         * Unique identifier/object reference
+         */
+        UUID("uuid"),
+        /**
+         * a human-readable name
+         */
+        NAME_LABEL("name_label"),
+        /**
+         * a notes field containing human-readable description
+         */
+        NAME_DESCRIPTION("name_description"),
+        /**
+         * enable or disable this policy
+         */
+        IS_POLICY_ENABLED("is_policy_enabled"),
+        /**
+         * type of the backup sub-policy
+         */
+        BACKUP_TYPE("backup_type"),
+        /**
+         * maximum number of backups that should be stored at any time
+         */
+        BACKUP_RETENTION_VALUE("backup_retention_value"),
+        /**
+         * frequency of the backup schedule
+         */
+        BACKUP_FREQUENCY("backup_frequency"),
+        /**
+         * schedule of the backup containing 'hour', 'min', 'days'. Date/time-related information is in Local Timezone
+         */
+        BACKUP_SCHEDULE("backup_schedule"),
+        /**
+         * true if this protection policy's backup is running
+         */
+        IS_BACKUP_RUNNING("is_backup_running"),
+        /**
+         * time of the last backup
+         */
+        BACKUP_LAST_RUN_TIME("backup_last_run_time"),
+        /**
+         * type of the archive target config
+         */
+        ARCHIVE_TARGET_TYPE("archive_target_type"),
+        /**
+         * configuration for the archive, including its 'location', 'username', 'password'
+         */
+        ARCHIVE_TARGET_CONFIG("archive_target_config"),
+        /**
+         * frequency of the archive schedule
+         */
+        ARCHIVE_FREQUENCY("archive_frequency"),
+        /**
+         * schedule of the archive containing 'hour', 'min', 'days'. Date/time-related information is in Local Timezone
+         */
+        ARCHIVE_SCHEDULE("archive_schedule"),
+        /**
+         * true if this protection policy's archive is running
+         */
+        IS_ARCHIVE_RUNNING("is_archive_running"),
+        /**
+         * time of the last archive
+         */
+        ARCHIVE_LAST_RUN_TIME("archive_last_run_time"),
+        /**
+         * all VMs attached to this protection policy
+         */
+        VMS("VMs"),
+        /**
+         * true if alarm is enabled for this policy
+         */
+        IS_ALARM_ENABLED("is_alarm_enabled"),
+        /**
+         * configuration for the alarm
+         */
+        ALARM_CONFIG("alarm_config"),
+        /**
+         * recent alerts
+         */
+        RECENT_ALERTS("recent_alerts");
+
+        private final String wireName;
+
+        Field(String wireName) {
+            this.wireName = wireName;
+        }
+
+        /**
+         * @return The name of the field on the wire
+         */
+        public String toString() {
+            return wireName;
+        }
+    }
+
     /**
      * Get a record containing the current state of the given VMPP.
      * First published in XenServer 5.6 FP1.
@@ -249,7 +350,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVMPPRecord(result);
+            return c.decoded(method_call, Types.toVMPPRecord(result));
     }
 
     /**
@@ -268,7 +369,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(uuid)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVMPP(result);
+            return c.decoded(method_call, Types.toVMPP(result));
     }
 
     /**
@@ -288,7 +389,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(record_map)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -308,7 +409,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(record_map)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVMPP(result);
+            return c.decoded(method_call, Types.toVMPP(result));
     }
 
     /**
@@ -326,7 +427,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-        return Types.toTask(result);
+        return c.decoded(method_call, Types.toTask(result));
     }
 
     /**
@@ -361,7 +462,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(label)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVMPP(result);
+            return c.decoded(method_call, Types.toSetOfVMPP(result));
     }
 
     /**
@@ -379,7 +480,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -397,7 +498,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -415,7 +516,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -433,7 +534,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -451,7 +552,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVmppBackupType(result);
+            return c.decoded(method_call, Types.toVmppBackupType(result));
     }
 
     /**
@@ -469,7 +570,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toLong(result);
+            return c.decoded(method_call, Types.toLong(result));
     }
 
     /**
@@ -487,7 +588,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVmppBackupFrequency(result);
+            return c.decoded(method_call, Types.toVmppBackupFrequency(result));
     }
 
     /**
@@ -505,7 +606,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -523,7 +624,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -541,7 +642,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toDate(result);
+            return c.decoded(method_call, Types.toDate(result));
     }
 
     /**
@@ -559,7 +660,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVmppArchiveTargetType(result);
+            return c.decoded(method_call, Types.toVmppArchiveTargetType(result));
     }
 
     /**
@@ -577,7 +678,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -595,7 +696,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toVmppArchiveFrequency(result);
+            return c.decoded(method_call, Types.toVmppArchiveFrequency(result));
     }
 
     /**
@@ -613,7 +714,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -631,7 +732,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -649,7 +750,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toDate(result);
+            return c.decoded(method_call, Types.toDate(result));
     }
 
     /**
@@ -667,7 +768,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVM(result);
+            return c.decoded(method_call, Types.toSetOfVM(result));
     }
 
     /**
@@ -685,7 +786,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toBoolean(result);
+            return c.decoded(method_call, Types.toBoolean(result));
     }
 
     /**
@@ -703,7 +804,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toMapOfStringString(result);
+            return c.decoded(method_call, Types.toMapOfStringString(result));
     }
 
     /**
@@ -721,7 +822,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfString(result);
+            return c.decoded(method_call, Types.toSetOfString(result));
     }
 
     /**
@@ -807,7 +908,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -826,7 +927,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(snapshot)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toString(result);
+            return c.decoded(method_call, Types.toString(result));
     }
 
     /**
@@ -845,7 +946,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(this.ref), Marshalling.toXMLRPC(hoursFromNow)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfString(result);
+            return c.decoded(method_call, Types.toSetOfString(result));
     }
 
     /**
@@ -1190,7 +1291,7 @@ public class VMPP extends XenAPIObject {
         Object[] method_params = {Marshalling.toXMLRPC(session)};
         Map response = c.dispatch(method_call, method_params);
         Object result = response.get("Value");
-            return Types.toSetOfVMPP(result);
+            return c.decoded(method_call, Types.toSetOfVMPP(result));
     }
 
     /**
@@ -1206,9 +1307,78 @@ public class VMPP extends XenAPIObject {
         String method_call = "VMPP.get_all_records";
         String session = c.getSessionReference();
         Object[] method_params = {Marshalling.toXMLRPC(session)};
-        Map response = c.dispatch(method_call, method_params);
-        Object result = response.get("Value");
-            return Types.toMapOfVMPPVMPPRecord(result);
+        return c.readAllRecords(method_call, method_params, Types.VMPP_RECORD_DECODER);
+    }
+
+    /**
+     * Return all VMPPs known to the system, passing each record to the handler as soon as it has been read. Unlike
+     * getAllRecords(c), the records are not collected into a map, so they need never all be held in memory at once.
+     * First published in XenServer 5.6 FP1.
+     *
+     * @param handler receives each reference and its record
+     */
+    public static void getAllRecords(Connection c, Types.RecordHandler<VMPP, VMPP.Record> handler) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VMPP.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        RecordStream.forEach(c, method_call, method_params, Types.VMPP_RECORD_DECODER, null, handler);
+    }
+
+    /**
+     * Return all VMPPs known to the system as a stream of references and records, each decoded as it is read from
+     * the response. The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 5.6 FP1.
+     *
+     * @return references and records of all objects
+     */
+    public static Stream<Map.Entry<VMPP, VMPP.Record>> streamAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VMPP.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.VMPP_RECORD_DECODER, null).stream();
+    }
+
+    /**
+     * Return the given fields of all VMPPs known to the system. Only the requested fields are decoded: the others are
+     * skipped as the response is read, and left null in the records.
+     * First published in XenServer 5.6 FP1.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(VMPP.Field.UUID)
+     * @return records of all objects, holding only the given fields
+     */
+    public static Map<VMPP, VMPP.Record> getAllRecordsWithFields(Connection c, Set<VMPP.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VMPP.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.readAll(c, method_call, method_params, Types.VMPP_RECORD_DECODER, RecordStream.wireNames(fields));
+    }
+
+    /**
+     * Return the given fields of all VMPPs known to the system as a stream of references and records. Only the
+     * requested fields are decoded: the others are skipped as the response is read, and left null in the records.
+     * The stream holds a connection to the server until it is closed or read to its end.
+     * First published in XenServer 5.6 FP1.
+     *
+     * @param fields The fields to fetch, e.g. EnumSet.of(VMPP.Field.UUID)
+     * @return references and records of all objects, holding only the given fields
+     */
+    public static Stream<Map.Entry<VMPP, VMPP.Record>> streamAllRecordsWithFields(Connection c, Set<VMPP.Field> fields) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VMPP.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        return RecordStream.open(c, method_call, method_params, Types.VMPP_RECORD_DECODER, RecordStream.wireNames(fields)).stream();
     }
 
 }
\ No newline at end of file
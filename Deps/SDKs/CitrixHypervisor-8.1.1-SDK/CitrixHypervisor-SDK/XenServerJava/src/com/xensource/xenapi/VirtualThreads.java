@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates virtual threads when the JVM supports them (Java 21 and later), and daemon platform threads otherwise. The
+ * virtual thread API is looked up reflectively so that the bindings still build and run on older JVMs.
+ */
+final class VirtualThreads
+{
+    /**
+     * Thread.ofVirtual(), Thread.Builder.name(String, long) and Thread.Builder.factory(); null if not supported
+     */
+    private static final Method[] VIRTUAL_BUILDER = lookupVirtualBuilder();
+
+    private VirtualThreads()
+    {
+    }
+
+    /**
+     * @return Whether threads created by factory() are virtual threads
+     */
+    static boolean isSupported()
+    {
+        return VIRTUAL_BUILDER != null;
+    }
+
+    /**
+     * @param name The prefix of the names of the threads, which are numbered from 0 within each factory
+     */
+    static ThreadFactory factory(final String name)
+    {
+        if (VIRTUAL_BUILDER != null)
+        {
+            try
+            {
+                // Thread.ofVirtual().name(name + "-", 0).factory()
+                Object builder = VIRTUAL_BUILDER[0].invoke(null);
+                builder = VIRTUAL_BUILDER[1].invoke(builder, name + "-", 0L);
+                return (ThreadFactory) VIRTUAL_BUILDER[2].invoke(builder);
+            }
+            catch (Exception e)
+            {
+                // Fall back to platform threads
+            }
+        }
+
+        final AtomicInteger count = new AtomicInteger();
+        return new ThreadFactory()
+        {
+            public Thread newThread(Runnable r)
+            {
+                Thread thread = new Thread(r, name + "-" + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    private static Method[] lookupVirtualBuilder()
+    {
+        try
+        {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            return new Method[]{Thread.class.getMethod("ofVirtual"),
+                builderClass.getMethod("name", String.class, long.class), builderClass.getMethod("factory")};
+        }
+        catch (Exception e)
+        {
+            return null;
+        }
+    }
+}
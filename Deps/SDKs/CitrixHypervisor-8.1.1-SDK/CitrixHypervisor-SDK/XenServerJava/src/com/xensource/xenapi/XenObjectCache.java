@@ -0,0 +1,1329 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.xmlrpc.XmlRpcException;
+
+import com.xensource.xenapi.Types.XenAPIException;
+
+/**
+ * A local copy of the records of chosen classes of object, which is kept up to date with the server.
+ *
+ * The cache is seeded from get_all_records when it is started, then an EventPump follows the changes made on the
+ * server and the cache applies the snapshot of each object that is added, modified or deleted. If the server reports
+ * that events have been lost, the cache is seeded again, and listeners are told of the objects whose records differ
+ * from those cached. Reads never call the server and never block:
+ * <pre>
+ *     XenObjectCache cache = new XenObjectCache(connection, VM.class, Host.class);
+ *     cache.start();
+ *     Types.VmPowerState state = cache.vm(vm).powerState;
+ * </pre>
+ * Records held in the cache are replaced rather than modified when an object changes, so a record that has been read
+ * stays consistent, but it may be out of date. They must not be modified by the caller.
+ *
+ * The connection is used by the pump for as long as the cache is running, so its reply timeout must be longer than
+ * the poll timeout.
+ */
+public class XenObjectCache
+{
+    /**
+     * Receives the changes made to the cached objects of one class.
+     */
+    public interface Listener<K extends XenAPIObject, R extends Types.Record>
+    {
+        /**
+         * Called on the pump's delivery thread after the change has been applied. Listeners should return quickly,
+         * since no further changes are applied until they do.
+         *
+         * A RuntimeException thrown by a listener is counted (see getListenerFailureCount()), but the change stays
+         * applied and is not reported again: a listener that may fail must recover from the records of the cache.
+         *
+         * @param object The object that changed
+         * @param operation ADD, MOD or DEL
+         * @param record The new record of the object, or for DEL the last record that was cached (which may be null)
+         */
+        void changed(K object, Types.EventOperation operation, R record);
+    }
+
+    private final EventPump pump;
+    private final Map<Class<?>, ClassCache<?, ?>> byType = new LinkedHashMap<Class<?>, ClassCache<?, ?>>();
+    private final Map<String, ClassCache<?, ?>> byWireName = new HashMap<String, ClassCache<?, ?>>();
+    private final LongAdder listenerFailureCount = new LongAdder();
+    private volatile RuntimeException lastListenerError;
+
+    /**
+     * @param c The connection to use, which must be logged in
+     * @param classes The classes of object to cache, each of which must be a class that has get_all_records
+     */
+    @SafeVarargs
+    public XenObjectCache(Connection c, Class<? extends XenAPIObject>... classes)
+    {
+        Set<String> wireNames = new HashSet<String>();
+        for (Class<? extends XenAPIObject> type : classes)
+        {
+            RecordClass<?, ?> recordClass = RecordClass.forType(type);
+            if (recordClass == null)
+                throw new IllegalArgumentException(type.getName() + " cannot be cached");
+            if (byType.containsKey(type))
+                continue;
+            ClassCache<?, ?> cache = newClassCache(recordClass);
+            byType.put(type, cache);
+            byWireName.put(recordClass.wireName.toLowerCase(Locale.ROOT), cache);
+            wireNames.add(recordClass.wireName);
+        }
+
+        pump = new EventPump(c, wireNames);
+        pump.setSnapshotMode(Event.SnapshotMode.LAZY);
+        pump.subscribe(new EventPump.Subscriber()
+        {
+            public void resynchronised(Map<String, Map<? extends XenAPIObject, ? extends Types.Record>> records)
+            {
+                for (Map.Entry<String, Map<? extends XenAPIObject, ? extends Types.Record>> entry : records.entrySet())
+                {
+                    ClassCache<?, ?> cache = byWireName.get(entry.getKey().toLowerCase(Locale.ROOT));
+                    if (cache != null)
+                        cache.replace(entry.getValue());
+                }
+            }
+
+            public void events(EventBatch batch)
+            {
+                for (Event.Record event : batch.events)
+                {
+                    ClassCache<?, ?> cache = byWireName.get(event.clazz.toLowerCase(Locale.ROOT));
+                    if (cache != null)
+                        cache.apply(event);
+                }
+            }
+        });
+    }
+
+    /**
+     * Sets how long each Event.from call waits for events before it returns empty, which bounds how long close()
+     * waits for the pump.
+     */
+    public void setPollTimeout(double seconds)
+    {
+        pump.setPollTimeout(seconds);
+    }
+
+    /**
+     * Sets how the session is renewed if it expires whilst the cache is running.
+     */
+    public void setLogin(Connection.Login login)
+    {
+        pump.setLogin(login);
+    }
+
+    /**
+     * Seeds the cache with the current records of its classes, then starts following the changes made to them.
+     * Listeners that are already registered are told of each seeded object as an ADD.
+     *
+     * @throws XenAPIException if the cache could not be seeded, in which case it is not started
+     */
+    public void start() throws XenAPIException, XmlRpcException
+    {
+        pump.start();
+    }
+
+    /**
+     * Stops following the changes. The records already cached remain readable.
+     */
+    public void close()
+    {
+        pump.close();
+    }
+
+    public boolean isRunning()
+    {
+        return pump.isRunning();
+    }
+
+    /**
+     * @return The Event.from token up to which changes have been applied
+     */
+    public String getToken()
+    {
+        return pump.getToken();
+    }
+
+    /**
+     * @return The last error met whilst following the changes, which is retried after it, or null
+     */
+    public Exception getLastError()
+    {
+        return pump.getLastError();
+    }
+
+    /**
+     * @return The number of times a listener has thrown whilst being told of a change
+     */
+    public long getListenerFailureCount()
+    {
+        return listenerFailureCount.sum();
+    }
+
+    /**
+     * @return The RuntimeException last thrown by a listener, or null if none has failed
+     */
+    public RuntimeException getLastListenerError()
+    {
+        return lastListenerError;
+    }
+
+    /**
+     * @return The pump that feeds this cache
+     */
+    EventPump getPump()
+    {
+        return pump;
+    }
+
+    /**
+     * @return Whether records of the given class are held in this cache
+     */
+    public boolean isCached(Class<? extends XenAPIObject> type)
+    {
+        return byType.containsKey(type);
+    }
+
+    /**
+     * @return The cached record of the given object, or null if there is none
+     * @throws IllegalArgumentException if the object's class is not cached
+     */
+    public Types.Record getRecord(XenAPIObject object)
+    {
+        return this.<XenAPIObject, Types.Record>classCache(object.getClass()).records.get(object);
+    }
+
+    /**
+     * @return A read-only view of the cached records of the given class
+     * @throws IllegalArgumentException if the class is not cached
+     */
+    public <K extends XenAPIObject> Map<K, ? extends Types.Record> getRecords(Class<K> type)
+    {
+        return Collections.unmodifiableMap(this.<K, Types.Record>classCache(type).records);
+    }
+
+    /**
+     * Registers a listener for the changes made to the cached objects of the given class.
+     *
+     * @throws IllegalArgumentException if the class is not cached
+     */
+    public <K extends XenAPIObject, R extends Types.Record> void addListener(Class<K> type, Listener<K, R> listener)
+    {
+        this.<K, R>classCache(type).listeners.add(listener);
+    }
+
+    public <K extends XenAPIObject, R extends Types.Record> void removeListener(Class<K> type, Listener<K, R> listener)
+    {
+        this.<K, R>classCache(type).listeners.remove(listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K extends XenAPIObject, R extends Types.Record> ClassCache<K, R> classCache(Class<?> type)
+    {
+        ClassCache<K, R> cache = (ClassCache<K, R>) byType.get(type);
+        if (cache == null)
+            throw new IllegalArgumentException(type.getName() + " is not cached");
+        return cache;
+    }
+
+    private <K extends XenAPIObject, R extends Types.Record> ClassCache<K, R> newClassCache(RecordClass<K, R> recordClass)
+    {
+        return new ClassCache<K, R>(recordClass);
+    }
+
+    /**
+     * The cached records of one class, and its listeners.
+     */
+    private final class ClassCache<K extends XenAPIObject, R extends Types.Record>
+    {
+        final RecordClass<K, R> recordClass;
+        final Map<K, R> records = new ConcurrentHashMap<K, R>();
+        final List<Listener<K, R>> listeners = new CopyOnWriteArrayList<Listener<K, R>>();
+
+        ClassCache(RecordClass<K, R> recordClass)
+        {
+            this.recordClass = recordClass;
+        }
+
+        /**
+         * Replaces the cached records with the given ones, which are all the records of this class. Listeners are
+         * only told of the objects that have been added, deleted or changed: a record equal, field for field, to the
+         * one cached is left in place.
+         */
+        @SuppressWarnings("unchecked")
+        void replace(Map<? extends XenAPIObject, ? extends Types.Record> current)
+        {
+            Map<K, R> records = (Map<K, R>) current;
+            for (K object : new ArrayList<K>(this.records.keySet()))
+            {
+                if (!records.containsKey(object))
+                    notify(object, Types.EventOperation.DEL, this.records.remove(object));
+            }
+            for (Map.Entry<K, R> entry : records.entrySet())
+            {
+                R previous = this.records.get(entry.getKey());
+                if (previous != null && previous.toMap().equals(entry.getValue().toMap()))
+                    continue;
+                this.records.put(entry.getKey(), entry.getValue());
+                notify(entry.getKey(), previous == null ? Types.EventOperation.ADD : Types.EventOperation.MOD,
+                    entry.getValue());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void apply(Event.Record event)
+        {
+            K object = recordClass.decoder.toRef(event.ref);
+            switch (event.operation)
+            {
+                case ADD:
+                case MOD:
+                    // There is no snapshot if the object was deleted before the event was read
+                    R record = (R) event.getSnapshot();
+                    if (record == null)
+                        return;
+                    records.put(object, record);
+                    notify(object, event.operation, record);
+                    break;
+                case DEL:
+                    notify(object, event.operation, records.remove(object));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void notify(K object, Types.EventOperation operation, R record)
+        {
+            for (Listener<K, R> listener : listeners)
+            {
+                try
+                {
+                    listener.changed(object, operation, record);
+                }
+                catch (RuntimeException e)
+                {
+                    // A failing listener must not stop the cache, nor make the pump resynchronise it
+                    lastListenerError = e;
+                    listenerFailureCount.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The cached record of the given Blob, or null if there is none
+     * @throws IllegalArgumentException if Blob is not cached
+     */
+    public Blob.Record blob(Blob blob)
+    {
+        return this.<Blob, Blob.Record>classCache(Blob.class).records.get(blob);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Blob
+     * @throws IllegalArgumentException if Blob is not cached
+     */
+    public Map<Blob, Blob.Record> blobRecords()
+    {
+        return Collections.unmodifiableMap(this.<Blob, Blob.Record>classCache(Blob.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Bond, or null if there is none
+     * @throws IllegalArgumentException if Bond is not cached
+     */
+    public Bond.Record bond(Bond bond)
+    {
+        return this.<Bond, Bond.Record>classCache(Bond.class).records.get(bond);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Bond
+     * @throws IllegalArgumentException if Bond is not cached
+     */
+    public Map<Bond, Bond.Record> bondRecords()
+    {
+        return Collections.unmodifiableMap(this.<Bond, Bond.Record>classCache(Bond.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Cluster, or null if there is none
+     * @throws IllegalArgumentException if Cluster is not cached
+     */
+    public Cluster.Record cluster(Cluster cluster)
+    {
+        return this.<Cluster, Cluster.Record>classCache(Cluster.class).records.get(cluster);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Cluster
+     * @throws IllegalArgumentException if Cluster is not cached
+     */
+    public Map<Cluster, Cluster.Record> clusterRecords()
+    {
+        return Collections.unmodifiableMap(this.<Cluster, Cluster.Record>classCache(Cluster.class).records);
+    }
+
+    /**
+     * @return The cached record of the given ClusterHost, or null if there is none
+     * @throws IllegalArgumentException if ClusterHost is not cached
+     */
+    public ClusterHost.Record clusterHost(ClusterHost clusterHost)
+    {
+        return this.<ClusterHost, ClusterHost.Record>classCache(ClusterHost.class).records.get(clusterHost);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every ClusterHost
+     * @throws IllegalArgumentException if ClusterHost is not cached
+     */
+    public Map<ClusterHost, ClusterHost.Record> clusterHostRecords()
+    {
+        return Collections.unmodifiableMap(this.<ClusterHost, ClusterHost.Record>classCache(ClusterHost.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Console, or null if there is none
+     * @throws IllegalArgumentException if Console is not cached
+     */
+    public Console.Record console(Console console)
+    {
+        return this.<Console, Console.Record>classCache(Console.class).records.get(console);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Console
+     * @throws IllegalArgumentException if Console is not cached
+     */
+    public Map<Console, Console.Record> consoleRecords()
+    {
+        return Collections.unmodifiableMap(this.<Console, Console.Record>classCache(Console.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Crashdump, or null if there is none
+     * @throws IllegalArgumentException if Crashdump is not cached
+     */
+    public Crashdump.Record crashdump(Crashdump crashdump)
+    {
+        return this.<Crashdump, Crashdump.Record>classCache(Crashdump.class).records.get(crashdump);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Crashdump
+     * @throws IllegalArgumentException if Crashdump is not cached
+     */
+    public Map<Crashdump, Crashdump.Record> crashdumpRecords()
+    {
+        return Collections.unmodifiableMap(this.<Crashdump, Crashdump.Record>classCache(Crashdump.class).records);
+    }
+
+    /**
+     * @return The cached record of the given DRTask, or null if there is none
+     * @throws IllegalArgumentException if DRTask is not cached
+     */
+    public DRTask.Record drTask(DRTask drTask)
+    {
+        return this.<DRTask, DRTask.Record>classCache(DRTask.class).records.get(drTask);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every DRTask
+     * @throws IllegalArgumentException if DRTask is not cached
+     */
+    public Map<DRTask, DRTask.Record> drTaskRecords()
+    {
+        return Collections.unmodifiableMap(this.<DRTask, DRTask.Record>classCache(DRTask.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Feature, or null if there is none
+     * @throws IllegalArgumentException if Feature is not cached
+     */
+    public Feature.Record feature(Feature feature)
+    {
+        return this.<Feature, Feature.Record>classCache(Feature.class).records.get(feature);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Feature
+     * @throws IllegalArgumentException if Feature is not cached
+     */
+    public Map<Feature, Feature.Record> featureRecords()
+    {
+        return Collections.unmodifiableMap(this.<Feature, Feature.Record>classCache(Feature.class).records);
+    }
+
+    /**
+     * @return The cached record of the given GPUGroup, or null if there is none
+     * @throws IllegalArgumentException if GPUGroup is not cached
+     */
+    public GPUGroup.Record gpuGroup(GPUGroup gpuGroup)
+    {
+        return this.<GPUGroup, GPUGroup.Record>classCache(GPUGroup.class).records.get(gpuGroup);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every GPUGroup
+     * @throws IllegalArgumentException if GPUGroup is not cached
+     */
+    public Map<GPUGroup, GPUGroup.Record> gpuGroupRecords()
+    {
+        return Collections.unmodifiableMap(this.<GPUGroup, GPUGroup.Record>classCache(GPUGroup.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Host, or null if there is none
+     * @throws IllegalArgumentException if Host is not cached
+     */
+    public Host.Record host(Host host)
+    {
+        return this.<Host, Host.Record>classCache(Host.class).records.get(host);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Host
+     * @throws IllegalArgumentException if Host is not cached
+     */
+    public Map<Host, Host.Record> hostRecords()
+    {
+        return Collections.unmodifiableMap(this.<Host, Host.Record>classCache(Host.class).records);
+    }
+
+    /**
+     * @return The cached record of the given HostCpu, or null if there is none
+     * @throws IllegalArgumentException if HostCpu is not cached
+     */
+    public HostCpu.Record hostCpu(HostCpu hostCpu)
+    {
+        return this.<HostCpu, HostCpu.Record>classCache(HostCpu.class).records.get(hostCpu);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every HostCpu
+     * @throws IllegalArgumentException if HostCpu is not cached
+     */
+    public Map<HostCpu, HostCpu.Record> hostCpuRecords()
+    {
+        return Collections.unmodifiableMap(this.<HostCpu, HostCpu.Record>classCache(HostCpu.class).records);
+    }
+
+    /**
+     * @return The cached record of the given HostCrashdump, or null if there is none
+     * @throws IllegalArgumentException if HostCrashdump is not cached
+     */
+    public HostCrashdump.Record hostCrashdump(HostCrashdump hostCrashdump)
+    {
+        return this.<HostCrashdump, HostCrashdump.Record>classCache(HostCrashdump.class).records.get(hostCrashdump);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every HostCrashdump
+     * @throws IllegalArgumentException if HostCrashdump is not cached
+     */
+    public Map<HostCrashdump, HostCrashdump.Record> hostCrashdumpRecords()
+    {
+        return Collections.unmodifiableMap(this.<HostCrashdump, HostCrashdump.Record>classCache(HostCrashdump.class).records);
+    }
+
+    /**
+     * @return The cached record of the given HostMetrics, or null if there is none
+     * @throws IllegalArgumentException if HostMetrics is not cached
+     */
+    public HostMetrics.Record hostMetrics(HostMetrics hostMetrics)
+    {
+        return this.<HostMetrics, HostMetrics.Record>classCache(HostMetrics.class).records.get(hostMetrics);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every HostMetrics
+     * @throws IllegalArgumentException if HostMetrics is not cached
+     */
+    public Map<HostMetrics, HostMetrics.Record> hostMetricsRecords()
+    {
+        return Collections.unmodifiableMap(this.<HostMetrics, HostMetrics.Record>classCache(HostMetrics.class).records);
+    }
+
+    /**
+     * @return The cached record of the given HostPatch, or null if there is none
+     * @throws IllegalArgumentException if HostPatch is not cached
+     */
+    public HostPatch.Record hostPatch(HostPatch hostPatch)
+    {
+        return this.<HostPatch, HostPatch.Record>classCache(HostPatch.class).records.get(hostPatch);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every HostPatch
+     * @throws IllegalArgumentException if HostPatch is not cached
+     */
+    public Map<HostPatch, HostPatch.Record> hostPatchRecords()
+    {
+        return Collections.unmodifiableMap(this.<HostPatch, HostPatch.Record>classCache(HostPatch.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Message, or null if there is none
+     * @throws IllegalArgumentException if Message is not cached
+     */
+    public Message.Record message(Message message)
+    {
+        return this.<Message, Message.Record>classCache(Message.class).records.get(message);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Message
+     * @throws IllegalArgumentException if Message is not cached
+     */
+    public Map<Message, Message.Record> messageRecords()
+    {
+        return Collections.unmodifiableMap(this.<Message, Message.Record>classCache(Message.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Network, or null if there is none
+     * @throws IllegalArgumentException if Network is not cached
+     */
+    public Network.Record network(Network network)
+    {
+        return this.<Network, Network.Record>classCache(Network.class).records.get(network);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Network
+     * @throws IllegalArgumentException if Network is not cached
+     */
+    public Map<Network, Network.Record> networkRecords()
+    {
+        return Collections.unmodifiableMap(this.<Network, Network.Record>classCache(Network.class).records);
+    }
+
+    /**
+     * @return The cached record of the given NetworkSriov, or null if there is none
+     * @throws IllegalArgumentException if NetworkSriov is not cached
+     */
+    public NetworkSriov.Record networkSriov(NetworkSriov networkSriov)
+    {
+        return this.<NetworkSriov, NetworkSriov.Record>classCache(NetworkSriov.class).records.get(networkSriov);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every NetworkSriov
+     * @throws IllegalArgumentException if NetworkSriov is not cached
+     */
+    public Map<NetworkSriov, NetworkSriov.Record> networkSriovRecords()
+    {
+        return Collections.unmodifiableMap(this.<NetworkSriov, NetworkSriov.Record>classCache(NetworkSriov.class).records);
+    }
+
+    /**
+     * @return The cached record of the given PBD, or null if there is none
+     * @throws IllegalArgumentException if PBD is not cached
+     */
+    public PBD.Record pbd(PBD pbd)
+    {
+        return this.<PBD, PBD.Record>classCache(PBD.class).records.get(pbd);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every PBD
+     * @throws IllegalArgumentException if PBD is not cached
+     */
+    public Map<PBD, PBD.Record> pbdRecords()
+    {
+        return Collections.unmodifiableMap(this.<PBD, PBD.Record>classCache(PBD.class).records);
+    }
+
+    /**
+     * @return The cached record of the given PCI, or null if there is none
+     * @throws IllegalArgumentException if PCI is not cached
+     */
+    public PCI.Record pci(PCI pci)
+    {
+        return this.<PCI, PCI.Record>classCache(PCI.class).records.get(pci);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every PCI
+     * @throws IllegalArgumentException if PCI is not cached
+     */
+    public Map<PCI, PCI.Record> pciRecords()
+    {
+        return Collections.unmodifiableMap(this.<PCI, PCI.Record>classCache(PCI.class).records);
+    }
+
+    /**
+     * @return The cached record of the given PGPU, or null if there is none
+     * @throws IllegalArgumentException if PGPU is not cached
+     */
+    public PGPU.Record pgpu(PGPU pgpu)
+    {
+        return this.<PGPU, PGPU.Record>classCache(PGPU.class).records.get(pgpu);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every PGPU
+     * @throws IllegalArgumentException if PGPU is not cached
+     */
+    public Map<PGPU, PGPU.Record> pgpuRecords()
+    {
+        return Collections.unmodifiableMap(this.<PGPU, PGPU.Record>classCache(PGPU.class).records);
+    }
+
+    /**
+     * @return The cached record of the given PIF, or null if there is none
+     * @throws IllegalArgumentException if PIF is not cached
+     */
+    public PIF.Record pif(PIF pif)
+    {
+        return this.<PIF, PIF.Record>classCache(PIF.class).records.get(pif);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every PIF
+     * @throws IllegalArgumentException if PIF is not cached
+     */
+    public Map<PIF, PIF.Record> pifRecords()
+    {
+        return Collections.unmodifiableMap(this.<PIF, PIF.Record>classCache(PIF.class).records);
+    }
+
+    /**
+     * @return The cached record of the given PIFMetrics, or null if there is none
+     * @throws IllegalArgumentException if PIFMetrics is not cached
+     */
+    public PIFMetrics.Record pifMetrics(PIFMetrics pifMetrics)
+    {
+        return this.<PIFMetrics, PIFMetrics.Record>classCache(PIFMetrics.class).records.get(pifMetrics);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every PIFMetrics
+     * @throws IllegalArgumentException if PIFMetrics is not cached
+     */
+    public Map<PIFMetrics, PIFMetrics.Record> pifMetricsRecords()
+    {
+        return Collections.unmodifiableMap(this.<PIFMetrics, PIFMetrics.Record>classCache(PIFMetrics.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Pool, or null if there is none
+     * @throws IllegalArgumentException if Pool is not cached
+     */
+    public Pool.Record pool(Pool pool)
+    {
+        return this.<Pool, Pool.Record>classCache(Pool.class).records.get(pool);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Pool
+     * @throws IllegalArgumentException if Pool is not cached
+     */
+    public Map<Pool, Pool.Record> poolRecords()
+    {
+        return Collections.unmodifiableMap(this.<Pool, Pool.Record>classCache(Pool.class).records);
+    }
+
+    /**
+     * @return The cached record of the given PoolPatch, or null if there is none
+     * @throws IllegalArgumentException if PoolPatch is not cached
+     */
+    public PoolPatch.Record poolPatch(PoolPatch poolPatch)
+    {
+        return this.<PoolPatch, PoolPatch.Record>classCache(PoolPatch.class).records.get(poolPatch);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every PoolPatch
+     * @throws IllegalArgumentException if PoolPatch is not cached
+     */
+    public Map<PoolPatch, PoolPatch.Record> poolPatchRecords()
+    {
+        return Collections.unmodifiableMap(this.<PoolPatch, PoolPatch.Record>classCache(PoolPatch.class).records);
+    }
+
+    /**
+     * @return The cached record of the given PoolUpdate, or null if there is none
+     * @throws IllegalArgumentException if PoolUpdate is not cached
+     */
+    public PoolUpdate.Record poolUpdate(PoolUpdate poolUpdate)
+    {
+        return this.<PoolUpdate, PoolUpdate.Record>classCache(PoolUpdate.class).records.get(poolUpdate);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every PoolUpdate
+     * @throws IllegalArgumentException if PoolUpdate is not cached
+     */
+    public Map<PoolUpdate, PoolUpdate.Record> poolUpdateRecords()
+    {
+        return Collections.unmodifiableMap(this.<PoolUpdate, PoolUpdate.Record>classCache(PoolUpdate.class).records);
+    }
+
+    /**
+     * @return The cached record of the given PUSB, or null if there is none
+     * @throws IllegalArgumentException if PUSB is not cached
+     */
+    public PUSB.Record pusb(PUSB pusb)
+    {
+        return this.<PUSB, PUSB.Record>classCache(PUSB.class).records.get(pusb);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every PUSB
+     * @throws IllegalArgumentException if PUSB is not cached
+     */
+    public Map<PUSB, PUSB.Record> pusbRecords()
+    {
+        return Collections.unmodifiableMap(this.<PUSB, PUSB.Record>classCache(PUSB.class).records);
+    }
+
+    /**
+     * @return The cached record of the given PVSCacheStorage, or null if there is none
+     * @throws IllegalArgumentException if PVSCacheStorage is not cached
+     */
+    public PVSCacheStorage.Record pvsCacheStorage(PVSCacheStorage pvsCacheStorage)
+    {
+        return this.<PVSCacheStorage, PVSCacheStorage.Record>classCache(PVSCacheStorage.class).records.get(pvsCacheStorage);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every PVSCacheStorage
+     * @throws IllegalArgumentException if PVSCacheStorage is not cached
+     */
+    public Map<PVSCacheStorage, PVSCacheStorage.Record> pvsCacheStorageRecords()
+    {
+        return Collections.unmodifiableMap(this.<PVSCacheStorage, PVSCacheStorage.Record>classCache(PVSCacheStorage.class).records);
+    }
+
+    /**
+     * @return The cached record of the given PVSProxy, or null if there is none
+     * @throws IllegalArgumentException if PVSProxy is not cached
+     */
+    public PVSProxy.Record pvsProxy(PVSProxy pvsProxy)
+    {
+        return this.<PVSProxy, PVSProxy.Record>classCache(PVSProxy.class).records.get(pvsProxy);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every PVSProxy
+     * @throws IllegalArgumentException if PVSProxy is not cached
+     */
+    public Map<PVSProxy, PVSProxy.Record> pvsProxyRecords()
+    {
+        return Collections.unmodifiableMap(this.<PVSProxy, PVSProxy.Record>classCache(PVSProxy.class).records);
+    }
+
+    /**
+     * @return The cached record of the given PVSServer, or null if there is none
+     * @throws IllegalArgumentException if PVSServer is not cached
+     */
+    public PVSServer.Record pvsServer(PVSServer pvsServer)
+    {
+        return this.<PVSServer, PVSServer.Record>classCache(PVSServer.class).records.get(pvsServer);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every PVSServer
+     * @throws IllegalArgumentException if PVSServer is not cached
+     */
+    public Map<PVSServer, PVSServer.Record> pvsServerRecords()
+    {
+        return Collections.unmodifiableMap(this.<PVSServer, PVSServer.Record>classCache(PVSServer.class).records);
+    }
+
+    /**
+     * @return The cached record of the given PVSSite, or null if there is none
+     * @throws IllegalArgumentException if PVSSite is not cached
+     */
+    public PVSSite.Record pvsSite(PVSSite pvsSite)
+    {
+        return this.<PVSSite, PVSSite.Record>classCache(PVSSite.class).records.get(pvsSite);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every PVSSite
+     * @throws IllegalArgumentException if PVSSite is not cached
+     */
+    public Map<PVSSite, PVSSite.Record> pvsSiteRecords()
+    {
+        return Collections.unmodifiableMap(this.<PVSSite, PVSSite.Record>classCache(PVSSite.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Role, or null if there is none
+     * @throws IllegalArgumentException if Role is not cached
+     */
+    public Role.Record role(Role role)
+    {
+        return this.<Role, Role.Record>classCache(Role.class).records.get(role);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Role
+     * @throws IllegalArgumentException if Role is not cached
+     */
+    public Map<Role, Role.Record> roleRecords()
+    {
+        return Collections.unmodifiableMap(this.<Role, Role.Record>classCache(Role.class).records);
+    }
+
+    /**
+     * @return The cached record of the given SDNController, or null if there is none
+     * @throws IllegalArgumentException if SDNController is not cached
+     */
+    public SDNController.Record sdnController(SDNController sdnController)
+    {
+        return this.<SDNController, SDNController.Record>classCache(SDNController.class).records.get(sdnController);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every SDNController
+     * @throws IllegalArgumentException if SDNController is not cached
+     */
+    public Map<SDNController, SDNController.Record> sdnControllerRecords()
+    {
+        return Collections.unmodifiableMap(this.<SDNController, SDNController.Record>classCache(SDNController.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Secret, or null if there is none
+     * @throws IllegalArgumentException if Secret is not cached
+     */
+    public Secret.Record secret(Secret secret)
+    {
+        return this.<Secret, Secret.Record>classCache(Secret.class).records.get(secret);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Secret
+     * @throws IllegalArgumentException if Secret is not cached
+     */
+    public Map<Secret, Secret.Record> secretRecords()
+    {
+        return Collections.unmodifiableMap(this.<Secret, Secret.Record>classCache(Secret.class).records);
+    }
+
+    /**
+     * @return The cached record of the given SM, or null if there is none
+     * @throws IllegalArgumentException if SM is not cached
+     */
+    public SM.Record sm(SM sm)
+    {
+        return this.<SM, SM.Record>classCache(SM.class).records.get(sm);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every SM
+     * @throws IllegalArgumentException if SM is not cached
+     */
+    public Map<SM, SM.Record> smRecords()
+    {
+        return Collections.unmodifiableMap(this.<SM, SM.Record>classCache(SM.class).records);
+    }
+
+    /**
+     * @return The cached record of the given SR, or null if there is none
+     * @throws IllegalArgumentException if SR is not cached
+     */
+    public SR.Record sr(SR sr)
+    {
+        return this.<SR, SR.Record>classCache(SR.class).records.get(sr);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every SR
+     * @throws IllegalArgumentException if SR is not cached
+     */
+    public Map<SR, SR.Record> srRecords()
+    {
+        return Collections.unmodifiableMap(this.<SR, SR.Record>classCache(SR.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Subject, or null if there is none
+     * @throws IllegalArgumentException if Subject is not cached
+     */
+    public Subject.Record subject(Subject subject)
+    {
+        return this.<Subject, Subject.Record>classCache(Subject.class).records.get(subject);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Subject
+     * @throws IllegalArgumentException if Subject is not cached
+     */
+    public Map<Subject, Subject.Record> subjectRecords()
+    {
+        return Collections.unmodifiableMap(this.<Subject, Subject.Record>classCache(Subject.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Task, or null if there is none
+     * @throws IllegalArgumentException if Task is not cached
+     */
+    public Task.Record task(Task task)
+    {
+        return this.<Task, Task.Record>classCache(Task.class).records.get(task);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Task
+     * @throws IllegalArgumentException if Task is not cached
+     */
+    public Map<Task, Task.Record> taskRecords()
+    {
+        return Collections.unmodifiableMap(this.<Task, Task.Record>classCache(Task.class).records);
+    }
+
+    /**
+     * @return The cached record of the given Tunnel, or null if there is none
+     * @throws IllegalArgumentException if Tunnel is not cached
+     */
+    public Tunnel.Record tunnel(Tunnel tunnel)
+    {
+        return this.<Tunnel, Tunnel.Record>classCache(Tunnel.class).records.get(tunnel);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every Tunnel
+     * @throws IllegalArgumentException if Tunnel is not cached
+     */
+    public Map<Tunnel, Tunnel.Record> tunnelRecords()
+    {
+        return Collections.unmodifiableMap(this.<Tunnel, Tunnel.Record>classCache(Tunnel.class).records);
+    }
+
+    /**
+     * @return The cached record of the given USBGroup, or null if there is none
+     * @throws IllegalArgumentException if USBGroup is not cached
+     */
+    public USBGroup.Record usbGroup(USBGroup usbGroup)
+    {
+        return this.<USBGroup, USBGroup.Record>classCache(USBGroup.class).records.get(usbGroup);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every USBGroup
+     * @throws IllegalArgumentException if USBGroup is not cached
+     */
+    public Map<USBGroup, USBGroup.Record> usbGroupRecords()
+    {
+        return Collections.unmodifiableMap(this.<USBGroup, USBGroup.Record>classCache(USBGroup.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VBD, or null if there is none
+     * @throws IllegalArgumentException if VBD is not cached
+     */
+    public VBD.Record vbd(VBD vbd)
+    {
+        return this.<VBD, VBD.Record>classCache(VBD.class).records.get(vbd);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VBD
+     * @throws IllegalArgumentException if VBD is not cached
+     */
+    public Map<VBD, VBD.Record> vbdRecords()
+    {
+        return Collections.unmodifiableMap(this.<VBD, VBD.Record>classCache(VBD.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VBDMetrics, or null if there is none
+     * @throws IllegalArgumentException if VBDMetrics is not cached
+     */
+    public VBDMetrics.Record vbdMetrics(VBDMetrics vbdMetrics)
+    {
+        return this.<VBDMetrics, VBDMetrics.Record>classCache(VBDMetrics.class).records.get(vbdMetrics);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VBDMetrics
+     * @throws IllegalArgumentException if VBDMetrics is not cached
+     */
+    public Map<VBDMetrics, VBDMetrics.Record> vbdMetricsRecords()
+    {
+        return Collections.unmodifiableMap(this.<VBDMetrics, VBDMetrics.Record>classCache(VBDMetrics.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VDI, or null if there is none
+     * @throws IllegalArgumentException if VDI is not cached
+     */
+    public VDI.Record vdi(VDI vdi)
+    {
+        return this.<VDI, VDI.Record>classCache(VDI.class).records.get(vdi);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VDI
+     * @throws IllegalArgumentException if VDI is not cached
+     */
+    public Map<VDI, VDI.Record> vdiRecords()
+    {
+        return Collections.unmodifiableMap(this.<VDI, VDI.Record>classCache(VDI.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VGPU, or null if there is none
+     * @throws IllegalArgumentException if VGPU is not cached
+     */
+    public VGPU.Record vgpu(VGPU vgpu)
+    {
+        return this.<VGPU, VGPU.Record>classCache(VGPU.class).records.get(vgpu);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VGPU
+     * @throws IllegalArgumentException if VGPU is not cached
+     */
+    public Map<VGPU, VGPU.Record> vgpuRecords()
+    {
+        return Collections.unmodifiableMap(this.<VGPU, VGPU.Record>classCache(VGPU.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VGPUType, or null if there is none
+     * @throws IllegalArgumentException if VGPUType is not cached
+     */
+    public VGPUType.Record vgpuType(VGPUType vgpuType)
+    {
+        return this.<VGPUType, VGPUType.Record>classCache(VGPUType.class).records.get(vgpuType);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VGPUType
+     * @throws IllegalArgumentException if VGPUType is not cached
+     */
+    public Map<VGPUType, VGPUType.Record> vgpuTypeRecords()
+    {
+        return Collections.unmodifiableMap(this.<VGPUType, VGPUType.Record>classCache(VGPUType.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VIF, or null if there is none
+     * @throws IllegalArgumentException if VIF is not cached
+     */
+    public VIF.Record vif(VIF vif)
+    {
+        return this.<VIF, VIF.Record>classCache(VIF.class).records.get(vif);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VIF
+     * @throws IllegalArgumentException if VIF is not cached
+     */
+    public Map<VIF, VIF.Record> vifRecords()
+    {
+        return Collections.unmodifiableMap(this.<VIF, VIF.Record>classCache(VIF.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VIFMetrics, or null if there is none
+     * @throws IllegalArgumentException if VIFMetrics is not cached
+     */
+    public VIFMetrics.Record vifMetrics(VIFMetrics vifMetrics)
+    {
+        return this.<VIFMetrics, VIFMetrics.Record>classCache(VIFMetrics.class).records.get(vifMetrics);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VIFMetrics
+     * @throws IllegalArgumentException if VIFMetrics is not cached
+     */
+    public Map<VIFMetrics, VIFMetrics.Record> vifMetricsRecords()
+    {
+        return Collections.unmodifiableMap(this.<VIFMetrics, VIFMetrics.Record>classCache(VIFMetrics.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VLAN, or null if there is none
+     * @throws IllegalArgumentException if VLAN is not cached
+     */
+    public VLAN.Record vlan(VLAN vlan)
+    {
+        return this.<VLAN, VLAN.Record>classCache(VLAN.class).records.get(vlan);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VLAN
+     * @throws IllegalArgumentException if VLAN is not cached
+     */
+    public Map<VLAN, VLAN.Record> vlanRecords()
+    {
+        return Collections.unmodifiableMap(this.<VLAN, VLAN.Record>classCache(VLAN.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VM, or null if there is none
+     * @throws IllegalArgumentException if VM is not cached
+     */
+    public VM.Record vm(VM vm)
+    {
+        return this.<VM, VM.Record>classCache(VM.class).records.get(vm);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VM
+     * @throws IllegalArgumentException if VM is not cached
+     */
+    public Map<VM, VM.Record> vmRecords()
+    {
+        return Collections.unmodifiableMap(this.<VM, VM.Record>classCache(VM.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VMAppliance, or null if there is none
+     * @throws IllegalArgumentException if VMAppliance is not cached
+     */
+    public VMAppliance.Record vmAppliance(VMAppliance vmAppliance)
+    {
+        return this.<VMAppliance, VMAppliance.Record>classCache(VMAppliance.class).records.get(vmAppliance);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VMAppliance
+     * @throws IllegalArgumentException if VMAppliance is not cached
+     */
+    public Map<VMAppliance, VMAppliance.Record> vmApplianceRecords()
+    {
+        return Collections.unmodifiableMap(this.<VMAppliance, VMAppliance.Record>classCache(VMAppliance.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VMGuestMetrics, or null if there is none
+     * @throws IllegalArgumentException if VMGuestMetrics is not cached
+     */
+    public VMGuestMetrics.Record vmGuestMetrics(VMGuestMetrics vmGuestMetrics)
+    {
+        return this.<VMGuestMetrics, VMGuestMetrics.Record>classCache(VMGuestMetrics.class).records.get(vmGuestMetrics);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VMGuestMetrics
+     * @throws IllegalArgumentException if VMGuestMetrics is not cached
+     */
+    public Map<VMGuestMetrics, VMGuestMetrics.Record> vmGuestMetricsRecords()
+    {
+        return Collections.unmodifiableMap(this.<VMGuestMetrics, VMGuestMetrics.Record>classCache(VMGuestMetrics.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VMMetrics, or null if there is none
+     * @throws IllegalArgumentException if VMMetrics is not cached
+     */
+    public VMMetrics.Record vmMetrics(VMMetrics vmMetrics)
+    {
+        return this.<VMMetrics, VMMetrics.Record>classCache(VMMetrics.class).records.get(vmMetrics);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VMMetrics
+     * @throws IllegalArgumentException if VMMetrics is not cached
+     */
+    public Map<VMMetrics, VMMetrics.Record> vmMetricsRecords()
+    {
+        return Collections.unmodifiableMap(this.<VMMetrics, VMMetrics.Record>classCache(VMMetrics.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VMPP, or null if there is none
+     * @throws IllegalArgumentException if VMPP is not cached
+     */
+    public VMPP.Record vmpp(VMPP vmpp)
+    {
+        return this.<VMPP, VMPP.Record>classCache(VMPP.class).records.get(vmpp);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VMPP
+     * @throws IllegalArgumentException if VMPP is not cached
+     */
+    public Map<VMPP, VMPP.Record> vmppRecords()
+    {
+        return Collections.unmodifiableMap(this.<VMPP, VMPP.Record>classCache(VMPP.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VMSS, or null if there is none
+     * @throws IllegalArgumentException if VMSS is not cached
+     */
+    public VMSS.Record vmss(VMSS vmss)
+    {
+        return this.<VMSS, VMSS.Record>classCache(VMSS.class).records.get(vmss);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VMSS
+     * @throws IllegalArgumentException if VMSS is not cached
+     */
+    public Map<VMSS, VMSS.Record> vmssRecords()
+    {
+        return Collections.unmodifiableMap(this.<VMSS, VMSS.Record>classCache(VMSS.class).records);
+    }
+
+    /**
+     * @return The cached record of the given VUSB, or null if there is none
+     * @throws IllegalArgumentException if VUSB is not cached
+     */
+    public VUSB.Record vusb(VUSB vusb)
+    {
+        return this.<VUSB, VUSB.Record>classCache(VUSB.class).records.get(vusb);
+    }
+
+    /**
+     * @return A read-only view of the cached records of every VUSB
+     * @throws IllegalArgumentException if VUSB is not cached
+     */
+    public Map<VUSB, VUSB.Record> vusbRecords()
+    {
+        return Collections.unmodifiableMap(this.<VUSB, VUSB.Record>classCache(VUSB.class).records);
+    }
+}
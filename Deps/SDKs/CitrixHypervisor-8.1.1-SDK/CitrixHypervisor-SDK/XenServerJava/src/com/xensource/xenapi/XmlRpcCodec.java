@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.client.XmlRpcClient;
+import org.apache.xmlrpc.client.XmlRpcClientConfigImpl;
+import org.apache.xmlrpc.client.XmlRpcClientException;
+import org.apache.xmlrpc.client.XmlRpcClientRequestImpl;
+import org.apache.xmlrpc.parser.XmlRpcResponseParser;
+import org.apache.xmlrpc.serializer.XmlRpcWriter;
+import org.apache.xmlrpc.util.SAXParsers;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Writes XML-RPC requests and reads XML-RPC responses with the serialiser and parser of a Connection's xml-rpc client,
+ * for the code paths that send calls without going through XmlRpcClient.execute().
+ */
+final class XmlRpcCodec implements RpcCodec
+{
+    private final XmlRpcClient client;
+    private final XmlRpcClientConfigImpl config;
+
+    XmlRpcCodec(XmlRpcClient client, XmlRpcClientConfigImpl config)
+    {
+        this.client = client;
+        this.config = config;
+    }
+
+    /**
+     * @return The request as an XML document
+     */
+    public byte[] encodeRequest(String method, Object[] params) throws XmlRpcException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        ContentHandler handler = client.getXmlWriterFactory().getXmlWriter(config, out);
+        try
+        {
+            new XmlRpcWriter(config, handler, client.getTypeFactory()).write(new XmlRpcClientRequestImpl(config, method, params));
+        }
+        catch (SAXException e)
+        {
+            throw new XmlRpcClientException("Failed to generate request data: " + e.getMessage(), e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Parses an XML-RPC response.
+     *
+     * @return The result of the call
+     * @throws XmlRpcException if the response is a fault, or cannot be parsed
+     */
+    public Object decodeResponse(InputStream in) throws XmlRpcException
+    {
+        XmlRpcResponseParser parser = new XmlRpcResponseParser(config, client.getTypeFactory());
+        XMLReader reader = SAXParsers.newXMLReader();
+        reader.setContentHandler(parser);
+        try
+        {
+            reader.parse(new InputSource(in));
+        }
+        catch (SAXException e)
+        {
+            Exception cause = e.getException();
+            if (cause instanceof XmlRpcException)
+                throw (XmlRpcException) cause;
+            throw new XmlRpcClientException("Failed to parse server's response: " + e.getMessage(), e);
+        }
+        catch (IOException e)
+        {
+            throw new XmlRpcClientException("Failed to read server's response: " + e.getMessage(), e);
+        }
+
+        if (parser.isSuccess())
+            return parser.getResult();
+
+        Throwable cause = parser.getErrorCause();
+        throw new XmlRpcException(parser.getErrorCode(), parser.getErrorMessage(), cause);
+    }
+
+    public String getContentType()
+    {
+        return "text/xml";
+    }
+
+    public URL getEndpoint(URL serverURL)
+    {
+        return serverURL;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.client.XmlRpcClientException;
+import org.apache.xmlrpc.util.XmlRpcDateTimeDateFormat;
+
+/**
+ * Reads xml-rpc values from a StAX reader into the same objects that the xml-rpc client would have built: String,
+ * Integer, Long, Boolean, Double, Date, byte[], Map and Object[].
+ */
+final class XmlRpcValueReader
+{
+    private static final XMLInputFactory XML_INPUT_FACTORY = newInputFactory();
+
+    private final XMLStreamReader xml;
+    private final XmlRpcDateTimeDateFormat dateFormat;
+    private final ReferenceInterner interner;
+    private String memberName;
+
+    /**
+     * @param interner Interns the strings read, or null
+     */
+    XmlRpcValueReader(XMLStreamReader xml, final TimeZone timeZone, ReferenceInterner interner)
+    {
+        this.xml = xml;
+        this.interner = interner;
+        this.dateFormat = new XmlRpcDateTimeDateFormat()
+        {
+            private static final long serialVersionUID = 1L;
+
+            protected TimeZone getTimeZone()
+            {
+                return timeZone;
+            }
+        };
+    }
+
+    static XMLInputFactory getInputFactory()
+    {
+        return XML_INPUT_FACTORY;
+    }
+
+    /**
+     * Parses a single value, such as the result of a task, from its text.
+     *
+     * @param text A value element, e.g. "&lt;value&gt;OpaqueRef:...&lt;/value&gt;"
+     */
+    static Object parse(String text, TimeZone timeZone) throws XMLStreamException, XmlRpcException
+    {
+        XMLStreamReader xml = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(text));
+        try
+        {
+            XmlRpcValueReader reader = new XmlRpcValueReader(xml, timeZone, null);
+            reader.expectStart("value", xml.nextTag());
+            return reader.readValue();
+        }
+        finally
+        {
+            xml.close();
+        }
+    }
+
+    /**
+     * Reads the name of a struct member, leaving the reader on the start of its value.
+     */
+    String readMemberName() throws XMLStreamException
+    {
+        expectStart("member", xml.getEventType());
+        expectStart("name", xml.nextTag());
+        String name = xml.getElementText();
+        memberName = name;
+        expectStart("value", xml.nextTag());
+        return intern(name);
+    }
+
+    /**
+     * Reads a value, from its start tag to its end tag.
+     */
+    Object readValue() throws XMLStreamException, XmlRpcException
+    {
+        StringBuilder text = null;
+        Object result = null;
+        boolean typed = false;
+        while (true)
+        {
+            switch (xml.next())
+            {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (!typed)
+                    {
+                        if (text == null)
+                            text = new StringBuilder();
+                        text.append(xml.getText());
+                    }
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    typed = true;
+                    result = readTypedValue(xml.getLocalName());
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    // A value without a type element is a string
+                    if (typed)
+                        return result;
+                    return text == null ? "" : intern(text.toString());
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Skips a value, from its start tag to its end tag, without parsing it.
+     */
+    void skipValue() throws XMLStreamException
+    {
+        int depth = 1;
+        while (depth > 0)
+        {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT)
+                depth++;
+            else if (event == XMLStreamConstants.END_ELEMENT)
+                depth--;
+        }
+    }
+
+    void expectStart(String name, int event) throws XMLStreamException
+    {
+        if (event != XMLStreamConstants.START_ELEMENT || !xml.getLocalName().equals(name))
+            throw new XMLStreamException("Expected <" + name + ">", xml.getLocation());
+    }
+
+    private String intern(String s)
+    {
+        if (interner == null || ReferenceInterner.isOwnUuid(memberName))
+            return s;
+        return interner.intern(s);
+    }
+
+    private Object readTypedValue(String type) throws XMLStreamException, XmlRpcException
+    {
+        if (type.equals("string"))
+            return intern(xml.getElementText());
+        if (type.equals("struct"))
+        {
+            Map<String, Object> map = new HashMap<String, Object>();
+            while (xml.nextTag() == XMLStreamConstants.START_ELEMENT)
+            {
+                String name = readMemberName();
+                map.put(name, readValue());
+                xml.nextTag();
+            }
+            return map;
+        }
+        if (type.equals("array"))
+        {
+            List<Object> list = new ArrayList<Object>();
+            expectStart("data", xml.nextTag());
+            while (xml.nextTag() == XMLStreamConstants.START_ELEMENT)
+                list.add(readValue());
+            xml.nextTag();
+            return list.toArray();
+        }
+        if (type.equals("nil"))
+        {
+            xml.getElementText();
+            return null;
+        }
+
+        String text = xml.getElementText().trim();
+        try
+        {
+            if (type.equals("int") || type.equals("i4"))
+                return Integer.valueOf(text);
+            if (type.equals("i8"))
+                return Long.valueOf(text);
+            if (type.equals("boolean"))
+                return Boolean.valueOf(text.equals("1"));
+            if (type.equals("double"))
+                return Double.valueOf(text);
+            if (type.equals("dateTime.iso8601"))
+                return dateFormat.parseObject(text);
+            if (type.equals("base64"))
+                return Base64.getMimeDecoder().decode(text);
+        }
+        catch (Exception e)
+        {
+            throw new XmlRpcClientException("Failed to parse " + type + " value: " + text, e);
+        }
+        throw new XmlRpcClientException("Unknown xml-rpc type: " + type, null);
+    }
+
+    private static XMLInputFactory newInputFactory()
+    {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+}